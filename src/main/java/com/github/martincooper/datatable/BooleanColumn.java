@@ -0,0 +1,315 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.collection.Seq;
+
+import java.util.BitSet;
+
+/**
+ * BooleanColumn. Stores the column data packed as bits in a long array, avoiding boxing,
+ * or optionally off the heap using an OffHeapAllocator.
+ * Can be used anywhere a DataColumn of Boolean is expected.
+ */
+public class BooleanColumn extends PrimitiveColumn<Boolean> {
+
+    private final LongStorage bits;
+    private final int size;
+
+    /**
+     * BooleanColumn constructor. Creates an empty column.
+     *
+     * @param columnName The column name.
+     */
+    public BooleanColumn(String columnName) {
+        this(columnName, new long[0], 0);
+    }
+
+    /**
+     * BooleanColumn constructor. The data is copied into the column.
+     *
+     * @param columnName The column name.
+     * @param data The data items stored in the column.
+     */
+    public BooleanColumn(String columnName, boolean[] data) {
+        this(columnName, pack(data), data.length);
+    }
+
+    /**
+     * BooleanColumn constructor. The data is copied into the column, with the
+     * rows set in nulls holding null values.
+     *
+     * @param columnName The column name.
+     * @param data The data items stored in the column.
+     * @param nulls The null rows.
+     */
+    public BooleanColumn(String columnName, boolean[] data, BitSet nulls) {
+        this(columnName, clearNulls(pack(data), data.length, nulls), data.length, NullBitmap.of(nulls, data.length));
+    }
+
+    /**
+     * BooleanColumn constructor. Takes ownership of the packed bits without copying.
+     *
+     * @param columnName The column name.
+     * @param bits The packed bits holding the column data.
+     * @param size The number of items (bits) used by the column.
+     */
+    BooleanColumn(String columnName, long[] bits, int size) {
+        this(columnName, bits, size, NullBitmap.NONE);
+    }
+
+    /**
+     * BooleanColumn constructor. Takes ownership of the packed bits without copying.
+     *
+     * @param columnName The column name.
+     * @param bits The packed bits holding the column data, with null rows set to false.
+     * @param size The number of items (bits) used by the column.
+     * @param nulls The null rows.
+     */
+    BooleanColumn(String columnName, long[] bits, int size, NullBitmap nulls) {
+        this(columnName, LongStorage.of(bits), size, nulls);
+    }
+
+    /**
+     * BooleanColumn constructor. Takes ownership of the storage without copying.
+     *
+     * @param columnName The column name.
+     * @param bits The storage holding the packed bits, with null rows set to false.
+     * @param size The number of items (bits) used by the column.
+     * @param nulls The null rows.
+     */
+    BooleanColumn(String columnName, LongStorage bits, int size, NullBitmap nulls) {
+        super(Boolean.class, columnName, nulls);
+        this.bits = bits;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of items in the column.
+     *
+     * @return Returns the row count.
+     */
+    @Override
+    public int rowCount() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the value, or null.
+     */
+    @Override
+    public Boolean valueAt(Integer rowIndex) {
+        checkReadable();
+        return isNull(rowIndex) ? null : getBoolean(rowIndex);
+    }
+
+    /**
+     * Returns the unboxed value at the specified index.
+     * Null values are returned as false, so use isNull to check for them.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the value.
+     */
+    public boolean getBoolean(int rowIndex) {
+        return getBit(this.bits, checkIndex(rowIndex, this.size));
+    }
+
+    /**
+     * Returns a copy of the column stored off the heap, using the specified allocator.
+     *
+     * @param allocator The off heap allocator.
+     * @return Returns the off heap column.
+     */
+    @Override
+    public BooleanColumn toOffHeap(OffHeapAllocator allocator) {
+        LongStorage newBits = LongStorage.offHeap(allocator, this.bits, wordCount(this.size));
+        return new BooleanColumn(name(), newBits, this.size, nulls());
+    }
+
+    /**
+     * @return Returns true if the column data is stored off the heap.
+     */
+    @Override
+    public boolean isOffHeap() {
+        return this.bits.isOffHeap();
+    }
+
+    /**
+     * Checks the column data can still be read, which fails once an off heap allocator has been closed.
+     */
+    @Override
+    public void checkReadable() {
+        this.bits.checkReadable();
+    }
+
+    @Override
+    BooleanColumn append(Boolean value) {
+        LongStorage newBits = this.bits.allocate(wordCount(this.size + 1));
+        this.bits.copyTo(0, newBits, 0, wordCount(this.size));
+        setBit(newBits, this.size, valueOrDefault(value));
+        return createColumn(newBits, this.size + 1, nulls().insert(this.size, value));
+    }
+
+    @Override
+    BooleanColumn insertAt(int index, Boolean value) {
+        checkInsertIndex(index, this.size);
+
+        LongStorage newBits = this.bits.allocate(wordCount(this.size + 1));
+        copyBits(this.bits, 0, newBits, 0, index);
+        copyBits(this.bits, index, newBits, index + 1, this.size - index);
+        setBit(newBits, index, valueOrDefault(value));
+        return createColumn(newBits, this.size + 1, nulls().insert(index, value));
+    }
+
+    @Override
+    BooleanColumn replaceAt(int index, Boolean value) {
+        checkIndex(index, this.size);
+
+        LongStorage newBits = copyBits();
+        setBit(newBits, index, valueOrDefault(value));
+        return createColumn(newBits, this.size, nulls().replace(index, value));
+    }
+
+    @Override
+    BooleanColumn removeAt(int index) {
+        checkIndex(index, this.size);
+
+        LongStorage newBits = this.bits.allocate(wordCount(this.size - 1));
+        copyBits(this.bits, 0, newBits, 0, index);
+        copyBits(this.bits, index + 1, newBits, index, this.size - index - 1);
+        return createColumn(newBits, this.size - 1, nulls().remove(index));
+    }
+
+    @Override
+    BooleanColumn insertAllAt(int index, Seq<Boolean> values) {
+        checkInsertIndex(index, this.size);
+
+        int count = values.length();
+        LongStorage newBits = this.bits.allocate(wordCount(this.size + count));
+        copyBits(this.bits, 0, newBits, 0, index);
+        copyBits(this.bits, index, newBits, index + count, this.size - index);
+
+        int idx = index;
+        for (Boolean value : values)
+            setBit(newBits, idx++, valueOrDefault(value));
+
+        return createColumn(newBits, this.size + count, nulls().insertAll(index, values));
+    }
+
+    @Override
+    BooleanColumn replaceAllAt(int[] indexes, Seq<Boolean> values) {
+        LongStorage newBits = copyBits();
+
+        int idx = 0;
+        for (Boolean value : values)
+            setBit(newBits, checkIndex(indexes[idx++], this.size), valueOrDefault(value));
+
+        return createColumn(newBits, this.size, nulls().replaceAll(indexes, values));
+    }
+
+    @Override
+    BooleanColumn gather(int[] rowIndexes) {
+        LongStorage newBits = this.bits.allocate(wordCount(rowIndexes.length));
+
+        for (int idx = 0; idx < rowIndexes.length; idx++)
+            setBit(newBits, idx, getBoolean(rowIndexes[idx]));
+
+        return createColumn(newBits, rowIndexes.length, nulls().gather(rowIndexes));
+    }
+
+    @Override
+    public BooleanColumn withName(String columnName) {
+        return new BooleanColumn(columnName, this.bits, this.size, nulls());
+    }
+
+    @Override
+    BooleanColumn withNulls(NullBitmap nulls) {
+        BitSet nullRows = nulls.toBitSet();
+        for (int idx = nullRows.nextSetBit(0); idx >= 0; idx = nullRows.nextSetBit(idx + 1))
+            setBit(this.bits, idx, false);
+
+        return createColumn(this.bits, this.size, nulls);
+    }
+
+    @Override
+    BooleanColumn appendColumns(Seq<IDataColumn> columns) {
+        int newSize = this.size + columns.map(IDataColumn::rowCount).sum().intValue();
+        LongStorage newBits = this.bits.allocate(wordCount(newSize));
+        this.bits.copyTo(0, newBits, 0, wordCount(this.size));
+
+        int position = this.size;
+        for (IDataColumn column : columns) {
+            BooleanColumn part = (BooleanColumn)column;
+            copyBits(part.bits, 0, newBits, position, part.size);
+            position += part.size;
+        }
+
+        return createColumn(newBits, newSize, appendNulls(columns));
+    }
+
+    private LongStorage copyBits() {
+        LongStorage newBits = this.bits.allocate(wordCount(this.size));
+        this.bits.copyTo(0, newBits, 0, wordCount(this.size));
+        return newBits;
+    }
+
+    private BooleanColumn createColumn(LongStorage bits, int size, NullBitmap nulls) {
+        return new BooleanColumn(name(), bits, size, nulls);
+    }
+
+    private static boolean valueOrDefault(Boolean value) {
+        return value != null && value;
+    }
+
+    /**
+     * Returns the number of 64 bit words required to store the specified number of bits.
+     *
+     * @param bitCount The number of bits.
+     * @return Returns the number of words.
+     */
+    static int wordCount(int bitCount) {
+        return (bitCount + 63) >>> 6;
+    }
+
+    static boolean getBit(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void setBit(long[] bits, int index, boolean value) {
+        if (value)
+            bits[index >>> 6] |= (1L << index);
+        else
+            bits[index >>> 6] &= ~(1L << index);
+    }
+
+    private static boolean getBit(LongStorage bits, int index) {
+        return (bits.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    private static void setBit(LongStorage bits, int index, boolean value) {
+        long word = bits.get(index >>> 6);
+        bits.set(index >>> 6, value ? word | (1L << index) : word & ~(1L << index));
+    }
+
+    private static void copyBits(LongStorage src, int srcPos, LongStorage dest, int destPos, int length) {
+        for (int idx = 0; idx < length; idx++)
+            setBit(dest, destPos + idx, getBit(src, srcPos + idx));
+    }
+
+    private static long[] clearNulls(long[] bits, int size, BitSet nulls) {
+        for (int idx = nulls.nextSetBit(0); idx >= 0 && idx < size; idx = nulls.nextSetBit(idx + 1))
+            setBit(bits, idx, false);
+
+        return bits;
+    }
+
+    private static long[] pack(boolean[] data) {
+        long[] bits = new long[wordCount(data.length)];
+
+        for (int idx = 0; idx < data.length; idx++)
+            setBit(bits, idx, data[idx]);
+
+        return bits;
+    }
+}
@@ -0,0 +1,415 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * ColumnBuffer. Growable storage used by the DataTableBuilder to collect the data
+ * for a single column one value at a time, before handing it over to an immutable column.
+ */
+abstract class ColumnBuffer {
+
+    private static final int MIN_CAPACITY = 16;
+
+    protected final String name;
+    private BitSet nulls;
+
+    /**
+     * ColumnBuffer constructor.
+     *
+     * @param name The column name.
+     */
+    ColumnBuffer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return Returns the number of values in the buffer.
+     */
+    abstract int size();
+
+    /**
+     * Hands the buffered data over to a new immutable column without copying.
+     * The buffer must not be modified afterwards.
+     *
+     * @return Returns the column.
+     */
+    abstract IDataColumn toColumn();
+
+    /**
+     * Copies the buffered data into a new immutable column, leaving the buffer usable.
+     *
+     * @return Returns the column.
+     */
+    abstract IDataColumn copyToColumn();
+
+    /**
+     * Records the value at the specified index as null, for buffers using primitive storage.
+     *
+     * @param index The index of the null value.
+     */
+    void setNull(int index) {
+        if (this.nulls == null) this.nulls = new BitSet();
+        this.nulls.set(index);
+    }
+
+    /**
+     * Returns the null values recorded, copied if the buffer remains in use.
+     *
+     * @param copy True to copy the null values.
+     * @return Returns the null rows.
+     */
+    NullBitmap nulls(boolean copy) {
+        return copy ? NullBitmap.of(this.nulls, size()) : NullBitmap.wrap(this.nulls);
+    }
+
+    /**
+     * Dictionary encodes the buffered data into a new immutable column, if it's String data
+     * with no more than the specified number of distinct values.
+     *
+     * @param maxDistinctValues The maximum number of distinct values.
+     * @return Returns the encoded column, or None if the data can't be encoded.
+     */
+    Option<DictionaryColumn> tryEncode(int maxDistinctValues) {
+        return Option.none();
+    }
+
+    /**
+     * Creates a new buffer for the specified column type, using
+     * primitive storage for the supported primitive types.
+     *
+     * @param type The column type.
+     * @param name The column name.
+     * @param capacity The initial capacity.
+     * @param <T> The column type.
+     * @return Returns the new buffer.
+     */
+    static <T> AppendableColumnBuffer create(Class<T> type, String name, int capacity) {
+        if (type == Integer.class) return new IntColumnBuffer(name, capacity);
+        if (type == Long.class) return new LongColumnBuffer(name, capacity);
+        if (type == Double.class) return new DoubleColumnBuffer(name, capacity);
+        if (type == Boolean.class) return new BooleanColumnBuffer(name, capacity);
+
+        return new ObjectColumnBuffer<>(type, name, capacity);
+    }
+
+    /**
+     * Wraps an existing column, which can't be appended to.
+     *
+     * @param column The column.
+     * @return Returns the buffer.
+     */
+    static ColumnBuffer of(IDataColumn column) {
+        return new FixedColumnBuffer(column);
+    }
+
+    /**
+     * Calculates the new capacity when a buffer needs to grow.
+     *
+     * @param currentCapacity The current capacity.
+     * @param requiredCapacity The minimum capacity required.
+     * @return Returns the new capacity.
+     */
+    static int newCapacity(int currentCapacity, int requiredCapacity) {
+        return Math.max(Math.max(currentCapacity * 2, requiredCapacity), MIN_CAPACITY);
+    }
+
+    /**
+     * Base class for the buffers of declared columns, which values are appended to.
+     */
+    abstract static class AppendableColumnBuffer extends ColumnBuffer {
+
+        AppendableColumnBuffer(String name) {
+            super(name);
+        }
+
+        /**
+         * Checks if the value can be appended to this buffer.
+         *
+         * @param value The value to check.
+         * @return Returns true if the value is of a valid type for the buffer.
+         */
+        abstract boolean accepts(Object value);
+
+        /**
+         * Appends the value, which must have already been checked using accepts().
+         *
+         * @param value The value to append.
+         */
+        abstract void append(Object value);
+
+        /**
+         * Ensures the buffer can hold at least the specified number of values without growing.
+         *
+         * @param capacity The required capacity.
+         */
+        abstract void ensureCapacity(int capacity);
+    }
+
+    /**
+     * Buffer for a column which has already been fully built, so is never appended to.
+     */
+    static final class FixedColumnBuffer extends ColumnBuffer {
+
+        private final IDataColumn column;
+
+        FixedColumnBuffer(IDataColumn column) {
+            super(column.name());
+            this.column = column;
+        }
+
+        @Override
+        int size() { return this.column.rowCount(); }
+
+        @Override
+        IDataColumn toColumn() { return this.column; }
+
+        @Override
+        IDataColumn copyToColumn() { return this.column; }
+
+        @Override
+        Option<DictionaryColumn> tryEncode(int maxDistinctValues) {
+            return DictionaryColumn.tryEncode(this.column, maxDistinctValues);
+        }
+    }
+
+    /**
+     * Buffer for an int column.
+     */
+    static final class IntColumnBuffer extends AppendableColumnBuffer {
+
+        private int[] data;
+        private int size;
+
+        IntColumnBuffer(String name, int capacity) {
+            super(name);
+            this.data = new int[capacity];
+        }
+
+        @Override
+        int size() { return this.size; }
+
+        @Override
+        boolean accepts(Object value) { return value == null || value instanceof Integer; }
+
+        @Override
+        void append(Object value) {
+            if (value == null) setNull(this.size);
+            appendInt(value == null ? 0 : (Integer)value);
+        }
+
+        void appendInt(int value) {
+            if (this.size == this.data.length)
+                ensureCapacity(newCapacity(this.data.length, this.size + 1));
+
+            this.data[this.size++] = value;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            if (capacity > this.data.length)
+                this.data = Arrays.copyOf(this.data, capacity);
+        }
+
+        @Override
+        IDataColumn toColumn() { return new IntColumn(this.name, this.data, this.size, nulls(false)); }
+
+        @Override
+        IDataColumn copyToColumn() { return new IntColumn(this.name, Arrays.copyOf(this.data, this.size), this.size, nulls(true)); }
+    }
+
+    /**
+     * Buffer for a long column.
+     */
+    static final class LongColumnBuffer extends AppendableColumnBuffer {
+
+        private long[] data;
+        private int size;
+
+        LongColumnBuffer(String name, int capacity) {
+            super(name);
+            this.data = new long[capacity];
+        }
+
+        @Override
+        int size() { return this.size; }
+
+        @Override
+        boolean accepts(Object value) { return value == null || value instanceof Long; }
+
+        @Override
+        void append(Object value) {
+            if (value == null) setNull(this.size);
+            appendLong(value == null ? 0L : (Long)value);
+        }
+
+        void appendLong(long value) {
+            if (this.size == this.data.length)
+                ensureCapacity(newCapacity(this.data.length, this.size + 1));
+
+            this.data[this.size++] = value;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            if (capacity > this.data.length)
+                this.data = Arrays.copyOf(this.data, capacity);
+        }
+
+        @Override
+        IDataColumn toColumn() { return new LongColumn(this.name, this.data, this.size, nulls(false)); }
+
+        @Override
+        IDataColumn copyToColumn() { return new LongColumn(this.name, Arrays.copyOf(this.data, this.size), this.size, nulls(true)); }
+    }
+
+    /**
+     * Buffer for a double column.
+     */
+    static final class DoubleColumnBuffer extends AppendableColumnBuffer {
+
+        private double[] data;
+        private int size;
+
+        DoubleColumnBuffer(String name, int capacity) {
+            super(name);
+            this.data = new double[capacity];
+        }
+
+        @Override
+        int size() { return this.size; }
+
+        @Override
+        boolean accepts(Object value) { return value == null || value instanceof Double; }
+
+        @Override
+        void append(Object value) {
+            if (value == null) setNull(this.size);
+            appendDouble(value == null ? 0.0 : (Double)value);
+        }
+
+        void appendDouble(double value) {
+            if (this.size == this.data.length)
+                ensureCapacity(newCapacity(this.data.length, this.size + 1));
+
+            this.data[this.size++] = value;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            if (capacity > this.data.length)
+                this.data = Arrays.copyOf(this.data, capacity);
+        }
+
+        @Override
+        IDataColumn toColumn() { return new DoubleColumn(this.name, this.data, this.size, nulls(false)); }
+
+        @Override
+        IDataColumn copyToColumn() { return new DoubleColumn(this.name, Arrays.copyOf(this.data, this.size), this.size, nulls(true)); }
+    }
+
+    /**
+     * Buffer for a boolean column, stored as packed bits.
+     */
+    static final class BooleanColumnBuffer extends AppendableColumnBuffer {
+
+        private long[] bits;
+        private int size;
+
+        BooleanColumnBuffer(String name, int capacity) {
+            super(name);
+            this.bits = new long[BooleanColumn.wordCount(capacity)];
+        }
+
+        @Override
+        int size() { return this.size; }
+
+        @Override
+        boolean accepts(Object value) { return value == null || value instanceof Boolean; }
+
+        @Override
+        void append(Object value) {
+            if (value == null) setNull(this.size);
+            appendBoolean(value == null ? false : (Boolean)value);
+        }
+
+        void appendBoolean(boolean value) {
+            if (this.size == this.bits.length * 64)
+                ensureCapacity(newCapacity(this.bits.length * 64, this.size + 1));
+
+            BooleanColumn.setBit(this.bits, this.size++, value);
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            int words = BooleanColumn.wordCount(capacity);
+
+            if (words > this.bits.length)
+                this.bits = Arrays.copyOf(this.bits, words);
+        }
+
+        @Override
+        IDataColumn toColumn() { return new BooleanColumn(this.name, this.bits, this.size, nulls(false)); }
+
+        @Override
+        IDataColumn copyToColumn() {
+            long[] newBits = Arrays.copyOf(this.bits, BooleanColumn.wordCount(this.size));
+            return new BooleanColumn(this.name, newBits, this.size, nulls(true));
+        }
+    }
+
+    /**
+     * Buffer for a column of any other type, built into a standard DataColumn.
+     */
+    static final class ObjectColumnBuffer<T> extends AppendableColumnBuffer {
+
+        private final Class<T> type;
+        private Object[] data;
+        private int size;
+
+        ObjectColumnBuffer(Class<T> type, String name, int capacity) {
+            super(name);
+            this.type = type;
+            this.data = new Object[capacity];
+        }
+
+        @Override
+        int size() { return this.size; }
+
+        @Override
+        boolean accepts(Object value) { return value == null || this.type.isInstance(value); }
+
+        @Override
+        void append(Object value) {
+            if (this.size == this.data.length)
+                ensureCapacity(newCapacity(this.data.length, this.size + 1));
+
+            this.data[this.size++] = value;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            if (capacity > this.data.length)
+                this.data = Arrays.copyOf(this.data, capacity);
+        }
+
+        @Override
+        IDataColumn toColumn() { return copyToColumn(); }
+
+        @Override
+        IDataColumn copyToColumn() {
+            Vector<T> values = Vector.tabulate(this.size, idx -> this.type.cast(this.data[idx]));
+            return new DataColumn<>(this.type, this.name, values);
+        }
+
+        @Override
+        Option<DictionaryColumn> tryEncode(int maxDistinctValues) {
+            return this.type == String.class
+                    ? DictionaryColumn.encode(this.name, this.data, this.size, maxDistinctValues)
+                    : Option.none();
+        }
+    }
+}
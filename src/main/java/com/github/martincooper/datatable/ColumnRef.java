@@ -0,0 +1,71 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.control.Try;
+
+/**
+ * ColumnRef. A typed handle to a column, resolved and type checked once,
+ * allowing fast repeated access to the column values in per row logic.
+ *
+ * Values are accessed by the index of the row in the underlying table,
+ * so the rows of a DataView over the table can be read as well.
+ *
+ * @param <T> The column type.
+ */
+public final class ColumnRef<T> {
+
+    private final DataColumn<T> column;
+
+    private ColumnRef(DataColumn<T> column) {
+        this.column = column;
+    }
+
+    /**
+     * Builds a reference to the named column, checking it's of the specified type.
+     *
+     * @param table The table containing the column.
+     * @param type The column type.
+     * @param columnName The column name.
+     * @param <T> The column type.
+     * @return Returns the column reference, or a Failure.
+     */
+    public static <T> Try<ColumnRef<T>> build(IBaseTable table, Class<T> type, String columnName) {
+        return table.columns()
+                .tryGet(columnName)
+                .flatMap(col -> col.asType(type))
+                .map(ColumnRef::new);
+    }
+
+    /**
+     * @return Returns the column name.
+     */
+    public String name() {
+        return this.column.name();
+    }
+
+    /**
+     * @return Returns the column.
+     */
+    public DataColumn<T> column() {
+        return this.column;
+    }
+
+    /**
+     * Returns the value of the column for the specified row.
+     *
+     * @param row The row, which must belong to the same table as the column.
+     * @return Returns the value.
+     */
+    public T get(DataRow row) {
+        return this.column.valueAt(row.rowIdx());
+    }
+
+    /**
+     * Returns the value of the column at the specified row index.
+     *
+     * @param rowIdx The index of the row in the underlying table.
+     * @return Returns the value.
+     */
+    public T get(int rowIdx) {
+        return this.column.valueAt(rowIdx);
+    }
+}
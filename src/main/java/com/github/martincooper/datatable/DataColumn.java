@@ -14,6 +14,8 @@ import static io.vavr.Patterns.$Success;
 
 /**
  * DataColumn. Handles the data for a single column.
+ * Sub classes can provide an alternative storage for the column data by
+ * overriding the data access and modification methods.
  * Created by Martin Cooper on 08/07/2017.
  */
 public class DataColumn<T> implements IDataColumn {
@@ -91,6 +93,14 @@ public class DataColumn<T> implements IDataColumn {
     @Override
     public Vector<T> data() { return this.data; }
 
+    /**
+     * Returns the number of items in the column.
+     *
+     * @return Returns the row count.
+     */
+    @Override
+    public int rowCount() { return this.data.length(); }
+
     /**
      * Returns the value at the specified index.
      *
@@ -130,6 +140,48 @@ public class DataColumn<T> implements IDataColumn {
         return Try.success(new DataColumn<>(this.type, this.name, rowData));
     }
 
+    /**
+     * Builds a new DataColumn from the data at the specified row indexes.
+     *
+     * @param rowIndexes The rows which the new column data is to be built from.
+     * @return Returns a new IDataColumn with just the rows specified.
+     */
+    @Override
+    public Try<IDataColumn> buildFromRows(int[] rowIndexes) {
+        return Try.of(() -> {
+            Vector<T> rowData = Vector.tabulate(rowIndexes.length, idx -> this.data.get(rowIndexes[idx]));
+            return new DataColumn<>(this.type, this.name, rowData);
+        });
+    }
+
+    /**
+     * Returns the column with a new name, sharing the same data.
+     *
+     * @param columnName The new column name.
+     * @return Returns the renamed column.
+     */
+    @Override
+    public DataColumn<T> withName(String columnName) {
+        return new DataColumn<>(this.type, columnName, this.data);
+    }
+
+    /**
+     * Builds a new DataColumn from the data at the specified row indexes,
+     * with a null value wherever the row index is -1.
+     *
+     * @param rowIndexes The rows which the new column data is to be built from, or -1 for null.
+     * @return Returns a new IDataColumn with just the rows specified.
+     */
+    @Override
+    public Try<IDataColumn> buildFromRowsWithNulls(int[] rowIndexes) {
+        return Try.of(() -> {
+            Vector<T> rowData = Vector.tabulate(rowIndexes.length,
+                    idx -> rowIndexes[idx] < 0 ? null : this.data.get(rowIndexes[idx]));
+
+            return new DataColumn<>(this.type, this.name, rowData);
+        });
+    }
+
     /**
      * Attempts to add / append a new item to the end of the column.
      * A type check is performed before addition.
@@ -188,6 +240,67 @@ public class DataColumn<T> implements IDataColumn {
         return Try.of(() -> createColumn(this.data.removeAt(index)));
     }
 
+    /**
+     * Attempts to add / append multiple items to the end of the column.
+     * All items are type checked before any are added.
+     *
+     * @param values The items to add.
+     * @return Returns a Success with the new modified DataColumn, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> addAll(Iterable<?> values) {
+        return Match(GenericExtensions.tryCastAll(this.type, values)).of(
+                Case($Success($()), typedVals -> Try.of(() -> createColumn(this.data.appendAll(typedVals)))),
+                Case($Failure($()), DataTableException.tryError("addAll failed. Item of invalid type passed."))
+        );
+    }
+
+    /**
+     * Attempts to insert multiple items into the column at the specified index.
+     * All items are type checked before any are inserted.
+     *
+     * @param index The index the items are to be inserted at.
+     * @param values The items to insert.
+     * @return Returns a Success with the new modified DataColumn, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> insertAll(Integer index, Iterable<?> values) {
+        return Match(GenericExtensions.tryCastAll(this.type, values)).of(
+                Case($Success($()), typedVals -> Try.of(() -> createColumn(this.data.insertAll(index, typedVals)))),
+                Case($Failure($()), DataTableException.tryError("insertAll failed. Item of invalid type passed."))
+        );
+    }
+
+    /**
+     * Attempts to replace the items at the specified indexes with the new items.
+     * All items are type checked before any are replaced.
+     *
+     * @param indexes The indexes of the items to be replaced.
+     * @param values The new items, one per index.
+     * @return Returns a Success with the new modified DataColumn, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> replaceAll(int[] indexes, Iterable<?> values) {
+        return Match(GenericExtensions.tryCastAll(this.type, values)).of(
+                Case($Success($()), typedVals -> replaceValues(indexes, typedVals)),
+                Case($Failure($()), DataTableException.tryError("replaceAll failed. Item of invalid type passed."))
+        );
+    }
+
+    /**
+     * Attempts to remove the items at the specified indexes.
+     *
+     * @param indexes The indexes of the items to be removed.
+     * @return Returns a Success with the new modified DataColumn, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> removeAll(int[] indexes) {
+        return Try.of(() -> {
+            int[] remaining = remainingIndexes(this.data.length(), indexes);
+            return createColumn(Vector.tabulate(remaining.length, idx -> this.data.get(remaining[idx])));
+        });
+    }
+
     /**
      * Adds / Appends and item to the end of the column.
      *
@@ -230,6 +343,21 @@ public class DataColumn<T> implements IDataColumn {
         return Try.of(() -> createColumn(this.data.removeAt(index)));
     }
 
+    private Try<IDataColumn> replaceValues(int[] indexes, Seq<T> values) {
+        if (indexes.length != values.length())
+            return DataTableException.tryError("replaceAll failed. Number of indexes does not match number of values.");
+
+        return Try.of(() -> {
+            Vector<T> newData = this.data;
+            int idx = 0;
+
+            for (T value : values)
+                newData = newData.update(indexes[idx++], value);
+
+            return createColumn(newData);
+        });
+    }
+
     /**
      * Creates a new DataColumn based on this one, with modified data.
      *
@@ -240,6 +368,39 @@ public class DataColumn<T> implements IDataColumn {
         return new DataColumn<>(this.type, this.name, data);
     }
 
+    /**
+     * Calculates the indexes remaining in a column once the specified indexes are removed.
+     * Duplicate indexes are ignored, invalid indexes throw an IndexOutOfBoundsException.
+     *
+     * @param size The number of items in the column.
+     * @param indexesToRemove The indexes to be removed.
+     * @return Returns the remaining indexes in order.
+     */
+    static int[] remainingIndexes(int size, int[] indexesToRemove) {
+        boolean[] removed = new boolean[size];
+        int removedCount = 0;
+
+        for (int index : indexesToRemove) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+            if (!removed[index]) {
+                removed[index] = true;
+                removedCount++;
+            }
+        }
+
+        int[] remaining = new int[size - removedCount];
+        int idx = 0;
+
+        for (int index = 0; index < size; index++) {
+            if (!removed[index])
+                remaining[idx++] = index;
+        }
+
+        return remaining;
+    }
+
     /**
      * Checks if the data column supports comparable for sorting.
      *
@@ -1,6 +1,8 @@
 package com.github.martincooper.datatable;
 
+import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import io.vavr.control.Try;
@@ -11,6 +13,8 @@ import java.util.function.Supplier;
 
 /**
  * DataColumnCollection. Handles a collection of Data Columns.
+ * Holds an index of the columns by name, so columns can be found by name in constant time.
+ * The index is persistent, so is shared with any column collections created by modifying this one.
  * Created by Martin Cooper on 13/07/2017.
  */
 public class DataColumnCollection
@@ -18,6 +22,7 @@ public class DataColumnCollection
 
     private final DataTable table;
     private final Vector<IDataColumn> columns;
+    private final Map<String, Integer> columnIndexes;
 
     /**
      * DataColumnCollection constructor. Creates an empty Data Column Collection.
@@ -41,6 +46,24 @@ public class DataColumnCollection
 
         this.table = table;
         this.columns = Vector.ofAll(columns);
+        this.columnIndexes = indexColumns(HashMap.empty(), this.columns, 0);
+    }
+
+    /**
+     * DataColumnCollection constructor.
+     * Creates a Data Column Collection containing the specified columns, with an existing index by name.
+     *
+     * @param table The table the column collection belong to.
+     * @param columns The collection of data columns.
+     * @param columnIndexes The index of each column by name.
+     */
+    DataColumnCollection(DataTable table, Vector<IDataColumn> columns, Map<String, Integer> columnIndexes) {
+        Guard.notNull(table, "table");
+        Guard.itemsNotNull(columns, "columns");
+
+        this.table = table;
+        this.columns = columns;
+        this.columnIndexes = columnIndexes;
     }
 
     /**
@@ -112,6 +135,16 @@ public class DataColumnCollection
         return this.columns.get(columnIdxByName(columnName));
     }
 
+    /**
+     * Returns the index of the column with the specified name.
+     *
+     * @param columnName The name of the column.
+     * @return Returns the column index, or -1 if not found.
+     */
+    public int indexOf(String columnName) {
+        return columnIdxByName(columnName);
+    }
+
     /**
      * The number of columns in the collection.
      *
@@ -130,7 +163,8 @@ public class DataColumnCollection
     @Override
     public Try<DataTable> add(IDataColumn newColumn) {
         return checkColumnsAndBuild("adding",
-                () -> VectorExtensions.addItem(this.columns, newColumn));
+                () -> VectorExtensions.addItem(this.columns, newColumn),
+                cols -> indexColumns(this.columnIndexes, cols, this.columns.length()));
     }
 
     /**
@@ -143,7 +177,8 @@ public class DataColumnCollection
     @Override
     public Try<DataTable> replace(Integer index, IDataColumn newColumn) {
         return checkColumnsAndBuild("replacing",
-                () -> VectorExtensions.replaceItem(this.columns, index, newColumn));
+                () -> VectorExtensions.replaceItem(this.columns, index, newColumn),
+                cols -> this.columnIndexes.remove(this.columns.get(index).name()).put(newColumn.name(), index));
     }
 
     /**
@@ -156,7 +191,8 @@ public class DataColumnCollection
     @Override
     public Try<DataTable> insert(Integer index, IDataColumn newColumn) {
         return checkColumnsAndBuild("inserting",
-                () -> VectorExtensions.insertItem(this.columns, index, newColumn));
+                () -> VectorExtensions.insertItem(this.columns, index, newColumn),
+                cols -> indexColumns(this.columnIndexes, cols, index));
     }
 
     /**
@@ -168,7 +204,8 @@ public class DataColumnCollection
     @Override
     public Try<DataTable> remove(Integer index) {
         return checkColumnsAndBuild("removing",
-                () -> VectorExtensions.removeItem(this.columns, index));
+                () -> VectorExtensions.removeItem(this.columns, index),
+                cols -> indexColumns(this.columnIndexes.remove(this.columns.get(index).name()), cols, index));
     }
 
     /**
@@ -250,19 +287,40 @@ public class DataColumnCollection
     }
 
     private Integer columnIdxByName(String columnName) {
-        return this.columns.indexWhere(col -> compare(col.name(), columnName));
+        return this.columnIndexes.getOrElse(columnName, -1);
     }
 
-    private Try<DataTable> checkColumnsAndBuild(String changeType, Supplier<Try<Vector<IDataColumn>>> columns) {
-        // Calculate the new column collection then try and build a DataTable from it.
+    private Try<DataTable> checkColumnsAndBuild(String changeType,
+                                                Supplier<Try<Vector<IDataColumn>>> columns,
+                                                Function<Vector<IDataColumn>, Map<String, Integer>> indexColumns) {
+        // Calculate the new column collection then try and build a DataTable from it,
+        // updating the existing index of the columns by name.
         Try<DataTable> result = columns.get()
-                .flatMap(cols -> DataTable.build(this.table.name(), cols));
+                .flatMap(cols -> DataTable.build(this.table.name(), cols, indexColumns.apply(cols)));
 
         return result.isSuccess()
                 ? result
                 : error("Error " + changeType + " column at specified index.", result.getCause());
     }
 
+    /**
+     * Adds the columns from the specified index onwards to the index of columns by name.
+     * Column names have already been validated as unique.
+     *
+     * @param columnIndexes The existing index of columns by name.
+     * @param columns The columns.
+     * @param fromIdx The index of the first column to add to the index.
+     * @return Returns the updated index.
+     */
+    private static Map<String, Integer> indexColumns(Map<String, Integer> columnIndexes, Vector<IDataColumn> columns, int fromIdx) {
+        Map<String, Integer> indexes = columnIndexes;
+
+        for (int idx = fromIdx; idx < columns.length(); idx++)
+            indexes = indexes.put(columns.get(idx).name(), idx);
+
+        return indexes;
+    }
+
     private static Try<DataTable> error(String errorMessage) {
         return DataTableException.tryError(errorMessage);
     }
@@ -270,8 +328,4 @@ public class DataColumnCollection
     private static Try<DataTable> error(String errorMessage, Throwable exception) {
         return DataTableException.tryError(errorMessage, exception);
     }
-
-    private static boolean compare(String str1, String str2) {
-        return (str1 == null ? str2 == null : str1.equals(str2));
-    }
 }
@@ -0,0 +1,327 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.collection.Vector;
+
+/**
+ * DataCursor. A single mutable cursor which walks the rows of a DataTable,
+ * or the selected rows of a DataView, without creating an object per row.
+ *
+ * The cursor starts before the first row, and next() must be called to move
+ * to each row in turn. The columns are resolved once when the cursor is created,
+ * so values can be read by column index with just an array lookup, or by name
+ * using the column name index. Getters make no type checks, so reading a column
+ * as the wrong type will throw an exception. Reading a column by a name which isn't
+ * in the table throws an IllegalArgumentException.
+ *
+ * Cursors aren't thread safe, each thread should use its own cursor.
+ */
+public final class DataCursor {
+
+    private final DataTable table;
+    private final IDataColumn[] columns;
+    private final int[] rowIndexes;
+    private final int rowCount;
+
+    private int position;
+    private int rowIdx;
+
+    /**
+     * Private DataCursor constructor.
+     *
+     * @param table The underlying table.
+     * @param rowIndexes The indexes of the rows to walk, or null to walk every row in the table.
+     */
+    private DataCursor(DataTable table, int[] rowIndexes) {
+        this.table = table;
+        this.columns = Vector.ofAll(table.columns()).toJavaList().toArray(new IDataColumn[0]);
+
+        for (IDataColumn column : this.columns)
+            PrimitiveColumn.checkReadable(column);
+
+        this.rowIndexes = rowIndexes;
+        this.rowCount = rowIndexes == null ? table.rowCount() : rowIndexes.length;
+        reset();
+    }
+
+    /**
+     * Creates a cursor over every row in the table.
+     *
+     * @param table The table.
+     * @return Returns the cursor.
+     */
+    static DataCursor create(DataTable table) {
+        return new DataCursor(table, null);
+    }
+
+    /**
+     * Creates a cursor over the specified rows of a table.
+     * Callers must ensure the row indexes are valid, and never modify them afterwards.
+     *
+     * @param table The table.
+     * @param rowIndexes The indexes of the rows in the table.
+     * @return Returns the cursor.
+     */
+    static DataCursor create(DataTable table, int[] rowIndexes) {
+        return new DataCursor(table, rowIndexes);
+    }
+
+    /**
+     * Moves the cursor to the next row.
+     *
+     * @return Returns true if the cursor is on a row, or false if there are no more rows.
+     */
+    public boolean next() {
+        if (this.position >= this.rowCount) return false;
+
+        this.position++;
+        if (this.position >= this.rowCount) return false;
+
+        this.rowIdx = this.rowIndexes == null ? this.position : this.rowIndexes[this.position];
+        return true;
+    }
+
+    /**
+     * Moves the cursor back to before the first row.
+     */
+    public void reset() {
+        this.position = -1;
+        this.rowIdx = -1;
+    }
+
+    /**
+     * @return Returns the position of the current row in the rows being walked.
+     */
+    public int position() {
+        return this.position;
+    }
+
+    /**
+     * @return Returns the index of the current row in the underlying table.
+     */
+    public int rowIdx() {
+        return this.rowIdx;
+    }
+
+    /**
+     * @return Returns the number of rows the cursor walks.
+     */
+    public int rowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * @return Returns the underlying table.
+     */
+    public DataTable table() {
+        return this.table;
+    }
+
+    /**
+     * Returns the current row as a DataRow.
+     *
+     * @return Returns the Data Row.
+     */
+    public DataRow row() {
+        return DataRow.create(this.table, this.rowIdx);
+    }
+
+    /**
+     * Returns the index of a column by name, for use with the index based getters.
+     *
+     * @param colName The column name.
+     * @return Returns the column index, or -1 if not found.
+     */
+    public int columnIndex(String colName) {
+        return this.table.columns().indexOf(colName);
+    }
+
+    private int requiredColumnIndex(String colName) {
+        int colIdx = columnIndex(colName);
+
+        if (colIdx < 0)
+            throw new IllegalArgumentException("Column not found with name " + colName);
+
+        return colIdx;
+    }
+
+    /**
+     * Returns the value in the specified column for the current row.
+     *
+     * @param colIdx The column index.
+     * @return Returns the value.
+     */
+    public Object get(int colIdx) {
+        return this.columns[colIdx].valueAt(this.rowIdx);
+    }
+
+    /**
+     * Returns the value in the specified column for the current row.
+     *
+     * @param colName The column name.
+     * @return Returns the value.
+     */
+    public Object get(String colName) {
+        return get(requiredColumnIndex(colName));
+    }
+
+    /**
+     * Returns the value in the specified column for the current row, as a specific type.
+     *
+     * @param type The data type.
+     * @param colIdx The column index.
+     * @param <T> The value type.
+     * @return Returns the value.
+     */
+    public <T> T getAs(Class<T> type, int colIdx) {
+        return type.cast(get(colIdx));
+    }
+
+    /**
+     * Returns the value in the specified column for the current row, as a specific type.
+     *
+     * @param type The data type.
+     * @param colName The column name.
+     * @param <T> The value type.
+     * @return Returns the value.
+     */
+    public <T> T getAs(Class<T> type, String colName) {
+        return type.cast(get(colName));
+    }
+
+    /**
+     * Checks if the value in the specified column for the current row is null.
+     * Primitive columns are checked using their null bitmap, without boxing.
+     *
+     * @param colIdx The column index.
+     * @return Returns true if the value is null.
+     */
+    public boolean isNull(int colIdx) {
+        IDataColumn column = this.columns[colIdx];
+
+        return column instanceof PrimitiveColumn
+                ? ((PrimitiveColumn<?>)column).isNull(this.rowIdx)
+                : column.valueAt(this.rowIdx) == null;
+    }
+
+    /**
+     * Checks if the value in the specified column for the current row is null.
+     *
+     * @param colName The column name.
+     * @return Returns true if the value is null.
+     */
+    public boolean isNull(String colName) {
+        return isNull(requiredColumnIndex(colName));
+    }
+
+    /**
+     * Returns the int value in the specified column for the current row.
+     * Primitive int columns are read without boxing. Null values are returned as 0
+     * in any column, so use isNull to tell them apart.
+     *
+     * @param colIdx The column index.
+     * @return Returns the value.
+     */
+    public int getInt(int colIdx) {
+        IDataColumn column = this.columns[colIdx];
+
+        if (column instanceof IntColumn)
+            return ((IntColumn)column).getInt(this.rowIdx);
+
+        Integer value = (Integer)column.valueAt(this.rowIdx);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Returns the int value in the specified column for the current row.
+     *
+     * @param colName The column name.
+     * @return Returns the value.
+     */
+    public int getInt(String colName) {
+        return getInt(requiredColumnIndex(colName));
+    }
+
+    /**
+     * Returns the long value in the specified column for the current row.
+     * Primitive long columns are read without boxing. Null values are returned as 0
+     * in any column, so use isNull to tell them apart.
+     *
+     * @param colIdx The column index.
+     * @return Returns the value.
+     */
+    public long getLong(int colIdx) {
+        IDataColumn column = this.columns[colIdx];
+
+        if (column instanceof LongColumn)
+            return ((LongColumn)column).getLong(this.rowIdx);
+
+        Long value = (Long)column.valueAt(this.rowIdx);
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * Returns the long value in the specified column for the current row.
+     *
+     * @param colName The column name.
+     * @return Returns the value.
+     */
+    public long getLong(String colName) {
+        return getLong(requiredColumnIndex(colName));
+    }
+
+    /**
+     * Returns the double value in the specified column for the current row.
+     * Primitive double columns are read without boxing. Null values are returned as 0
+     * in any column, so use isNull to tell them apart.
+     *
+     * @param colIdx The column index.
+     * @return Returns the value.
+     */
+    public double getDouble(int colIdx) {
+        IDataColumn column = this.columns[colIdx];
+
+        if (column instanceof DoubleColumn)
+            return ((DoubleColumn)column).getDouble(this.rowIdx);
+
+        Double value = (Double)column.valueAt(this.rowIdx);
+        return value == null ? 0.0 : value;
+    }
+
+    /**
+     * Returns the double value in the specified column for the current row.
+     *
+     * @param colName The column name.
+     * @return Returns the value.
+     */
+    public double getDouble(String colName) {
+        return getDouble(requiredColumnIndex(colName));
+    }
+
+    /**
+     * Returns the boolean value in the specified column for the current row.
+     * Primitive boolean columns are read without boxing. Null values are returned as false
+     * in any column, so use isNull to tell them apart.
+     *
+     * @param colIdx The column index.
+     * @return Returns the value.
+     */
+    public boolean getBoolean(int colIdx) {
+        IDataColumn column = this.columns[colIdx];
+
+        if (column instanceof BooleanColumn)
+            return ((BooleanColumn)column).getBoolean(this.rowIdx);
+
+        Boolean value = (Boolean)column.valueAt(this.rowIdx);
+        return value == null ? false : value;
+    }
+
+    /**
+     * Returns the boolean value in the specified column for the current row.
+     *
+     * @param colName The column name.
+     * @return Returns the value.
+     */
+    public boolean getBoolean(String colName) {
+        return getBoolean(requiredColumnIndex(colName));
+    }
+}
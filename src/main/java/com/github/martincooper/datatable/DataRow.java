@@ -48,7 +48,7 @@ public class DataRow {
      */
     public Object[] data() {
         return this.table.columns()
-                .map(col -> col.data().get(this.rowIdx))
+                .map(col -> col.valueAt(this.rowIdx))
                 .toJavaArray();
     }
 
@@ -152,6 +152,18 @@ public class DataRow {
                 : Try.failure(column.getCause());
     }
 
+    /**
+     * Creates an instance of a DataRow without validation.
+     * Callers must ensure the row index is valid for the table.
+     *
+     * @param table The DataTable the DataRow is pointing to.
+     * @param rowIdx The row index.
+     * @return Returns a DataRow.
+     */
+    static DataRow create(DataTable table, Integer rowIdx) {
+        return new DataRow(table, rowIdx);
+    }
+
     /**
      * Builds an instance of a DataRow.
      * Row Index is validated before creation, returning a Failure on error.
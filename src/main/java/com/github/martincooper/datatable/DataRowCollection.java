@@ -2,21 +2,103 @@ package com.github.martincooper.datatable;
 
 import io.vavr.control.Try;
 
+import java.util.stream.IntStream;
+
 /**
  * DataRowCollection. Handles a collection of DataRows
+ * The collection is stored as a selection of row indexes into the underlying
+ * table, with the DataRows only created on demand.
  * Created by Martin Cooper on 17/07/2017.
  */
 public class DataRowCollection extends DataRowCollectionBase {
 
+    private final int[] rowIndexes;
+
     /**
-     * Private DataRow constructor.
+     * Private DataRowCollection constructor.
      * Use 'build' to create instance.
      *
-     * @param table The DataTable the DataRow is pointing to.
-     * @param rows The DataRows.
+     * @param table The DataTable the DataRows are pointing to.
+     * @param rowIndexes The indexes of the rows in the table. Must not be modified after construction.
+     */
+    private DataRowCollection(DataTable table, int[] rowIndexes) {
+        super(table);
+        this.rowIndexes = rowIndexes;
+    }
+
+    /**
+     * Returns the Data Row at the specified index.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the Data Row.
+     */
+    @Override
+    public DataRow get(Integer rowIndex) {
+        return DataRow.create(this.table, this.rowIndexes[rowIndex]);
+    }
+
+    /**
+     * The number of rows in the collection.
+     *
+     * @return Returns the number of rows.
      */
-    private DataRowCollection(DataTable table, Iterable<DataRow> rows) {
-        super(table, rows);
+    @Override
+    public Integer rowCount() {
+        return this.rowIndexes.length;
+    }
+
+    /**
+     * Returns the index in the underlying table of the row at the specified position.
+     *
+     * @param position The position of the row in this collection.
+     * @return Returns the table row index.
+     */
+    @Override
+    int rowIndexAt(int position) {
+        return this.rowIndexes[position];
+    }
+
+    /**
+     * Returns a copy of the indexes in the underlying table of the rows in this collection.
+     *
+     * @return Returns the table row indexes.
+     */
+    @Override
+    public int[] rowIndexes() {
+        return this.rowIndexes.clone();
+    }
+
+    /**
+     * Copies a range of the indexes in the underlying table of the rows in this collection,
+     * without copying the whole collection as rowIndexes does.
+     *
+     * @param position The position of the first row to copy.
+     * @param dest The destination array.
+     * @param destPos The index in the destination to copy to.
+     * @param length The number of row indexes to copy.
+     */
+    public void copyRowIndexes(int position, int[] dest, int destPos, int length) {
+        System.arraycopy(this.rowIndexes, position, dest, destPos, length);
+    }
+
+    /**
+     * Returns the indexes in the underlying table of the rows in this collection, without
+     * copying them. Callers must only read the indexes, and never modify them.
+     *
+     * @return Returns the table row indexes.
+     */
+    int[] rowIndexArray() {
+        return this.rowIndexes;
+    }
+
+    /**
+     * Returns a cursor which walks the rows in this collection, without creating a DataRow per row.
+     *
+     * @return Returns the cursor.
+     */
+    @Override
+    public DataCursor cursor() {
+        return DataCursor.create(this.table, this.rowIndexes);
     }
 
     /**
@@ -26,7 +108,7 @@ public class DataRowCollection extends DataRowCollectionBase {
      * @return Returns the DataRowCollection.
      */
     public static DataRowCollection build(DataTable table) {
-        return buildRowCollection(table, DataRowCollection::new);
+        return new DataRowCollection(table, table.rows().rowIndexes());
     }
 
     /**
@@ -37,6 +119,52 @@ public class DataRowCollection extends DataRowCollectionBase {
      * @return Returns the DataRowCollection.
      */
     public static Try<DataRowCollection> build(DataTable table, Iterable<DataRow> rows) {
-        return buildRowCollection(table, rows, DataRowCollection::new);
+        return validateDataRows(table, rows)
+                .map(x -> new DataRowCollection(table, toRowIndexes(rows)));
+    }
+
+    /**
+     * Builds a new DataRowCollection for the specified DataTable.
+     * The row indexes are validated against the table and copied.
+     *
+     * @param table The table to build the DataRowCollection for.
+     * @param rowIndexes The indexes of the rows in the table.
+     * @return Returns the DataRowCollection.
+     */
+    public static Try<DataRowCollection> build(DataTable table, int[] rowIndexes) {
+        return validateRowIndexes(table, rowIndexes)
+                .map(x -> new DataRowCollection(table, rowIndexes.clone()));
+    }
+
+    private static int[] toRowIndexes(Iterable<DataRow> rows) {
+        IntStream.Builder rowIndexes = IntStream.builder();
+
+        for (DataRow row : rows)
+            rowIndexes.add(row.rowIdx());
+
+        return rowIndexes.build().toArray();
+    }
+
+    /**
+     * Returns a collection of the same rows in another table with the same rows,
+     * such as a selection of this table's columns, sharing the row indexes.
+     *
+     * @param table The table with the same rows.
+     * @return Returns the DataRowCollection.
+     */
+    DataRowCollection withTable(DataTable table) {
+        return new DataRowCollection(table, this.rowIndexes);
+    }
+
+    /**
+     * Creates a new DataRowCollection without validation or copying.
+     * Callers must ensure the row indexes are valid, and never modify them afterwards.
+     *
+     * @param table The table to create the DataRowCollection for.
+     * @param rowIndexes The indexes of the rows in the table.
+     * @return Returns the DataRowCollection.
+     */
+    static DataRowCollection create(DataTable table, int[] rowIndexes) {
+        return new DataRowCollection(table, rowIndexes);
     }
 }
@@ -1,12 +1,14 @@
 package com.github.martincooper.datatable;
 
+import com.github.martincooper.datatable.filtering.Filter;
 import io.vavr.collection.*;
 import io.vavr.control.Try;
 
-import java.util.Iterator;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static com.github.martincooper.datatable.TransformCollector.transform;
 
@@ -17,28 +19,26 @@ import static com.github.martincooper.datatable.TransformCollector.transform;
 abstract class DataRowCollectionBase implements Iterable<DataRow> {
 
     protected final DataTable table;
-    protected final Vector<DataRow> rows;
 
     /**
-     * Protected DataRow constructor.
+     * Protected DataRowCollectionBase constructor.
      * Use 'build' to create instance.
      *
-     * @param table The DataTable the DataRow is pointing to.
-     * @param rows The DataRows.
+     * @param table The DataTable the DataRows are pointing to.
      */
-    DataRowCollectionBase(DataTable table, Iterable<DataRow> rows) {
+    DataRowCollectionBase(DataTable table) {
         this.table = table;
-        this.rows = Vector.ofAll(rows);
     }
 
     /**
      * Returns an iterator over elements of DataRow.
+     * Data Rows are created on demand as the iterator is consumed.
      *
      * @return an Iterator.
      */
     @Override
     public Iterator<DataRow> iterator() {
-        return rows.iterator();
+        return Iterator.range(0, rowCount()).map(this::get);
     }
 
     /**
@@ -47,18 +47,36 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @param rowIndex The row index.
      * @return Returns the Data Row.
      */
-    public DataRow get(Integer rowIndex) {
-        return this.rows.get(rowIndex);
-    }
+    public abstract DataRow get(Integer rowIndex);
 
     /**
      * The number of rows in the collection.
      *
      * @return Returns the number of rows.
      */
-    public Integer rowCount() {
-        return this.rows.length();
-    }
+    public abstract Integer rowCount();
+
+    /**
+     * Returns the index in the underlying table of the row at the specified position.
+     *
+     * @param position The position of the row in this collection.
+     * @return Returns the table row index.
+     */
+    abstract int rowIndexAt(int position);
+
+    /**
+     * Returns a copy of the indexes in the underlying table of the rows in this collection.
+     *
+     * @return Returns the table row indexes.
+     */
+    public abstract int[] rowIndexes();
+
+    /**
+     * Returns a cursor which walks the rows in this collection, without creating a DataRow per row.
+     *
+     * @return Returns the cursor.
+     */
+    public abstract DataCursor cursor();
 
     /**
      * Returns access to the Data Row collection as a sequence of Data Rows.
@@ -66,7 +84,7 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns the rows.
      */
     public Seq<DataRow> asSeq() {
-        return this.rows;
+        return Vector.ofAll(this);
     }
 
     /**
@@ -76,9 +94,57 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns a DataView with the filter results.
      */
     public DataView filter(Predicate<DataRow> predicate) {
-        return this.rows
-                .filter(predicate)
-                .collect(transform(rows -> DataView.build(this.table, rows).get()));
+        IntStream.Builder rowIndexes = IntStream.builder();
+        int rowCount = rowCount();
+
+        for (int idx = 0; idx < rowCount; idx++) {
+            DataRow row = get(idx);
+            if (predicate.test(row)) rowIndexes.add(row.rowIdx());
+        }
+
+        return DataView.create(this.table, rowIndexes.build().toArray());
+    }
+
+    /**
+     * Filters the row data using the specified column filter, evaluated directly
+     * over the column data, returning the results as a DataView over the original table.
+     *
+     * @param filter The column filter, for example col("Price").gt(100.0).
+     * @return Returns a DataView with the filter results, or a Failure.
+     */
+    public Try<DataView> where(Filter filter) {
+        Guard.notNull(filter, "filter");
+
+        int[] rowIndexes = rowIndexes();
+
+        return filter.evaluate(this.table, rowIndexes).map(matches -> {
+            int[] matchingRows = new int[matches.cardinality()];
+            int matchIdx = 0;
+
+            for (int idx = matches.nextSetBit(0); idx >= 0; idx = matches.nextSetBit(idx + 1))
+                matchingRows[matchIdx++] = rowIndexes[idx];
+
+            return DataView.create(this.table, matchingRows);
+        });
+    }
+
+    /**
+     * Filters the row data in parallel using the specified predicate,
+     * returning the results as a DataView over the original table.
+     * The rows are split into chunks across the common fork / join pool,
+     * with the results kept in the original row order.
+     *
+     * @param predicate The filter criteria. Must be safe to call from multiple threads.
+     * @return Returns a DataView with the filter results.
+     */
+    public DataView parallelFilter(Predicate<DataRow> predicate) {
+        int[] rowIndexes = IntStream.range(0, rowCount())
+                .parallel()
+                .filter(idx -> predicate.test(get(idx)))
+                .map(this::rowIndexAt)
+                .toArray();
+
+        return DataView.create(this.table, rowIndexes);
     }
 
     /**
@@ -89,7 +155,35 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns a sequence of the applied map.
      */
     public <U> Seq<U> map(Function<? super DataRow, ? extends U> mapper) {
-        return this.rows.map(mapper);
+        return asSeq().map(mapper);
+    }
+
+    /**
+     * Map implementation for the DataRowCollection class, run in parallel.
+     * The rows are split into chunks across the common fork / join pool,
+     * with the results kept in the original row order.
+     *
+     * @param <U> Mapped return type.
+     * @param mapper The map function. Must be safe to call from multiple threads.
+     * @return Returns a sequence of the applied map.
+     */
+    public <U> Seq<U> parallelMap(Function<? super DataRow, ? extends U> mapper) {
+        return IntStream.range(0, rowCount())
+                .parallel()
+                .<U>mapToObj(idx -> mapper.apply(get(idx)))
+                .collect(transform(Vector::ofAll));
+    }
+
+    /**
+     * Performs an action on each row in parallel, across the common fork / join pool.
+     * The rows are processed in no particular order.
+     *
+     * @param action The action to perform. Must be safe to call from multiple threads.
+     */
+    public void parallelForEach(Consumer<? super DataRow> action) {
+        IntStream.range(0, rowCount())
+                .parallel()
+                .forEach(idx -> action.accept(get(idx)));
     }
 
     /**
@@ -100,7 +194,7 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns a sequence of the applied flatMap.
      */
     public <U> Seq<U> flatMap(Function<? super DataRow, ? extends Iterable <? extends U>> mapper) {
-        return this.rows.flatMap(mapper);
+        return asSeq().flatMap(mapper);
     }
 
     /**
@@ -110,7 +204,7 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns a single, reduced DataRow.
      */
     public DataRow reduce(BiFunction<? super DataRow, ? super DataRow, ? extends DataRow> reducer) {
-        return this.rows.reduce(reducer);
+        return iterator().reduce(reducer);
     }
 
     /**
@@ -121,7 +215,7 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns a single value of U.
      */
     public <U> U foldLeft(U zero, BiFunction<? super U, ? super DataRow, ? extends U> folder) {
-        return this.rows.foldLeft(zero, folder);
+        return iterator().foldLeft(zero, folder);
     }
 
     /**
@@ -132,7 +226,7 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns a single value of U.
      */
     public <U> U foldRight(U zero, BiFunction<? super DataRow, ? super U, ? extends U> folder) {
-        return this.rows.foldRight(zero, folder);
+        return asSeq().foldRight(zero, folder);
     }
 
     /**
@@ -142,19 +236,7 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @return Returns a map containing the grouped data.
      */
     public <C> Map<C, Vector<DataRow>> groupBy(Function<? super DataRow, ? extends C> grouper) {
-        return this.rows.groupBy(grouper);
-    }
-
-    static <T extends DataRowCollectionBase> T buildRowCollection(DataTable table, BiFunction<DataTable, Iterable<DataRow>, T> builder) {
-        return Stream
-                .range(0, table.rowCount())
-                .map(idx -> DataRow.build(table, idx).get())
-                .collect(transform(rows -> builder.apply(table, rows)));
-    }
-
-    static <T extends DataRowCollectionBase> Try<T> buildRowCollection(DataTable table, Iterable<DataRow> rows, BiFunction<DataTable, Iterable<DataRow>, T> builder) {
-        return validateDataRows(table, rows)
-                .flatMap(x -> Try.success(builder.apply(table, rows)));
+        return asSeq().toVector().groupBy(grouper);
     }
 
     /**
@@ -162,9 +244,25 @@ abstract class DataRowCollectionBase implements Iterable<DataRow> {
      * @param dataRows The Data Rows to check.
      * @return Returns a Success or Failure.
      */
-    private static Try<Void> validateDataRows(DataTable table, Iterable<DataRow> dataRows) {
+    static Try<Void> validateDataRows(DataTable table, Iterable<DataRow> dataRows) {
         return List.ofAll(dataRows).forAll(row -> row.table() == table)
                 ? Try.success(null)
                 : DataTableException.tryError("DataRows do not all belong to the specified table.");
     }
+
+    /**
+     * Validates the passed row indexes are all valid for the passed table.
+     * @param rowIndexes The row indexes to check.
+     * @return Returns a Success or Failure.
+     */
+    static Try<Void> validateRowIndexes(DataTable table, int[] rowIndexes) {
+        int rowCount = table.rowCount();
+
+        for (int rowIdx : rowIndexes) {
+            if (rowIdx < 0 || rowIdx >= rowCount)
+                return DataTableException.tryError("Row indexes are not all valid for the specified table.");
+        }
+
+        return Try.success(null);
+    }
 }
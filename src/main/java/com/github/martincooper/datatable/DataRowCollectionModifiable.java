@@ -1,9 +1,15 @@
 package com.github.martincooper.datatable;
 
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Stream;
 import io.vavr.control.Try;
 
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
 import static io.vavr.API.$;
 import static io.vavr.API.Case;
 import static io.vavr.API.Match;
@@ -17,14 +23,71 @@ import static io.vavr.Patterns.$Success;
 public class DataRowCollectionModifiable extends DataRowCollectionBase {
 
     /**
-     * Private DataRow constructor.
+     * Private DataRowCollectionModifiable constructor.
      * Use 'build' to create instance.
      *
-     * @param table The DataTable the DataRow is pointing to.
-     * @param rows The DataRows.
+     * The collection is virtual, covering every row in the table. No Data Rows are
+     * created up front, they are only created on demand when requested.
+     *
+     * @param table The DataTable the DataRows are pointing to.
      */
-    private DataRowCollectionModifiable(DataTable table, Iterable<DataRow> rows) {
-        super(table, rows);
+    private DataRowCollectionModifiable(DataTable table) {
+        super(table);
+    }
+
+    /**
+     * Returns the Data Row at the specified index.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the Data Row.
+     */
+    @Override
+    public DataRow get(Integer rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount())
+            throw new IndexOutOfBoundsException("Row index out of bounds : " + rowIndex);
+
+        return DataRow.create(this.table, rowIndex);
+    }
+
+    /**
+     * The number of rows in the collection.
+     *
+     * @return Returns the number of rows.
+     */
+    @Override
+    public Integer rowCount() {
+        return this.table.rowCount();
+    }
+
+    /**
+     * Returns the index in the underlying table of the row at the specified position.
+     *
+     * @param position The position of the row in this collection.
+     * @return Returns the table row index.
+     */
+    @Override
+    int rowIndexAt(int position) {
+        return position;
+    }
+
+    /**
+     * Returns the indexes of all the rows in the table.
+     *
+     * @return Returns the table row indexes.
+     */
+    @Override
+    public int[] rowIndexes() {
+        return IntStream.range(0, rowCount()).toArray();
+    }
+
+    /**
+     * Returns a cursor which walks every row in the table, without creating a DataRow per row.
+     *
+     * @return Returns the cursor.
+     */
+    @Override
+    public DataCursor cursor() {
+        return DataCursor.create(this.table);
     }
 
     /**
@@ -110,6 +173,62 @@ public class DataRowCollectionModifiable extends DataRowCollectionBase {
         return removeRow(idx);
     }
 
+    /**
+     * Returns a new DataTable with all the additional rows appended.
+     * The values are type checked per column, and the table is only rebuilt once.
+     *
+     * @param rowValues The values for each row to append.
+     * @return Returns a new DataTable with the rows appended.
+     */
+    public Try<DataTable> addAll(Iterable<Object[]> rowValues) {
+        return Match(mapRowsToColumns(rowValues)).of(
+                Case($Success($()), values -> modifyColumns(values, (col, colValues) -> col.addAll(colValues))),
+                Case($Failure($()), Try::failure)
+        );
+    }
+
+    /**
+     * Returns a new DataTable with all the additional rows inserted at the specified index.
+     * The values are type checked per column, and the table is only rebuilt once.
+     *
+     * @param idx The row index.
+     * @param rowValues The values for each row to insert.
+     * @return Returns a new DataTable with the rows inserted.
+     */
+    public Try<DataTable> insertAll(int idx, Iterable<Object[]> rowValues) {
+        return Match(mapRowsToColumns(rowValues)).of(
+                Case($Success($()), values -> modifyColumns(values, (col, colValues) -> col.insertAll(idx, colValues))),
+                Case($Failure($()), Try::failure)
+        );
+    }
+
+    /**
+     * Returns a new DataTable with the data replaced at each of the specified indexes.
+     * The values are type checked per column, and the table is only rebuilt once.
+     *
+     * @param idxs The row indexes.
+     * @param rowValues The new values for each row, one per index.
+     * @return Returns a new DataTable with the rows replaced.
+     */
+    public Try<DataTable> replaceAll(int[] idxs, Iterable<Object[]> rowValues) {
+        return Match(mapRowsToColumns(rowValues)).of(
+                Case($Success($()), values -> modifyColumns(values, (col, colValues) -> col.replaceAll(idxs, colValues))),
+                Case($Failure($()), Try::failure)
+        );
+    }
+
+    /**
+     * Returns a new DataTable with all the specified rows removed.
+     * The table is only rebuilt once.
+     *
+     * @param idxs The row indexes.
+     * @return Returns a new DataTable with the rows removed.
+     */
+    public Try<DataTable> removeAll(int[] idxs) {
+        Try<Seq<IDataColumn>> cols = toSequence(table.columns().map(col -> col.removeAll(idxs)));
+        return buildTable(cols);
+    }
+
     private Try<DataTable> addRow(Seq<ColumnValuePair> values) {
         Try<Seq<IDataColumn>> newCols = toSequence(values.map(val -> val.column().add(val.value())));
         return buildTable(newCols);
@@ -130,6 +249,12 @@ public class DataRowCollectionModifiable extends DataRowCollectionBase {
         return buildTable(cols);
     }
 
+    private Try<DataTable> modifyColumns(Seq<Tuple2<IDataColumn, Seq<Object>>> values,
+                                         BiFunction<IDataColumn, Seq<Object>, Try<IDataColumn>> modifier) {
+        Try<Seq<IDataColumn>> newCols = toSequence(values.map(val -> modifier.apply(val._1, val._2)));
+        return buildTable(newCols);
+    }
+
     private Try<DataTable> buildTable(Try<Seq<IDataColumn>> columns) {
         return Match(columns).of(
                 Case($Success($()), cols -> DataTable.build(table.name(), cols)),
@@ -149,6 +274,23 @@ public class DataRowCollectionModifiable extends DataRowCollectionBase {
                 : Try.success(createIndexedColumnValuePair(values));
     }
 
+    /**
+     * Validates the number of values in each row equals the number of columns in the table,
+     * then maps each column to the values for that column across all rows.
+     *
+     * @param rowValues The values for each row.
+     * @return Returns a sequence of columns to column values if valid.
+     */
+    private Try<Seq<Tuple2<IDataColumn, Seq<Object>>>> mapRowsToColumns(Iterable<Object[]> rowValues) {
+        Array<Object[]> rows = Array.ofAll(rowValues);
+        int columnCount = table.columns().count();
+
+        return rows.exists(row -> row.length != columnCount)
+                ? DataTableException.tryError("Number of values does not match number of columns.")
+                : Try.success(Array.range(0, columnCount)
+                    .map(colIdx -> Tuple.of(table.column(colIdx), rows.map(row -> row[colIdx]))));
+    }
+
     /**
      * Maps each value to a corresponding column.
      *
@@ -176,6 +318,6 @@ public class DataRowCollectionModifiable extends DataRowCollectionBase {
      * @return Returns the DataRowCollection.
      */
     public static DataRowCollectionModifiable build(DataTable table) {
-        return buildRowCollection(table, DataRowCollectionModifiable::new);
+        return new DataRowCollectionModifiable(table);
     }
 }
@@ -1,16 +1,25 @@
 package com.github.martincooper.datatable;
 
+import com.github.martincooper.datatable.filtering.Filter;
+import com.github.martincooper.datatable.grouping.GroupBy;
+import com.github.martincooper.datatable.joining.HashJoin;
+import com.github.martincooper.datatable.joining.JoinOn;
+import com.github.martincooper.datatable.joining.JoinType;
 import com.github.martincooper.datatable.sorting.DataSort;
 import com.github.martincooper.datatable.sorting.SortItem;
+import com.github.martincooper.datatable.sorting.SortOptions;
 import com.github.martincooper.datatable.sorting.SortOrder;
+import io.vavr.collection.HashMap;
 import io.vavr.collection.Map;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Stream;
 import io.vavr.collection.Vector;
 import io.vavr.control.Try;
 
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -52,6 +61,20 @@ public class DataTable implements IBaseTable {
         this.rows = DataRowCollectionModifiable.build(this);
     }
 
+    /**
+     * Private DataTable Constructor.
+     * Use 'build' to create instance.
+     *
+     * @param tableName The name of the table.
+     * @param columns The collection of columns in the table.
+     * @param columnIndexes The index of each column by name.
+     */
+    private DataTable(String tableName, Vector<IDataColumn> columns, Map<String, Integer> columnIndexes) {
+        this.name = tableName;
+        this.columns = new DataColumnCollection(this, columns, columnIndexes);
+        this.rows = DataRowCollectionModifiable.build(this);
+    }
+
     /**
      * Returns an iterator over elements of type DataRow.
      *
@@ -94,7 +117,7 @@ public class DataTable implements IBaseTable {
     @Override
     public Integer rowCount() {
         return this.columns.count() > 0
-                ? this.columns.get(0).data().length()
+                ? this.columns.get(0).rowCount()
                 : 0;
     }
 
@@ -115,7 +138,48 @@ public class DataTable implements IBaseTable {
      */
     @Override
     public DataView toDataView() {
-        return DataView.build(this, this.rows).get();
+        return DataView.create(this, this.rows.rowIndexes());
+    }
+
+    /**
+     * Returns a new table with just the specified columns, in the order given.
+     * The columns are shared with this table rather than copied, so the time
+     * taken depends only on the number of columns selected.
+     *
+     * @param columnNames The names of the columns to select.
+     * @return Returns the new DataTable, or a Failure if a column isn't found or is selected twice.
+     */
+    public Try<DataTable> select(String... columnNames) {
+        return select(Vector.of(columnNames));
+    }
+
+    /**
+     * Returns a new table with just the specified columns, in the order given.
+     * The columns are shared with this table rather than copied, so the time
+     * taken depends only on the number of columns selected.
+     *
+     * @param columnNames The names of the columns to select.
+     * @return Returns the new DataTable, or a Failure if a column isn't found or is selected twice.
+     */
+    public Try<DataTable> select(Iterable<String> columnNames) {
+        Vector<IDataColumn> selected = Vector.empty();
+        Map<String, Integer> columnIndexes = HashMap.empty();
+
+        // The columns already have unique names and the same length, so only the selection is checked.
+        for (String columnName : columnNames) {
+            int idx = this.columns.indexOf(columnName);
+
+            if (idx < 0)
+                return DataTableException.tryError("Column not found with name " + columnName);
+
+            if (columnIndexes.containsKey(columnName))
+                return DataTableException.tryError("Column " + columnName + " is selected more than once.");
+
+            columnIndexes = columnIndexes.put(columnName, selected.length());
+            selected = selected.append(this.columns.get(idx));
+        }
+
+        return Try.success(new DataTable(this.name, selected, columnIndexes));
     }
 
     /**
@@ -129,6 +193,28 @@ public class DataTable implements IBaseTable {
         return this.rows.filter(predicate);
     }
 
+    /**
+     * Filters the row data using the specified column filter, evaluated directly
+     * over the column data, returning the results as a DataView over the original table.
+     *
+     * @param filter The column filter, for example col("Price").gt(100.0).
+     * @return Returns a DataView with the filter results, or a Failure.
+     */
+    public Try<DataView> where(Filter filter) {
+        return this.rows.where(filter);
+    }
+
+    /**
+     * Filters the row data in parallel using the specified predicate,
+     * returning the results as a DataView over the original table.
+     *
+     * @param predicate The filter criteria. Must be safe to call from multiple threads.
+     * @return Returns a DataView with the filter results.
+     */
+    public DataView parallelFilter(Predicate<DataRow> predicate) {
+        return this.rows.parallelFilter(predicate);
+    }
+
     /**
      * Map operation across the Data Rows in the table.
      *
@@ -140,6 +226,26 @@ public class DataTable implements IBaseTable {
         return this.rows.map(mapper);
     }
 
+    /**
+     * Map operation across the Data Rows in the table, run in parallel.
+     *
+     * @param mapper The mapper function. Must be safe to call from multiple threads.
+     * @param <U> The return type.
+     * @return Returns the mapped results, in row order.
+     */
+    public <U> Seq<U> parallelMap(Function<? super DataRow, ? extends U> mapper) {
+        return this.rows.parallelMap(mapper);
+    }
+
+    /**
+     * Performs an action on each of the Data Rows in the table in parallel, in no particular order.
+     *
+     * @param action The action to perform. Must be safe to call from multiple threads.
+     */
+    public void parallelForEach(Consumer<? super DataRow> action) {
+        this.rows.parallelForEach(action);
+    }
+
     /**
      * FlatMap implementation for the DataRowCollection class.
      *
@@ -171,6 +277,30 @@ public class DataTable implements IBaseTable {
         return this.rows.groupBy(grouper);
     }
 
+    /**
+     * Groups the rows by the values in the specified columns, allowing
+     * aggregates to be calculated for each group using agg().
+     *
+     * @param columnNames The names of the columns to group by.
+     * @return Returns the group by.
+     */
+    public GroupBy groupBy(String... columnNames) {
+        return GroupBy.create(this, this.rows.rowIndexes(), columnNames);
+    }
+
+    /**
+     * Joins this table with another table, as a hash join on the specified key columns.
+     * The hash index is built over the smaller table, and probed with the larger.
+     *
+     * @param other The table to join with, as the right table.
+     * @param on The key columns to join on.
+     * @param joinType The type of join.
+     * @return Returns a new DataTable containing the joined rows, or a Failure.
+     */
+    public Try<DataTable> join(DataTable other, JoinOn on, JoinType joinType) {
+        return HashJoin.join(this, other, on, joinType);
+    }
+
     /**
      * Fold Left implementation for the DataRowCollection class.
      *
@@ -193,6 +323,16 @@ public class DataTable implements IBaseTable {
         return this.rows.foldRight(zero, folder);
     }
 
+    /**
+     * Returns a cursor which walks the rows, without creating a DataRow per row.
+     *
+     * @return Returns the cursor.
+     */
+    @Override
+    public DataCursor cursor() {
+        return this.rows.cursor();
+    }
+
     /**
      * Accessor to a specific row by index.
      *
@@ -222,6 +362,63 @@ public class DataTable implements IBaseTable {
         return this.columns.get(colName);
     }
 
+    /**
+     * Returns a typed reference to a column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or type will throw an exception.
+     *
+     * @param type The column type.
+     * @param colName The name of the column.
+     * @param <T> The column type.
+     * @return Returns the column reference.
+     */
+    public <T> ColumnRef<T> columnRef(Class<T> type, String colName) {
+        return ColumnRef.build(this, type, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive int column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public IntColumnRef intColumn(String colName) {
+        return IntColumnRef.build(this, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive long column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public LongColumnRef longColumn(String colName) {
+        return LongColumnRef.build(this, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive double column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public DoubleColumnRef doubleColumn(String colName) {
+        return DoubleColumnRef.build(this, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive boolean column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public BooleanColumnRef booleanColumn(String colName) {
+        return BooleanColumnRef.build(this, colName).get();
+    }
+
     /**
      * Table QuickSort by single column name.
      *
@@ -243,7 +440,7 @@ public class DataTable implements IBaseTable {
     @Override
     public Try<DataView> quickSort(String columnName, SortOrder sortOrder) {
         SortItem sortItem = new SortItem(columnName, sortOrder);
-        return DataSort.quickSort(this, this.rows.asSeq(), Stream.of(sortItem));
+        return DataSort.quickSort(this, this.rows.rowIndexes(), Stream.of(sortItem));
     }
 
     /**
@@ -267,7 +464,7 @@ public class DataTable implements IBaseTable {
     @Override
     public Try<DataView> quickSort(Integer columnIndex, SortOrder sortOrder) {
         SortItem sortItem = new SortItem(columnIndex, sortOrder);
-        return DataSort.quickSort(this, this.rows.asSeq(), Stream.of(sortItem));
+        return DataSort.quickSort(this, this.rows.rowIndexes(), Stream.of(sortItem));
     }
 
     /**
@@ -289,7 +486,67 @@ public class DataTable implements IBaseTable {
      */
     @Override
     public Try<DataView> quickSort(Iterable<SortItem> sortItems) {
-        return DataSort.quickSort(this, this.rows.asSeq(), Stream.ofAll(sortItems));
+        return DataSort.quickSort(this, this.rows.rowIndexes(), Stream.ofAll(sortItems));
+    }
+
+    /**
+     * Table QuickSort by multiple sort items, with the specified sort options.
+     *
+     * @param sortItems The sort items.
+     * @param sortOptions The sort options, specifying a sequential or parallel sort.
+     * @return Returns the results as a sorted Data View.
+     */
+    @Override
+    public Try<DataView> quickSort(Iterable<SortItem> sortItems, SortOptions sortOptions) {
+        return DataSort.quickSort(this, this.rows.rowIndexes(), Stream.ofAll(sortItems), sortOptions);
+    }
+
+    /**
+     * Returns the first rows of a table sort by multiple sort items.
+     *
+     * @param sortItems The sort items.
+     * @param n The maximum number of rows to return.
+     * @return Returns the first n sorted rows as a Data View.
+     */
+    @Override
+    public Try<DataView> topN(Iterable<SortItem> sortItems, int n) {
+        return topN(sortItems, 0, n);
+    }
+
+    /**
+     * Returns a range of the rows of a table sort by multiple sort items.
+     *
+     * @param sortItems The sort items.
+     * @param offset The number of sorted rows to skip.
+     * @param limit The maximum number of rows to return.
+     * @return Returns the range of sorted rows as a Data View.
+     */
+    @Override
+    public Try<DataView> topN(Iterable<SortItem> sortItems, int offset, int limit) {
+        return DataSort.topN(this, null, Stream.ofAll(sortItems), offset, limit);
+    }
+
+    /**
+     * Saves the table to a binary columnar file, which can be loaded again using mapFile.
+     * Columns must be of type Integer, Long, Double, Boolean or String.
+     *
+     * @param path The file path, replacing any existing file.
+     * @return Returns a Success, or a Failure if the table couldn't be saved.
+     */
+    public Try<Void> save(Path path) {
+        return DataTableFile.save(this, path);
+    }
+
+    /**
+     * Loads a table saved using save, by memory mapping the file. Int, long, double, boolean
+     * and dictionary encoded columns are read directly from the mapped file without copying,
+     * so loading is near instant and the data is only read from disk as it's accessed.
+     *
+     * @param path The file path.
+     * @return Returns the DataTable wrapped in a Try.
+     */
+    public static Try<DataTable> mapFile(Path path) {
+        return DataTableFile.mapFile(path);
     }
 
     /**
@@ -341,6 +598,46 @@ public class DataTable implements IBaseTable {
         );
     }
 
+    /**
+     * Concatenates the rows of tables with the same columns into a new table, in order.
+     * Primitive and dictionary encoded columns are concatenated without boxing the values.
+     *
+     * @param tableName The name of the new table.
+     * @param tables The tables to concatenate.
+     * @return Returns the concatenated DataTable wrapped in a Try.
+     */
+    public static Try<DataTable> concat(String tableName, Iterable<DataTable> tables) {
+        Vector<DataTable> tableList = Vector.ofAll(tables);
+        if (tableList.isEmpty()) return Try.success(build(tableName));
+
+        DataColumnCollection firstColumns = tableList.head().columns();
+        int columnCount = firstColumns.count();
+
+        boolean matchingColumns = tableList.forAll(table -> table.columns().count() == columnCount
+                && Vector.range(0, columnCount).forAll(idx ->
+                        table.column(idx).name().equals(firstColumns.get(idx).name())
+                        && table.column(idx).type().equals(firstColumns.get(idx).type())));
+
+        if (!matchingColumns)
+            return DataTableException.tryError("Tables have different columns.");
+
+        return Try.sequence(Vector.range(0, columnCount).map(idx -> concatColumn(tableList.map(table -> table.column(idx)))))
+                .flatMap(columns -> build(tableName, columns));
+    }
+
+    /**
+     * Builds an instance of a DataTable, using an existing index of the columns by name.
+     * Columns are validated before creation, returning a Failure on error.
+     *
+     * @param tableName The name of the table.
+     * @param columns The column collection.
+     * @param columnIndexes The index of each column by name.
+     * @return Returns a DataTable wrapped in a Try.
+     */
+    static Try<DataTable> build(String tableName, Vector<IDataColumn> columns, Map<String, Integer> columnIndexes) {
+        return validateColumns(columns).map(cols -> new DataTable(tableName, columns, columnIndexes));
+    }
+
     /**
      * Validates the column data.
      *
@@ -371,8 +668,23 @@ public class DataTable implements IBaseTable {
      * @return Returns a Success or Failure.
      */
     private static Try<Seq<IDataColumn>> validateColumnDataLength(Seq<IDataColumn> columns) {
-        return columns.groupBy(col -> col.data().length()).length() > 1
+        return columns.groupBy(IDataColumn::rowCount).length() > 1
                 ? DataTableException.tryError("Columns have different lengths.")
                 : Try.success(columns);
     }
+
+    /**
+     * Concatenates the parts of a column, without boxing where they're all the same class of primitive column.
+     *
+     * @param parts The parts of the column, in order.
+     * @return Returns the concatenated column, or a Failure.
+     */
+    private static Try<IDataColumn> concatColumn(Vector<IDataColumn> parts) {
+        IDataColumn first = parts.head();
+
+        if (first instanceof PrimitiveColumn && parts.forAll(part -> part.getClass() == first.getClass()))
+            return Try.success(((PrimitiveColumn<?>)first).appendColumns(parts.tail()));
+
+        return first.addAll(parts.tail().flatMap(part -> (Vector<?>)part.data()));
+    }
 }
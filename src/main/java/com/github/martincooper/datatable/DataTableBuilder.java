@@ -1,16 +1,45 @@
 package com.github.martincooper.datatable;
 
 import io.vavr.collection.List;
+import io.vavr.collection.Vector;
 import io.vavr.control.Try;
 
+import java.util.function.Function;
+
 /**
  * DataTableBuilder. Used as a helper to create Data Tables.
+ *
+ * Columns can either be added fully populated, or declared by type and name
+ * and then populated row by row using appendRow, or cell by cell using the typed
+ * append methods. Declared columns of type Integer, Long, Double and Boolean are
+ * buffered in growable primitive arrays, which are handed over to the immutable
+ * columns without copying when the builder is frozen. Null values are tracked in
+ * a separate bitmap, so primitive columns can hold nulls without boxing.
+ *
+ * String columns can optionally be dictionary encoded when the table is built,
+ * if they have few enough distinct values.
+ *
+ * Primitive and dictionary encoded columns can optionally be stored off the heap when the
+ * table is built, using an OffHeapAllocator. The builder itself always buffers on the heap.
+ *
+ * The builder doesn't throw. Invalid values, column indexes or settings, and any use of the
+ * builder after it has been frozen, are reported as a Failure when the table is built. Once
+ * an error has been recorded, any further calls are ignored.
+ *
  * Created by Martin Cooper on 18/07/2017.
  */
 public class DataTableBuilder {
 
+    private static final String FROZEN_MESSAGE = "DataTableBuilder has already been frozen.";
+
     private final String tableName;
-    private List<IDataColumn> dataColumns;
+    private List<ColumnBuffer> dataColumns;
+    private Vector<ColumnBuffer.AppendableColumnBuffer> appendableColumns;
+    private int rowCapacity;
+    private int maxDictionarySize;
+    private OffHeapAllocator offHeapAllocator;
+    private DataTableException error;
+    private boolean frozen;
 
     /**
      * DataTableBuilder. Private constructor. Used by the create() method.
@@ -20,6 +49,9 @@ public class DataTableBuilder {
     private DataTableBuilder(String tableName) {
         this.tableName = tableName;
         this.dataColumns = List.empty();
+        this.appendableColumns = Vector.empty();
+        this.rowCapacity = 0;
+        this.frozen = false;
     }
 
     /**
@@ -42,8 +74,7 @@ public class DataTableBuilder {
      * @return Adds a new column and returns an instance to the current Data Table Builder.
      */
     public <T> DataTableBuilder withColumn(Class<T> type, String columnName, Iterable<T> data) {
-        this.dataColumns = this.dataColumns.append(new DataColumn<T>(type, columnName, data));
-        return this;
+        return withColumn(new DataColumn<T>(type, columnName, data));
     }
 
     /**
@@ -57,16 +88,337 @@ public class DataTableBuilder {
      */
     @SafeVarargs
     public final <T> DataTableBuilder withColumn(Class<T> type, String columnName, T... data) {
-        this.dataColumns = this.dataColumns.append(new DataColumn<T>(type, columnName, data));
+        return withColumn(new DataColumn<T>(type, columnName, data));
+    }
+
+    /**
+     * Allows an existing column to be added when building a table.
+     *
+     * @param column The column to add.
+     * @return Adds the column and returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withColumn(IDataColumn column) {
+        if (hasError()) return this;
+        this.dataColumns = this.dataColumns.append(ColumnBuffer.of(column));
+        return this;
+    }
+
+    /**
+     * Allows an additional int column, backed by a primitive array, to be added when building a table.
+     *
+     * @param columnName The column name.
+     * @param data The data contained in the column.
+     * @return Adds a new column and returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withColumn(String columnName, int[] data) {
+        return withColumn(new IntColumn(columnName, data));
+    }
+
+    /**
+     * Allows an additional long column, backed by a primitive array, to be added when building a table.
+     *
+     * @param columnName The column name.
+     * @param data The data contained in the column.
+     * @return Adds a new column and returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withColumn(String columnName, long[] data) {
+        return withColumn(new LongColumn(columnName, data));
+    }
+
+    /**
+     * Allows an additional double column, backed by a primitive array, to be added when building a table.
+     *
+     * @param columnName The column name.
+     * @param data The data contained in the column.
+     * @return Adds a new column and returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withColumn(String columnName, double[] data) {
+        return withColumn(new DoubleColumn(columnName, data));
+    }
+
+    /**
+     * Allows an additional boolean column, backed by packed bits, to be added when building a table.
+     *
+     * @param columnName The column name.
+     * @param data The data contained in the column.
+     * @return Adds a new column and returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withColumn(String columnName, boolean[] data) {
+        return withColumn(new BooleanColumn(columnName, data));
+    }
+
+    /**
+     * Declares an additional column, which is then populated using appendRow or the typed append methods.
+     * Columns of type Integer, Long, Double and Boolean are stored using primitive arrays,
+     * with any null values tracked in a separate bitmap.
+     *
+     * @param type The data type of the column.
+     * @param columnName The column name.
+     * @param <T> The column type.
+     * @return Declares a new column and returns an instance to the current Data Table Builder.
+     */
+    public <T> DataTableBuilder withColumn(Class<T> type, String columnName) {
+        if (hasError()) return this;
+
+        ColumnBuffer.AppendableColumnBuffer buffer = ColumnBuffer.create(type, columnName, this.rowCapacity);
+        this.dataColumns = this.dataColumns.append(buffer);
+        this.appendableColumns = this.appendableColumns.append(buffer);
+        return this;
+    }
+
+    /**
+     * Sets the expected number of rows, so declared columns can be
+     * allocated up front rather than growing as rows are appended.
+     *
+     * @param rowCapacity The expected number of rows.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withCapacity(int rowCapacity) {
+        if (hasError()) return this;
+
+        if (rowCapacity < 0)
+            return recordError("Invalid capacity, must not be negative.");
+
+        this.rowCapacity = rowCapacity;
+        this.appendableColumns.forEach(buffer -> buffer.ensureCapacity(rowCapacity));
+        return this;
+    }
+
+    /**
+     * Dictionary encodes any String columns with no more than the specified number of distinct
+     * values when the table is built. Encoded columns store an int code
+     * per row plus a single copy of each distinct value, and filter, group and sort on the codes.
+     *
+     * @param maxDistinctValues The maximum number of distinct values in an encoded column.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withDictionaryEncoding(int maxDistinctValues) {
+        if (hasError()) return this;
+
+        if (maxDistinctValues < 1)
+            return recordError("Invalid dictionary size, must be at least 1.");
+
+        this.maxDictionarySize = maxDistinctValues;
+        return this;
+    }
+
+    /**
+     * Stores the data of any primitive or dictionary encoded columns off the heap when the
+     * table is built, using the specified allocator. The columns can only be used until
+     * the allocator is closed, which releases their memory.
+     *
+     * @param allocator The off heap allocator.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder withOffHeapStorage(OffHeapAllocator allocator) {
+        if (hasError()) return this;
+
+        if (allocator == null)
+            return recordError("Off heap allocator must not be null.");
+
+        if (allocator.isClosed())
+            return recordError("Off heap allocator has been closed.");
+
+        this.offHeapAllocator = allocator;
+        return this;
+    }
+
+    /**
+     * Appends a row of values to the declared columns, one value per column in the order declared.
+     * Any invalid values are reported as a Failure when the table is built.
+     *
+     * @param values The row values.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder appendRow(Object... values) {
+        if (hasError()) return this;
+
+        if (values.length != this.appendableColumns.length())
+            return recordError("Number of values does not match number of columns.");
+
+        // Validate the whole row first, so a failure never leaves a partial row.
+        for (int idx = 0; idx < values.length; idx++) {
+            if (!this.appendableColumns.get(idx).accepts(values[idx]))
+                return recordError(invalidValueMessage(idx, values[idx]));
+        }
+
+        for (int idx = 0; idx < values.length; idx++)
+            this.appendableColumns.get(idx).append(values[idx]);
+
+        return this;
+    }
+
+    /**
+     * Appends a single value to the specified declared column.
+     * Any invalid value or column index is reported as a Failure when the table is built.
+     *
+     * @param columnIndex The index of the declared column, in the order declared.
+     * @param value The value to append.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder append(int columnIndex, Object value) {
+        if (hasError()) return this;
+
+        if (!isValidColumnIndex(columnIndex))
+            return recordError(invalidColumnIndexMessage(columnIndex));
+
+        ColumnBuffer.AppendableColumnBuffer buffer = this.appendableColumns.get(columnIndex);
+
+        if (!buffer.accepts(value))
+            return recordError(invalidValueMessage(columnIndex, value));
+
+        buffer.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a single int value to the specified declared column.
+     * Any invalid column index or column type is reported as a Failure when the table is built.
+     *
+     * @param columnIndex The index of the declared column, in the order declared.
+     * @param value The value to append.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder appendInt(int columnIndex, int value) {
+        ColumnBuffer buffer = typedBuffer(columnIndex, ColumnBuffer.IntColumnBuffer.class);
+        if (buffer != null) ((ColumnBuffer.IntColumnBuffer)buffer).appendInt(value);
+        return this;
+    }
+
+    /**
+     * Appends a single long value to the specified declared column.
+     * Any invalid column index or column type is reported as a Failure when the table is built.
+     *
+     * @param columnIndex The index of the declared column, in the order declared.
+     * @param value The value to append.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder appendLong(int columnIndex, long value) {
+        ColumnBuffer buffer = typedBuffer(columnIndex, ColumnBuffer.LongColumnBuffer.class);
+        if (buffer != null) ((ColumnBuffer.LongColumnBuffer)buffer).appendLong(value);
+        return this;
+    }
+
+    /**
+     * Appends a single double value to the specified declared column.
+     * Any invalid column index or column type is reported as a Failure when the table is built.
+     *
+     * @param columnIndex The index of the declared column, in the order declared.
+     * @param value The value to append.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder appendDouble(int columnIndex, double value) {
+        ColumnBuffer buffer = typedBuffer(columnIndex, ColumnBuffer.DoubleColumnBuffer.class);
+        if (buffer != null) ((ColumnBuffer.DoubleColumnBuffer)buffer).appendDouble(value);
+        return this;
+    }
+
+    /**
+     * Appends a single boolean value to the specified declared column.
+     * Any invalid column index or column type is reported as a Failure when the table is built.
+     *
+     * @param columnIndex The index of the declared column, in the order declared.
+     * @param value The value to append.
+     * @return Returns an instance to the current Data Table Builder.
+     */
+    public DataTableBuilder appendBoolean(int columnIndex, boolean value) {
+        ColumnBuffer buffer = typedBuffer(columnIndex, ColumnBuffer.BooleanColumnBuffer.class);
+        if (buffer != null) ((ColumnBuffer.BooleanColumnBuffer)buffer).appendBoolean(value);
         return this;
     }
 
     /**
      * Attempts to build the data table from all the details in the chained method calls.
+     * Any appended data is copied, so the builder can continue to be used afterwards.
      *
-     * @return Returns a Try DataTable.
+     * @return Returns a Try DataTable, or a Failure if the builder has already been frozen,
+     * or if any error was recorded while building.
      */
     public Try<DataTable> build() {
-        return DataTable.build(this.tableName, this.dataColumns);
+        if (this.frozen) return frozenError();
+
+        return this.error != null
+                ? Try.failure(this.error)
+                : DataTable.build(this.tableName, this.dataColumns.map(buffer -> toColumn(buffer, ColumnBuffer::copyToColumn)));
+    }
+
+    /**
+     * Attempts to build the data table from all the details in the chained method calls.
+     * Any appended data is handed over to the table without copying, so the builder
+     * can't be used afterwards.
+     *
+     * @return Returns a Try DataTable, or a Failure if the builder has already been frozen,
+     * or if any error was recorded while building.
+     */
+    public Try<DataTable> freeze() {
+        if (this.frozen) return frozenError();
+        this.frozen = true;
+
+        return this.error != null
+                ? Try.failure(this.error)
+                : DataTable.build(this.tableName, this.dataColumns.map(buffer -> toColumn(buffer, ColumnBuffer::toColumn)));
+    }
+
+    private IDataColumn toColumn(ColumnBuffer buffer, Function<ColumnBuffer, IDataColumn> toColumn) {
+        IDataColumn column = this.maxDictionarySize == 0
+                ? toColumn.apply(buffer)
+                : buffer.tryEncode(this.maxDictionarySize)
+                    .<IDataColumn>map(encoded -> encoded)
+                    .getOrElse(() -> toColumn.apply(buffer));
+
+        return this.offHeapAllocator != null && column instanceof PrimitiveColumn
+                ? ((PrimitiveColumn<?>)column).toOffHeap(this.offHeapAllocator)
+                : column;
+    }
+
+    private ColumnBuffer typedBuffer(int columnIndex, Class<? extends ColumnBuffer> bufferType) {
+        if (hasError()) return null;
+
+        if (!isValidColumnIndex(columnIndex)) {
+            recordError(invalidColumnIndexMessage(columnIndex));
+            return null;
+        }
+
+        ColumnBuffer buffer = this.appendableColumns.get(columnIndex);
+
+        if (bufferType.isInstance(buffer))
+            return buffer;
+
+        recordError("Column '" + buffer.name + "' doesn't support the type of value appended.");
+        return null;
+    }
+
+    private String invalidValueMessage(int columnIndex, Object value) {
+        String columnName = this.appendableColumns.get(columnIndex).name;
+
+        return value == null
+                ? "Column '" + columnName + "' doesn't support null values."
+                : "Column '" + columnName + "' doesn't support values of type " + value.getClass().getSimpleName() + ".";
+    }
+
+    private boolean isValidColumnIndex(int columnIndex) {
+        return columnIndex >= 0 && columnIndex < this.appendableColumns.length();
+    }
+
+    private String invalidColumnIndexMessage(int columnIndex) {
+        return "Invalid column index " + columnIndex + ", there are "
+                + this.appendableColumns.length() + " declared columns.";
+    }
+
+    private DataTableBuilder recordError(String errorMessage) {
+        this.error = new DataTableException(errorMessage);
+        return this;
+    }
+
+    /**
+     * @return Returns true if the builder has been frozen, or an error has been recorded,
+     * in which case any further calls are ignored.
+     */
+    private boolean hasError() {
+        return this.frozen || this.error != null;
+    }
+
+    private static Try<DataTable> frozenError() {
+        return DataTableException.tryError(FROZEN_MESSAGE);
     }
 }
@@ -0,0 +1,504 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * DataTableFile. Saves tables in a binary columnar file format, and loads them again
+ * by memory mapping the file, so loading is near instant and the data is only read
+ * from disk as it's accessed.
+ *
+ * The file holds a section per column, followed by a directory listing the name, type
+ * and row count of each column, with the position of its null bitmap, values and
+ * dictionary. Values are stored in little endian order, aligned to 8 bytes, so int,
+ * long, double, boolean and dictionary encoded columns are used directly from the mapped
+ * file without copying. Plain String columns, null bitmaps and dictionaries are copied
+ * onto the heap when the file is loaded.
+ *
+ * Columns of type Integer, Long, Double and Boolean are always loaded as primitive
+ * columns. Columns of any other type, other than String, can't be saved.
+ */
+final class DataTableFile {
+
+    private static final int MAGIC = 0x4654444A;
+    private static final int VERSION = 1;
+    private static final int FOOTER_SIZE = 16;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final byte INT_KIND = 1;
+    private static final byte LONG_KIND = 2;
+    private static final byte DOUBLE_KIND = 3;
+    private static final byte BOOLEAN_KIND = 4;
+    private static final byte DICTIONARY_KIND = 5;
+    private static final byte STRING_KIND = 6;
+
+    private DataTableFile() { }
+
+    /**
+     * Saves the table to the specified file, replacing any existing file.
+     * The table is written to a temporary file in the same directory, which is then
+     * moved over the target, so tables still mapped from an existing file aren't affected.
+     *
+     * @param table The table to save.
+     * @param path The file path.
+     * @return Returns a Success, or a Failure if the table or file couldn't be written.
+     */
+    static Try<Void> save(DataTable table, Path path) {
+        for (IDataColumn column : table.columns()) {
+            byte kind = kindOf(column);
+
+            if (kind == 0)
+                return DataTableException.tryError("Column '" + column.name() + "' has an unsupported type for saving.");
+
+            if ((long)valueCount(kind, column.rowCount()) * valueWidth(kind) > Integer.MAX_VALUE)
+                return DataTableException.tryError("Column '" + column.name() + "' is too large for saving.");
+        }
+
+        return Try.run(() -> {
+            Path target = path.toAbsolutePath();
+            Path temp = createTempFile(target);
+
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    write(table, new FileWriter(channel));
+                }
+
+                moveReplacing(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        });
+    }
+
+    /**
+     * Creates an empty temporary file alongside the target. Unlike Files.createTempFile, the file
+     * gets the default permissions, or the permissions of the existing target, so the saved file
+     * ends up with the same permissions as a file written in place.
+     */
+    private static Path createTempFile(Path target) throws IOException {
+        while (true) {
+            String name = target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp";
+            Path temp = target.resolveSibling(name);
+
+            try {
+                Files.createFile(temp);
+            } catch (FileAlreadyExistsException ex) {
+                continue;
+            }
+
+            if (Files.exists(target) && Files.getFileStore(temp).supportsFileAttributeView(PosixFileAttributeView.class))
+                Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+
+            return temp;
+        }
+    }
+
+    /**
+     * Moves the file over the target, atomically where the file system supports it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads a table from the specified file, memory mapping the column data.
+     *
+     * @param path The file path.
+     * @return Returns the table, or a Failure if the file couldn't be read.
+     */
+    static Try<DataTable> mapFile(Path path) {
+        return Try.of(() -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return read(channel);
+            }
+        }).flatMap(table -> table);
+    }
+
+    private static void write(DataTable table, FileWriter writer) throws IOException {
+        writer.putInt(MAGIC);
+        writer.putInt(VERSION);
+
+        int columnCount = table.columns().count();
+        long[][] sections = new long[columnCount][];
+
+        for (int idx = 0; idx < columnCount; idx++)
+            sections[idx] = writeColumn(table.column(idx), writer);
+
+        long directoryPosition = writer.position();
+        writer.putString(table.name());
+        writer.putInt(columnCount);
+
+        for (int idx = 0; idx < columnCount; idx++) {
+            IDataColumn column = table.column(idx);
+
+            writer.putString(column.name());
+            writer.putByte(kindOf(column));
+            writer.putInt(column.rowCount());
+
+            for (long value : sections[idx])
+                writer.putLong(value);
+        }
+
+        writer.putLong(directoryPosition);
+        writer.putInt(VERSION);
+        writer.putInt(MAGIC);
+        writer.flush();
+    }
+
+    /**
+     * Writes the null bitmap, values and dictionary sections of a column.
+     *
+     * @return Returns the position and length of each section.
+     */
+    private static long[] writeColumn(IDataColumn column, FileWriter writer) throws IOException {
+        PrimitiveColumn.checkReadable(column);
+
+        byte kind = kindOf(column);
+        int rowCount = column.rowCount();
+        long[] sections = new long[6];
+
+        BitSet nulls = nullsOf(column);
+        writer.align();
+        sections[0] = writer.position();
+
+        if (!nulls.isEmpty()) {
+            long[] words = nulls.toLongArray();
+
+            for (int idx = 0; idx < BooleanColumn.wordCount(rowCount); idx++)
+                writer.putLong(idx < words.length ? words[idx] : 0L);
+        }
+
+        sections[1] = writer.position() - sections[0];
+        writer.align();
+        sections[2] = writer.position();
+
+        switch (kind) {
+            case INT_KIND: writeInts(column, writer); break;
+            case LONG_KIND: writeLongs(column, writer); break;
+            case DOUBLE_KIND: writeDoubles(column, writer); break;
+            case BOOLEAN_KIND: writeBooleans(column, writer); break;
+            case DICTIONARY_KIND: writeCodes((DictionaryColumn)column, writer); break;
+            default: writeStrings(column, writer); break;
+        }
+
+        sections[3] = writer.position() - sections[2];
+        writer.align();
+        sections[4] = writer.position();
+
+        if (kind == DICTIONARY_KIND) {
+            DictionaryColumn dictionaryColumn = (DictionaryColumn)column;
+            writer.putInt(dictionaryColumn.dictionarySize());
+
+            for (int code = 0; code < dictionaryColumn.dictionarySize(); code++)
+                writer.putString(dictionaryColumn.dictionaryValue(code));
+        }
+
+        sections[5] = writer.position() - sections[4];
+        return sections;
+    }
+
+    private static void writeInts(IDataColumn column, FileWriter writer) throws IOException {
+        if (column instanceof IntColumn) {
+            IntColumn intColumn = (IntColumn)column;
+            for (int idx = 0; idx < intColumn.rowCount(); idx++) writer.putInt(intColumn.getInt(idx));
+        } else {
+            for (int idx = 0; idx < column.rowCount(); idx++) {
+                Integer value = (Integer)column.valueAt(idx);
+                writer.putInt(value == null ? 0 : value);
+            }
+        }
+    }
+
+    private static void writeLongs(IDataColumn column, FileWriter writer) throws IOException {
+        if (column instanceof LongColumn) {
+            LongColumn longColumn = (LongColumn)column;
+            for (int idx = 0; idx < longColumn.rowCount(); idx++) writer.putLong(longColumn.getLong(idx));
+        } else {
+            for (int idx = 0; idx < column.rowCount(); idx++) {
+                Long value = (Long)column.valueAt(idx);
+                writer.putLong(value == null ? 0L : value);
+            }
+        }
+    }
+
+    private static void writeDoubles(IDataColumn column, FileWriter writer) throws IOException {
+        if (column instanceof DoubleColumn) {
+            DoubleColumn doubleColumn = (DoubleColumn)column;
+            for (int idx = 0; idx < doubleColumn.rowCount(); idx++) writer.putDouble(doubleColumn.getDouble(idx));
+        } else {
+            for (int idx = 0; idx < column.rowCount(); idx++) {
+                Double value = (Double)column.valueAt(idx);
+                writer.putDouble(value == null ? 0.0 : value);
+            }
+        }
+    }
+
+    private static void writeBooleans(IDataColumn column, FileWriter writer) throws IOException {
+        int rowCount = column.rowCount();
+        BooleanColumn booleanColumn = column instanceof BooleanColumn ? (BooleanColumn)column : null;
+
+        for (int wordIdx = 0; wordIdx < BooleanColumn.wordCount(rowCount); wordIdx++) {
+            long word = 0L;
+
+            for (int idx = wordIdx << 6; idx < Math.min(rowCount, (wordIdx + 1) << 6); idx++) {
+                boolean value = booleanColumn != null
+                        ? booleanColumn.getBoolean(idx)
+                        : Boolean.TRUE.equals(column.valueAt(idx));
+
+                if (value) word |= 1L << idx;
+            }
+
+            writer.putLong(word);
+        }
+    }
+
+    private static void writeCodes(DictionaryColumn column, FileWriter writer) throws IOException {
+        for (int idx = 0; idx < column.rowCount(); idx++)
+            writer.putInt(column.getCode(idx));
+    }
+
+    private static void writeStrings(IDataColumn column, FileWriter writer) throws IOException {
+        for (int idx = 0; idx < column.rowCount(); idx++)
+            writer.putString((String)column.valueAt(idx));
+    }
+
+    private static Try<DataTable> read(FileChannel channel) throws IOException, DataTableException {
+        long fileSize = channel.size();
+        if (fileSize < FOOTER_SIZE + 8) throw invalidFile();
+
+        ByteBuffer footer = readBuffer(channel, fileSize - FOOTER_SIZE, FOOTER_SIZE);
+        long directoryPosition = footer.getLong();
+
+        if (footer.getInt() != VERSION || footer.getInt() != MAGIC) throw invalidFile();
+        if (directoryPosition < 8 || directoryPosition > fileSize - FOOTER_SIZE) throw invalidFile();
+
+        ByteBuffer directory = readBuffer(channel, directoryPosition, fileSize - FOOTER_SIZE - directoryPosition);
+        String tableName = readString(directory);
+        int columnCount = directory.getInt();
+
+        IDataColumn[] columns = new IDataColumn[columnCount];
+
+        for (int idx = 0; idx < columnCount; idx++) {
+            String name = readString(directory);
+            byte kind = directory.get();
+            int rowCount = directory.getInt();
+
+            long[] sections = new long[6];
+            for (int section = 0; section < sections.length; section++) {
+                sections[section] = directory.getLong();
+            }
+
+            for (int section = 0; section < sections.length; section += 2) {
+                if (sections[section] < 0 || sections[section + 1] < 0 || sections[section + 1] > Integer.MAX_VALUE
+                        || sections[section] + sections[section + 1] > directoryPosition)
+                    throw invalidFile();
+            }
+
+            columns[idx] = readColumn(channel, name, kind, rowCount, sections);
+        }
+
+        return DataTable.build(tableName, columns);
+    }
+
+    private static IDataColumn readColumn(FileChannel channel, String name, byte kind, int rowCount, long[] sections)
+            throws IOException, DataTableException {
+
+        if (kind < INT_KIND || kind > STRING_KIND || rowCount < 0) throw invalidFile();
+
+        int width = valueWidth(kind);
+        if (width > 0 && sections[3] != (long)valueCount(kind, rowCount) * width) throw invalidFile();
+
+        NullBitmap nulls = readNulls(channel, sections[0], sections[1], rowCount);
+        ByteBuffer values = channel.map(FileChannel.MapMode.READ_ONLY, sections[2], sections[3]).order(ORDER);
+
+        switch (kind) {
+            case INT_KIND:
+                return new IntColumn(name, IntStorage.wrap(values), rowCount, nulls);
+            case LONG_KIND:
+                return new LongColumn(name, LongStorage.wrap(values), rowCount, nulls);
+            case DOUBLE_KIND:
+                return new DoubleColumn(name, DoubleStorage.wrap(values), rowCount, nulls);
+            case BOOLEAN_KIND:
+                return new BooleanColumn(name, LongStorage.wrap(values), rowCount, nulls);
+            case DICTIONARY_KIND:
+                ByteBuffer dictionaryBuffer = readBuffer(channel, sections[4], sections[5]);
+                String[] dictionary = new String[dictionaryBuffer.getInt()];
+
+                for (int code = 0; code < dictionary.length; code++)
+                    dictionary[code] = readString(dictionaryBuffer);
+
+                return new DictionaryColumn(name, dictionary, IntStorage.wrap(values), rowCount, nulls);
+            default:
+                String[] data = new String[rowCount];
+
+                for (int idx = 0; idx < rowCount; idx++)
+                    data[idx] = readString(values);
+
+                return new DataColumn<>(String.class, name, data);
+        }
+    }
+
+    private static NullBitmap readNulls(FileChannel channel, long position, long length, int rowCount)
+            throws IOException {
+
+        if (length == 0) return NullBitmap.NONE;
+
+        LongBuffer words = readBuffer(channel, position, length).asLongBuffer();
+        return NullBitmap.of(BitSet.valueOf(words), rowCount);
+    }
+
+    private static ByteBuffer readBuffer(FileChannel channel, long position, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ORDER);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) return null;
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static DataTableException invalidFile() {
+        return new DataTableException("Invalid data table file.");
+    }
+
+    private static BitSet nullsOf(IDataColumn column) {
+        if (column instanceof PrimitiveColumn) return ((PrimitiveColumn<?>)column).nulls().toBitSet();
+
+        BitSet nulls = new BitSet();
+        if (column.type() == String.class) return nulls;
+
+        for (int idx = 0; idx < column.rowCount(); idx++) {
+            if (column.valueAt(idx) == null) nulls.set(idx);
+        }
+
+        return nulls;
+    }
+
+    private static byte kindOf(IDataColumn column) {
+        if (column instanceof DictionaryColumn) return DICTIONARY_KIND;
+
+        Type type = column.type();
+        if (type == Integer.class) return INT_KIND;
+        if (type == Long.class) return LONG_KIND;
+        if (type == Double.class) return DOUBLE_KIND;
+        if (type == Boolean.class) return BOOLEAN_KIND;
+        if (type == String.class) return STRING_KIND;
+        return 0;
+    }
+
+    private static int valueWidth(byte kind) {
+        switch (kind) {
+            case INT_KIND: case DICTIONARY_KIND: return Integer.BYTES;
+            case LONG_KIND: case DOUBLE_KIND: case BOOLEAN_KIND: return Long.BYTES;
+            default: return 0;
+        }
+    }
+
+    private static int valueCount(byte kind, int rowCount) {
+        return kind == BOOLEAN_KIND ? BooleanColumn.wordCount(rowCount) : rowCount;
+    }
+
+    /**
+     * Buffered, little endian writer to a file channel.
+     */
+    private static final class FileWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long flushed;
+
+        FileWriter(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(1 << 16).order(ORDER);
+            this.flushed = 0;
+        }
+
+        long position() {
+            return this.flushed + this.buffer.position();
+        }
+
+        void putByte(byte value) throws IOException {
+            ensureSpace(Byte.BYTES);
+            this.buffer.put(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensureSpace(Integer.BYTES);
+            this.buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensureSpace(Long.BYTES);
+            this.buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensureSpace(Double.BYTES);
+            this.buffer.putDouble(value);
+        }
+
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+
+            if (bytes.length > this.buffer.capacity()) {
+                flush();
+                writeFully(ByteBuffer.wrap(bytes));
+            } else {
+                ensureSpace(bytes.length);
+                this.buffer.put(bytes);
+            }
+        }
+
+        /**
+         * Pads the output to a multiple of 8 bytes.
+         */
+        void align() throws IOException {
+            while ((position() & 7) != 0) putByte((byte)0);
+        }
+
+        void flush() throws IOException {
+            ((Buffer)this.buffer).flip();
+            writeFully(this.buffer);
+            ((Buffer)this.buffer).clear();
+        }
+
+        private void ensureSpace(int length) throws IOException {
+            if (this.buffer.remaining() < length) flush();
+        }
+
+        private void writeFully(ByteBuffer source) throws IOException {
+            while (source.hasRemaining())
+                this.flushed += this.channel.write(source);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.github.martincooper.datatable;
 
+import com.github.martincooper.datatable.filtering.Filter;
+import com.github.martincooper.datatable.grouping.GroupBy;
 import com.github.martincooper.datatable.sorting.DataSort;
 import com.github.martincooper.datatable.sorting.SortItem;
+import com.github.martincooper.datatable.sorting.SortOptions;
 import com.github.martincooper.datatable.sorting.SortOrder;
 import io.vavr.collection.Map;
 import io.vavr.collection.Seq;
@@ -11,6 +14,7 @@ import io.vavr.control.Try;
 
 import java.util.Iterator;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -76,6 +80,16 @@ public class DataView implements IBaseTable {
         return this.rows;
     }
 
+    /**
+     * Returns a cursor which walks the rows, without creating a DataRow per row.
+     *
+     * @return Returns the cursor.
+     */
+    @Override
+    public DataCursor cursor() {
+        return this.rows.cursor();
+    }
+
     /**
      * Accessor to a specific row by index.
      *
@@ -106,6 +120,63 @@ public class DataView implements IBaseTable {
         return this.table.column(colName);
     }
 
+    /**
+     * Returns a typed reference to a column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or type will throw an exception.
+     *
+     * @param type The column type.
+     * @param colName The name of the column.
+     * @param <T> The column type.
+     * @return Returns the column reference.
+     */
+    public <T> ColumnRef<T> columnRef(Class<T> type, String colName) {
+        return ColumnRef.build(this, type, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive int column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public IntColumnRef intColumn(String colName) {
+        return IntColumnRef.build(this, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive long column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public LongColumnRef longColumn(String colName) {
+        return LongColumnRef.build(this, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive double column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public DoubleColumnRef doubleColumn(String colName) {
+        return DoubleColumnRef.build(this, colName).get();
+    }
+
+    /**
+     * Returns a reference to a primitive boolean column by name, for fast repeated access to its values.
+     * This method performs no checks on the result, so an invalid name or column will throw an exception.
+     *
+     * @param colName The name of the column.
+     * @return Returns the column reference.
+     */
+    public BooleanColumnRef booleanColumn(String colName) {
+        return BooleanColumnRef.build(this, colName).get();
+    }
+
     /**
      * Returns the rowCount / row count of the table.
      *
@@ -124,7 +195,7 @@ public class DataView implements IBaseTable {
     @Override
     public DataTable toDataTable() {
         // Get the list of row indexes used in this data view.
-        Seq<Integer> rowIndexes = this.rows.map(DataRow::rowIdx);
+        int[] rowIndexes = this.rows.rowIndexes();
 
         // Build a set of new columns with just the data at the specified indexes.
         return this.table.columns()
@@ -139,7 +210,34 @@ public class DataView implements IBaseTable {
      */
     @Override
     public DataView toDataView() {
-        return DataView.build(this.table, this.rows).get();
+        return new DataView(this.table, this.rows);
+    }
+
+    /**
+     * Returns a new view of the same rows, with just the specified columns, in the order given.
+     * The columns and row indexes are shared with this view rather than copied.
+     *
+     * @param columnNames The names of the columns to select.
+     * @return Returns the new DataView, or a Failure if the selection is empty, or a column isn't found or is selected twice.
+     */
+    public Try<DataView> select(String... columnNames) {
+        return select(Vector.of(columnNames));
+    }
+
+    /**
+     * Returns a new view of the same rows, with just the specified columns, in the order given.
+     * The columns and row indexes are shared with this view rather than copied.
+     *
+     * @param columnNames The names of the columns to select.
+     * @return Returns the new DataView, or a Failure if the selection is empty, or a column isn't found or is selected twice.
+     */
+    public Try<DataView> select(Iterable<String> columnNames) {
+        // A table with no columns has no rows, so the view's row indexes would be past its end.
+        if (!columnNames.iterator().hasNext())
+            return DataTableException.tryError("Select must have at least one column.");
+
+        return this.table.select(columnNames)
+                .map(selected -> new DataView(selected, this.rows.withTable(selected)));
     }
 
     /**
@@ -153,6 +251,28 @@ public class DataView implements IBaseTable {
         return this.rows.filter(predicate);
     }
 
+    /**
+     * Filters the row data using the specified column filter, evaluated directly
+     * over the column data, returning the results as a DataView over the original table.
+     *
+     * @param filter The column filter, for example col("Price").gt(100.0).
+     * @return Returns a DataView with the filter results, or a Failure.
+     */
+    public Try<DataView> where(Filter filter) {
+        return this.rows.where(filter);
+    }
+
+    /**
+     * Filters the row data in parallel using the specified predicate,
+     * returning the results as a DataView over the original table.
+     *
+     * @param predicate The filter criteria. Must be safe to call from multiple threads.
+     * @return Returns a DataView with the filter results.
+     */
+    public DataView parallelFilter(Predicate<DataRow> predicate) {
+        return this.rows.parallelFilter(predicate);
+    }
+
     /**
      * Map operation across the Data Rows in the table.
      *
@@ -164,6 +284,26 @@ public class DataView implements IBaseTable {
         return this.rows.map(mapper);
     }
 
+    /**
+     * Map operation across the Data Rows in the table, run in parallel.
+     *
+     * @param mapper The mapper function. Must be safe to call from multiple threads.
+     * @param <U> The return type.
+     * @return Returns the mapped results, in row order.
+     */
+    public <U> Seq<U> parallelMap(Function<? super DataRow, ? extends U> mapper) {
+        return this.rows.parallelMap(mapper);
+    }
+
+    /**
+     * Performs an action on each of the Data Rows in the table in parallel, in no particular order.
+     *
+     * @param action The action to perform. Must be safe to call from multiple threads.
+     */
+    public void parallelForEach(Consumer<? super DataRow> action) {
+        this.rows.parallelForEach(action);
+    }
+
     /**
      * FlatMap implementation for the DataRowCollection class.
      *
@@ -195,6 +335,17 @@ public class DataView implements IBaseTable {
         return this.rows.groupBy(grouper);
     }
 
+    /**
+     * Groups the rows by the values in the specified columns, allowing
+     * aggregates to be calculated for each group using agg().
+     *
+     * @param columnNames The names of the columns to group by.
+     * @return Returns the group by.
+     */
+    public GroupBy groupBy(String... columnNames) {
+        return GroupBy.create(this.table, this.rows.rowIndexes(), columnNames);
+    }
+
     /**
      * Fold Left implementation for the DataRowCollection class.
      *
@@ -238,7 +389,7 @@ public class DataView implements IBaseTable {
     @Override
     public Try<DataView> quickSort(String columnName, SortOrder sortOrder) {
         SortItem sortItem = new SortItem(columnName, sortOrder);
-        return DataSort.quickSort(this.table, this.rows.asSeq(), Stream.of(sortItem));
+        return DataSort.quickSort(this.table, this.rows.rowIndexes(), Stream.of(sortItem));
     }
 
     /**
@@ -262,7 +413,7 @@ public class DataView implements IBaseTable {
     @Override
     public Try<DataView> quickSort(Integer columnIndex, SortOrder sortOrder) {
         SortItem sortItem = new SortItem(columnIndex, sortOrder);
-        return DataSort.quickSort(this.table, this.rows.asSeq(), Stream.of(sortItem));
+        return DataSort.quickSort(this.table, this.rows.rowIndexes(), Stream.of(sortItem));
     }
 
     /**
@@ -284,7 +435,44 @@ public class DataView implements IBaseTable {
      */
     @Override
     public Try<DataView> quickSort(Iterable<SortItem> sortItems) {
-        return DataSort.quickSort(this.table, this.rows.asSeq(), Stream.ofAll(sortItems));
+        return DataSort.quickSort(this.table, this.rows.rowIndexes(), Stream.ofAll(sortItems));
+    }
+
+    /**
+     * Table QuickSort by multiple sort items, with the specified sort options.
+     *
+     * @param sortItems The sort items.
+     * @param sortOptions The sort options, specifying a sequential or parallel sort.
+     * @return Returns the results as a sorted Data View.
+     */
+    @Override
+    public Try<DataView> quickSort(Iterable<SortItem> sortItems, SortOptions sortOptions) {
+        return DataSort.quickSort(this.table, this.rows.rowIndexes(), Stream.ofAll(sortItems), sortOptions);
+    }
+
+    /**
+     * Returns the first rows of a table sort by multiple sort items.
+     *
+     * @param sortItems The sort items.
+     * @param n The maximum number of rows to return.
+     * @return Returns the first n sorted rows as a Data View.
+     */
+    @Override
+    public Try<DataView> topN(Iterable<SortItem> sortItems, int n) {
+        return topN(sortItems, 0, n);
+    }
+
+    /**
+     * Returns a range of the rows of a table sort by multiple sort items.
+     *
+     * @param sortItems The sort items.
+     * @param offset The number of sorted rows to skip.
+     * @param limit The maximum number of rows to return.
+     * @return Returns the range of sorted rows as a Data View.
+     */
+    @Override
+    public Try<DataView> topN(Iterable<SortItem> sortItems, int offset, int limit) {
+        return DataSort.topN(this.table, this.rows.rowIndexArray(), Stream.ofAll(sortItems), offset, limit);
     }
 
     /**
@@ -301,4 +489,28 @@ public class DataView implements IBaseTable {
                 Case($Failure($()), Try::failure)
         );
     }
+
+    /**
+     * Builds an instance of a DataView from the indexes of the rows in the underlying table.
+     * Row indexes are validated and copied before creation, returning a Failure on error.
+     *
+     * @param table The underlying table.
+     * @param rowIndexes The indexes of the rows in the table.
+     * @return Returns a DataView wrapped in a Try.
+     */
+    public static Try<DataView> build(DataTable table, int[] rowIndexes) {
+        return DataRowCollection.build(table, rowIndexes)
+                .map(dataRows -> new DataView(table, dataRows));
+    }
+
+    /**
+     * Creates an instance of a DataView without validating or copying the row indexes.
+     *
+     * @param table The underlying table.
+     * @param rowIndexes The indexes of the rows in the table.
+     * @return Returns the DataView.
+     */
+    static DataView create(DataTable table, int[] rowIndexes) {
+        return new DataView(table, DataRowCollection.create(table, rowIndexes));
+    }
 }
@@ -0,0 +1,442 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.collection.Seq;
+import io.vavr.control.Option;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+/**
+ * DictionaryColumn. Stores a String column as an int code per row, plus a shared dictionary
+ * of the distinct values. Suited to low cardinality data, such as countries or status codes,
+ * where it saves memory and allows filters, grouping and sorting to work on the codes.
+ *
+ * The dictionary is kept sorted, so the order of the codes matches the order of the values.
+ * It may also contain values no longer used by any row, after rows are removed or filtered.
+ * Null values are given the code -1, so are ordered before all other values.
+ * Can be used anywhere a DataColumn of String is expected.
+ */
+public class DictionaryColumn extends PrimitiveColumn<String> {
+
+    private static final int NULL_CODE = -1;
+
+    private final String[] dictionary;
+    private final IntStorage codes;
+    private final int size;
+
+    /**
+     * DictionaryColumn constructor. Encodes the data into the column.
+     *
+     * @param columnName The column name.
+     * @param data The data items stored in the column.
+     */
+    public DictionaryColumn(String columnName, String[] data) {
+        this(columnName, encodeAll(columnName, data));
+    }
+
+    private DictionaryColumn(String columnName, DictionaryColumn encoded) {
+        this(columnName, encoded.dictionary, encoded.codes, encoded.size);
+    }
+
+    private static DictionaryColumn encodeAll(String columnName, String[] data) {
+        return encode(columnName, data, data.length, Integer.MAX_VALUE).get();
+    }
+
+    /**
+     * DictionaryColumn constructor. Takes ownership of the arrays without copying.
+     *
+     * @param columnName The column name.
+     * @param dictionary The sorted, distinct values.
+     * @param codes The index into the dictionary of the value in each row.
+     * @param size The number of items in the codes array used by the column.
+     */
+    DictionaryColumn(String columnName, String[] dictionary, int[] codes, int size) {
+        this(columnName, dictionary, IntStorage.of(codes), size);
+    }
+
+    /**
+     * DictionaryColumn constructor. Takes ownership of the dictionary and code storage without copying.
+     *
+     * @param columnName The column name.
+     * @param dictionary The sorted, distinct values.
+     * @param codes The storage holding the index into the dictionary of the value in each row.
+     * @param size The number of items in the code storage used by the column.
+     */
+    private DictionaryColumn(String columnName, String[] dictionary, IntStorage codes, int size) {
+        this(columnName, dictionary, codes, size, nullCodes(codes, size));
+    }
+
+    /**
+     * DictionaryColumn constructor. Takes ownership of the dictionary and code storage without copying.
+     *
+     * @param columnName The column name.
+     * @param dictionary The sorted, distinct values.
+     * @param codes The storage holding the index into the dictionary of the value in each row.
+     * @param size The number of items in the code storage used by the column.
+     * @param nulls The null rows, which must match the rows with the null code.
+     */
+    DictionaryColumn(String columnName, String[] dictionary, IntStorage codes, int size, NullBitmap nulls) {
+        super(String.class, columnName, nulls);
+        this.dictionary = dictionary;
+        this.codes = codes;
+        this.size = size;
+    }
+
+    /**
+     * Attempts to dictionary encode a String column, if it has no more than the specified
+     * number of distinct values.
+     *
+     * @param column The column to encode.
+     * @param maxDistinctValues The maximum number of distinct values.
+     * @return Returns the encoded column, or None if the column can't be encoded.
+     */
+    public static Option<DictionaryColumn> tryEncode(IDataColumn column, int maxDistinctValues) {
+        if (column instanceof DictionaryColumn) return Option.some((DictionaryColumn)column);
+        if (column.type() != String.class) return Option.none();
+
+        String[] values = new String[column.rowCount()];
+        for (int idx = 0; idx < values.length; idx++)
+            values[idx] = (String)column.valueAt(idx);
+
+        return encode(column.name(), values, values.length, maxDistinctValues);
+    }
+
+    /**
+     * Returns the number of items in the column.
+     *
+     * @return Returns the row count.
+     */
+    @Override
+    public int rowCount() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the value.
+     */
+    @Override
+    public String valueAt(Integer rowIndex) {
+        checkReadable();
+        return getString(rowIndex);
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the value, or null.
+     */
+    public String getString(int rowIndex) {
+        int code = getCode(rowIndex);
+        return code == NULL_CODE ? null : this.dictionary[code];
+    }
+
+    /**
+     * Returns the dictionary code at the specified index.
+     * Codes are ordered in the same order as the values they represent, with null values having the code -1.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the code.
+     */
+    public int getCode(int rowIndex) {
+        return this.codes.get(checkIndex(rowIndex, this.size));
+    }
+
+    /**
+     * Returns a copy of the column with the codes stored off the heap, using the specified allocator.
+     * The dictionary itself remains on the heap.
+     *
+     * @param allocator The off heap allocator.
+     * @return Returns the off heap column.
+     */
+    @Override
+    public DictionaryColumn toOffHeap(OffHeapAllocator allocator) {
+        return new DictionaryColumn(name(), this.dictionary, IntStorage.offHeap(allocator, this.codes, this.size), this.size);
+    }
+
+    /**
+     * @return Returns true if the column codes are stored off the heap.
+     */
+    @Override
+    public boolean isOffHeap() {
+        return this.codes.isOffHeap();
+    }
+
+    /**
+     * Checks the column data can still be read, which fails once an off heap allocator has been closed.
+     */
+    @Override
+    public void checkReadable() {
+        this.codes.checkReadable();
+    }
+
+    /**
+     * Returns the code of the specified value in the dictionary.
+     *
+     * @param value The value to find.
+     * @return Returns the code, or (-(insertion point) - 1) if not found, as Arrays.binarySearch.
+     */
+    public int codeOf(String value) {
+        return Arrays.binarySearch(this.dictionary, value);
+    }
+
+    /**
+     * @return Returns the number of values in the dictionary.
+     */
+    public int dictionarySize() {
+        return this.dictionary.length;
+    }
+
+    /**
+     * Returns the dictionary value for the specified code.
+     *
+     * @param code The code.
+     * @return Returns the value.
+     */
+    public String dictionaryValue(int code) {
+        return this.dictionary[code];
+    }
+
+    @Override
+    DictionaryColumn append(String value) {
+        DictionaryColumn column = including(new String[] { value });
+
+        IntStorage newCodes = column.codes.allocate(this.size + 1);
+        column.codes.copyTo(0, newCodes, 0, this.size);
+        newCodes.set(this.size, column.encodeValue(value));
+        return column.createColumn(newCodes, this.size + 1);
+    }
+
+    @Override
+    DictionaryColumn insertAt(int index, String value) {
+        checkInsertIndex(index, this.size);
+        DictionaryColumn column = including(new String[] { value });
+
+        IntStorage newCodes = column.codes.allocate(this.size + 1);
+        column.codes.copyTo(0, newCodes, 0, index);
+        column.codes.copyTo(index, newCodes, index + 1, this.size - index);
+        newCodes.set(index, column.encodeValue(value));
+        return column.createColumn(newCodes, this.size + 1);
+    }
+
+    @Override
+    DictionaryColumn replaceAt(int index, String value) {
+        checkIndex(index, this.size);
+        DictionaryColumn column = including(new String[] { value });
+
+        IntStorage newCodes = column.copyCodes();
+        newCodes.set(index, column.encodeValue(value));
+        return column.createColumn(newCodes, this.size);
+    }
+
+    @Override
+    DictionaryColumn removeAt(int index) {
+        checkIndex(index, this.size);
+
+        IntStorage newCodes = this.codes.allocate(this.size - 1);
+        this.codes.copyTo(0, newCodes, 0, index);
+        this.codes.copyTo(index + 1, newCodes, index, this.size - index - 1);
+        return createColumn(newCodes, this.size - 1);
+    }
+
+    @Override
+    DictionaryColumn insertAllAt(int index, Seq<String> values) {
+        checkInsertIndex(index, this.size);
+        DictionaryColumn column = including(values.toJavaList().toArray(new String[0]));
+
+        int count = values.length();
+        IntStorage newCodes = column.codes.allocate(this.size + count);
+        column.codes.copyTo(0, newCodes, 0, index);
+        column.codes.copyTo(index, newCodes, index + count, this.size - index);
+
+        int idx = index;
+        for (String value : values)
+            newCodes.set(idx++, column.encodeValue(value));
+
+        return column.createColumn(newCodes, this.size + count);
+    }
+
+    @Override
+    DictionaryColumn replaceAllAt(int[] indexes, Seq<String> values) {
+        DictionaryColumn column = including(values.toJavaList().toArray(new String[0]));
+        IntStorage newCodes = column.copyCodes();
+
+        int idx = 0;
+        for (String value : values)
+            newCodes.set(checkIndex(indexes[idx++], this.size), column.encodeValue(value));
+
+        return column.createColumn(newCodes, this.size);
+    }
+
+    @Override
+    DictionaryColumn gather(int[] rowIndexes) {
+        IntStorage newCodes = this.codes.allocate(rowIndexes.length);
+
+        for (int idx = 0; idx < rowIndexes.length; idx++)
+            newCodes.set(idx, getCode(rowIndexes[idx]));
+
+        return createColumn(newCodes, rowIndexes.length);
+    }
+
+    @Override
+    public DictionaryColumn withName(String columnName) {
+        return new DictionaryColumn(columnName, this.dictionary, this.codes, this.size, nulls());
+    }
+
+    @Override
+    DictionaryColumn withNulls(NullBitmap nulls) {
+        BitSet nullRows = nulls.toBitSet();
+        for (int idx = nullRows.nextSetBit(0); idx >= 0; idx = nullRows.nextSetBit(idx + 1))
+            this.codes.set(idx, NULL_CODE);
+
+        return new DictionaryColumn(name(), this.dictionary, this.codes, this.size, nulls);
+    }
+
+    @Override
+    DictionaryColumn appendColumns(Seq<IDataColumn> columns) {
+        Seq<DictionaryColumn> parts = columns.map(column -> (DictionaryColumn)column).prepend(this);
+
+        TreeSet<String> values = new TreeSet<>();
+        for (DictionaryColumn part : parts)
+            values.addAll(Arrays.asList(part.dictionary));
+
+        String[] newDictionary = values.toArray(new String[0]);
+        IntStorage newCodes = this.codes.allocate(parts.map(part -> part.size).sum().intValue());
+
+        int position = 0;
+        for (DictionaryColumn part : parts) {
+            part.copyCodesTo(newDictionary, newCodes, position);
+            position += part.size;
+        }
+
+        return new DictionaryColumn(name(), newDictionary, newCodes, position, appendNulls(columns));
+    }
+
+    private IntStorage copyCodes() {
+        IntStorage newCodes = this.codes.allocate(this.size);
+        this.codes.copyTo(0, newCodes, 0, this.size);
+        return newCodes;
+    }
+
+    private DictionaryColumn createColumn(IntStorage codes, int size) {
+        return new DictionaryColumn(name(), this.dictionary, codes, size);
+    }
+
+    private int encodeValue(String value) {
+        return value == null ? NULL_CODE : codeOf(value);
+    }
+
+    private static NullBitmap nullCodes(IntStorage codes, int size) {
+        BitSet nulls = null;
+
+        for (int idx = 0; idx < size; idx++) {
+            if (codes.get(idx) != NULL_CODE) continue;
+
+            if (nulls == null) nulls = new BitSet(size);
+            nulls.set(idx);
+        }
+
+        return NullBitmap.wrap(nulls);
+    }
+
+    /**
+     * Returns this column, or if any of the values aren't in the dictionary, a copy
+     * of this column re-encoded using a dictionary including the new values.
+     *
+     * @param values The values required in the dictionary.
+     * @return Returns the column.
+     */
+    private DictionaryColumn including(String[] values) {
+        TreeSet<String> newValues = new TreeSet<>();
+
+        for (String value : values) {
+            if (value != null && codeOf(value) < 0) newValues.add(value);
+        }
+
+        if (newValues.isEmpty()) return this;
+
+        newValues.addAll(Arrays.asList(this.dictionary));
+        String[] newDictionary = newValues.toArray(new String[0]);
+
+        IntStorage newCodes = this.codes.allocate(this.size);
+        copyCodesTo(newDictionary, newCodes, 0);
+        return new DictionaryColumn(name(), newDictionary, newCodes, this.size, nulls());
+    }
+
+    /**
+     * Copies the codes into the destination storage, re-encoded using a dictionary containing all the current values.
+     *
+     * @param newDictionary The new dictionary.
+     * @param dest The destination storage.
+     * @param position The position in the destination to copy to.
+     */
+    private void copyCodesTo(String[] newDictionary, IntStorage dest, int position) {
+        if (Arrays.equals(this.dictionary, newDictionary)) {
+            this.codes.copyTo(0, dest, position, this.size);
+            return;
+        }
+
+        int[] newCodeOf = new int[this.dictionary.length];
+        for (int code = 0; code < this.dictionary.length; code++)
+            newCodeOf[code] = Arrays.binarySearch(newDictionary, this.dictionary[code]);
+
+        for (int idx = 0; idx < this.size; idx++) {
+            int code = this.codes.get(idx);
+            dest.set(position + idx, code == NULL_CODE ? NULL_CODE : newCodeOf[code]);
+        }
+    }
+
+    /**
+     * Dictionary encodes the values, failing if there are too many distinct values.
+     *
+     * @param columnName The column name.
+     * @param values The values to encode.
+     * @param size The number of values.
+     * @param maxDistinctValues The maximum number of distinct values.
+     * @return Returns the encoded column, or None.
+     */
+    static Option<DictionaryColumn> encode(String columnName, Object[] values, int size, int maxDistinctValues) {
+        HashMap<String, Integer> ids = new HashMap<>();
+        int[] firstIds = new int[size];
+
+        // Number the distinct values in order of first appearance.
+        for (int idx = 0; idx < size; idx++) {
+            String value = (String)values[idx];
+
+            if (value == null) {
+                firstIds[idx] = NULL_CODE;
+                continue;
+            }
+
+            Integer id = ids.get(value);
+
+            if (id == null) {
+                if (ids.size() == maxDistinctValues) return Option.none();
+
+                id = ids.size();
+                ids.put(value, id);
+            }
+
+            firstIds[idx] = id;
+        }
+
+        // Then sort the values, and map each id to the sorted code.
+        String[] dictionary = ids.keySet().toArray(new String[0]);
+        Arrays.sort(dictionary);
+
+        int[] codeOfId = new int[dictionary.length];
+        for (int code = 0; code < dictionary.length; code++)
+            codeOfId[ids.get(dictionary[code])] = code;
+
+        for (int idx = 0; idx < size; idx++) {
+            if (firstIds[idx] != NULL_CODE) firstIds[idx] = codeOfId[firstIds[idx]];
+        }
+
+        return Option.some(new DictionaryColumn(columnName, dictionary, firstIds, size));
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.collection.Seq;
+
+import java.util.BitSet;
+
+/**
+ * DoubleColumn. Stores the column data in a double array, avoiding boxing,
+ * or optionally off the heap using an OffHeapAllocator.
+ * Can be used anywhere a DataColumn of Double is expected.
+ */
+public class DoubleColumn extends PrimitiveColumn<Double> {
+
+    private final DoubleStorage data;
+    private final int size;
+
+    /**
+     * DoubleColumn constructor. Creates an empty column.
+     *
+     * @param columnName The column name.
+     */
+    public DoubleColumn(String columnName) {
+        this(columnName, new double[0], 0);
+    }
+
+    /**
+     * DoubleColumn constructor. The data is copied into the column.
+     *
+     * @param columnName The column name.
+     * @param data The data items stored in the column.
+     */
+    public DoubleColumn(String columnName, double[] data) {
+        this(columnName, data.clone(), data.length);
+    }
+
+    /**
+     * DoubleColumn constructor. The data is copied into the column, with the
+     * rows set in nulls holding null values.
+     *
+     * @param columnName The column name.
+     * @param data The data items stored in the column.
+     * @param nulls The null rows.
+     */
+    public DoubleColumn(String columnName, double[] data, BitSet nulls) {
+        this(columnName, clearNulls(data.clone(), nulls), data.length, NullBitmap.of(nulls, data.length));
+    }
+
+    /**
+     * DoubleColumn constructor. Takes ownership of the array without copying.
+     *
+     * @param columnName The column name.
+     * @param data The array holding the column data.
+     * @param size The number of items in the array used by the column.
+     */
+    DoubleColumn(String columnName, double[] data, int size) {
+        this(columnName, data, size, NullBitmap.NONE);
+    }
+
+    /**
+     * DoubleColumn constructor. Takes ownership of the array without copying.
+     *
+     * @param columnName The column name.
+     * @param data The array holding the column data, with null rows set to 0.
+     * @param size The number of items in the array used by the column.
+     * @param nulls The null rows.
+     */
+    DoubleColumn(String columnName, double[] data, int size, NullBitmap nulls) {
+        this(columnName, DoubleStorage.of(data), size, nulls);
+    }
+
+    /**
+     * DoubleColumn constructor. Takes ownership of the storage without copying.
+     *
+     * @param columnName The column name.
+     * @param data The storage holding the column data, with null rows set to 0.
+     * @param size The number of items in the storage used by the column.
+     * @param nulls The null rows.
+     */
+    DoubleColumn(String columnName, DoubleStorage data, int size, NullBitmap nulls) {
+        super(Double.class, columnName, nulls);
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of items in the column.
+     *
+     * @return Returns the row count.
+     */
+    @Override
+    public int rowCount() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the value, or null.
+     */
+    @Override
+    public Double valueAt(Integer rowIndex) {
+        checkReadable();
+        return isNull(rowIndex) ? null : getDouble(rowIndex);
+    }
+
+    /**
+     * Returns the unboxed value at the specified index.
+     * Null values are returned as 0, so use isNull to check for them.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the value.
+     */
+    public double getDouble(int rowIndex) {
+        return this.data.get(checkIndex(rowIndex, this.size));
+    }
+
+    /**
+     * Returns a copy of the column stored off the heap, using the specified allocator.
+     *
+     * @param allocator The off heap allocator.
+     * @return Returns the off heap column.
+     */
+    @Override
+    public DoubleColumn toOffHeap(OffHeapAllocator allocator) {
+        return new DoubleColumn(name(), DoubleStorage.offHeap(allocator, this.data, this.size), this.size, nulls());
+    }
+
+    /**
+     * @return Returns true if the column data is stored off the heap.
+     */
+    @Override
+    public boolean isOffHeap() {
+        return this.data.isOffHeap();
+    }
+
+    /**
+     * Checks the column data can still be read, which fails once an off heap allocator has been closed.
+     */
+    @Override
+    public void checkReadable() {
+        this.data.checkReadable();
+    }
+
+    @Override
+    DoubleColumn append(Double value) {
+        DoubleStorage newData = this.data.allocate(this.size + 1);
+        this.data.copyTo(0, newData, 0, this.size);
+        newData.set(this.size, valueOrDefault(value));
+        return createColumn(newData, this.size + 1, nulls().insert(this.size, value));
+    }
+
+    @Override
+    DoubleColumn insertAt(int index, Double value) {
+        checkInsertIndex(index, this.size);
+
+        DoubleStorage newData = this.data.allocate(this.size + 1);
+        this.data.copyTo(0, newData, 0, index);
+        this.data.copyTo(index, newData, index + 1, this.size - index);
+        newData.set(index, valueOrDefault(value));
+        return createColumn(newData, this.size + 1, nulls().insert(index, value));
+    }
+
+    @Override
+    DoubleColumn replaceAt(int index, Double value) {
+        checkIndex(index, this.size);
+
+        DoubleStorage newData = copyData();
+        newData.set(index, valueOrDefault(value));
+        return createColumn(newData, this.size, nulls().replace(index, value));
+    }
+
+    @Override
+    DoubleColumn removeAt(int index) {
+        checkIndex(index, this.size);
+
+        DoubleStorage newData = this.data.allocate(this.size - 1);
+        this.data.copyTo(0, newData, 0, index);
+        this.data.copyTo(index + 1, newData, index, this.size - index - 1);
+        return createColumn(newData, this.size - 1, nulls().remove(index));
+    }
+
+    @Override
+    DoubleColumn insertAllAt(int index, Seq<Double> values) {
+        checkInsertIndex(index, this.size);
+
+        int count = values.length();
+        DoubleStorage newData = this.data.allocate(this.size + count);
+        this.data.copyTo(0, newData, 0, index);
+        this.data.copyTo(index, newData, index + count, this.size - index);
+
+        int idx = index;
+        for (Double value : values)
+            newData.set(idx++, valueOrDefault(value));
+
+        return createColumn(newData, this.size + count, nulls().insertAll(index, values));
+    }
+
+    @Override
+    DoubleColumn replaceAllAt(int[] indexes, Seq<Double> values) {
+        DoubleStorage newData = copyData();
+
+        int idx = 0;
+        for (Double value : values)
+            newData.set(checkIndex(indexes[idx++], this.size), valueOrDefault(value));
+
+        return createColumn(newData, this.size, nulls().replaceAll(indexes, values));
+    }
+
+    @Override
+    DoubleColumn gather(int[] rowIndexes) {
+        DoubleStorage newData = this.data.allocate(rowIndexes.length);
+
+        for (int idx = 0; idx < rowIndexes.length; idx++)
+            newData.set(idx, getDouble(rowIndexes[idx]));
+
+        return createColumn(newData, rowIndexes.length, nulls().gather(rowIndexes));
+    }
+
+    @Override
+    public DoubleColumn withName(String columnName) {
+        return new DoubleColumn(columnName, this.data, this.size, nulls());
+    }
+
+    @Override
+    DoubleColumn withNulls(NullBitmap nulls) {
+        BitSet nullRows = nulls.toBitSet();
+        for (int idx = nullRows.nextSetBit(0); idx >= 0; idx = nullRows.nextSetBit(idx + 1))
+            this.data.set(idx, 0.0);
+
+        return createColumn(this.data, this.size, nulls);
+    }
+
+    @Override
+    DoubleColumn appendColumns(Seq<IDataColumn> columns) {
+        DoubleStorage newData = this.data.allocate(this.size + columns.map(IDataColumn::rowCount).sum().intValue());
+        this.data.copyTo(0, newData, 0, this.size);
+
+        int position = this.size;
+        for (IDataColumn column : columns) {
+            DoubleColumn part = (DoubleColumn)column;
+            part.data.copyTo(0, newData, position, part.size);
+            position += part.size;
+        }
+
+        return createColumn(newData, position, appendNulls(columns));
+    }
+
+    private DoubleStorage copyData() {
+        DoubleStorage newData = this.data.allocate(this.size);
+        this.data.copyTo(0, newData, 0, this.size);
+        return newData;
+    }
+
+    private DoubleColumn createColumn(DoubleStorage data, int size, NullBitmap nulls) {
+        return new DoubleColumn(name(), data, size, nulls);
+    }
+
+    private static double valueOrDefault(Double value) {
+        return value == null ? 0 : value;
+    }
+
+    private static double[] clearNulls(double[] data, BitSet nulls) {
+        for (int idx = nulls.nextSetBit(0); idx >= 0 && idx < data.length; idx = nulls.nextSetBit(idx + 1))
+            data[idx] = 0;
+
+        return data;
+    }
+}
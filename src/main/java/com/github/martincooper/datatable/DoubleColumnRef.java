@@ -0,0 +1,90 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.control.Try;
+
+/**
+ * DoubleColumnRef. A handle to a double column, resolved and type checked once,
+ * allowing the unboxed values to be read without any allocation in per row logic.
+ *
+ * Values are accessed by the index of the row in the underlying table,
+ * so the rows of a DataView over the table can be read as well.
+ */
+public final class DoubleColumnRef {
+
+    private final DoubleColumn column;
+
+    private DoubleColumnRef(DoubleColumn column) {
+        column.checkReadable();
+        this.column = column;
+    }
+
+    /**
+     * Builds a reference to the named column, checking it's a primitive double column.
+     *
+     * @param table The table containing the column.
+     * @param columnName The column name.
+     * @return Returns the column reference, or a Failure.
+     */
+    public static Try<DoubleColumnRef> build(IBaseTable table, String columnName) {
+        return table.columns()
+                .tryGet(columnName)
+                .flatMap(col -> col instanceof DoubleColumn
+                        ? Try.success(new DoubleColumnRef((DoubleColumn)col))
+                        : DataTableException.tryError("Column '" + columnName + "' isn't a double column."));
+    }
+
+    /**
+     * @return Returns the column name.
+     */
+    public String name() {
+        return this.column.name();
+    }
+
+    /**
+     * @return Returns the column.
+     */
+    public DoubleColumn column() {
+        return this.column;
+    }
+
+    /**
+     * Checks if the value of the column for the specified row is null.
+     *
+     * @param row The row, which must belong to the same table as the column.
+     * @return Returns true if the value is null.
+     */
+    public boolean isNull(DataRow row) {
+        return this.column.isNull(row.rowIdx());
+    }
+
+    /**
+     * Checks if the value of the column at the specified row index is null.
+     *
+     * @param rowIdx The index of the row in the underlying table.
+     * @return Returns true if the value is null.
+     */
+    public boolean isNull(int rowIdx) {
+        return this.column.isNull(rowIdx);
+    }
+
+    /**
+     * Returns the value of the column for the specified row.
+     * Null values are returned as 0, so use isNull to check for them.
+     *
+     * @param row The row, which must belong to the same table as the column.
+     * @return Returns the value.
+     */
+    public double get(DataRow row) {
+        return this.column.getDouble(row.rowIdx());
+    }
+
+    /**
+     * Returns the value of the column at the specified row index.
+     *
+     * @param rowIdx The index of the row in the underlying table.
+     * @return Returns the value.
+     */
+    public double getDouble(int rowIdx) {
+        return this.column.getDouble(rowIdx);
+    }
+}
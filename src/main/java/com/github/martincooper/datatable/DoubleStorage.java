@@ -0,0 +1,232 @@
+package com.github.martincooper.datatable;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * DoubleStorage. Fixed size storage for the values of a double column, either in a
+ * double array on the heap, or in a direct ByteBuffer off the heap. Storage is only
+ * written while a column is being created, and is immutable afterwards.
+ */
+abstract class DoubleStorage {
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index The index.
+     * @return Returns the value.
+     */
+    abstract double get(int index);
+
+    /**
+     * Sets the value at the specified index.
+     *
+     * @param index The index.
+     * @param value The value.
+     */
+    abstract void set(int index, double value);
+
+    /**
+     * Allocates new zero filled storage of the same kind, on or off the heap.
+     *
+     * @param size The number of values.
+     * @return Returns the new storage.
+     */
+    abstract DoubleStorage allocate(int size);
+
+    /**
+     * Copies a range of values into the destination storage.
+     *
+     * @param srcPos The index of the first value to copy.
+     * @param dest The destination storage.
+     * @param destPos The index in the destination to copy to.
+     * @param length The number of values to copy.
+     */
+    void copyTo(int srcPos, DoubleStorage dest, int destPos, int length) {
+        for (int idx = 0; idx < length; idx++)
+            dest.set(destPos + idx, get(srcPos + idx));
+    }
+
+    /**
+     * @return Returns the allocator for off heap storage, or null if on the heap or memory mapped.
+     */
+    abstract OffHeapAllocator allocator();
+
+    /**
+     * @return Returns true if the values are stored off the heap.
+     */
+    abstract boolean isOffHeap();
+
+    /**
+     * Checks the values can still be read. Off heap storage fails once its allocator has been
+     * closed. Single values aren't checked, so callers check once before reading in bulk.
+     */
+    void checkReadable() {
+    }
+
+    /**
+     * Wraps a double array without copying.
+     *
+     * @param data The array.
+     * @return Returns the storage.
+     */
+    static DoubleStorage of(double[] data) {
+        return new Heap(data);
+    }
+
+    /**
+     * Wraps a buffer without copying, for example a region of a memory mapped file.
+     * The buffer isn't written to, and any storage allocated from it is on the heap.
+     *
+     * @param buffer The buffer.
+     * @return Returns the storage.
+     */
+    static DoubleStorage wrap(ByteBuffer buffer) {
+        return new Mapped(buffer);
+    }
+
+    /**
+     * Allocates off heap storage, and copies the values into it.
+     *
+     * @param allocator The off heap allocator.
+     * @param source The storage to copy.
+     * @param size The number of values to copy.
+     * @return Returns the new storage.
+     */
+    static DoubleStorage offHeap(OffHeapAllocator allocator, DoubleStorage source, int size) {
+        DoubleStorage storage = new Direct(allocator, size);
+        source.copyTo(0, storage, 0, size);
+        return storage;
+    }
+
+    /**
+     * Storage in a double array on the heap.
+     */
+    static final class Heap extends DoubleStorage {
+
+        private final double[] data;
+
+        Heap(double[] data) {
+            this.data = data;
+        }
+
+        @Override
+        double get(int index) { return this.data[index]; }
+
+        @Override
+        void set(int index, double value) { this.data[index] = value; }
+
+        @Override
+        DoubleStorage allocate(int size) { return new Heap(new double[size]); }
+
+        @Override
+        OffHeapAllocator allocator() { return null; }
+
+        @Override
+        boolean isOffHeap() { return false; }
+
+        @Override
+        void copyTo(int srcPos, DoubleStorage dest, int destPos, int length) {
+            if (dest instanceof Heap)
+                System.arraycopy(this.data, srcPos, ((Heap)dest).data, destPos, length);
+            else if (dest instanceof Direct)
+                ((Direct)dest).copyFrom(this.data, srcPos, destPos, length);
+            else
+                super.copyTo(srcPos, dest, destPos, length);
+        }
+    }
+
+    /**
+     * Storage in a direct ByteBuffer off the heap, in native byte order.
+     */
+    static final class Direct extends DoubleStorage {
+
+        private final OffHeapAllocator allocator;
+        private final ByteBuffer buffer;
+
+        Direct(OffHeapAllocator allocator, int size) {
+            this.allocator = allocator;
+            this.buffer = allocator.allocate(size, Double.BYTES);
+        }
+
+        @Override
+        double get(int index) { return this.buffer.getDouble(index << 3); }
+
+        @Override
+        void set(int index, double value) { this.buffer.putDouble(index << 3, value); }
+
+        @Override
+        DoubleStorage allocate(int size) { return new Direct(this.allocator, size); }
+
+        @Override
+        OffHeapAllocator allocator() { return this.allocator; }
+
+        @Override
+        boolean isOffHeap() { return true; }
+
+        @Override
+        void checkReadable() { this.allocator.checkOpen(); }
+
+        @Override
+        void copyTo(int srcPos, DoubleStorage dest, int destPos, int length) {
+            this.allocator.checkOpen();
+
+            if (dest instanceof Direct)
+                OffHeapAllocator.copy(this.buffer, srcPos << 3, ((Direct)dest).buffer, destPos << 3, length << 3);
+            else
+                super.copyTo(srcPos, dest, destPos, length);
+        }
+
+        void copyFrom(double[] data, int srcPos, int destPos, int length) {
+            this.allocator.checkOpen();
+
+            ByteBuffer dest = this.buffer.duplicate().order(this.buffer.order());
+            ((Buffer)dest).position(destPos << 3);
+            dest.asDoubleBuffer().put(data, srcPos, length);
+        }
+    }
+
+    /**
+     * Read only storage in a buffer which isn't owned by an allocator, such as a memory mapped file.
+     */
+    static final class Mapped extends DoubleStorage {
+
+        private final ByteBuffer buffer;
+
+        Mapped(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        double get(int index) { return this.buffer.getDouble(index << 3); }
+
+        @Override
+        void set(int index, double value) { this.buffer.putDouble(index << 3, value); }
+
+        @Override
+        DoubleStorage allocate(int size) { return new Heap(new double[size]); }
+
+        @Override
+        OffHeapAllocator allocator() { return null; }
+
+        @Override
+        boolean isOffHeap() { return true; }
+
+        @Override
+        void copyTo(int srcPos, DoubleStorage dest, int destPos, int length) {
+            if (dest instanceof Direct && ((Direct)dest).buffer.order() == this.buffer.order()) {
+                OffHeapAllocator.copy(this.buffer, srcPos << 3, ((Direct)dest).buffer, destPos << 3, length << 3);
+                return;
+            }
+
+            if (!(dest instanceof Heap)) {
+                super.copyTo(srcPos, dest, destPos, length);
+                return;
+            }
+
+            ByteBuffer source = this.buffer.duplicate().order(this.buffer.order());
+            ((Buffer)source).position(srcPos << 3);
+            source.asDoubleBuffer().get(((Heap)dest).data, destPos, length);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.martincooper.datatable;
 
+import io.vavr.collection.Array;
+import io.vavr.collection.Seq;
 import io.vavr.control.Try;
 
 /**
@@ -23,4 +25,22 @@ class GenericExtensions {
                 ? Try.success((T)obj)
                 : Try.failure(new DataTableException("Invalid cast."));
     }
+
+    /**
+     * Used to perform a type check and cast on a collection of objects in a single pass.
+     * Returns a Try success or failure depending on if all the items were valid casts.
+     *
+     * @param <T> The type to return.
+     * @param type The type to cast to.
+     * @param items The objects to cast.
+     * @return Returns a Success<Seq<T>> or a Failure.
+     */
+    @SuppressWarnings({"unchecked"})
+    static <T> Try<Seq<T>> tryCastAll(Class<T> type, Iterable<?> items) {
+        Array<Object> values = Array.ofAll(items);
+
+        return values.forAll(obj -> type.isInstance(obj) || obj == null)
+                ? Try.success((Seq<T>)(Seq<?>)values)
+                : Try.failure(new DataTableException("Invalid cast."));
+    }
 }
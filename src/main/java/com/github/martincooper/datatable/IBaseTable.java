@@ -31,6 +31,13 @@ public interface IBaseTable extends Iterable<DataRow>, IQuickSort {
      */
     DataRow row(Integer rowIdx);
 
+    /**
+     * Returns a cursor which walks the rows, without creating a DataRow per row.
+     *
+     * @return Returns the cursor.
+     */
+    DataCursor cursor();
+
     /**
      * Returns the rowCount / row count of the table.
      *
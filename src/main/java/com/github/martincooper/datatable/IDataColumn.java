@@ -10,6 +10,11 @@ import java.lang.reflect.Type;
  * Generic interface for the DataColumn class.
  * Allows columns that can store different data types to be stored
  * in a generic collection without losing type specific information.
+ *
+ * Methods added since the first release have default implementations, written in
+ * terms of the original methods, so existing implementations continue to work.
+ * The columns in this library override them with faster versions.
+ *
  * Created by Martin Cooper on 13/07/2017.
  */
 public interface IDataColumn extends IModifiableByIndex<Object, IDataColumn> {
@@ -35,6 +40,15 @@ public interface IDataColumn extends IModifiableByIndex<Object, IDataColumn> {
      */
     Vector data();
 
+    /**
+     * The number of items in the column.
+     *
+     * @return Returns the row count.
+     */
+    default int rowCount() {
+        return data().length();
+    }
+
     /**
      * Returns the value at the specified index.
      *
@@ -67,4 +81,109 @@ public interface IDataColumn extends IModifiableByIndex<Object, IDataColumn> {
      * @return Returns a new IDataColumn with just the rows specified.
      */
     Try<IDataColumn> buildFromRows(Seq<Integer> rowIndexes);
+
+    /**
+     * Builds a new DataColumn from the data in the specified row indexes.
+     *
+     * @param rowIndexes The rows which the new column data is to be built from.
+     * @return Returns a new IDataColumn with just the rows specified.
+     */
+    default Try<IDataColumn> buildFromRows(int[] rowIndexes) {
+        return buildFromRows(Vector.ofAll(rowIndexes));
+    }
+
+    /**
+     * Builds a new DataColumn from the data in the specified row indexes,
+     * with a null value wherever the row index is -1.
+     *
+     * @param rowIndexes The rows which the new column data is to be built from, or -1 for null.
+     * @return Returns a new IDataColumn with just the rows specified.
+     */
+    default Try<IDataColumn> buildFromRowsWithNulls(int[] rowIndexes) {
+        return buildFromRows(Vector.empty())
+                .flatMap(empty -> empty.addAll(Vector.ofAll(rowIndexes).map(idx -> idx < 0 ? null : valueAt(idx))));
+    }
+
+    /**
+     * Returns the column with a new name, sharing the same data.
+     * By default, the data is held in a new DataColumn.
+     *
+     * @param columnName The new column name.
+     * @return Returns the renamed column.
+     */
+    @SuppressWarnings("unchecked")
+    default IDataColumn withName(String columnName) {
+        return new DataColumn<>((Class<Object>)type(), columnName, (Vector<Object>)data());
+    }
+
+    /**
+     * Attempts to add / append multiple items to the end of the column.
+     * All items are type checked before any are added.
+     *
+     * @param values The items to add.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    default Try<IDataColumn> addAll(Iterable<?> values) {
+        Try<IDataColumn> result = Try.success(this);
+
+        for (Object value : values)
+            result = result.flatMap(column -> column.add(value));
+
+        return result;
+    }
+
+    /**
+     * Attempts to insert multiple items into the column at the specified index.
+     * All items are type checked before any are inserted.
+     *
+     * @param index The index the items are to be inserted at.
+     * @param values The items to insert.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    default Try<IDataColumn> insertAll(Integer index, Iterable<?> values) {
+        Try<IDataColumn> result = Try.success(this);
+        int insertIndex = index;
+
+        for (Object value : values) {
+            int valueIndex = insertIndex++;
+            result = result.flatMap(column -> column.insert(valueIndex, value));
+        }
+
+        return result;
+    }
+
+    /**
+     * Attempts to replace the items at the specified indexes with the new items.
+     * All items are type checked before any are replaced.
+     *
+     * @param indexes The indexes of the items to be replaced.
+     * @param values The new items, one per index.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    default Try<IDataColumn> replaceAll(int[] indexes, Iterable<?> values) {
+        Vector<?> newValues = Vector.ofAll(values);
+
+        if (indexes.length != newValues.length())
+            return DataTableException.tryError("replaceAll failed. Number of indexes does not match number of values.");
+
+        Try<IDataColumn> result = Try.success(this);
+
+        for (int idx = 0; idx < indexes.length; idx++) {
+            int index = indexes[idx];
+            Object value = newValues.get(idx);
+            result = result.flatMap(column -> column.replace(index, value));
+        }
+
+        return result;
+    }
+
+    /**
+     * Attempts to remove the items at the specified indexes.
+     *
+     * @param indexes The indexes of the items to be removed.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    default Try<IDataColumn> removeAll(int[] indexes) {
+        return Try.of(() -> DataColumn.remainingIndexes(rowCount(), indexes)).flatMap(this::buildFromRows);
+    }
 }
@@ -0,0 +1,210 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.collection.Seq;
+
+import java.util.BitSet;
+
+/**
+ * NullBitmap. Immutable set of the null rows in a primitive column, with the number
+ * of nulls precomputed, so columns without nulls can skip any null checks entirely.
+ * Modifications return a new bitmap, sharing the empty instance where there are no nulls.
+ */
+final class NullBitmap {
+
+    static final NullBitmap NONE = new NullBitmap(new BitSet());
+
+    private final BitSet nulls;
+    private final int nullCount;
+
+    /**
+     * Private NullBitmap constructor. Takes ownership of the BitSet, which must not be modified afterwards.
+     *
+     * @param nulls The null rows.
+     */
+    private NullBitmap(BitSet nulls) {
+        this.nulls = nulls;
+        this.nullCount = nulls.cardinality();
+    }
+
+    /**
+     * Creates a new bitmap from a copy of the specified null rows, ignoring any rows past the size.
+     *
+     * @param nulls The null rows, or null if there are none.
+     * @param size The number of rows in the column.
+     * @return Returns the bitmap.
+     */
+    static NullBitmap of(BitSet nulls, int size) {
+        if (nulls == null || nulls.isEmpty()) return NONE;
+
+        BitSet newNulls = (BitSet)nulls.clone();
+        newNulls.clear(size, Math.max(size, newNulls.length()));
+        return wrap(newNulls);
+    }
+
+    /**
+     * Creates a new bitmap, taking ownership of the specified null rows without copying.
+     *
+     * @param nulls The null rows, or null if there are none.
+     * @return Returns the bitmap.
+     */
+    static NullBitmap wrap(BitSet nulls) {
+        return nulls == null || nulls.isEmpty() ? NONE : new NullBitmap(nulls);
+    }
+
+    /**
+     * @return Returns the number of null rows.
+     */
+    int nullCount() {
+        return this.nullCount;
+    }
+
+    /**
+     * Checks if the specified row is null.
+     *
+     * @param rowIndex The row index.
+     * @return Returns true if the row is null.
+     */
+    boolean isNull(int rowIndex) {
+        return this.nullCount != 0 && this.nulls.get(rowIndex);
+    }
+
+    /**
+     * @return Returns a copy of the null rows.
+     */
+    BitSet toBitSet() {
+        return (BitSet)this.nulls.clone();
+    }
+
+    /**
+     * Returns the bitmap with a value inserted at the specified index.
+     *
+     * @param index The index to insert at.
+     * @param value The value inserted.
+     * @return Returns the new bitmap.
+     */
+    NullBitmap insert(int index, Object value) {
+        if (this.nullCount == 0 && value != null) return this;
+
+        BitSet newNulls = shifted(index, 1);
+        if (value == null) newNulls.set(index);
+        return wrap(newNulls);
+    }
+
+    /**
+     * Returns the bitmap with values inserted at the specified index.
+     *
+     * @param index The index to insert at.
+     * @param values The values inserted.
+     * @return Returns the new bitmap.
+     */
+    NullBitmap insertAll(int index, Seq<?> values) {
+        if (this.nullCount == 0 && !values.contains(null)) return this;
+
+        BitSet newNulls = shifted(index, values.length());
+
+        int idx = index;
+        for (Object value : values) {
+            if (value == null) newNulls.set(idx);
+            idx++;
+        }
+
+        return wrap(newNulls);
+    }
+
+    /**
+     * Returns the bitmap with the value at the specified index replaced.
+     *
+     * @param index The index replaced.
+     * @param value The new value.
+     * @return Returns the new bitmap.
+     */
+    NullBitmap replace(int index, Object value) {
+        if (isNull(index) == (value == null)) return this;
+
+        BitSet newNulls = toBitSet();
+        newNulls.set(index, value == null);
+        return wrap(newNulls);
+    }
+
+    /**
+     * Returns the bitmap with the values at the specified indexes replaced.
+     *
+     * @param indexes The indexes replaced.
+     * @param values The new values, one per index.
+     * @return Returns the new bitmap.
+     */
+    NullBitmap replaceAll(int[] indexes, Seq<?> values) {
+        if (this.nullCount == 0 && !values.contains(null)) return this;
+
+        BitSet newNulls = toBitSet();
+
+        int idx = 0;
+        for (Object value : values)
+            newNulls.set(indexes[idx++], value == null);
+
+        return wrap(newNulls);
+    }
+
+    /**
+     * Returns the bitmap with the value at the specified index removed.
+     *
+     * @param index The index removed.
+     * @return Returns the new bitmap.
+     */
+    NullBitmap remove(int index) {
+        if (this.nullCount == 0) return this;
+
+        BitSet newNulls = new BitSet();
+
+        for (int idx = this.nulls.nextSetBit(0); idx >= 0; idx = this.nulls.nextSetBit(idx + 1)) {
+            if (idx != index) newNulls.set(idx < index ? idx : idx - 1);
+        }
+
+        return wrap(newNulls);
+    }
+
+    /**
+     * Returns the bitmap for the rows at the specified indexes.
+     *
+     * @param rowIndexes The row indexes.
+     * @return Returns the new bitmap.
+     */
+    NullBitmap gather(int[] rowIndexes) {
+        if (this.nullCount == 0) return this;
+
+        BitSet newNulls = new BitSet();
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (this.nulls.get(rowIndexes[idx])) newNulls.set(idx);
+        }
+
+        return wrap(newNulls);
+    }
+
+    /**
+     * Returns the bitmap with the null rows of another bitmap appended.
+     *
+     * @param size The number of rows covered by this bitmap.
+     * @param other The bitmap appended.
+     * @return Returns the new bitmap.
+     */
+    NullBitmap append(int size, NullBitmap other) {
+        if (other.nullCount == 0) return this;
+
+        BitSet newNulls = toBitSet();
+
+        for (int idx = other.nulls.nextSetBit(0); idx >= 0; idx = other.nulls.nextSetBit(idx + 1))
+            newNulls.set(size + idx);
+
+        return wrap(newNulls);
+    }
+
+    private BitSet shifted(int index, int count) {
+        BitSet newNulls = new BitSet();
+
+        for (int idx = this.nulls.nextSetBit(0); idx >= 0; idx = this.nulls.nextSetBit(idx + 1))
+            newNulls.set(idx < index ? idx : idx + count);
+
+        return newNulls;
+    }
+}
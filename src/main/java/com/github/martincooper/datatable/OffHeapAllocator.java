@@ -0,0 +1,201 @@
+package com.github.martincooper.datatable;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+/**
+ * OffHeapAllocator. Allocates the storage for off heap columns in direct ByteBuffers,
+ * which are outside the Java heap, so aren't copied or scanned by the garbage collector.
+ * Suited to very large tables, where GC pause times would otherwise grow with the row count.
+ *
+ * Any columns created from an off heap column, for example by modifying or filtering it,
+ * are allocated by the same allocator. All the memory is released when the allocator is
+ * closed. The check for a closed allocator is made once per operation, such as a sort, group,
+ * filter, join or cursor, and by the boxed valueAt, rather than for every value read, so
+ * see close for what isn't safe. Memory used by columns which are no longer referenced is
+ * also released by the garbage collector, as for any direct ByteBuffer.
+ *
+ * Each column is limited to Integer.MAX_VALUE bytes, so 268 million long or double values.
+ */
+public final class OffHeapAllocator implements AutoCloseable {
+
+    private static final BufferReleaser RELEASER = BufferReleaser.create();
+
+    private final ArrayList<BufferReference> buffers;
+    private long allocatedBytes;
+    private volatile boolean closed;
+
+    /**
+     * OffHeapAllocator constructor.
+     */
+    public OffHeapAllocator() {
+        this.buffers = new ArrayList<>();
+        this.allocatedBytes = 0;
+        this.closed = false;
+    }
+
+    /**
+     * Returns the number of bytes allocated which haven't been released yet, either by
+     * closing the allocator or by the garbage collector.
+     *
+     * @return Returns the number of bytes allocated.
+     */
+    public synchronized long allocatedBytes() {
+        removeCollected();
+        return this.allocatedBytes;
+    }
+
+    /**
+     * @return Returns true if the allocator has been closed.
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Releases the memory of all the columns allocated, which can't be used afterwards.
+     *
+     * Operations started after closing fail with an IllegalStateException. Closing while
+     * other threads are still reading any of the columns, or reading a column afterwards
+     * through its typed accessors such as getInt, a column reference or a cursor created
+     * earlier, is undefined behaviour which reads released memory and can crash the JVM.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.closed) return;
+        this.closed = true;
+
+        for (BufferReference reference : this.buffers) {
+            ByteBuffer buffer = reference.get();
+            if (buffer != null) RELEASER.release(buffer);
+        }
+
+        this.buffers.clear();
+        this.allocatedBytes = 0;
+    }
+
+    /**
+     * Allocates a new zero filled direct buffer, in native byte order.
+     *
+     * @param valueCount The number of values.
+     * @param valueWidth The width of each value in bytes.
+     * @return Returns the buffer.
+     */
+    synchronized ByteBuffer allocate(int valueCount, int valueWidth) {
+        checkOpen();
+
+        long byteCount = (long)valueCount * valueWidth;
+
+        if (byteCount > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Off heap column of " + valueCount + " values exceeds the maximum size.");
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int)byteCount).order(ByteOrder.nativeOrder());
+
+        // Periodically drop the references to buffers already released by the garbage collector.
+        if (this.buffers.size() >= 64 && Integer.bitCount(this.buffers.size()) == 1)
+            removeCollected();
+
+        this.buffers.add(new BufferReference(buffer, (int)byteCount));
+        this.allocatedBytes += byteCount;
+        return buffer;
+    }
+
+    /**
+     * Copies a range of bytes between two direct buffers.
+     *
+     * @param src The source buffer.
+     * @param srcPos The position of the first byte to copy.
+     * @param dest The destination buffer.
+     * @param destPos The position in the destination to copy to.
+     * @param length The number of bytes to copy.
+     */
+    static void copy(ByteBuffer src, int srcPos, ByteBuffer dest, int destPos, int length) {
+        // Positioned through Buffer, so the compiled calls also run on Java 8.
+        ByteBuffer source = src.duplicate();
+        ((Buffer)source).position(srcPos).limit(srcPos + length);
+
+        ByteBuffer destination = dest.duplicate();
+        ((Buffer)destination).position(destPos);
+        destination.put(source);
+    }
+
+    /**
+     * Checks the allocator hasn't been closed, so its memory is still allocated.
+     */
+    void checkOpen() {
+        if (this.closed)
+            throw new IllegalStateException("Off heap allocator has been closed.");
+    }
+
+    private void removeCollected() {
+        this.buffers.removeIf(reference -> {
+            if (reference.get() != null) return false;
+
+            this.allocatedBytes -= reference.byteCount;
+            return true;
+        });
+    }
+
+    /**
+     * A weak reference to an allocated buffer, which keeps its size once the buffer has been collected.
+     */
+    private static final class BufferReference extends WeakReference<ByteBuffer> {
+
+        private final int byteCount;
+
+        BufferReference(ByteBuffer buffer, int byteCount) {
+            super(buffer);
+            this.byteCount = byteCount;
+        }
+    }
+
+    /**
+     * Releases the memory of a direct buffer immediately, rather than waiting for the
+     * garbage collector. Uses Unsafe.invokeCleaner on Java 9 and above, or the buffer's
+     * cleaner on Java 8, falling back to leaving it to the garbage collector.
+     */
+    private static final class BufferReleaser {
+
+        private final Object unsafe;
+        private final Method invokeCleaner;
+
+        private BufferReleaser(Object unsafe, Method invokeCleaner) {
+            this.unsafe = unsafe;
+            this.invokeCleaner = invokeCleaner;
+        }
+
+        static BufferReleaser create() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+
+                return new BufferReleaser(field.get(null), unsafeClass.getMethod("invokeCleaner", ByteBuffer.class));
+            } catch (Exception | LinkageError ex) {
+                return new BufferReleaser(null, null);
+            }
+        }
+
+        void release(ByteBuffer buffer) {
+            try {
+                if (this.invokeCleaner != null) {
+                    this.invokeCleaner.invoke(this.unsafe, buffer);
+                    return;
+                }
+
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) cleaner.getClass().getMethod("clean").invoke(cleaner);
+            } catch (Exception | LinkageError ex) {
+                // Left to the garbage collector.
+            }
+        }
+    }
+}
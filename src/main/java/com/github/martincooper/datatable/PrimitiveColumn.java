@@ -0,0 +1,505 @@
+package com.github.martincooper.datatable;
+
+import io.vavr.CheckedFunction1;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Try;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.function.Function;
+
+import static io.vavr.API.$;
+import static io.vavr.API.Case;
+import static io.vavr.API.Match;
+import static io.vavr.Patterns.$Failure;
+import static io.vavr.Patterns.$Success;
+
+/**
+ * PrimitiveColumn. Base class for columns storing their data in primitive
+ * arrays rather than a Vector of boxed values. Modifications copy the
+ * underlying array, so these columns are best suited to bulk loaded data.
+ *
+ * Null values are tracked in a separate bitmap, with the null rows holding the default
+ * value of the primitive type. The number of nulls is precomputed, so operators can
+ * skip null checks entirely for columns without nulls.
+ *
+ * The data can optionally be stored off the heap, see OffHeapAllocator. Modifications
+ * to an off heap column create a new column off the heap, using the same allocator.
+ *
+ * @param <T> The boxed type of the values stored in the column.
+ */
+public abstract class PrimitiveColumn<T> extends DataColumn<T> {
+
+    private final Class<T> valueType;
+    private final NullBitmap nulls;
+
+    /**
+     * PrimitiveColumn constructor.
+     *
+     * @param type The boxed type of the data stored in this column.
+     * @param columnName The column name.
+     * @param nulls The null rows in the column.
+     */
+    PrimitiveColumn(Class<T> type, String columnName, NullBitmap nulls) {
+        super(type, columnName);
+        this.valueType = type;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Checks if the value at the specified index is null.
+     *
+     * @param rowIndex The row index.
+     * @return Returns true if the value is null.
+     */
+    public boolean isNull(int rowIndex) {
+        return this.nulls.isNull(checkIndex(rowIndex, rowCount()));
+    }
+
+    /**
+     * Returns the number of null values in the column, which is precomputed.
+     *
+     * @return Returns the null count.
+     */
+    public int nullCount() {
+        return this.nulls.nullCount();
+    }
+
+    /**
+     * Checks if the column contains any null values.
+     *
+     * @return Returns true if there are null values.
+     */
+    public boolean hasNulls() {
+        return this.nulls.nullCount() != 0;
+    }
+
+    /**
+     * Returns a copy of the column with the data stored off the heap, using the specified allocator.
+     * The null rows are still tracked on the heap.
+     *
+     * @param allocator The off heap allocator.
+     * @return Returns the off heap column.
+     */
+    public abstract PrimitiveColumn<T> toOffHeap(OffHeapAllocator allocator);
+
+    /**
+     * @return Returns true if the column data is stored off the heap.
+     */
+    public abstract boolean isOffHeap();
+
+    /**
+     * Checks the column data can still be read, which fails for an off heap column once its
+     * allocator has been closed. The typed accessors such as getInt don't check each value,
+     * so operations reading many values check the column once before they start.
+     *
+     * @throws IllegalStateException if the off heap allocator has been closed.
+     */
+    public abstract void checkReadable();
+
+    /**
+     * Checks the column data can still be read, if it's a primitive column.
+     *
+     * @param column The column.
+     * @throws IllegalStateException if the off heap allocator has been closed.
+     */
+    public static void checkReadable(IDataColumn column) {
+        if (column instanceof PrimitiveColumn)
+            ((PrimitiveColumn<?>)column).checkReadable();
+    }
+
+    /**
+     * @return Returns the null rows in the column.
+     */
+    NullBitmap nulls() {
+        return this.nulls;
+    }
+
+    /**
+     * Returns the number of items in the column.
+     *
+     * @return Returns the row count.
+     */
+    @Override
+    public abstract int rowCount();
+
+    /**
+     * Returns the value at the specified index as it's boxed type.
+     *
+     * @param rowIndex The row index.
+     * @return Returns the value.
+     */
+    @Override
+    public abstract T valueAt(Integer rowIndex);
+
+    /**
+     * Returns a copy of the underlying data as a Vector of boxed values.
+     * Prefer the typed, unboxed accessors on the sub class where possible.
+     *
+     * @return Returns the column data.
+     */
+    @Override
+    public Vector<T> data() {
+        return Vector.tabulate(rowCount(), this::valueAt);
+    }
+
+    /**
+     * Builds a new column from the data at the specified row indexes.
+     *
+     * @param rowIndexes The rows which the new column data is to be built from.
+     * @return Returns a new IDataColumn with just the rows specified.
+     */
+    @Override
+    public Try<IDataColumn> buildFromRows(Seq<Integer> rowIndexes) {
+        int[] indexes = new int[rowIndexes.length()];
+        int idx = 0;
+
+        for (Integer rowIdx : rowIndexes)
+            indexes[idx++] = rowIdx;
+
+        return buildFromRows(indexes);
+    }
+
+    /**
+     * Builds a new column from the data at the specified row indexes.
+     *
+     * @param rowIndexes The rows which the new column data is to be built from.
+     * @return Returns a new IDataColumn with just the rows specified.
+     */
+    @Override
+    public Try<IDataColumn> buildFromRows(int[] rowIndexes) {
+        return Try.of(() -> gather(rowIndexes));
+    }
+
+    /**
+     * Builds a new column from the data at the specified row indexes,
+     * with a null value wherever the row index is -1.
+     *
+     * @param rowIndexes The rows which the new column data is to be built from, or -1 for null.
+     * @return Returns a new IDataColumn with just the rows specified.
+     */
+    @Override
+    public Try<IDataColumn> buildFromRowsWithNulls(int[] rowIndexes) {
+        BitSet missing = new BitSet();
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (rowIndexes[idx] < 0) missing.set(idx);
+        }
+
+        if (missing.isEmpty()) return buildFromRows(rowIndexes);
+        if (rowCount() == 0) return addAll(Collections.nCopies(rowIndexes.length, null));
+
+        // Gather the first row in place of each missing row, then mark them as null.
+        int[] indexes = rowIndexes.clone();
+        for (int idx = missing.nextSetBit(0); idx >= 0; idx = missing.nextSetBit(idx + 1))
+            indexes[idx] = 0;
+
+        return Try.of(() -> {
+            PrimitiveColumn<T> column = (PrimitiveColumn<T>)gather(indexes);
+            BitSet newNulls = column.nulls.toBitSet();
+            newNulls.or(missing);
+            return column.withNulls(NullBitmap.wrap(newNulls));
+        });
+    }
+
+    /**
+     * Attempts to add / append a new item to the end of the column.
+     * A type check is performed before addition.
+     *
+     * @param value The item required to be added.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> add(Object value) {
+        return modify("tryAdd", value, this::append);
+    }
+
+    /**
+     * Attempts to insert a new item into the column.
+     * A type check is performed before insertion.
+     *
+     * @param index The index the item is to be inserted at.
+     * @param value The item required to be inserted.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> insert(Integer index, Object value) {
+        return modify("tryInsert", value, typedVal -> insertAt(index, typedVal));
+    }
+
+    /**
+     * Attempts to replace an existing item with a new item in the column.
+     * A type check is performed before replacement.
+     *
+     * @param index The index the item is to be replaced at.
+     * @param value The new item.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> replace(Integer index, Object value) {
+        return modify("tryReplace", value, typedVal -> replaceAt(index, typedVal));
+    }
+
+    /**
+     * Attempts to remove an existing item at the specified index.
+     *
+     * @param index The index to remove the item at.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> remove(Integer index) {
+        return Try.of(() -> removeAt(index));
+    }
+
+    /**
+     * Attempts to add / append multiple items to the end of the column.
+     * All items are type checked before any are added.
+     *
+     * @param values The items to add.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> addAll(Iterable<?> values) {
+        return modifyAll("addAll", values, typedVals -> insertAllAt(rowCount(), typedVals));
+    }
+
+    /**
+     * Attempts to insert multiple items into the column at the specified index.
+     * All items are type checked before any are inserted.
+     *
+     * @param index The index the items are to be inserted at.
+     * @param values The items to insert.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> insertAll(Integer index, Iterable<?> values) {
+        return modifyAll("insertAll", values, typedVals -> insertAllAt(index, typedVals));
+    }
+
+    /**
+     * Attempts to replace the items at the specified indexes with the new items.
+     * All items are type checked before any are replaced.
+     *
+     * @param indexes The indexes of the items to be replaced.
+     * @param values The new items, one per index.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> replaceAll(int[] indexes, Iterable<?> values) {
+        return modifyAll("replaceAll", values, typedVals -> {
+            if (indexes.length != typedVals.length())
+                throw new DataTableException("replaceAll failed. Number of indexes does not match number of values.");
+
+            return replaceAllAt(indexes, typedVals);
+        });
+    }
+
+    /**
+     * Attempts to remove the items at the specified indexes.
+     *
+     * @param indexes The indexes of the items to be removed.
+     * @return Returns a Success with the new modified column, or a Failure.
+     */
+    @Override
+    public Try<IDataColumn> removeAll(int[] indexes) {
+        return Try.of(() -> gather(remainingIndexes(rowCount(), indexes)));
+    }
+
+    /**
+     * Adds / Appends and item to the end of the column.
+     *
+     * @param value The value to append.
+     * @return Returns a new column with the new item appended.
+     */
+    @Override
+    public Try<DataColumn<T>> addItem(T value) {
+        return modifyItem(value, this::append);
+    }
+
+    /**
+     * Inserts the item at the specified index.
+     *
+     * @param index The index to insert the item at.
+     * @param value The item to insert.
+     * @return Returns a new column with the new item inserted.
+     */
+    @Override
+    public Try<DataColumn<T>> insertItem(Integer index, T value) {
+        return modifyItem(value, typedVal -> insertAt(index, typedVal));
+    }
+
+    /**
+     * Replaces the existing item at the specified index with the new item.
+     *
+     * @param index The index to replace the existing item.
+     * @param value The new item to replace the existing one.
+     * @return Returns a new column with the specified item replaced.
+     */
+    @Override
+    public Try<DataColumn<T>> replaceItem(Integer index, T value) {
+        return modifyItem(value, typedVal -> replaceAt(index, typedVal));
+    }
+
+    /**
+     * Removes the item at the specified index.
+     *
+     * @param index The index to remove the item at.
+     * @return Returns a new column with the specified item removed.
+     */
+    @Override
+    public Try<DataColumn<T>> removeItem(Integer index) {
+        return Try.of(() -> removeAt(index));
+    }
+
+    /**
+     * Creates a new column with the value appended.
+     *
+     * @param value The value to append.
+     * @return Returns the new column.
+     */
+    abstract DataColumn<T> append(T value);
+
+    /**
+     * Creates a new column with the value inserted at the specified index.
+     *
+     * @param index The index to insert the value at.
+     * @param value The value to insert.
+     * @return Returns the new column.
+     */
+    abstract DataColumn<T> insertAt(int index, T value);
+
+    /**
+     * Creates a new column with the value at the specified index replaced.
+     *
+     * @param index The index of the value to replace.
+     * @param value The new value.
+     * @return Returns the new column.
+     */
+    abstract DataColumn<T> replaceAt(int index, T value);
+
+    /**
+     * Creates a new column with the value at the specified index removed.
+     *
+     * @param index The index of the value to remove.
+     * @return Returns the new column.
+     */
+    abstract DataColumn<T> removeAt(int index);
+
+    /**
+     * Creates a new column with the values inserted at the specified index.
+     *
+     * @param index The index to insert the values at.
+     * @param values The values to insert.
+     * @return Returns the new column.
+     */
+    abstract DataColumn<T> insertAllAt(int index, Seq<T> values);
+
+    /**
+     * Creates a new column with the values at the specified indexes replaced.
+     *
+     * @param indexes The indexes of the values to replace.
+     * @param values The new values, one per index.
+     * @return Returns the new column.
+     */
+    abstract DataColumn<T> replaceAllAt(int[] indexes, Seq<T> values);
+
+    /**
+     * Creates a new column containing the values at the specified row indexes.
+     *
+     * @param rowIndexes The row indexes.
+     * @return Returns the new column.
+     */
+    abstract DataColumn<T> gather(int[] rowIndexes);
+
+    /**
+     * Returns the column with a new name, sharing the same storage.
+     *
+     * @param columnName The new column name.
+     * @return Returns the renamed column.
+     */
+    @Override
+    public abstract PrimitiveColumn<T> withName(String columnName);
+
+    /**
+     * Creates a new column with the same values, other than the specified null rows.
+     * Takes ownership of the column's storage, clearing the values of the null rows,
+     * so is only used on columns which have just been created.
+     *
+     * @param nulls The null rows, which must include any existing null rows.
+     * @return Returns the new column.
+     */
+    abstract PrimitiveColumn<T> withNulls(NullBitmap nulls);
+
+    /**
+     * Creates a new column with the values of the other columns appended in order.
+     * The other columns must all be of the same class as this column.
+     *
+     * @param columns The columns to append.
+     * @return Returns the new column.
+     */
+    abstract PrimitiveColumn<T> appendColumns(Seq<IDataColumn> columns);
+
+    /**
+     * Returns the null rows of this column with the null rows of the other columns appended.
+     *
+     * @param columns The columns being appended.
+     * @return Returns the null bitmap.
+     */
+    NullBitmap appendNulls(Seq<IDataColumn> columns) {
+        NullBitmap newNulls = this.nulls;
+        int size = rowCount();
+
+        for (IDataColumn column : columns) {
+            newNulls = newNulls.append(size, ((PrimitiveColumn<?>)column).nulls);
+            size += column.rowCount();
+        }
+
+        return newNulls;
+    }
+
+    /**
+     * Checks the index is within the bounds of the column.
+     *
+     * @param index The index to check.
+     * @param size The number of items in the column.
+     * @return Returns the index if valid.
+     */
+    static int checkIndex(int index, int size) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return index;
+    }
+
+    /**
+     * Checks the index is a valid insert position within the column.
+     *
+     * @param index The index to check.
+     * @param size The number of items in the column.
+     * @return Returns the index if valid.
+     */
+    static int checkInsertIndex(int index, int size) {
+        return checkIndex(index, size + 1);
+    }
+
+    private Try<IDataColumn> modify(String action, Object value, Function<T, DataColumn<T>> modifier) {
+        return Match(GenericExtensions.tryCast(this.valueType, value)).of(
+                Case($Success($()), typedVal -> Try.of(() -> modifier.apply(typedVal))),
+                Case($Failure($()), DataTableException.tryError(action + " failed. Item of invalid type passed."))
+        );
+    }
+
+    private Try<IDataColumn> modifyAll(String action, Iterable<?> values, CheckedFunction1<Seq<T>, DataColumn<T>> modifier) {
+        Try<Seq<T>> typedVals = GenericExtensions.tryCastAll(this.valueType, values);
+
+        if (typedVals.isFailure())
+            return DataTableException.tryError(action + " failed. Item of invalid type passed.");
+
+        return Try.of(() -> modifier.apply(typedVals.get()));
+    }
+
+    private Try<DataColumn<T>> modifyItem(T value, Function<T, DataColumn<T>> modifier) {
+        return Try.of(() -> modifier.apply(value));
+    }
+}
@@ -65,11 +65,17 @@ public class TransformCollector<T, U> implements Collector<T, ArrayList<T>, U> {
         return ArrayList::add;
     }
 
-    // Not implemented : Parallel Stream.
+    /**
+     * The combiner. Used by parallel streams, appending the items
+     * collected from the right hand part of the stream to the left.
+     *
+     * @return Returns the combined ArrayList.
+     */
     @Override
     public BinaryOperator<ArrayList<T>> combiner() {
         return (acc1, acc2) -> {
-            throw new UnsupportedOperationException();
+            acc1.addAll(acc2);
+            return acc1;
         };
     }
 
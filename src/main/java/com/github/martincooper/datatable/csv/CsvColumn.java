@@ -0,0 +1,272 @@
+package com.github.martincooper.datatable.csv;
+
+import com.github.martincooper.datatable.DataTableBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CsvColumn. Parses the fields of a CSV column straight from the parser's buffer into
+ * the typed builder buffers, so numeric and boolean fields are never decoded into Strings.
+ * Empty fields are read as null, other than quoted empty fields in String columns.
+ */
+abstract class CsvColumn {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final String name;
+    private final int index;
+
+    /**
+     * CsvColumn constructor.
+     *
+     * @param name The column name.
+     * @param index The index of the column in the builder.
+     */
+    CsvColumn(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * @return Returns the column name.
+     */
+    String name() {
+        return this.name;
+    }
+
+    /**
+     * @return Returns the type of the column values.
+     */
+    abstract Class<?> type();
+
+    /**
+     * Appends a field to the builder, throwing a NumberFormatException if it can't be parsed.
+     *
+     * @param builder The builder.
+     * @param buffer The buffer holding the field.
+     * @param start The position of the first byte of the field.
+     * @param end The position after the last byte of the field.
+     * @param quoted True if the field was quoted.
+     */
+    abstract void append(DataTableBuilder builder, byte[] buffer, int start, int end, boolean quoted);
+
+    /**
+     * @return Returns the index of the column in the builder.
+     */
+    int index() {
+        return this.index;
+    }
+
+    /**
+     * Checks if CSV columns of the specified type are supported.
+     *
+     * @param type The column type.
+     * @return Returns true if supported.
+     */
+    static boolean isSupported(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Double.class
+                || type == Boolean.class || type == String.class;
+    }
+
+    /**
+     * Creates a CSV column of the specified type.
+     *
+     * @param type The column type.
+     * @param name The column name.
+     * @param index The index of the column in the builder.
+     * @return Returns the CSV column.
+     */
+    static CsvColumn create(Class<?> type, String name, int index) {
+        if (type == Integer.class) return new IntCsvColumn(name, index);
+        if (type == Long.class) return new LongCsvColumn(name, index);
+        if (type == Double.class) return new DoubleCsvColumn(name, index);
+        if (type == Boolean.class) return new BooleanCsvColumn(name, index);
+        return new StringCsvColumn(name, index);
+    }
+
+    /**
+     * Parses a long from the bytes of a field.
+     */
+    static long parseLong(byte[] buffer, int start, int end) {
+        int idx = start;
+        boolean negative = false;
+
+        if (idx < end && (buffer[idx] == '-' || buffer[idx] == '+')) negative = buffer[idx++] == '-';
+
+        // Up to 18 digits can't overflow, so anything longer is left to Long.parseLong.
+        if (idx == end || end - idx > 18) return Long.parseLong(text(buffer, start, end));
+
+        long value = 0;
+
+        for (; idx < end; idx++) {
+            int digit = buffer[idx] - '0';
+            if (digit < 0 || digit > 9) throw new NumberFormatException();
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a double from the bytes of a field. Decimals with up to 15 significant digits and
+     * a small exponent are calculated exactly, with a single rounding, so give the same result
+     * as Double.parseDouble. Anything else is left to Double.parseDouble.
+     */
+    static double parseDouble(byte[] buffer, int start, int end) {
+        int idx = start;
+        boolean negative = false;
+
+        if (idx < end && (buffer[idx] == '-' || buffer[idx] == '+')) negative = buffer[idx++] == '-';
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+
+        for (; idx < end && isDigit(buffer[idx]); idx++, digits++)
+            mantissa = mantissa * 10 + (buffer[idx] - '0');
+
+        if (idx < end && buffer[idx] == '.') {
+            for (idx++; idx < end && isDigit(buffer[idx]); idx++, digits++, fractionDigits++)
+                mantissa = mantissa * 10 + (buffer[idx] - '0');
+        }
+
+        int exponent = 0;
+
+        if (idx < end && (buffer[idx] == 'e' || buffer[idx] == 'E') && end - idx <= 5) {
+            int expIdx = idx + 1;
+            boolean negativeExponent = false;
+
+            if (expIdx < end && (buffer[expIdx] == '-' || buffer[expIdx] == '+'))
+                negativeExponent = buffer[expIdx++] == '-';
+
+            if (expIdx < end) {
+                for (idx = expIdx; idx < end && isDigit(buffer[idx]); idx++)
+                    exponent = exponent * 10 + (buffer[idx] - '0');
+            }
+
+            if (negativeExponent) exponent = -exponent;
+        }
+
+        int power = exponent - fractionDigits;
+
+        if (idx != end || digits == 0 || digits > 15 || power < -22 || power > 22)
+            return Double.parseDouble(text(buffer, start, end));
+
+        double value = power < 0
+                ? mantissa / POWERS_OF_TEN[-power]
+                : mantissa * POWERS_OF_TEN[power];
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a boolean from the bytes of a field, ignoring case.
+     */
+    static boolean parseBoolean(byte[] buffer, int start, int end) {
+        if (matches(buffer, start, end, "true")) return true;
+        if (matches(buffer, start, end, "false")) return false;
+        throw new NumberFormatException();
+    }
+
+    static String text(byte[] buffer, int start, int end) {
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isDigit(byte value) {
+        return value >= '0' && value <= '9';
+    }
+
+    private static boolean matches(byte[] buffer, int start, int end, String value) {
+        if (end - start != value.length()) return false;
+
+        for (int idx = 0; idx < value.length(); idx++) {
+            if (Character.toLowerCase((char)buffer[start + idx]) != value.charAt(idx)) return false;
+        }
+
+        return true;
+    }
+
+    private static final class IntCsvColumn extends CsvColumn {
+
+        IntCsvColumn(String name, int index) { super(name, index); }
+
+        @Override
+        Class<?> type() { return Integer.class; }
+
+        @Override
+        void append(DataTableBuilder builder, byte[] buffer, int start, int end, boolean quoted) {
+            if (start == end) {
+                builder.append(index(), null);
+                return;
+            }
+
+            long value = parseLong(buffer, start, end);
+            if (value != (int)value) throw new NumberFormatException();
+            builder.appendInt(index(), (int)value);
+        }
+    }
+
+    private static final class LongCsvColumn extends CsvColumn {
+
+        LongCsvColumn(String name, int index) { super(name, index); }
+
+        @Override
+        Class<?> type() { return Long.class; }
+
+        @Override
+        void append(DataTableBuilder builder, byte[] buffer, int start, int end, boolean quoted) {
+            if (start == end)
+                builder.append(index(), null);
+            else
+                builder.appendLong(index(), parseLong(buffer, start, end));
+        }
+    }
+
+    private static final class DoubleCsvColumn extends CsvColumn {
+
+        DoubleCsvColumn(String name, int index) { super(name, index); }
+
+        @Override
+        Class<?> type() { return Double.class; }
+
+        @Override
+        void append(DataTableBuilder builder, byte[] buffer, int start, int end, boolean quoted) {
+            if (start == end)
+                builder.append(index(), null);
+            else
+                builder.appendDouble(index(), parseDouble(buffer, start, end));
+        }
+    }
+
+    private static final class BooleanCsvColumn extends CsvColumn {
+
+        BooleanCsvColumn(String name, int index) { super(name, index); }
+
+        @Override
+        Class<?> type() { return Boolean.class; }
+
+        @Override
+        void append(DataTableBuilder builder, byte[] buffer, int start, int end, boolean quoted) {
+            if (start == end)
+                builder.append(index(), null);
+            else
+                builder.appendBoolean(index(), parseBoolean(buffer, start, end));
+        }
+    }
+
+    private static final class StringCsvColumn extends CsvColumn {
+
+        StringCsvColumn(String name, int index) { super(name, index); }
+
+        @Override
+        Class<?> type() { return String.class; }
+
+        @Override
+        void append(DataTableBuilder builder, byte[] buffer, int start, int end, boolean quoted) {
+            builder.append(index(), start == end && !quoted ? null : text(buffer, start, end));
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.github.martincooper.datatable.csv;
+
+import com.github.martincooper.datatable.BooleanColumn;
+import com.github.martincooper.datatable.DictionaryColumn;
+import com.github.martincooper.datatable.DoubleColumn;
+import com.github.martincooper.datatable.IDataColumn;
+import com.github.martincooper.datatable.IntColumn;
+import com.github.martincooper.datatable.LongColumn;
+import com.github.martincooper.datatable.PrimitiveColumn;
+
+import java.util.Arrays;
+
+/**
+ * CsvFormatter. Formats a batch of rows of a single column into a reusable character buffer,
+ * recording where each field ends, so a whole batch is formatted in one tight loop per column
+ * before the rows are written out. Primitive columns are formatted straight from their typed
+ * getters, without boxing the values or creating a String per field.
+ *
+ * Null values are written as empty fields, and empty Strings as quoted empty fields,
+ * so both are read back as they were. In a single column file a null is written as a
+ * blank line, which CsvReader reads back as a null rather than skipping.
+ */
+abstract class CsvFormatter {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    private static final long[] LONG_POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+            1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    private static final double MAX_EXACT_LONG = 9007199254740992.0;
+    private static final char[] TRUE = "true".toCharArray();
+    private static final char[] FALSE = "false".toCharArray();
+    private static final char[] MIN_LONG = Long.toString(Long.MIN_VALUE).toCharArray();
+    private static final char[] ZERO = "0.0".toCharArray();
+    private static final char[] NEGATIVE_ZERO = "-0.0".toCharArray();
+
+    private final char delimiter;
+    private final char quote;
+
+    private char[] chars;
+    private int length;
+    private final int[] ends;
+
+    /**
+     * CsvFormatter constructor.
+     *
+     * @param delimiter The field delimiter.
+     * @param quote The quote character.
+     * @param batchSize The maximum number of rows in a batch.
+     */
+    CsvFormatter(char delimiter, char quote, int batchSize) {
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.chars = new char[batchSize * 16];
+        this.ends = new int[batchSize];
+    }
+
+    /**
+     * Creates a formatter for a column, specialised for primitive and dictionary encoded columns.
+     *
+     * @param column The column.
+     * @param delimiter The field delimiter.
+     * @param quote The quote character.
+     * @param batchSize The maximum number of rows in a batch.
+     * @return Returns the formatter.
+     */
+    static CsvFormatter create(IDataColumn column, char delimiter, char quote, int batchSize) {
+        PrimitiveColumn.checkReadable(column);
+
+        if (column instanceof IntColumn) return new IntFormatter((IntColumn)column, delimiter, quote, batchSize);
+        if (column instanceof LongColumn) return new LongFormatter((LongColumn)column, delimiter, quote, batchSize);
+        if (column instanceof DoubleColumn) return new DoubleFormatter((DoubleColumn)column, delimiter, quote, batchSize);
+        if (column instanceof BooleanColumn) return new BooleanFormatter((BooleanColumn)column, delimiter, quote, batchSize);
+        if (column instanceof DictionaryColumn) return new DictionaryFormatter((DictionaryColumn)column, delimiter, quote, batchSize);
+        return new ValueFormatter(column, delimiter, quote, batchSize);
+    }
+
+    /**
+     * Formats a batch of rows, replacing the previous batch.
+     *
+     * @param rowIndexes The indexes of the rows to write, or null to write the rows in order.
+     * @param from The position of the first row of the batch.
+     * @param count The number of rows in the batch.
+     */
+    abstract void format(int[] rowIndexes, int from, int count);
+
+    /**
+     * @return Returns the buffer holding the formatted fields.
+     */
+    char[] chars() {
+        return this.chars;
+    }
+
+    /**
+     * @param idx The index of the row within the batch.
+     * @return Returns the position of the first character of the field in the buffer.
+     */
+    int start(int idx) {
+        return idx == 0 ? 0 : this.ends[idx - 1];
+    }
+
+    /**
+     * @param idx The index of the row within the batch.
+     * @return Returns the position after the last character of the field in the buffer.
+     */
+    int end(int idx) {
+        return this.ends[idx];
+    }
+
+    /**
+     * Escapes a value for writing to a CSV file, quoting it if required.
+     *
+     * @param value The value.
+     * @param delimiter The field delimiter.
+     * @param quote The quote character.
+     * @return Returns the escaped value.
+     */
+    static String escape(String value, char delimiter, char quote) {
+        CsvFormatter formatter = new ValueFormatter(null, delimiter, quote, 1);
+        formatter.appendText(value);
+        return new String(formatter.chars, 0, formatter.length);
+    }
+
+    static int rowAt(int[] rowIndexes, int from, int idx) {
+        return rowIndexes == null ? from + idx : rowIndexes[from + idx];
+    }
+
+    final void reset() {
+        this.length = 0;
+    }
+
+    final void endField(int idx) {
+        this.ends[idx] = this.length;
+    }
+
+    final void appendChars(char[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, this.chars, this.length, value.length);
+        this.length += value.length;
+    }
+
+    final void appendBoolean(boolean value) {
+        appendChars(value ? TRUE : FALSE);
+    }
+
+    /**
+     * Appends a long, writing the digits straight into the buffer.
+     */
+    final void appendLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            appendChars(MIN_LONG);
+            return;
+        }
+
+        ensureCapacity(20);
+
+        if (value < 0) {
+            this.chars[this.length++] = '-';
+            value = -value;
+        }
+
+        int digits = 1;
+        while (digits < LONG_POWERS_OF_TEN.length && value >= LONG_POWERS_OF_TEN[digits]) digits++;
+
+        appendDigits(value, digits);
+    }
+
+    /**
+     * Appends a double, using the fewest decimal places which read back as exactly the same
+     * value. The decimal is found using exact double arithmetic where the scaled value fits
+     * in the 53 bits of a double's mantissa. Anything else, such as values needing 17
+     * significant digits, is left to Double.toString.
+     */
+    final void appendDouble(double value) {
+        if (value == 0) {
+            appendChars(Double.doubleToRawLongBits(value) < 0 ? NEGATIVE_ZERO : ZERO);
+            return;
+        }
+
+        double magnitude = Math.abs(value);
+
+        for (int places = 0; places < POWERS_OF_TEN.length; places++) {
+            double scaled = magnitude * POWERS_OF_TEN[places];
+            if (scaled >= MAX_EXACT_LONG) break;
+
+            long mantissa = Math.round(scaled);
+
+            if (mantissa / POWERS_OF_TEN[places] == magnitude) {
+                appendDecimal(value < 0, mantissa, places);
+                return;
+            }
+        }
+
+        appendChars(Double.toString(value).toCharArray());
+    }
+
+    /**
+     * Appends a String, quoting it if it's empty, or contains the delimiter, a quote or a line break.
+     */
+    final void appendText(String value) {
+        int valueLength = value.length();
+        ensureCapacity(valueLength * 2 + 2);
+
+        if (valueLength > 0 && !needsQuotes(value)) {
+            value.getChars(0, valueLength, this.chars, this.length);
+            this.length += valueLength;
+            return;
+        }
+
+        char[] buffer = this.chars;
+        int position = this.length;
+        buffer[position++] = this.quote;
+
+        for (int idx = 0; idx < valueLength; idx++) {
+            char ch = value.charAt(idx);
+            if (ch == this.quote) buffer[position++] = ch;
+            buffer[position++] = ch;
+        }
+
+        buffer[position++] = this.quote;
+        this.length = position;
+    }
+
+    private void appendDecimal(boolean negative, long mantissa, int places) {
+        ensureCapacity(places + 22);
+
+        if (negative) this.chars[this.length++] = '-';
+
+        if (places == 0) {
+            appendLong(mantissa);
+            this.chars[this.length++] = '.';
+            this.chars[this.length++] = '0';
+            return;
+        }
+
+        long scale = LONG_POWERS_OF_TEN[places];
+        appendLong(mantissa / scale);
+        this.chars[this.length++] = '.';
+        appendDigits(mantissa % scale, places);
+    }
+
+    /**
+     * Appends a positive value as the specified number of digits, with any leading zeros.
+     */
+    private void appendDigits(long value, int digits) {
+        int end = this.length + digits;
+
+        for (int position = end - 1; position >= this.length; position--) {
+            this.chars[position] = (char)('0' + value % 10);
+            value /= 10;
+        }
+
+        this.length = end;
+    }
+
+    private boolean needsQuotes(String value) {
+        for (int idx = 0; idx < value.length(); idx++) {
+            char ch = value.charAt(idx);
+            if (ch == this.delimiter || ch == this.quote || ch == '\n' || ch == '\r') return true;
+        }
+
+        return false;
+    }
+
+    private void ensureCapacity(int required) {
+        if (this.length + required > this.chars.length)
+            this.chars = Arrays.copyOf(this.chars, Math.max(this.chars.length * 2, this.length + required));
+    }
+
+    private static final class IntFormatter extends CsvFormatter {
+
+        private final IntColumn column;
+
+        IntFormatter(IntColumn column, char delimiter, char quote, int batchSize) {
+            super(delimiter, quote, batchSize);
+            this.column = column;
+        }
+
+        @Override
+        void format(int[] rowIndexes, int from, int count) {
+            IntColumn column = this.column;
+            boolean hasNulls = column.hasNulls();
+            reset();
+
+            for (int idx = 0; idx < count; idx++) {
+                int row = rowAt(rowIndexes, from, idx);
+                if (!hasNulls || !column.isNull(row)) appendLong(column.getInt(row));
+                endField(idx);
+            }
+        }
+    }
+
+    private static final class LongFormatter extends CsvFormatter {
+
+        private final LongColumn column;
+
+        LongFormatter(LongColumn column, char delimiter, char quote, int batchSize) {
+            super(delimiter, quote, batchSize);
+            this.column = column;
+        }
+
+        @Override
+        void format(int[] rowIndexes, int from, int count) {
+            LongColumn column = this.column;
+            boolean hasNulls = column.hasNulls();
+            reset();
+
+            for (int idx = 0; idx < count; idx++) {
+                int row = rowAt(rowIndexes, from, idx);
+                if (!hasNulls || !column.isNull(row)) appendLong(column.getLong(row));
+                endField(idx);
+            }
+        }
+    }
+
+    private static final class DoubleFormatter extends CsvFormatter {
+
+        private final DoubleColumn column;
+
+        DoubleFormatter(DoubleColumn column, char delimiter, char quote, int batchSize) {
+            super(delimiter, quote, batchSize);
+            this.column = column;
+        }
+
+        @Override
+        void format(int[] rowIndexes, int from, int count) {
+            DoubleColumn column = this.column;
+            boolean hasNulls = column.hasNulls();
+            reset();
+
+            for (int idx = 0; idx < count; idx++) {
+                int row = rowAt(rowIndexes, from, idx);
+                if (!hasNulls || !column.isNull(row)) appendDouble(column.getDouble(row));
+                endField(idx);
+            }
+        }
+    }
+
+    private static final class BooleanFormatter extends CsvFormatter {
+
+        private final BooleanColumn column;
+
+        BooleanFormatter(BooleanColumn column, char delimiter, char quote, int batchSize) {
+            super(delimiter, quote, batchSize);
+            this.column = column;
+        }
+
+        @Override
+        void format(int[] rowIndexes, int from, int count) {
+            BooleanColumn column = this.column;
+            boolean hasNulls = column.hasNulls();
+            reset();
+
+            for (int idx = 0; idx < count; idx++) {
+                int row = rowAt(rowIndexes, from, idx);
+                if (!hasNulls || !column.isNull(row)) appendBoolean(column.getBoolean(row));
+                endField(idx);
+            }
+        }
+    }
+
+    private static final class DictionaryFormatter extends CsvFormatter {
+
+        private final DictionaryColumn column;
+        private final char[][] values;
+
+        DictionaryFormatter(DictionaryColumn column, char delimiter, char quote, int batchSize) {
+            super(delimiter, quote, batchSize);
+            this.column = column;
+
+            // Each distinct value is escaped once, then copied for every row.
+            this.values = new char[column.dictionarySize()][];
+            for (int code = 0; code < this.values.length; code++)
+                this.values[code] = escape(column.dictionaryValue(code), delimiter, quote).toCharArray();
+        }
+
+        @Override
+        void format(int[] rowIndexes, int from, int count) {
+            DictionaryColumn column = this.column;
+            reset();
+
+            for (int idx = 0; idx < count; idx++) {
+                int code = column.getCode(rowAt(rowIndexes, from, idx));
+                if (code >= 0) appendChars(this.values[code]);
+                endField(idx);
+            }
+        }
+    }
+
+    private static final class ValueFormatter extends CsvFormatter {
+
+        private final IDataColumn column;
+
+        ValueFormatter(IDataColumn column, char delimiter, char quote, int batchSize) {
+            super(delimiter, quote, batchSize);
+            this.column = column;
+        }
+
+        @Override
+        void format(int[] rowIndexes, int from, int count) {
+            reset();
+
+            for (int idx = 0; idx < count; idx++) {
+                Object value = this.column.valueAt(rowAt(rowIndexes, from, idx));
+
+                if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+                    appendLong(((Number)value).longValue());
+                else if (value instanceof Double)
+                    appendDouble((Double)value);
+                else if (value instanceof Boolean)
+                    appendBoolean((Boolean)value);
+                else if (value != null)
+                    appendText(value.toString());
+
+                endField(idx);
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.martincooper.datatable.csv;
+
+/**
+ * CsvOptions class. Controls how CSV files are read and written.
+ * By default the file is comma delimited, with double quotes around quoted fields, a header
+ * row holding the column names, and the column types inferred from the first 1000 rows.
+ * Only the delimiter, quote and header options apply when writing.
+ */
+public final class CsvOptions {
+
+    private static final CsvOptions DEFAULTS = new CsvOptions(',', '"', true, null, 1000, 0, null, false, 1);
+
+    private final char delimiter;
+    private final char quote;
+    private final boolean header;
+    private final Class<?>[] columnTypes;
+    private final int inferenceRows;
+    private final int maxDictionarySize;
+    private final String tableName;
+    private final boolean parallel;
+    private final int parallelism;
+
+    private CsvOptions(char delimiter, char quote, boolean header, Class<?>[] columnTypes,
+                       int inferenceRows, int maxDictionarySize, String tableName, boolean parallel, int parallelism) {
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.header = header;
+        this.columnTypes = columnTypes;
+        this.inferenceRows = inferenceRows;
+        this.maxDictionarySize = maxDictionarySize;
+        this.tableName = tableName;
+        this.parallel = parallel;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the default options, for a comma delimited file with a header row.
+     *
+     * @return Returns the CSV options.
+     */
+    public static CsvOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns the options with the specified field delimiter, such as '\t' for tab separated files.
+     *
+     * @param delimiter The delimiter, which must be an ASCII character.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions withDelimiter(char delimiter) {
+        checkAscii(delimiter, "delimiter");
+        return new CsvOptions(delimiter, this.quote, this.header, this.columnTypes,
+                this.inferenceRows, this.maxDictionarySize, this.tableName, this.parallel, this.parallelism);
+    }
+
+    /**
+     * Returns the options with the specified quote character.
+     *
+     * @param quote The quote character, which must be an ASCII character.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions withQuote(char quote) {
+        checkAscii(quote, "quote");
+        return new CsvOptions(this.delimiter, quote, this.header, this.columnTypes,
+                this.inferenceRows, this.maxDictionarySize, this.tableName, this.parallel, this.parallelism);
+    }
+
+    /**
+     * Returns the options specifying if the first row holds the column names.
+     * Without a header row, the columns are named Column1, Column2 and so on.
+     *
+     * @param header True if the file has a header row.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions withHeader(boolean header) {
+        return new CsvOptions(this.delimiter, this.quote, header, this.columnTypes,
+                this.inferenceRows, this.maxDictionarySize, this.tableName, this.parallel, this.parallelism);
+    }
+
+    /**
+     * Returns the options with the type of each column declared, rather than inferred.
+     * Supported types are Integer, Long, Double, Boolean and String.
+     *
+     * @param columnTypes The type of each column, in the order they appear in the file.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions withColumnTypes(Class<?>... columnTypes) {
+        for (Class<?> type : columnTypes) {
+            if (!CsvColumn.isSupported(type))
+                throw new IllegalArgumentException("Unsupported column type " + type.getSimpleName() + ".");
+        }
+
+        return new CsvOptions(this.delimiter, this.quote, this.header, columnTypes.clone(),
+                this.inferenceRows, this.maxDictionarySize, this.tableName, this.parallel, this.parallelism);
+    }
+
+    /**
+     * Returns the options with the number of rows used to infer the column types.
+     * Values after these rows which don't match the inferred types cause the read to fail.
+     *
+     * @param inferenceRows The number of rows.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions withInferenceRows(int inferenceRows) {
+        if (inferenceRows < 1)
+            throw new IllegalArgumentException("Invalid inference rows, must be at least 1.");
+
+        return new CsvOptions(this.delimiter, this.quote, this.header, this.columnTypes,
+                inferenceRows, this.maxDictionarySize, this.tableName, this.parallel, this.parallelism);
+    }
+
+    /**
+     * Returns the options with String columns dictionary encoded, where they have no more
+     * than the specified number of distinct values. See DataTableBuilder.withDictionaryEncoding.
+     *
+     * @param maxDistinctValues The maximum number of distinct values in an encoded column.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions withDictionaryEncoding(int maxDistinctValues) {
+        if (maxDistinctValues < 1)
+            throw new IllegalArgumentException("Invalid dictionary size, must be at least 1.");
+
+        return new CsvOptions(this.delimiter, this.quote, this.header, this.columnTypes,
+                this.inferenceRows, maxDistinctValues, this.tableName, this.parallel, this.parallelism);
+    }
+
+    /**
+     * Returns the options with the name of the tables created.
+     * By default, tables read from a file are named after the file.
+     *
+     * @param tableName The table name.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions withTableName(String tableName) {
+        return new CsvOptions(this.delimiter, this.quote, this.header, this.columnTypes,
+                this.inferenceRows, this.maxDictionarySize, tableName, this.parallel, this.parallelism);
+    }
+
+    /**
+     * Returns the options for reading a file in parallel, using the common fork / join pool.
+     * The file is split into ranges of bytes on record boundaries, which are parsed concurrently
+     * and then concatenated in file order. Only applies when reading a whole file.
+     *
+     * @return Returns the CSV options.
+     */
+    public CsvOptions parallel() {
+        return new CsvOptions(this.delimiter, this.quote, this.header, this.columnTypes,
+                this.inferenceRows, this.maxDictionarySize, this.tableName, true, 0);
+    }
+
+    /**
+     * Returns the options for reading a file in parallel, using a dedicated fork / join pool
+     * with the specified parallelism.
+     *
+     * @param parallelism The number of threads to read with.
+     * @return Returns the CSV options.
+     */
+    public CsvOptions parallel(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Invalid parallelism, must be at least 1.");
+
+        return new CsvOptions(this.delimiter, this.quote, this.header, this.columnTypes,
+                this.inferenceRows, this.maxDictionarySize, this.tableName, true, parallelism);
+    }
+
+    /**
+     * @return Returns the field delimiter.
+     */
+    public char delimiter() {
+        return this.delimiter;
+    }
+
+    /**
+     * @return Returns the quote character.
+     */
+    public char quote() {
+        return this.quote;
+    }
+
+    /**
+     * @return Returns true if the first row holds the column names.
+     */
+    public boolean hasHeader() {
+        return this.header;
+    }
+
+    /**
+     * @return Returns the declared column types, or null if they're inferred.
+     */
+    public Class<?>[] columnTypes() {
+        return this.columnTypes == null ? null : this.columnTypes.clone();
+    }
+
+    /**
+     * @return Returns the number of rows used to infer the column types.
+     */
+    public int inferenceRows() {
+        return this.inferenceRows;
+    }
+
+    /**
+     * @return Returns the maximum number of distinct values in a dictionary encoded column, or 0 if not encoded.
+     */
+    public int maxDictionarySize() {
+        return this.maxDictionarySize;
+    }
+
+    /**
+     * @return Returns the table name, or null if the default is used.
+     */
+    public String tableName() {
+        return this.tableName;
+    }
+
+    /**
+     * @return Returns true if files are read in parallel.
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Returns the requested parallelism, or 0 if the common pool is used.
+     * Sequential reads have a parallelism of 1.
+     *
+     * @return Returns the parallelism.
+     */
+    public int parallelism() {
+        return this.parallelism;
+    }
+
+    private static void checkAscii(char value, String name) {
+        if (value > 127 || value == '\n' || value == '\r')
+            throw new IllegalArgumentException("Invalid " + name + ", must be an ASCII character other than a line break.");
+    }
+}
@@ -0,0 +1,309 @@
+package com.github.martincooper.datatable.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CsvParser. Splits the bytes read from a channel into records and fields, without
+ * allocating per record or field. Fields are left in the parser's buffer, with any quotes
+ * removed, and are only valid until the next record is read.
+ *
+ * Records end with a line feed, or a carriage return and line feed, outside of quotes.
+ * A blank line is read as a record with a single empty field, which the reader skips
+ * unless the file has a single column. The delimiter and quote are ASCII, so the bytes can be split
+ * without decoding, as they never occur within a multi-byte UTF-8 character.
+ */
+final class CsvParser {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final byte delimiter;
+    private final byte quote;
+
+    private byte[] buffer;
+    private long discarded;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private boolean started;
+
+    private int scanPosition;
+    private boolean scanInQuotes;
+    private int scanLineBreaks;
+
+    private int[] starts;
+    private int[] ends;
+    private boolean[] quoted;
+    private int fieldCount;
+
+    private long lineNumber;
+    private long nextLineNumber;
+
+    /**
+     * CsvParser constructor.
+     *
+     * @param channel The channel to read from.
+     * @param delimiter The field delimiter.
+     * @param quote The quote character.
+     */
+    CsvParser(ReadableByteChannel channel, char delimiter, char quote) {
+        this(channel, delimiter, quote, 1, true);
+    }
+
+    /**
+     * CsvParser constructor, for reading part of a file.
+     *
+     * @param channel The channel to read from, starting at the beginning of a record.
+     * @param delimiter The field delimiter.
+     * @param quote The quote character.
+     * @param lineNumber The line number of the first record.
+     * @param startOfFile True if reading from the start of the file, where there may be a byte order mark.
+     */
+    CsvParser(ReadableByteChannel channel, char delimiter, char quote, long lineNumber, boolean startOfFile) {
+        this.channel = channel;
+        this.delimiter = (byte)delimiter;
+        this.quote = (byte)quote;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.starts = new int[16];
+        this.ends = new int[16];
+        this.quoted = new boolean[16];
+        this.nextLineNumber = lineNumber;
+        this.started = !startOfFile;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return Returns true if a record was read, or false at the end of the input.
+     * @throws IOException Thrown if the channel can't be read.
+     */
+    boolean next() throws IOException {
+        while (true) {
+            int recordEnd = scanRecordEnd();
+
+            if (recordEnd < 0) {
+                if (!this.endOfInput) {
+                    fill();
+                    continue;
+                }
+
+                if (this.position >= this.limit) return false;
+                recordEnd = this.limit;
+            }
+
+            int recordStart = this.position;
+            this.position = Math.min(recordEnd + 1, this.limit);
+            this.lineNumber = this.nextLineNumber;
+            this.nextLineNumber += 1 + this.scanLineBreaks;
+
+            this.scanPosition = this.position;
+            this.scanInQuotes = false;
+            this.scanLineBreaks = 0;
+
+            if (recordEnd > recordStart && this.buffer[recordEnd - 1] == '\r') recordEnd--;
+
+            splitFields(recordStart, recordEnd);
+            return true;
+        }
+    }
+
+    /**
+     * @return Returns the number of fields in the current record.
+     */
+    int fieldCount() {
+        return this.fieldCount;
+    }
+
+    /**
+     * @return Returns true if the current record is a blank line.
+     */
+    boolean isBlank() {
+        return this.fieldCount == 1 && this.starts[0] == this.ends[0] && !this.quoted[0];
+    }
+
+    /**
+     * @return Returns the line number the current record starts on, counting from 1.
+     */
+    long lineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * @return Returns the number of bytes read before the start of the next record.
+     */
+    long offset() {
+        return this.discarded + this.position;
+    }
+
+    /**
+     * @return Returns the line number the next record starts on.
+     */
+    long nextLineNumber() {
+        return this.nextLineNumber;
+    }
+
+    /**
+     * @return Returns the buffer holding the fields of the current record.
+     */
+    byte[] buffer() {
+        return this.buffer;
+    }
+
+    /**
+     * @param field The field index.
+     * @return Returns the position of the first byte of the field in the buffer.
+     */
+    int start(int field) {
+        return this.starts[field];
+    }
+
+    /**
+     * @param field The field index.
+     * @return Returns the position after the last byte of the field in the buffer.
+     */
+    int end(int field) {
+        return this.ends[field];
+    }
+
+    /**
+     * @param field The field index.
+     * @return Returns true if the field was quoted.
+     */
+    boolean isQuoted(int field) {
+        return this.quoted[field];
+    }
+
+    /**
+     * @param field The field index.
+     * @return Returns the field decoded as a String.
+     */
+    String text(int field) {
+        return new String(this.buffer, this.starts[field], this.ends[field] - this.starts[field], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Finds the end of the current record, continuing any previous scan.
+     *
+     * @return Returns the position of the line feed ending the record, or -1 if more input is required.
+     */
+    private int scanRecordEnd() {
+        byte[] buf = this.buffer;
+        boolean inQuotes = this.scanInQuotes;
+
+        for (int idx = this.scanPosition; idx < this.limit; idx++) {
+            byte value = buf[idx];
+
+            if (value == this.quote) {
+                inQuotes = !inQuotes;
+            } else if (value == '\n') {
+                if (!inQuotes) {
+                    this.scanInQuotes = false;
+                    return idx;
+                }
+
+                this.scanLineBreaks++;
+            }
+        }
+
+        this.scanPosition = this.limit;
+        this.scanInQuotes = inQuotes;
+        return -1;
+    }
+
+    /**
+     * Splits a record into fields, removing the quotes from quoted fields in place.
+     */
+    private void splitFields(int recordStart, int recordEnd) {
+        byte[] buf = this.buffer;
+        int idx = recordStart;
+        this.fieldCount = 0;
+
+        while (true) {
+            if (idx < recordEnd && buf[idx] == this.quote) {
+                int fieldStart = ++idx;
+                int write = idx;
+
+                while (idx < recordEnd) {
+                    byte value = buf[idx++];
+
+                    if (value != this.quote) {
+                        buf[write++] = value;
+                    } else if (idx < recordEnd && buf[idx] == this.quote) {
+                        buf[write++] = value;
+                        idx++;
+                    } else {
+                        break;
+                    }
+                }
+
+                addField(fieldStart, write, true);
+
+                // Any characters between the closing quote and the delimiter are ignored.
+                while (idx < recordEnd && buf[idx] != this.delimiter) idx++;
+            } else {
+                int fieldStart = idx;
+                while (idx < recordEnd && buf[idx] != this.delimiter) idx++;
+                addField(fieldStart, idx, false);
+            }
+
+            if (idx >= recordEnd) return;
+            idx++;
+        }
+    }
+
+    private void addField(int start, int end, boolean isQuoted) {
+        if (this.fieldCount == this.starts.length) {
+            int newLength = this.fieldCount * 2;
+            this.starts = Arrays.copyOf(this.starts, newLength);
+            this.ends = Arrays.copyOf(this.ends, newLength);
+            this.quoted = Arrays.copyOf(this.quoted, newLength);
+        }
+
+        this.starts[this.fieldCount] = start;
+        this.ends[this.fieldCount] = end;
+        this.quoted[this.fieldCount] = isQuoted;
+        this.fieldCount++;
+    }
+
+    /**
+     * Reads more input, moving any partial record to the start of the buffer first,
+     * and growing the buffer if the record doesn't fit.
+     */
+    private void fill() throws IOException {
+        if (this.position > 0) {
+            int remaining = this.limit - this.position;
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+
+            this.scanPosition -= this.position;
+            this.discarded += this.position;
+            this.limit = remaining;
+            this.position = 0;
+        }
+
+        if (this.limit == this.buffer.length)
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+
+        int count = this.channel.read(ByteBuffer.wrap(this.buffer, this.limit, this.buffer.length - this.limit));
+
+        if (count < 0) {
+            this.endOfInput = true;
+            return;
+        }
+
+        this.limit += count;
+
+        if (!this.started && this.limit >= 3) {
+            this.started = true;
+
+            // Skip any UTF-8 byte order mark.
+            if (this.buffer[0] == (byte)0xEF && this.buffer[1] == (byte)0xBB && this.buffer[2] == (byte)0xBF) {
+                this.position = 3;
+                this.scanPosition = 3;
+            }
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.github.martincooper.datatable.csv;
+
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import com.github.martincooper.datatable.DataTableException;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * CsvReader. Reads CSV files into DataTables, parsing each field straight into the
+ * primitive column buffers of a DataTableBuilder, with no per row or per field allocation
+ * other than for String values.
+ *
+ * The column types can be declared in the CsvOptions, or are otherwise inferred from the
+ * first rows of the file, choosing the narrowest of Integer, Long, Double, Boolean or
+ * String which can hold all the values seen.
+ *
+ * The whole file can be read into a single table, or read incrementally in chunks of rows,
+ * with each chunk returned as a separate table, so files larger than memory can be processed.
+ * Whole files can also be read in parallel, see CsvOptions.parallel.
+ */
+public final class CsvReader implements AutoCloseable {
+
+    private static final byte[] QUOTED_EMPTY = new byte[0];
+
+    private final ReadableByteChannel channel;
+    private final CsvParser parser;
+    private final CsvOptions options;
+    private final String tableName;
+    private final Vector<CsvColumn> columns;
+    private final ArrayList<byte[][]> sampleRows;
+    private final ArrayList<Long> sampleLines;
+    private final int maxDictionarySize;
+    private final long dataOffset;
+    private final long dataLineNumber;
+    private int sampleIndex;
+
+    private CsvReader(ReadableByteChannel channel, CsvParser parser, CsvOptions options, String tableName,
+                      Vector<CsvColumn> columns, ArrayList<byte[][]> sampleRows, ArrayList<Long> sampleLines,
+                      int maxDictionarySize, long dataOffset, long dataLineNumber) {
+        this.channel = channel;
+        this.parser = parser;
+        this.options = options;
+        this.tableName = tableName;
+        this.columns = columns;
+        this.sampleRows = sampleRows;
+        this.sampleLines = sampleLines;
+        this.maxDictionarySize = maxDictionarySize;
+        this.dataOffset = dataOffset;
+        this.dataLineNumber = dataLineNumber;
+        this.sampleIndex = 0;
+    }
+
+    /**
+     * Reads a CSV file into a DataTable, using the default options.
+     *
+     * @param path The file path.
+     * @return Returns the DataTable wrapped in a Try.
+     */
+    public static Try<DataTable> read(Path path) {
+        return read(path, CsvOptions.defaults());
+    }
+
+    /**
+     * Reads a CSV file into a DataTable.
+     *
+     * @param path The file path.
+     * @param options The CSV options.
+     * @return Returns the DataTable wrapped in a Try.
+     */
+    public static Try<DataTable> read(Path path, CsvOptions options) {
+        return options.isParallel()
+                ? ParallelCsvReader.read(path, options)
+                : open(path, options).flatMap(CsvReader::readAll);
+    }
+
+    /**
+     * Opens a CSV file to read in chunks, reading the header and any rows required to infer the column types.
+     *
+     * @param path The file path.
+     * @param options The CSV options.
+     * @return Returns the CsvReader wrapped in a Try, which must be closed after use.
+     */
+    public static Try<CsvReader> open(Path path, CsvOptions options) {
+        String tableName = options.tableName() != null ? options.tableName() : defaultTableName(path);
+        return Try.of(() -> FileChannel.open(path, StandardOpenOption.READ))
+                .flatMap(channel -> open(channel, options, tableName));
+    }
+
+    /**
+     * Opens a stream of CSV data to read in chunks, reading the header and any rows required to infer
+     * the column types. The stream is closed when the reader is closed.
+     *
+     * @param stream The input stream.
+     * @param options The CSV options.
+     * @return Returns the CsvReader wrapped in a Try, which must be closed after use.
+     */
+    public static Try<CsvReader> open(InputStream stream, CsvOptions options) {
+        String tableName = options.tableName() != null ? options.tableName() : "";
+        return open(Channels.newChannel(stream), options, tableName);
+    }
+
+    /**
+     * @return Returns the names of the columns.
+     */
+    public Vector<String> columnNames() {
+        return this.columns.map(CsvColumn::name);
+    }
+
+    /**
+     * @return Returns the types of the columns, either as declared or inferred.
+     */
+    public Vector<Class<?>> columnTypes() {
+        return this.columns.map(CsvColumn::type);
+    }
+
+    /**
+     * Reads the next chunk of rows into a new DataTable.
+     *
+     * @param maxRows The maximum number of rows in the table.
+     * @return Returns the table, None at the end of the file, or a Failure if the file couldn't be read.
+     */
+    public Try<Option<DataTable>> readChunk(int maxRows) {
+        if (maxRows < 1)
+            return DataTableException.tryError("Invalid chunk size, must be at least 1.");
+
+        return Try.of(() -> readRows(maxRows))
+                .flatMap(builder -> builder == null
+                        ? Try.success(Option.<DataTable>none())
+                        : builder.freeze().map(Option::some));
+    }
+
+    /**
+     * Reads all the remaining rows into a new DataTable, and closes the reader.
+     *
+     * @return Returns the DataTable wrapped in a Try.
+     */
+    public Try<DataTable> readAll() {
+        try (CsvReader reader = this) {
+            return Try.of(() -> reader.readRows(Integer.MAX_VALUE))
+                    .flatMap(builder -> builder == null ? createBuilder(0).freeze() : builder.freeze());
+        }
+    }
+
+    /**
+     * Closes the underlying file or stream.
+     */
+    @Override
+    public void close() {
+        try {
+            this.channel.close();
+        } catch (IOException ex) {
+            // Nothing further can be read, so there's nothing to recover.
+        }
+    }
+
+    /**
+     * Creates a reader for a range of the same file, starting at the beginning of a record,
+     * with the same columns. The rows read from it aren't dictionary encoded.
+     *
+     * @param rangeChannel The channel to read the range from.
+     * @param lineNumber The line number of the first record in the range.
+     * @param startOfFile True if the range starts at the beginning of the file.
+     * @return Returns the new reader.
+     */
+    CsvReader rangeReader(ReadableByteChannel rangeChannel, long lineNumber, boolean startOfFile) {
+        CsvParser rangeParser = new CsvParser(rangeChannel, this.options.delimiter(), this.options.quote(),
+                lineNumber, startOfFile);
+
+        return new CsvReader(rangeChannel, rangeParser, this.options, this.tableName, this.columns,
+                new ArrayList<>(), new ArrayList<>(), 0, 0, lineNumber);
+    }
+
+    /**
+     * @return Returns the position in the file of the first record after the header.
+     */
+    long dataOffset() {
+        return this.dataOffset;
+    }
+
+    /**
+     * @return Returns the line number of the first record after the header.
+     */
+    long dataLineNumber() {
+        return this.dataLineNumber;
+    }
+
+    /**
+     * @return Returns the CSV options.
+     */
+    CsvOptions options() {
+        return this.options;
+    }
+
+    /**
+     * @return Returns the table name.
+     */
+    String tableName() {
+        return this.tableName;
+    }
+
+    private static Try<CsvReader> open(ReadableByteChannel channel, CsvOptions options, String tableName) {
+        Try<CsvReader> reader = Try.of(() -> create(channel, options, tableName));
+        if (reader.isFailure()) closeQuietly(channel);
+        return reader;
+    }
+
+    private static CsvReader create(ReadableByteChannel channel, CsvOptions options, String tableName)
+            throws IOException, DataTableException {
+
+        CsvParser parser = new CsvParser(channel, options.delimiter(), options.quote());
+        Class<?>[] declaredTypes = options.columnTypes();
+
+        String[] names = null;
+
+        if (options.hasHeader()) {
+            boolean hasHeader;
+            while ((hasHeader = parser.next()) && parser.isBlank()) { }
+
+            if (!hasHeader) throw new DataTableException("CSV file has no header row.");
+
+            names = new String[parser.fieldCount()];
+            for (int idx = 0; idx < names.length; idx++)
+                names[idx] = parser.text(idx);
+        }
+
+        long dataOffset = parser.offset();
+        long dataLineNumber = parser.nextLineNumber();
+
+        // Keep a copy of the rows used to infer the types, to be added to the first chunk.
+        int sampleSize = declaredTypes == null ? options.inferenceRows() : 0;
+        ArrayList<byte[][]> sampleRows = new ArrayList<>();
+        ArrayList<Long> sampleLines = new ArrayList<>();
+
+        while (sampleRows.size() < sampleSize && parser.next()) {
+            byte[][] fields = new byte[parser.fieldCount()][];
+
+            for (int idx = 0; idx < fields.length; idx++) {
+                fields[idx] = parser.isQuoted(idx) && parser.start(idx) == parser.end(idx)
+                        ? QUOTED_EMPTY
+                        : Arrays.copyOfRange(parser.buffer(), parser.start(idx), parser.end(idx));
+            }
+
+            sampleRows.add(fields);
+            sampleLines.add(parser.lineNumber());
+        }
+
+        int columnCount = names != null ? names.length
+                : declaredTypes != null ? declaredTypes.length
+                : sampleColumnCount(sampleRows);
+
+        if (declaredTypes != null && declaredTypes.length != columnCount)
+            throw new DataTableException("Number of column types does not match number of columns.");
+
+        CsvColumn[] columns = new CsvColumn[columnCount];
+
+        for (int idx = 0; idx < columnCount; idx++) {
+            String name = names != null ? names[idx] : "Column" + (idx + 1);
+            Class<?> type = declaredTypes != null ? declaredTypes[idx] : inferType(sampleRows, idx);
+            columns[idx] = CsvColumn.create(type, name, idx);
+        }
+
+        return new CsvReader(channel, parser, options, tableName, Vector.of(columns), sampleRows, sampleLines,
+                options.maxDictionarySize(), dataOffset, dataLineNumber);
+    }
+
+    /**
+     * Reads up to the specified number of rows into a new builder.
+     *
+     * @return Returns the builder, or null if there are no more rows.
+     */
+    private DataTableBuilder readRows(int maxRows) throws IOException, DataTableException {
+        DataTableBuilder builder = null;
+        int rowCount = 0;
+
+        while (rowCount < maxRows && this.sampleIndex < this.sampleRows.size()) {
+            byte[][] fields = this.sampleRows.get(this.sampleIndex);
+            long lineNumber = this.sampleLines.get(this.sampleIndex);
+            this.sampleRows.set(this.sampleIndex++, null);
+
+            if (skipBlank(isBlank(fields))) continue;
+            if (builder == null) builder = createBuilder(Math.min(maxRows, this.sampleRows.size()));
+
+            checkFieldCount(fields.length, lineNumber);
+
+            for (int idx = 0; idx < fields.length; idx++)
+                appendField(builder, idx, fields[idx], 0, fields[idx].length, fields[idx] == QUOTED_EMPTY, lineNumber);
+
+            rowCount++;
+        }
+
+        CsvParser parser = this.parser;
+
+        while (rowCount < maxRows && parser.next()) {
+            if (skipBlank(parser.isBlank())) continue;
+            if (builder == null) builder = createBuilder(Math.min(maxRows, 1024));
+
+            int fieldCount = parser.fieldCount();
+            checkFieldCount(fieldCount, parser.lineNumber());
+
+            byte[] buffer = parser.buffer();
+            for (int idx = 0; idx < fieldCount; idx++)
+                appendField(builder, idx, buffer, parser.start(idx), parser.end(idx), parser.isQuoted(idx), parser.lineNumber());
+
+            rowCount++;
+        }
+
+        return builder;
+    }
+
+    /**
+     * Blank lines are skipped, unless there's a single column, where they hold a null or empty value.
+     */
+    private boolean skipBlank(boolean isBlank) {
+        return isBlank && this.columns.length() != 1;
+    }
+
+    private static boolean isBlank(byte[][] fields) {
+        return fields.length == 1 && fields[0].length == 0 && fields[0] != QUOTED_EMPTY;
+    }
+
+    private void checkFieldCount(int fieldCount, long lineNumber) throws DataTableException {
+        if (fieldCount != this.columns.length())
+            throw new DataTableException("Line " + lineNumber + " has " + fieldCount
+                    + " fields, expected " + this.columns.length() + ".");
+    }
+
+    private void appendField(DataTableBuilder builder, int columnIndex, byte[] buffer, int start, int end,
+                             boolean quoted, long lineNumber) throws DataTableException {
+
+        CsvColumn column = this.columns.get(columnIndex);
+
+        try {
+            column.append(builder, buffer, start, end, quoted);
+        } catch (NumberFormatException ex) {
+            throw new DataTableException("Invalid value '" + CsvColumn.text(buffer, start, end)
+                    + "' for column '" + column.name() + "' on line " + lineNumber + ".");
+        }
+    }
+
+    private DataTableBuilder createBuilder(int capacity) {
+        DataTableBuilder builder = DataTableBuilder.create(this.tableName).withCapacity(capacity);
+
+        for (CsvColumn column : this.columns)
+            builder.withColumn(column.type(), column.name());
+
+        if (this.maxDictionarySize > 0)
+            builder.withDictionaryEncoding(this.maxDictionarySize);
+
+        return builder;
+    }
+
+    /**
+     * @return Returns the number of fields in the first sample row which isn't a blank line.
+     */
+    private static int sampleColumnCount(ArrayList<byte[][]> sampleRows) {
+        for (byte[][] fields : sampleRows) {
+            if (!isBlank(fields)) return fields.length;
+        }
+
+        return sampleRows.isEmpty() ? 0 : 1;
+    }
+
+    /**
+     * Infers the type of a column, as the narrowest type which can hold all the sample values.
+     */
+    private static Class<?> inferType(ArrayList<byte[][]> sampleRows, int column) {
+        boolean isInt = true, isLong = true, isDouble = true, isBoolean = true;
+        boolean hasValues = false;
+
+        for (byte[][] fields : sampleRows) {
+            if (column >= fields.length || fields[column].length == 0) continue;
+
+            byte[] value = fields[column];
+            hasValues = true;
+
+            if (isLong) {
+                try {
+                    long parsed = CsvColumn.parseLong(value, 0, value.length);
+                    isInt &= parsed == (int)parsed;
+                } catch (NumberFormatException ex) {
+                    isInt = isLong = false;
+                }
+            }
+
+            if (isDouble && !isLong) isDouble = parses(() -> CsvColumn.parseDouble(value, 0, value.length));
+            if (isBoolean) isBoolean = parses(() -> CsvColumn.parseBoolean(value, 0, value.length));
+        }
+
+        if (!hasValues) return String.class;
+        if (isInt) return Integer.class;
+        if (isLong) return Long.class;
+        if (isDouble) return Double.class;
+        if (isBoolean) return Boolean.class;
+        return String.class;
+    }
+
+    private static boolean parses(Runnable parse) {
+        try {
+            parse.run();
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static String defaultTableName(Path path) {
+        Path fileName = path.getFileName();
+        if (fileName == null) return "";
+
+        String name = fileName.toString();
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
+    private static void closeQuietly(ReadableByteChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            // Already failed, so the original error is reported.
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.github.martincooper.datatable.csv;
+
+import com.github.martincooper.datatable.DataRowCollection;
+import com.github.martincooper.datatable.DataView;
+import com.github.martincooper.datatable.IBaseTable;
+import com.github.martincooper.datatable.IDataColumn;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CsvWriter. Writes DataTables and DataViews as CSV files, using the delimiter, quote and
+ * header settings of the CsvOptions. Rows are written in batches, with each column of a
+ * batch formatted in turn into its own buffer, then the fields copied out row by row into
+ * a single output buffer. There's no per row allocation, and primitive columns are formatted
+ * without boxing, so writing is much faster than formatting the data of each DataRow.
+ *
+ * Records end with a line feed. Doubles are written with the fewest digits which read
+ * back as exactly the same value.
+ */
+public final class CsvWriter {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer writer;
+    private final CsvOptions options;
+    private final char[] buffer;
+    private int length;
+
+    private CsvWriter(Writer writer, CsvOptions options) {
+        this.writer = writer;
+        this.options = options;
+        this.buffer = new char[BUFFER_SIZE];
+        this.length = 0;
+    }
+
+    /**
+     * Writes a table or view to a CSV file, using the default options.
+     *
+     * @param table The table or view.
+     * @param path The file path, replacing any existing file.
+     * @return Returns a Success, or a Failure if the file couldn't be written.
+     */
+    public static Try<Void> write(IBaseTable table, Path path) {
+        return write(table, path, CsvOptions.defaults());
+    }
+
+    /**
+     * Writes a table or view to a CSV file, encoded as UTF-8.
+     *
+     * @param table The table or view.
+     * @param path The file path, replacing any existing file.
+     * @param options The CSV options.
+     * @return Returns a Success, or a Failure if the file couldn't be written.
+     */
+    public static Try<Void> write(IBaseTable table, Path path, CsvOptions options) {
+        return Try.run(() -> {
+            try (OutputStream stream = Files.newOutputStream(path)) {
+                new CsvWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), options).writeTable(table);
+            }
+        });
+    }
+
+    /**
+     * Writes a table or view to a stream, encoded as UTF-8. The stream is flushed but not closed.
+     *
+     * @param table The table or view.
+     * @param stream The output stream.
+     * @param options The CSV options.
+     * @return Returns a Success, or a Failure if the stream couldn't be written.
+     */
+    public static Try<Void> write(IBaseTable table, OutputStream stream, CsvOptions options) {
+        return write(table, new OutputStreamWriter(stream, StandardCharsets.UTF_8), options);
+    }
+
+    /**
+     * Writes a table or view to a writer. The writer is flushed but not closed.
+     * Output is buffered, so the writer doesn't need to be.
+     *
+     * @param table The table or view.
+     * @param writer The writer.
+     * @param options The CSV options.
+     * @return Returns a Success, or a Failure if the writer couldn't be written.
+     */
+    public static Try<Void> write(IBaseTable table, Writer writer, CsvOptions options) {
+        return Try.run(() -> new CsvWriter(writer, options).writeTable(table));
+    }
+
+    private void writeTable(IBaseTable table) throws IOException {
+        IDataColumn[] columns = table.columns().map(col -> col).toJavaList().toArray(new IDataColumn[0]);
+        char delimiter = this.options.delimiter();
+        char quote = this.options.quote();
+
+        if (this.options.hasHeader() && columns.length > 0) {
+            for (int col = 0; col < columns.length; col++) {
+                if (col > 0) write(delimiter);
+                write(CsvFormatter.escape(columns[col].name(), delimiter, quote).toCharArray());
+            }
+
+            write('\n');
+        }
+
+        // Views share the columns of their table, so their rows are written using their indexes into it,
+        // copied a batch at a time rather than copying the whole selection.
+        DataRowCollection viewRows = table instanceof DataView ? ((DataView)table).rows() : null;
+        int rowCount = columns.length == 0 ? 0 : table.rowCount();
+        int[] batchRows = viewRows == null ? null : new int[Math.min(BATCH_SIZE, rowCount)];
+
+        CsvFormatter[] formatters = new CsvFormatter[columns.length];
+        for (int col = 0; col < columns.length; col++)
+            formatters[col] = CsvFormatter.create(columns[col], delimiter, quote, BATCH_SIZE);
+
+        for (int from = 0; from < rowCount; from += BATCH_SIZE) {
+            int count = Math.min(BATCH_SIZE, rowCount - from);
+            int offset = from;
+
+            if (viewRows != null) {
+                viewRows.copyRowIndexes(from, batchRows, 0, count);
+                offset = 0;
+            }
+
+            for (CsvFormatter formatter : formatters)
+                formatter.format(batchRows, offset, count);
+
+            for (int idx = 0; idx < count; idx++) {
+                for (int col = 0; col < formatters.length; col++) {
+                    CsvFormatter formatter = formatters[col];
+                    int start = formatter.start(idx);
+                    write(formatter.chars(), start, formatter.end(idx) - start);
+                    write(col < formatters.length - 1 ? delimiter : '\n');
+                }
+            }
+        }
+
+        flush();
+    }
+
+    private void write(char value) throws IOException {
+        if (this.length == this.buffer.length) flushBuffer();
+        this.buffer[this.length++] = value;
+    }
+
+    private void write(char[] chars) throws IOException {
+        write(chars, 0, chars.length);
+    }
+
+    private void write(char[] chars, int start, int count) throws IOException {
+        if (this.length + count > this.buffer.length) {
+            flushBuffer();
+
+            if (count > this.buffer.length) {
+                this.writer.write(chars, start, count);
+                return;
+            }
+        }
+
+        System.arraycopy(chars, start, this.buffer, this.length, count);
+        this.length += count;
+    }
+
+    private void flushBuffer() throws IOException {
+        this.writer.write(this.buffer, 0, this.length);
+        this.length = 0;
+    }
+
+    private void flush() throws IOException {
+        flushBuffer();
+        this.writer.flush();
+    }
+}
@@ -0,0 +1,309 @@
+package com.github.martincooper.datatable.csv;
+
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableException;
+import com.github.martincooper.datatable.DictionaryColumn;
+import com.github.martincooper.datatable.IDataColumn;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * ParallelCsvReader. Reads a CSV file by splitting it into ranges of bytes, which are
+ * parsed concurrently into separate tables, then concatenated in file order.
+ *
+ * Each range has to start at the beginning of a record, but a line feed within a quoted
+ * field doesn't end a record, so the next line feed after an arbitrary position isn't
+ * necessarily a record boundary. Instead, the file is split at arbitrary positions, and
+ * the quotes in each part are counted in parallel. Every quote toggles between being in
+ * and out of a quoted field, so the running total of the counts gives the quote state at
+ * each split, and each range then starts after the first line feed outside of quotes.
+ * The line feeds are counted at the same time, so errors report the correct line numbers.
+ */
+final class ParallelCsvReader {
+
+    private static final long MIN_RANGE_SIZE = 1 << 20;
+    private static final int RANGES_PER_THREAD = 4;
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    private ParallelCsvReader() {
+    }
+
+    /**
+     * Reads a CSV file into a DataTable in parallel.
+     *
+     * @param path The file path.
+     * @param options The CSV options.
+     * @return Returns the DataTable wrapped in a Try.
+     */
+    static Try<DataTable> read(Path path, CsvOptions options) {
+        if (options.parallelism() == 0)
+            return read(path, options, ForkJoinPool.commonPool());
+
+        ForkJoinPool pool = new ForkJoinPool(options.parallelism());
+
+        try {
+            return read(path, options, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Try<DataTable> read(Path path, CsvOptions options, ForkJoinPool pool) {
+        return CsvReader.open(path, options)
+                .flatMap(schema -> Try.of(() -> readRanges(path, schema, pool))
+                        .flatMap(tables -> DataTable.concat(schema.tableName(), tables)))
+                .flatMap(table -> encodeStrings(table, options.maxDictionarySize()));
+    }
+
+    /**
+     * Reads each range of the file into a separate table, returned in file order.
+     * The schema reader has already read the header and inferred the column types.
+     */
+    private static List<DataTable> readRanges(Path path, CsvReader schema, ForkJoinPool pool)
+            throws IOException, DataTableException {
+
+        try (CsvReader reader = schema;
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            long fileSize = channel.size();
+            long[] splits = splitPositions(reader.dataOffset(), fileSize, pool.getParallelism());
+            int rangeCount = splits.length - 1;
+            byte quote = (byte)reader.options().quote();
+
+            List<Callable<long[]>> countTasks = new ArrayList<>(rangeCount);
+            for (int idx = 0; idx < rangeCount; idx++) {
+                long start = splits[idx], end = splits[idx + 1];
+                countTasks.add(() -> count(channel, start, end, quote));
+            }
+
+            // The quote state and line number at each split, from the counts of the ranges before it.
+            boolean[] inQuotes = new boolean[rangeCount];
+            long[] lineNumbers = new long[rangeCount];
+            long quoteCount = 0;
+            long lineNumber = reader.dataLineNumber();
+            int rangeIdx = 0;
+
+            for (long[] counts : invokeAll(pool, countTasks)) {
+                inQuotes[rangeIdx] = (quoteCount & 1) == 1;
+                lineNumbers[rangeIdx++] = lineNumber;
+                quoteCount += counts[0];
+                lineNumber += counts[1];
+            }
+
+            List<Callable<DataTable>> readTasks = new ArrayList<>(rangeCount);
+            for (int idx = 0; idx < rangeCount; idx++) {
+                int range = idx;
+                readTasks.add(() -> readRange(channel, fileSize, reader, splits, inQuotes, lineNumbers, range));
+            }
+
+            return invokeAll(pool, readTasks);
+        }
+    }
+
+    /**
+     * Reads the records starting within a range, which can run past the end of the range
+     * up to the first record starting in the next range.
+     */
+    private static DataTable readRange(FileChannel channel, long fileSize, CsvReader schema, long[] splits,
+                                       boolean[] inQuotes, long[] lineNumbers, int range)
+            throws IOException, DataTableException {
+
+        byte quote = (byte)schema.options().quote();
+        long start = splits[range];
+        long lineNumber = lineNumbers[range];
+
+        if (range > 0) {
+            long[] recordStart = findRecordStart(channel, start, fileSize, inQuotes[range], quote);
+            start = recordStart[0];
+            lineNumber += recordStart[1];
+        }
+
+        long end = range + 2 < splits.length
+                ? findRecordStart(channel, splits[range + 1], fileSize, inQuotes[range + 1], quote)[0]
+                : fileSize;
+
+        CsvReader reader = schema.rangeReader(new RangeChannel(channel, start, end), lineNumber, start == 0);
+        return reader.readAll().get();
+    }
+
+    /**
+     * Splits the data into ranges, enough to keep each thread busy, but not too small.
+     *
+     * @return Returns the positions of the splits, starting with the data offset and ending with the file size.
+     */
+    private static long[] splitPositions(long dataOffset, long fileSize, int parallelism) {
+        long dataSize = Math.max(0, fileSize - dataOffset);
+        long maxRanges = (dataSize + MIN_RANGE_SIZE - 1) / MIN_RANGE_SIZE;
+        int rangeCount = (int)Math.max(1, Math.min((long)parallelism * RANGES_PER_THREAD, maxRanges));
+
+        long[] splits = new long[rangeCount + 1];
+        for (int idx = 0; idx <= rangeCount; idx++)
+            splits[idx] = dataOffset + dataSize * idx / rangeCount;
+
+        return splits;
+    }
+
+    /**
+     * Counts the quotes and line feeds in a range.
+     *
+     * @return Returns the number of quotes and the number of line feeds.
+     */
+    private static long[] count(FileChannel channel, long start, long end, byte quote) throws IOException {
+        byte[] block = new byte[BLOCK_SIZE];
+        long quotes = 0;
+        long lineFeeds = 0;
+
+        for (long position = start; position < end; ) {
+            int length = read(channel, block, position, end);
+            if (length == 0) break;
+
+            for (int idx = 0; idx < length; idx++) {
+                byte value = block[idx];
+
+                if (value == quote) quotes++;
+                else if (value == '\n') lineFeeds++;
+            }
+
+            position += length;
+        }
+
+        return new long[] { quotes, lineFeeds };
+    }
+
+    /**
+     * Finds the start of the first record after a position, skipping to the first line feed outside of quotes.
+     *
+     * @return Returns the position of the record, or the file size if there isn't one, and the number of line feeds skipped.
+     */
+    private static long[] findRecordStart(FileChannel channel, long position, long fileSize, boolean inQuotes, byte quote)
+            throws IOException {
+
+        byte[] block = new byte[BLOCK_SIZE];
+        long lineFeeds = 0;
+
+        while (position < fileSize) {
+            int length = read(channel, block, position, fileSize);
+            if (length == 0) break;
+
+            for (int idx = 0; idx < length; idx++) {
+                byte value = block[idx];
+
+                if (value == quote) {
+                    inQuotes = !inQuotes;
+                } else if (value == '\n') {
+                    lineFeeds++;
+                    if (!inQuotes) return new long[] { position + idx + 1, lineFeeds };
+                }
+            }
+
+            position += length;
+        }
+
+        return new long[] { fileSize, lineFeeds };
+    }
+
+    /**
+     * Reads a block of bytes from a position, without moving the channel's position,
+     * so the channel can be shared between threads.
+     */
+    private static int read(FileChannel channel, byte[] block, long position, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(block, 0, (int)Math.min(block.length, end - position));
+        int length = 0;
+
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer, position + length);
+            if (count < 0) break;
+            length += count;
+        }
+
+        return length;
+    }
+
+    private static Try<DataTable> encodeStrings(DataTable table, int maxDictionarySize) {
+        if (maxDictionarySize == 0) return Try.success(table);
+
+        return DataTable.build(table.name(), table.columns()
+                .map(column -> DictionaryColumn.tryEncode(column, maxDictionarySize)
+                        .<IDataColumn>map(encoded -> encoded)
+                        .getOrElse(column)));
+    }
+
+    private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) throws DataTableException {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        for (Future<T> future : pool.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException ex) {
+                // Report the first failure in file order, such as an invalid value, which
+                // the pool may have wrapped in another exception.
+                for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+                    if (cause instanceof DataTableException) throw (DataTableException)cause;
+                }
+
+                throw new DataTableException("Parallel CSV read failed.", ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new DataTableException("Parallel CSV read was interrupted.", ex);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * RangeChannel. Reads a range of a file channel, using positional reads,
+     * so a separate range can be read by each thread.
+     */
+    private static final class RangeChannel implements ReadableByteChannel {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        RangeChannel(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(ByteBuffer destination) throws IOException {
+            if (this.position >= this.end) return -1;
+
+            ByteBuffer slice = destination.duplicate();
+            int length = (int)Math.min(slice.remaining(), this.end - this.position);
+            ((Buffer)slice).limit(slice.position() + length);
+
+            int count = this.channel.read(slice, this.position);
+            if (count <= 0) return count;
+
+            this.position += count;
+            ((Buffer)destination).position(destination.position() + count);
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // The file channel is shared between the ranges, and closed once they've all been read.
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.martincooper.datatable.filtering;
+
+/**
+ * CompareOp Enumeration. The comparison operators supported by filters.
+ */
+enum CompareOp {
+    Equal("=="),
+    NotEqual("!="),
+    GreaterThan(">"),
+    GreaterThanOrEqual(">="),
+    LessThan("<"),
+    LessThanOrEqual("<=");
+
+    private final String symbol;
+
+    CompareOp(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns true if a compare result satisfies this operator.
+     *
+     * @param compareResult The result of comparing the column value with the filter value.
+     * @return Returns true if the value matches.
+     */
+    boolean matches(int compareResult) {
+        switch (this) {
+            case Equal: return compareResult == 0;
+            case NotEqual: return compareResult != 0;
+            case GreaterThan: return compareResult > 0;
+            case GreaterThanOrEqual: return compareResult >= 0;
+            case LessThan: return compareResult < 0;
+            default: return compareResult <= 0;
+        }
+    }
+
+    /**
+     * @return Returns true if this operator requires the values to be ordered.
+     */
+    boolean isOrdering() {
+        return this != Equal && this != NotEqual;
+    }
+
+    @Override
+    public String toString() {
+        return this.symbol;
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.martincooper.datatable.filtering;
+
+import com.github.martincooper.datatable.*;
+import io.vavr.control.Try;
+
+import java.lang.reflect.Type;
+import java.util.BitSet;
+
+/**
+ * ComparisonFilter. Matches the rows where a column compares to a value using an operator.
+ *
+ * Primitive columns are compared in a tight loop directly over their values, without
+ * boxing, and dictionary encoded columns are compared using their codes. Any other
+ * columns are compared using their boxed values. Comparisons with null values are unknown,
+ * so never match, and nulls are only checked for in primitive columns which contain them.
+ */
+final class ComparisonFilter extends Filter {
+
+    private final String columnName;
+    private final CompareOp compareOp;
+    private final Object value;
+
+    /**
+     * ComparisonFilter constructor.
+     *
+     * @param columnName The column name.
+     * @param compareOp The comparison operator.
+     * @param value The value to compare with.
+     */
+    ComparisonFilter(String columnName, CompareOp compareOp, Object value) {
+        this.columnName = columnName;
+        this.compareOp = compareOp;
+        this.value = value;
+    }
+
+    @Override
+    Try<Matches> evaluateRows(DataTable table, int[] rowIndexes) {
+        return table.columns()
+                .tryGet(this.columnName)
+                .flatMap(column -> evaluate(column, rowIndexes));
+    }
+
+    private Try<Matches> evaluate(IDataColumn column, int[] rowIndexes) {
+        PrimitiveColumn.checkReadable(column);
+
+        BitSet matches = new BitSet(rowIndexes.length);
+        BitSet unknown = new BitSet();
+
+        if (column instanceof PrimitiveColumn)
+            return evaluate((PrimitiveColumn<?>)column, rowIndexes, matches)
+                    .map(primitiveMatches -> clearNulls((PrimitiveColumn<?>)column, rowIndexes, primitiveMatches, unknown));
+
+        if (isNumeric(column.type()) && this.value instanceof Number)
+            return Try.success(new Matches(matchNumbers(column, rowIndexes, matches, unknown), unknown));
+
+        if (!(column.type() instanceof Class) || !((Class<?>)column.type()).isInstance(this.value))
+            return notSupported(column);
+
+        if (this.compareOp.isOrdering() && !column.IsComparable())
+            return DataTableException.tryError(errorPrefix(column) + "doesn't support comparable.");
+
+        return Try.success(new Matches(matchObjects(column, rowIndexes, matches, unknown), unknown));
+    }
+
+    private Try<BitSet> evaluate(PrimitiveColumn<?> column, int[] rowIndexes, BitSet matches) {
+        boolean isIntegralValue = isIntegral(this.value.getClass());
+
+        if (column instanceof IntColumn && isIntegralValue)
+            return Try.success(matchInts((IntColumn)column, rowIndexes, ((Number)this.value).longValue(), matches));
+
+        if (column instanceof LongColumn && isIntegralValue)
+            return Try.success(matchLongs((LongColumn)column, rowIndexes, ((Number)this.value).longValue(), matches));
+
+        if (column instanceof IntColumn || column instanceof LongColumn || column instanceof DoubleColumn) {
+            if (!(this.value instanceof Number)) return notSupported(column);
+            return Try.success(matchDoubles(column, rowIndexes, ((Number)this.value).doubleValue(), matches));
+        }
+
+        if (column instanceof BooleanColumn) {
+            if (!(this.value instanceof Boolean)) return notSupported(column);
+            return Try.success(matchBooleans((BooleanColumn)column, rowIndexes, (Boolean)this.value, matches));
+        }
+
+        if (!(this.value instanceof String)) return notSupported(column);
+        return Try.success(matchCodes((DictionaryColumn)column, rowIndexes, matches));
+    }
+
+    // Null rows hold a default value which may have matched, so are moved from the matches to the unknown rows.
+    private static Matches clearNulls(PrimitiveColumn<?> column, int[] rowIndexes, BitSet matches, BitSet unknown) {
+        if (!column.hasNulls()) return new Matches(matches, unknown);
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (column.isNull(rowIndexes[idx])) unknown.set(idx);
+        }
+
+        matches.andNot(unknown);
+        return new Matches(matches, unknown);
+    }
+
+    private BitSet matchInts(IntColumn column, int[] rowIndexes, long value, BitSet matches) {
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (this.compareOp.matches(Long.compare(column.getInt(rowIndexes[idx]), value)))
+                matches.set(idx);
+        }
+
+        return matches;
+    }
+
+    private BitSet matchLongs(LongColumn column, int[] rowIndexes, long value, BitSet matches) {
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (this.compareOp.matches(Long.compare(column.getLong(rowIndexes[idx]), value)))
+                matches.set(idx);
+        }
+
+        return matches;
+    }
+
+    private BitSet matchDoubles(IDataColumn column, int[] rowIndexes, double value, BitSet matches) {
+        if (column instanceof DoubleColumn) {
+            DoubleColumn doubleColumn = (DoubleColumn)column;
+
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                if (this.compareOp.matches(Double.compare(doubleColumn.getDouble(rowIndexes[idx]), value)))
+                    matches.set(idx);
+            }
+        } else if (column instanceof IntColumn) {
+            IntColumn intColumn = (IntColumn)column;
+
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                if (this.compareOp.matches(Double.compare(intColumn.getInt(rowIndexes[idx]), value)))
+                    matches.set(idx);
+            }
+        } else {
+            LongColumn longColumn = (LongColumn)column;
+
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                if (this.compareOp.matches(Double.compare(longColumn.getLong(rowIndexes[idx]), value)))
+                    matches.set(idx);
+            }
+        }
+
+        return matches;
+    }
+
+    private BitSet matchBooleans(BooleanColumn column, int[] rowIndexes, boolean value, BitSet matches) {
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (this.compareOp.matches(Boolean.compare(column.getBoolean(rowIndexes[idx]), value)))
+                matches.set(idx);
+        }
+
+        return matches;
+    }
+
+    // Dictionary encoded columns, compared by code. Codes are in value order, so the value is
+    // given a position between the codes, of twice its code, or one less than twice its insertion point.
+    private BitSet matchCodes(DictionaryColumn column, int[] rowIndexes, BitSet matches) {
+        int code = column.codeOf((String)this.value);
+        int position = code >= 0 ? code * 2 : (-code - 1) * 2 - 1;
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (this.compareOp.matches(Integer.compare(column.getCode(rowIndexes[idx]) * 2, position)))
+                matches.set(idx);
+        }
+
+        return matches;
+    }
+
+    // Boxed numeric columns, compared as longs if both types are integral, else as doubles.
+    private BitSet matchNumbers(IDataColumn column, int[] rowIndexes, BitSet matches, BitSet unknown) {
+        boolean compareAsLong = isIntegral(column.type()) && isIntegral(this.value.getClass());
+        Number value = (Number)this.value;
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            Number columnValue = (Number)column.valueAt(rowIndexes[idx]);
+
+            if (columnValue == null) {
+                unknown.set(idx);
+                continue;
+            }
+
+            int compareResult = compareAsLong
+                    ? Long.compare(columnValue.longValue(), value.longValue())
+                    : Double.compare(columnValue.doubleValue(), value.doubleValue());
+
+            if (this.compareOp.matches(compareResult)) matches.set(idx);
+        }
+
+        return matches;
+    }
+
+    // Columns have already been validated as comparable for ordering operators, so the unchecked compare is safe.
+    @SuppressWarnings({"unchecked"})
+    private BitSet matchObjects(IDataColumn column, int[] rowIndexes, BitSet matches, BitSet unknown) {
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            Object columnValue = column.valueAt(rowIndexes[idx]);
+
+            if (columnValue == null) {
+                unknown.set(idx);
+                continue;
+            }
+
+            int compareResult = this.compareOp.isOrdering()
+                    ? ((Comparable)columnValue).compareTo(this.value)
+                    : (columnValue.equals(this.value) ? 0 : 1);
+
+            if (this.compareOp.matches(compareResult)) matches.set(idx);
+        }
+
+        return matches;
+    }
+
+    private <T> Try<T> notSupported(IDataColumn column) {
+        return DataTableException.tryError(errorPrefix(column) + "doesn't support values of type " + this.value.getClass().getSimpleName() + ".");
+    }
+
+    private String errorPrefix(IDataColumn column) {
+        return "Filter " + this + " failed. Column '" + column.name() + "' ";
+    }
+
+    private static boolean isNumeric(Type type) {
+        return type instanceof Class && Number.class.isAssignableFrom((Class<?>)type);
+    }
+
+    private static boolean isIntegral(Type type) {
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class;
+    }
+
+    @Override
+    public String toString() {
+        return this.columnName + " " + this.compareOp + " " + this.value;
+    }
+}
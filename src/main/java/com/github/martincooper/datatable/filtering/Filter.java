@@ -0,0 +1,212 @@
+package com.github.martincooper.datatable.filtering;
+
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.Guard;
+import io.vavr.control.Try;
+
+import java.util.BitSet;
+
+/**
+ * Filter class. Describes a filter over the columns of a table, built using col(),
+ * for example col("Price").gt(100.0).and(col("Region").eq("EU")).
+ *
+ * Filters are evaluated a column at a time directly over the column data, producing a
+ * bitmap of the matching rows. Conditions are combined using bitwise operations on
+ * the bitmaps, so no DataRow is ever created.
+ *
+ * Comparisons with null values are unknown, rather than true or false, as in SQL. A bitmap
+ * of the unknown rows is kept alongside the matches, so negating a condition never matches
+ * the rows it was unknown for, and and / or combine unknown rows with three valued logic.
+ */
+public abstract class Filter {
+
+    /**
+     * Package private constructor. Filters are created using col().
+     */
+    Filter() {
+    }
+
+    /**
+     * Starts a filter condition on the specified column.
+     *
+     * @param columnName The column name.
+     * @return Returns the column, to apply a condition to.
+     */
+    public static FilterColumn col(String columnName) {
+        return new FilterColumn(columnName);
+    }
+
+    /**
+     * Returns a filter matching the rows which match both this filter and the other.
+     *
+     * @param other The other filter.
+     * @return Returns the combined filter.
+     */
+    public Filter and(Filter other) {
+        Guard.notNull(other, "other");
+        return new AndFilter(this, other);
+    }
+
+    /**
+     * Returns a filter matching the rows which match either this filter or the other.
+     *
+     * @param other The other filter.
+     * @return Returns the combined filter.
+     */
+    public Filter or(Filter other) {
+        Guard.notNull(other, "other");
+        return new OrFilter(this, other);
+    }
+
+    /**
+     * Returns a filter matching all the rows this filter doesn't match.
+     *
+     * @return Returns the negated filter.
+     */
+    public Filter not() {
+        return new NotFilter(this);
+    }
+
+    /**
+     * Evaluates the filter over the specified rows of a table.
+     *
+     * @param table The table containing the data.
+     * @param rowIndexes The indexes of the rows in the table to filter.
+     * @return Returns a bitmap of the matching rows, indexed by position in rowIndexes, or a Failure.
+     */
+    public Try<BitSet> evaluate(DataTable table, int[] rowIndexes) {
+        return evaluateRows(table, rowIndexes).map(Matches::matches);
+    }
+
+    /**
+     * Evaluates the filter over the specified rows of a table, returning both
+     * the matching rows and the rows the filter is unknown for.
+     *
+     * @param table The table containing the data.
+     * @param rowIndexes The indexes of the rows in the table to filter.
+     * @return Returns the matching and unknown rows, indexed by position in rowIndexes, or a Failure.
+     */
+    abstract Try<Matches> evaluateRows(DataTable table, int[] rowIndexes);
+
+    /**
+     * The rows a filter is true for, and the rows it's unknown for, due to null values.
+     * Any other rows are false. The bitmaps are modified in place as filters are combined.
+     */
+    static final class Matches {
+
+        private final BitSet matches;
+        private final BitSet unknown;
+
+        Matches(BitSet matches, BitSet unknown) {
+            this.matches = matches;
+            this.unknown = unknown;
+        }
+
+        BitSet matches() { return this.matches; }
+
+        BitSet unknown() { return this.unknown; }
+    }
+
+    /**
+     * Filter matching the rows matched by both filters.
+     */
+    private static final class AndFilter extends Filter {
+
+        private final Filter left;
+        private final Filter right;
+
+        private AndFilter(Filter left, Filter right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        // Unknown where either side is unknown, and neither side is false.
+        @Override
+        Try<Matches> evaluateRows(DataTable table, int[] rowIndexes) {
+            return this.left.evaluateRows(table, rowIndexes).flatMap(leftRows ->
+                    this.right.evaluateRows(table, rowIndexes).map(rightRows -> {
+                        BitSet unknown = (BitSet)leftRows.unknown().clone();
+                        unknown.or(rightRows.unknown());
+
+                        if (!unknown.isEmpty()) {
+                            unknown.and(notFalse(leftRows));
+                            unknown.and(notFalse(rightRows));
+                        }
+
+                        leftRows.matches().and(rightRows.matches());
+                        return new Matches(leftRows.matches(), unknown);
+                    }));
+        }
+
+        private static BitSet notFalse(Matches rows) {
+            BitSet notFalse = (BitSet)rows.matches().clone();
+            notFalse.or(rows.unknown());
+            return notFalse;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.left + " and " + this.right + ")";
+        }
+    }
+
+    /**
+     * Filter matching the rows matched by either filter.
+     */
+    private static final class OrFilter extends Filter {
+
+        private final Filter left;
+        private final Filter right;
+
+        private OrFilter(Filter left, Filter right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        // Unknown where either side is unknown, and neither side is true.
+        @Override
+        Try<Matches> evaluateRows(DataTable table, int[] rowIndexes) {
+            return this.left.evaluateRows(table, rowIndexes).flatMap(leftRows ->
+                    this.right.evaluateRows(table, rowIndexes).map(rightRows -> {
+                        BitSet unknown = leftRows.unknown();
+                        unknown.or(rightRows.unknown());
+
+                        leftRows.matches().or(rightRows.matches());
+                        unknown.andNot(leftRows.matches());
+                        return new Matches(leftRows.matches(), unknown);
+                    }));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.left + " or " + this.right + ")";
+        }
+    }
+
+    /**
+     * Filter matching the rows a filter is false for. Rows the filter is unknown for stay unknown.
+     */
+    private static final class NotFilter extends Filter {
+
+        private final Filter filter;
+
+        private NotFilter(Filter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        Try<Matches> evaluateRows(DataTable table, int[] rowIndexes) {
+            return this.filter.evaluateRows(table, rowIndexes).map(rows -> {
+                BitSet matches = rows.matches();
+                matches.or(rows.unknown());
+                matches.flip(0, rowIndexes.length);
+                return new Matches(matches, rows.unknown());
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "not " + this.filter;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.martincooper.datatable.filtering;
+
+import com.github.martincooper.datatable.Guard;
+
+/**
+ * FilterColumn class. A column in a filter, returned by Filter.col(),
+ * which conditions are then applied to.
+ *
+ * Values are compared using the natural ordering of the column type. Numeric columns can
+ * be compared to any numeric value, with doubles ordered as Double.compare. Null values
+ * in the column only ever match isNull, including when a comparison is negated with not.
+ */
+public final class FilterColumn {
+
+    private final String columnName;
+
+    /**
+     * FilterColumn constructor. Use Filter.col() to create.
+     *
+     * @param columnName The column name.
+     */
+    FilterColumn(String columnName) {
+        Guard.notNull(columnName, "columnName");
+        this.columnName = columnName;
+    }
+
+    /**
+     * @param value The value to compare with.
+     * @return Returns a filter matching the rows where the column equals the value.
+     */
+    public Filter eq(Object value) {
+        return compare(CompareOp.Equal, value);
+    }
+
+    /**
+     * @param value The value to compare with.
+     * @return Returns a filter matching the rows where the column doesn't equal the value.
+     */
+    public Filter ne(Object value) {
+        return compare(CompareOp.NotEqual, value);
+    }
+
+    /**
+     * @param value The value to compare with.
+     * @return Returns a filter matching the rows where the column is greater than the value.
+     */
+    public Filter gt(Object value) {
+        return compare(CompareOp.GreaterThan, value);
+    }
+
+    /**
+     * @param value The value to compare with.
+     * @return Returns a filter matching the rows where the column is greater than or equal to the value.
+     */
+    public Filter ge(Object value) {
+        return compare(CompareOp.GreaterThanOrEqual, value);
+    }
+
+    /**
+     * @param value The value to compare with.
+     * @return Returns a filter matching the rows where the column is less than the value.
+     */
+    public Filter lt(Object value) {
+        return compare(CompareOp.LessThan, value);
+    }
+
+    /**
+     * @param value The value to compare with.
+     * @return Returns a filter matching the rows where the column is less than or equal to the value.
+     */
+    public Filter le(Object value) {
+        return compare(CompareOp.LessThanOrEqual, value);
+    }
+
+    /**
+     * @return Returns a filter matching the rows where the column is null.
+     */
+    public Filter isNull() {
+        return new NullFilter(this.columnName, true);
+    }
+
+    /**
+     * @return Returns a filter matching the rows where the column isn't null.
+     */
+    public Filter isNotNull() {
+        return new NullFilter(this.columnName, false);
+    }
+
+    private Filter compare(CompareOp compareOp, Object value) {
+        Guard.notNull(value, "value");
+        return new ComparisonFilter(this.columnName, compareOp, value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.martincooper.datatable.filtering;
+
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.IDataColumn;
+import com.github.martincooper.datatable.PrimitiveColumn;
+import io.vavr.control.Try;
+
+import java.util.BitSet;
+
+/**
+ * NullFilter. Matches the rows where a column is, or isn't, null.
+ */
+final class NullFilter extends Filter {
+
+    private final String columnName;
+    private final boolean matchNull;
+
+    /**
+     * NullFilter constructor.
+     *
+     * @param columnName The column name.
+     * @param matchNull True to match null values, false to match non null values.
+     */
+    NullFilter(String columnName, boolean matchNull) {
+        this.columnName = columnName;
+        this.matchNull = matchNull;
+    }
+
+    // Null checks are never unknown.
+    @Override
+    Try<Matches> evaluateRows(DataTable table, int[] rowIndexes) {
+        return table.columns()
+                .tryGet(this.columnName)
+                .map(column -> new Matches(evaluate(column, rowIndexes), new BitSet()));
+    }
+
+    private BitSet evaluate(IDataColumn column, int[] rowIndexes) {
+        BitSet matches = new BitSet(rowIndexes.length);
+
+        if (column instanceof PrimitiveColumn) {
+            PrimitiveColumn<?> primitiveColumn = (PrimitiveColumn<?>)column;
+
+            // The null count is precomputed, so columns without nulls need no checks.
+            if (!primitiveColumn.hasNulls()) {
+                if (!this.matchNull) matches.set(0, rowIndexes.length);
+                return matches;
+            }
+
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                if (primitiveColumn.isNull(rowIndexes[idx]) == this.matchNull)
+                    matches.set(idx);
+            }
+
+            return matches;
+        }
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if ((column.valueAt(rowIndexes[idx]) == null) == this.matchNull)
+                matches.set(idx);
+        }
+
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        return this.columnName + (this.matchNull ? " is null" : " is not null");
+    }
+}
@@ -0,0 +1,607 @@
+package com.github.martincooper.datatable.grouping;
+
+import com.github.martincooper.datatable.*;
+import io.vavr.collection.Vector;
+import io.vavr.control.Try;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Accumulator. Calculates a single aggregate for every group, storing the
+ * intermediate results in primitive arrays indexed by group id.
+ *
+ * Null values are ignored, and groups with no values have a null result. Null rows in
+ * primitive columns hold 0, so are summed without any checks, and the groups with values
+ * are only tracked where the column contains nulls.
+ */
+abstract class Accumulator {
+
+    protected final String resultName;
+
+    /**
+     * Accumulator constructor.
+     *
+     * @param resultName The name of the result column.
+     */
+    Accumulator(String resultName) {
+        this.resultName = resultName;
+    }
+
+    /**
+     * Allocates the intermediate results for the specified number of groups.
+     *
+     * @param groupCount The number of groups.
+     */
+    abstract void init(int groupCount);
+
+    /**
+     * Accumulates the values in the specified rows into their groups. Can be called
+     * concurrently from multiple threads, as long as each call updates different groups.
+     *
+     * @param rowIndexes The indexes of the rows to accumulate.
+     * @param groupIds The group id of each row, by position.
+     */
+    abstract void accumulate(int[] rowIndexes, int[] groupIds);
+
+    /**
+     * Builds the result column, with one value per group in group id order.
+     *
+     * @return Returns the result column.
+     */
+    abstract IDataColumn toColumn();
+
+    /**
+     * Creates the accumulator for an aggregate, validating the column is of a supported type.
+     *
+     * @param aggregate The aggregate details.
+     * @param columns The columns of the table being grouped.
+     * @return Returns the accumulator, or a Failure.
+     */
+    static Try<Accumulator> create(Aggregate aggregate, DataColumnCollection columns) {
+        if (aggregate.aggregateType() == AggregateType.Count)
+            return Try.success(new CountAccumulator(aggregate.resultName()));
+
+        return columns
+                .tryGet(aggregate.columnName())
+                .flatMap(column -> create(aggregate, column));
+    }
+
+    private static Try<Accumulator> create(Aggregate aggregate, IDataColumn column) {
+        PrimitiveColumn.checkReadable(column);
+
+        switch (aggregate.aggregateType()) {
+            case Sum:
+                if (!isNumeric(column)) return notSupported(aggregate, column, "isn't numeric");
+                return Try.success(isIntegral(column)
+                        ? new LongSumAccumulator(aggregate.resultName(), column)
+                        : new DoubleSumAccumulator(aggregate.resultName(), column));
+
+            case Avg:
+                if (!isNumeric(column)) return notSupported(aggregate, column, "isn't numeric");
+                return Try.success(new AvgAccumulator(aggregate.resultName(), column));
+
+            default:
+                if (!column.IsComparable()) return notSupported(aggregate, column, "doesn't support comparable");
+                return Try.success(createMinMax(aggregate, column));
+        }
+    }
+
+    private static Accumulator createMinMax(Aggregate aggregate, IDataColumn column) {
+        boolean isMax = aggregate.aggregateType() == AggregateType.Max;
+
+        if (column instanceof IntColumn) return new IntMinMaxAccumulator(aggregate.resultName(), (IntColumn)column, isMax);
+        if (column instanceof LongColumn) return new LongMinMaxAccumulator(aggregate.resultName(), (LongColumn)column, isMax);
+        if (column instanceof DoubleColumn) return new DoubleMinMaxAccumulator(aggregate.resultName(), (DoubleColumn)column, isMax);
+
+        return new ObjectMinMaxAccumulator(aggregate.resultName(), column, isMax);
+    }
+
+    private static Try<Accumulator> notSupported(Aggregate aggregate, IDataColumn column, String reason) {
+        return DataTableException.tryError("Aggregate " + aggregate.resultName() + " failed. Column '" + column.name() + "' " + reason + ".");
+    }
+
+    private static boolean isNumeric(IDataColumn column) {
+        Type type = column.type();
+        return type instanceof Class && Number.class.isAssignableFrom((Class<?>)type);
+    }
+
+    private static boolean isIntegral(IDataColumn column) {
+        Type type = column.type();
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class;
+    }
+
+    private static boolean hasNulls(IDataColumn column) {
+        return column instanceof PrimitiveColumn && ((PrimitiveColumn<?>)column).hasNulls();
+    }
+
+    /**
+     * Checks if the column may contain nulls. Primitive columns know if they contain any,
+     * other columns have to be checked row by row.
+     */
+    private static boolean mayHaveNulls(IDataColumn column) {
+        return !(column instanceof PrimitiveColumn) || ((PrimitiveColumn<?>)column).hasNulls();
+    }
+
+    /**
+     * Flags the groups of the non null rows of a primitive column as having values.
+     */
+    private static void markGroupsWithValues(PrimitiveColumn<?> column, int[] rowIndexes, int[] groupIds, boolean[] hasValue) {
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (!column.isNull(rowIndexes[idx])) hasValue[groupIds[idx]] = true;
+        }
+    }
+
+    /**
+     * Returns the null rows for the groups without any values, or null if every group has a value.
+     *
+     * @param hasValue Flags for the groups with values, or null if every group has a value.
+     * @return Returns the null rows.
+     */
+    private static BitSet groupsWithoutValues(boolean[] hasValue) {
+        if (hasValue == null) return null;
+
+        BitSet nulls = new BitSet(hasValue.length);
+
+        for (int groupId = 0; groupId < hasValue.length; groupId++) {
+            if (!hasValue[groupId]) nulls.set(groupId);
+        }
+
+        return nulls;
+    }
+
+    /**
+     * Counts the rows in each group.
+     */
+    static final class CountAccumulator extends Accumulator {
+
+        private long[] counts;
+
+        CountAccumulator(String resultName) {
+            super(resultName);
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.counts = new long[groupCount];
+        }
+
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            for (int idx = 0; idx < rowIndexes.length; idx++)
+                this.counts[groupIds[idx]]++;
+        }
+
+        @Override
+        IDataColumn toColumn() {
+            return new LongColumn(this.resultName, this.counts);
+        }
+    }
+
+    /**
+     * Sums integer values into a long. Groups with no values have a null result.
+     */
+    static final class LongSumAccumulator extends Accumulator {
+
+        private final IDataColumn column;
+        private long[] sums;
+        private boolean[] hasValue;
+
+        LongSumAccumulator(String resultName, IDataColumn column) {
+            super(resultName);
+            this.column = column;
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.sums = new long[groupCount];
+
+            // Every group has a value unless the column may contain nulls.
+            if (mayHaveNulls(this.column)) this.hasValue = new boolean[groupCount];
+        }
+
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            if (this.column instanceof IntColumn) {
+                IntColumn intColumn = (IntColumn)this.column;
+
+                for (int idx = 0; idx < rowIndexes.length; idx++)
+                    this.sums[groupIds[idx]] += intColumn.getInt(rowIndexes[idx]);
+            } else if (this.column instanceof LongColumn) {
+                LongColumn longColumn = (LongColumn)this.column;
+
+                for (int idx = 0; idx < rowIndexes.length; idx++)
+                    this.sums[groupIds[idx]] += longColumn.getLong(rowIndexes[idx]);
+            } else {
+                for (int idx = 0; idx < rowIndexes.length; idx++) {
+                    Object value = this.column.valueAt(rowIndexes[idx]);
+
+                    if (value != null) {
+                        this.sums[groupIds[idx]] += ((Number)value).longValue();
+                        this.hasValue[groupIds[idx]] = true;
+                    }
+                }
+
+                return;
+            }
+
+            if (this.hasValue != null)
+                markGroupsWithValues((PrimitiveColumn<?>)this.column, rowIndexes, groupIds, this.hasValue);
+        }
+
+        @Override
+        IDataColumn toColumn() {
+            BitSet nulls = groupsWithoutValues(this.hasValue);
+
+            return nulls == null
+                    ? new LongColumn(this.resultName, this.sums)
+                    : new LongColumn(this.resultName, this.sums, nulls);
+        }
+    }
+
+    /**
+     * Sums floating point values into a double. Values are added in row order.
+     * Groups with no values have a null result.
+     */
+    static final class DoubleSumAccumulator extends Accumulator {
+
+        private final IDataColumn column;
+        private double[] sums;
+        private boolean[] hasValue;
+
+        DoubleSumAccumulator(String resultName, IDataColumn column) {
+            super(resultName);
+            this.column = column;
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.sums = new double[groupCount];
+
+            // Every group has a value unless the column may contain nulls.
+            if (mayHaveNulls(this.column)) this.hasValue = new boolean[groupCount];
+        }
+
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            if (this.column instanceof DoubleColumn) {
+                DoubleColumn doubleColumn = (DoubleColumn)this.column;
+
+                for (int idx = 0; idx < rowIndexes.length; idx++)
+                    this.sums[groupIds[idx]] += doubleColumn.getDouble(rowIndexes[idx]);
+            } else {
+                for (int idx = 0; idx < rowIndexes.length; idx++) {
+                    Object value = this.column.valueAt(rowIndexes[idx]);
+
+                    if (value != null) {
+                        this.sums[groupIds[idx]] += ((Number)value).doubleValue();
+                        this.hasValue[groupIds[idx]] = true;
+                    }
+                }
+
+                return;
+            }
+
+            if (this.hasValue != null)
+                markGroupsWithValues((PrimitiveColumn<?>)this.column, rowIndexes, groupIds, this.hasValue);
+        }
+
+        @Override
+        IDataColumn toColumn() {
+            BitSet nulls = groupsWithoutValues(this.hasValue);
+
+            return nulls == null
+                    ? new DoubleColumn(this.resultName, this.sums)
+                    : new DoubleColumn(this.resultName, this.sums, nulls);
+        }
+    }
+
+    /**
+     * Averages numeric values. Groups with no values have a null result.
+     */
+    static final class AvgAccumulator extends Accumulator {
+
+        private final IDataColumn column;
+        private double[] sums;
+        private long[] counts;
+
+        AvgAccumulator(String resultName, IDataColumn column) {
+            super(resultName);
+            this.column = column;
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.sums = new double[groupCount];
+            this.counts = new long[groupCount];
+        }
+
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            if (this.column instanceof DoubleColumn) {
+                DoubleColumn doubleColumn = (DoubleColumn)this.column;
+
+                for (int idx = 0; idx < rowIndexes.length; idx++) {
+                    this.sums[groupIds[idx]] += doubleColumn.getDouble(rowIndexes[idx]);
+                    this.counts[groupIds[idx]]++;
+                }
+            } else if (this.column instanceof IntColumn) {
+                IntColumn intColumn = (IntColumn)this.column;
+
+                for (int idx = 0; idx < rowIndexes.length; idx++) {
+                    this.sums[groupIds[idx]] += intColumn.getInt(rowIndexes[idx]);
+                    this.counts[groupIds[idx]]++;
+                }
+            } else if (this.column instanceof LongColumn) {
+                LongColumn longColumn = (LongColumn)this.column;
+
+                for (int idx = 0; idx < rowIndexes.length; idx++) {
+                    this.sums[groupIds[idx]] += longColumn.getLong(rowIndexes[idx]);
+                    this.counts[groupIds[idx]]++;
+                }
+            } else {
+                for (int idx = 0; idx < rowIndexes.length; idx++) {
+                    Object value = this.column.valueAt(rowIndexes[idx]);
+
+                    if (value != null) {
+                        this.sums[groupIds[idx]] += ((Number)value).doubleValue();
+                        this.counts[groupIds[idx]]++;
+                    }
+                }
+
+                return;
+            }
+
+            // Null rows hold 0 so don't affect the sums, but need removing from the counts.
+            if (hasNulls(this.column)) {
+                PrimitiveColumn<?> primitiveColumn = (PrimitiveColumn<?>)this.column;
+
+                for (int idx = 0; idx < rowIndexes.length; idx++) {
+                    if (primitiveColumn.isNull(rowIndexes[idx])) this.counts[groupIds[idx]]--;
+                }
+            }
+        }
+
+        @Override
+        IDataColumn toColumn() {
+            double[] averages = new double[this.sums.length];
+            BitSet nulls = new BitSet(averages.length);
+
+            for (int groupId = 0; groupId < averages.length; groupId++) {
+                if (this.counts[groupId] == 0) nulls.set(groupId);
+                else averages[groupId] = this.sums[groupId] / this.counts[groupId];
+            }
+
+            return new DoubleColumn(this.resultName, averages, nulls);
+        }
+    }
+
+    /**
+     * Min or max of an int column. Groups with no values have a null result.
+     */
+    static final class IntMinMaxAccumulator extends Accumulator {
+
+        private final IntColumn column;
+        private final boolean isMax;
+        private int[] values;
+        private boolean[] hasValue;
+
+        IntMinMaxAccumulator(String resultName, IntColumn column, boolean isMax) {
+            super(resultName);
+            this.column = column;
+            this.isMax = isMax;
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.values = new int[groupCount];
+            Arrays.fill(this.values, this.isMax ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+
+            // Every group has a value unless the column contains nulls.
+            if (this.column.hasNulls()) this.hasValue = new boolean[groupCount];
+        }
+
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            if (this.hasValue != null) {
+                accumulateNullable(rowIndexes, groupIds);
+                return;
+            }
+
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                int value = this.column.getInt(rowIndexes[idx]);
+                int groupId = groupIds[idx];
+
+                if (this.isMax ? value > this.values[groupId] : value < this.values[groupId])
+                    this.values[groupId] = value;
+            }
+        }
+
+        private void accumulateNullable(int[] rowIndexes, int[] groupIds) {
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                if (this.column.isNull(rowIndexes[idx])) continue;
+
+                int value = this.column.getInt(rowIndexes[idx]);
+                int groupId = groupIds[idx];
+
+                if (this.isMax ? value > this.values[groupId] : value < this.values[groupId])
+                    this.values[groupId] = value;
+
+                this.hasValue[groupId] = true;
+            }
+        }
+
+        @Override
+        IDataColumn toColumn() {
+            BitSet nulls = groupsWithoutValues(this.hasValue);
+
+            return nulls == null
+                    ? new IntColumn(this.resultName, this.values)
+                    : new IntColumn(this.resultName, this.values, nulls);
+        }
+    }
+
+    /**
+     * Min or max of a long column. Groups with no values have a null result.
+     */
+    static final class LongMinMaxAccumulator extends Accumulator {
+
+        private final LongColumn column;
+        private final boolean isMax;
+        private long[] values;
+        private boolean[] hasValue;
+
+        LongMinMaxAccumulator(String resultName, LongColumn column, boolean isMax) {
+            super(resultName);
+            this.column = column;
+            this.isMax = isMax;
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.values = new long[groupCount];
+            Arrays.fill(this.values, this.isMax ? Long.MIN_VALUE : Long.MAX_VALUE);
+
+            // Every group has a value unless the column contains nulls.
+            if (this.column.hasNulls()) this.hasValue = new boolean[groupCount];
+        }
+
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            if (this.hasValue != null) {
+                accumulateNullable(rowIndexes, groupIds);
+                return;
+            }
+
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                long value = this.column.getLong(rowIndexes[idx]);
+                int groupId = groupIds[idx];
+
+                if (this.isMax ? value > this.values[groupId] : value < this.values[groupId])
+                    this.values[groupId] = value;
+            }
+        }
+
+        private void accumulateNullable(int[] rowIndexes, int[] groupIds) {
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                if (this.column.isNull(rowIndexes[idx])) continue;
+
+                long value = this.column.getLong(rowIndexes[idx]);
+                int groupId = groupIds[idx];
+
+                if (this.isMax ? value > this.values[groupId] : value < this.values[groupId])
+                    this.values[groupId] = value;
+
+                this.hasValue[groupId] = true;
+            }
+        }
+
+        @Override
+        IDataColumn toColumn() {
+            BitSet nulls = groupsWithoutValues(this.hasValue);
+
+            return nulls == null
+                    ? new LongColumn(this.resultName, this.values)
+                    : new LongColumn(this.resultName, this.values, nulls);
+        }
+    }
+
+    /**
+     * Min or max of a double column, ordered as Double.compare. Groups with no values have a null result.
+     */
+    static final class DoubleMinMaxAccumulator extends Accumulator {
+
+        private final DoubleColumn column;
+        private final boolean isMax;
+        private double[] values;
+        private boolean[] hasValue;
+
+        DoubleMinMaxAccumulator(String resultName, DoubleColumn column, boolean isMax) {
+            super(resultName);
+            this.column = column;
+            this.isMax = isMax;
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.values = new double[groupCount];
+            this.hasValue = new boolean[groupCount];
+        }
+
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            boolean hasNulls = this.column.hasNulls();
+
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                if (hasNulls && this.column.isNull(rowIndexes[idx])) continue;
+
+                double value = this.column.getDouble(rowIndexes[idx]);
+                int groupId = groupIds[idx];
+
+                if (!this.hasValue[groupId] || isBetter(Double.compare(value, this.values[groupId]))) {
+                    this.values[groupId] = value;
+                    this.hasValue[groupId] = true;
+                }
+            }
+        }
+
+        private boolean isBetter(int compareResult) {
+            return this.isMax ? compareResult > 0 : compareResult < 0;
+        }
+
+        @Override
+        IDataColumn toColumn() {
+            return this.column.hasNulls()
+                    ? new DoubleColumn(this.resultName, this.values, groupsWithoutValues(this.hasValue))
+                    : new DoubleColumn(this.resultName, this.values);
+        }
+    }
+
+    /**
+     * Min or max of any other comparable column. Groups with no values have a null result.
+     */
+    static final class ObjectMinMaxAccumulator extends Accumulator {
+
+        private final IDataColumn column;
+        private final boolean isMax;
+        private Object[] values;
+
+        ObjectMinMaxAccumulator(String resultName, IDataColumn column, boolean isMax) {
+            super(resultName);
+            this.column = column;
+            this.isMax = isMax;
+        }
+
+        @Override
+        void init(int groupCount) {
+            this.values = new Object[groupCount];
+        }
+
+        // Columns have already been validated as comparable, so we can ignore the compiler warnings.
+        @SuppressWarnings({"unchecked"})
+        @Override
+        void accumulate(int[] rowIndexes, int[] groupIds) {
+            for (int idx = 0; idx < rowIndexes.length; idx++) {
+                Object value = this.column.valueAt(rowIndexes[idx]);
+                int groupId = groupIds[idx];
+
+                if (value == null) continue;
+
+                Object current = this.values[groupId];
+
+                if (current == null || (this.isMax
+                        ? ((Comparable)value).compareTo(current) > 0
+                        : ((Comparable)value).compareTo(current) < 0)) {
+                    this.values[groupId] = value;
+                }
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        IDataColumn toColumn() {
+            return new DataColumn((Class)this.column.type(), this.resultName, Vector.of(this.values));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.martincooper.datatable.grouping;
+
+import com.github.martincooper.datatable.Guard;
+
+/**
+ * Aggregate class. Describes an aggregation to calculate for each group in a group by.
+ *
+ * Sum and Avg are supported on numeric columns, with integer columns summed as a Long and
+ * all other numeric columns summed as a Double. Min and Max are supported on comparable
+ * columns, returning a column of the same type. Null values are ignored by all aggregates
+ * except Count, which counts the rows in each group, and groups with no values other than
+ * null have a null result.
+ */
+public final class Aggregate {
+
+    private final AggregateType aggregateType;
+    private final String columnName;
+    private final String resultName;
+
+    private Aggregate(AggregateType aggregateType, String columnName, String resultName) {
+        Guard.notNull(resultName, "resultName");
+
+        this.aggregateType = aggregateType;
+        this.columnName = columnName;
+        this.resultName = resultName;
+    }
+
+    /**
+     * Sums the values of a numeric column. The result column is named sum(columnName).
+     *
+     * @param columnName The column name.
+     * @return Returns the aggregate.
+     */
+    public static Aggregate sum(String columnName) {
+        return create(AggregateType.Sum, columnName, "sum");
+    }
+
+    /**
+     * Counts the rows in each group. The result column is named count.
+     *
+     * @return Returns the aggregate.
+     */
+    public static Aggregate count() {
+        return new Aggregate(AggregateType.Count, null, "count");
+    }
+
+    /**
+     * Averages the values of a numeric column. The result column is named avg(columnName).
+     *
+     * @param columnName The column name.
+     * @return Returns the aggregate.
+     */
+    public static Aggregate avg(String columnName) {
+        return create(AggregateType.Avg, columnName, "avg");
+    }
+
+    /**
+     * Returns the minimum value of a comparable column. The result column is named min(columnName).
+     *
+     * @param columnName The column name.
+     * @return Returns the aggregate.
+     */
+    public static Aggregate min(String columnName) {
+        return create(AggregateType.Min, columnName, "min");
+    }
+
+    /**
+     * Returns the maximum value of a comparable column. The result column is named max(columnName).
+     *
+     * @param columnName The column name.
+     * @return Returns the aggregate.
+     */
+    public static Aggregate max(String columnName) {
+        return create(AggregateType.Max, columnName, "max");
+    }
+
+    /**
+     * Returns a copy of this aggregate, with the result column given the specified name.
+     *
+     * @param resultName The name of the result column.
+     * @return Returns the aggregate.
+     */
+    public Aggregate as(String resultName) {
+        return new Aggregate(this.aggregateType, this.columnName, resultName);
+    }
+
+    /**
+     * @return Returns the name of the column being aggregated, or null for Count.
+     */
+    public String columnName() {
+        return this.columnName;
+    }
+
+    /**
+     * @return Returns the name of the result column.
+     */
+    public String resultName() {
+        return this.resultName;
+    }
+
+    AggregateType aggregateType() {
+        return this.aggregateType;
+    }
+
+    private static Aggregate create(AggregateType aggregateType, String columnName, String functionName) {
+        Guard.notNull(columnName, "columnName");
+        return new Aggregate(aggregateType, columnName, functionName + "(" + columnName + ")");
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.martincooper.datatable.grouping;
+
+/**
+ * AggregateType Enumeration.
+ */
+enum AggregateType {
+    Sum,
+    Count,
+    Avg,
+    Min,
+    Max
+}
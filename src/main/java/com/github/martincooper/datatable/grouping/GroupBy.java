@@ -0,0 +1,147 @@
+package com.github.martincooper.datatable.grouping;
+
+import com.github.martincooper.datatable.*;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import io.vavr.control.Try;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * GroupBy class. Groups the rows of a table by the values in one or more columns,
+ * and calculates aggregates for each group, returning the results as a new DataTable.
+ *
+ * The results contain the group by columns followed by a column for each aggregate,
+ * with one row per group, in the order each group first appears in the rows.
+ *
+ * In parallel mode the rows are split into partitions by the hash of their group keys,
+ * with each partition grouped and aggregated on a fork / join pool. The results are
+ * identical to the sequential results, including the order of the groups.
+ */
+public final class GroupBy {
+
+    private final DataTable table;
+    private final int[] rowIndexes;
+    private final Seq<String> columnNames;
+    private final boolean parallel;
+    private final int parallelism;
+
+    private GroupBy(DataTable table, int[] rowIndexes, Seq<String> columnNames, boolean parallel, int parallelism) {
+        this.table = table;
+        this.rowIndexes = rowIndexes;
+        this.columnNames = columnNames;
+        this.parallel = parallel;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a group by over the specified rows of a table.
+     *
+     * @param table The underlying table containing the data.
+     * @param rowIndexes The indexes of the rows in the table to group.
+     * @param columnNames The names of the columns to group by.
+     * @return Returns the group by.
+     */
+    public static GroupBy create(DataTable table, int[] rowIndexes, String... columnNames) {
+        Guard.notNull(table, "table");
+        Guard.notNull(rowIndexes, "rowIndexes");
+        Guard.itemsNotNull(columnNames, "columnNames");
+
+        return new GroupBy(table, rowIndexes, Vector.of(columnNames), false, 0);
+    }
+
+    /**
+     * Returns a group by which runs in parallel on the common fork / join pool.
+     *
+     * @return Returns the parallel group by.
+     */
+    public GroupBy parallel() {
+        return new GroupBy(this.table, this.rowIndexes, this.columnNames, true, 0);
+    }
+
+    /**
+     * Returns a group by which runs in parallel on a dedicated fork / join pool,
+     * using the specified number of threads.
+     *
+     * @param parallelism The number of threads to use.
+     * @return Returns the parallel group by.
+     */
+    public GroupBy parallel(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Invalid parallelism, must be at least 1.");
+
+        return new GroupBy(this.table, this.rowIndexes, this.columnNames, true, parallelism);
+    }
+
+    /**
+     * Calculates the aggregates for each group.
+     *
+     * @param aggregates The aggregates to calculate.
+     * @return Returns a new DataTable containing the results, or a Failure.
+     */
+    public Try<DataTable> agg(Aggregate... aggregates) {
+        Guard.itemsNotNull(aggregates, "aggregates");
+        return agg(Stream.of(aggregates));
+    }
+
+    /**
+     * Calculates the aggregates for each group.
+     *
+     * @param aggregates The aggregates to calculate.
+     * @return Returns a new DataTable containing the results, or a Failure.
+     */
+    public Try<DataTable> agg(Iterable<Aggregate> aggregates) {
+        Guard.itemsNotNull(aggregates, "aggregates");
+
+        DataColumnCollection columns = this.table.columns();
+
+        Try<Seq<IDataColumn>> keyColumns = Try.sequence(this.columnNames.map(columns::tryGet));
+        Try<Seq<Accumulator>> accumulators = Try.sequence(Stream.ofAll(aggregates).map(agg -> Accumulator.create(agg, columns)));
+
+        return keyColumns.flatMap(keys -> accumulators.flatMap(accs -> performGroupBy(keys, accs)));
+    }
+
+    private Try<DataTable> performGroupBy(Seq<IDataColumn> keyColumns, Seq<Accumulator> accumulators) {
+        return Try.of(() -> groupColumns(keyColumns, accumulators))
+                .flatMap(columns -> DataTable.build(this.table.name(), columns));
+    }
+
+    private Seq<IDataColumn> groupColumns(Seq<IDataColumn> keyColumns, Seq<Accumulator> accumulators) throws DataTableException {
+        KeyColumn[] keys = keyColumns.map(KeyColumn::create).toJavaList().toArray(new KeyColumn[0]);
+        int[] firstRows = this.parallel
+                ? groupInParallel(keys, accumulators)
+                : groupSequentially(keys, accumulators);
+
+        // Build the group by columns from the first row in each group.
+        Seq<IDataColumn> groupColumns = keyColumns.map(col -> col.buildFromRows(firstRows).get());
+        Seq<IDataColumn> aggregateColumns = accumulators.map(Accumulator::toColumn);
+
+        return groupColumns.appendAll(aggregateColumns);
+    }
+
+    private int[] groupSequentially(KeyColumn[] keys, Seq<Accumulator> accumulators) {
+        int[] groupIds = new int[this.rowIndexes.length];
+        GroupKeys groupKeys = GroupKeys.build(keys, this.rowIndexes, groupIds);
+
+        for (Accumulator accumulator : accumulators) {
+            accumulator.init(groupKeys.groupCount());
+            accumulator.accumulate(this.rowIndexes, groupIds);
+        }
+
+        return groupKeys.firstRows();
+    }
+
+    private int[] groupInParallel(KeyColumn[] keys, Seq<Accumulator> accumulators) throws DataTableException {
+        if (this.parallelism == 0)
+            return PartitionedGroupKeys.groupAndAccumulate(keys, this.rowIndexes, accumulators, ForkJoinPool.commonPool());
+
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+
+        try {
+            return PartitionedGroupKeys.groupAndAccumulate(keys, this.rowIndexes, accumulators, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
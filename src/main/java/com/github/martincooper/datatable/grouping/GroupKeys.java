@@ -0,0 +1,147 @@
+package com.github.martincooper.datatable.grouping;
+
+import java.util.Arrays;
+
+/**
+ * GroupKeys. Open addressing hash table over the values of the group by columns,
+ * assigning each distinct key a group id in the order the keys are first added.
+ */
+final class GroupKeys {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final KeyColumn[] keyColumns;
+
+    private int[] slots;
+    private int[] groupHashes;
+    private int[] firstRows;
+    private int groupCount;
+
+    /**
+     * GroupKeys constructor.
+     *
+     * @param keyColumns The group by columns.
+     */
+    GroupKeys(KeyColumn[] keyColumns) {
+        this.keyColumns = keyColumns;
+        this.slots = new int[MIN_CAPACITY];
+        this.groupHashes = new int[MIN_CAPACITY];
+        this.firstRows = new int[MIN_CAPACITY];
+        this.groupCount = 0;
+    }
+
+    /**
+     * Assigns each of the specified rows a group id.
+     *
+     * @param keyColumns The group by columns.
+     * @param rowIndexes The indexes of the rows being grouped.
+     * @param groupIds The array to store the group id of each row in, by position.
+     * @return Returns the group keys.
+     */
+    static GroupKeys build(KeyColumn[] keyColumns, int[] rowIndexes, int[] groupIds) {
+        GroupKeys groupKeys = new GroupKeys(keyColumns);
+
+        for (int idx = 0; idx < rowIndexes.length; idx++)
+            groupIds[idx] = groupKeys.findOrAddGroup(rowIndexes[idx], hash(keyColumns, rowIndexes[idx]));
+
+        return groupKeys;
+    }
+
+    /**
+     * Returns the hash of the key values in the specified row.
+     *
+     * @param keyColumns The group by columns.
+     * @param rowIdx The row index.
+     * @return Returns the hash.
+     */
+    static int hash(KeyColumn[] keyColumns, int rowIdx) {
+        int hash = 0;
+
+        for (KeyColumn keyColumn : keyColumns)
+            hash = hash * 31 + keyColumn.hash(rowIdx);
+
+        // Spread the bits, so similar keys don't cluster in the table.
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return Returns the number of groups.
+     */
+    int groupCount() {
+        return this.groupCount;
+    }
+
+    /**
+     * @return Returns the index of the first row in each group.
+     */
+    int[] firstRows() {
+        return Arrays.copyOf(this.firstRows, this.groupCount);
+    }
+
+    /**
+     * Returns the group id for the key in the specified row, adding a new group if not found.
+     *
+     * @param rowIdx The row index.
+     * @param hash The hash of the key values in the row.
+     * @return Returns the group id.
+     */
+    int findOrAddGroup(int rowIdx, int hash) {
+        int mask = this.slots.length - 1;
+        int slot = hash & mask;
+
+        while (this.slots[slot] != 0) {
+            int groupId = this.slots[slot] - 1;
+
+            if (this.groupHashes[groupId] == hash && keysEqual(this.firstRows[groupId], rowIdx))
+                return groupId;
+
+            slot = (slot + 1) & mask;
+        }
+
+        return addGroup(slot, hash, rowIdx);
+    }
+
+    private int addGroup(int slot, int hash, int rowIdx) {
+        int groupId = this.groupCount++;
+
+        if (groupId == this.firstRows.length) {
+            this.groupHashes = Arrays.copyOf(this.groupHashes, groupId * 2);
+            this.firstRows = Arrays.copyOf(this.firstRows, groupId * 2);
+        }
+
+        this.groupHashes[groupId] = hash;
+        this.firstRows[groupId] = rowIdx;
+        this.slots[slot] = groupId + 1;
+
+        // Keep the table at most half full.
+        if (this.groupCount * 2 > this.slots.length)
+            resize(this.slots.length * 2);
+
+        return groupId;
+    }
+
+    private void resize(int capacity) {
+        int[] newSlots = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int groupId = 0; groupId < this.groupCount; groupId++) {
+            int slot = this.groupHashes[groupId] & mask;
+
+            while (newSlots[slot] != 0)
+                slot = (slot + 1) & mask;
+
+            newSlots[slot] = groupId + 1;
+        }
+
+        this.slots = newSlots;
+    }
+
+    private boolean keysEqual(int rowOne, int rowTwo) {
+        for (KeyColumn keyColumn : this.keyColumns) {
+            if (!keyColumn.equals(rowOne, rowTwo)) return false;
+        }
+
+        return true;
+    }
+}
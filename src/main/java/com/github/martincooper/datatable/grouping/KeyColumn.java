@@ -0,0 +1,184 @@
+package com.github.martincooper.datatable.grouping;
+
+import com.github.martincooper.datatable.*;
+
+import java.util.Objects;
+
+/**
+ * KeyColumn. Hashes and compares the values of a single group by column,
+ * reading primitive columns without boxing. Primitive columns containing
+ * nulls are wrapped to check the nulls first, so columns without nulls never check.
+ */
+abstract class KeyColumn {
+
+    /**
+     * Returns the hash code of the value in the specified row.
+     *
+     * @param rowIdx The row index.
+     * @return Returns the hash code.
+     */
+    abstract int hash(int rowIdx);
+
+    /**
+     * Checks if the values in the two rows are equal. Null values are equal to each other.
+     *
+     * @param rowOne The first row index.
+     * @param rowTwo The second row index.
+     * @return Returns true if the values are equal.
+     */
+    abstract boolean equals(int rowOne, int rowTwo);
+
+    /**
+     * Creates the key column for the specified column.
+     *
+     * @param column The column.
+     * @return Returns the key column.
+     */
+    static KeyColumn create(IDataColumn column) {
+        PrimitiveColumn.checkReadable(column);
+
+        // Dictionary encoded columns code null values as -1, so need no null checks.
+        if (column instanceof DictionaryColumn) return new DictionaryKeyColumn((DictionaryColumn)column);
+        if (!(column instanceof PrimitiveColumn)) return new ObjectKeyColumn(column);
+
+        PrimitiveColumn<?> primitiveColumn = (PrimitiveColumn<?>)column;
+        KeyColumn keyColumn = createPrimitive(primitiveColumn);
+
+        return primitiveColumn.hasNulls()
+                ? new NullableKeyColumn(keyColumn, primitiveColumn)
+                : keyColumn;
+    }
+
+    private static KeyColumn createPrimitive(PrimitiveColumn<?> column) {
+        if (column instanceof IntColumn) return new IntKeyColumn((IntColumn)column);
+        if (column instanceof LongColumn) return new LongKeyColumn((LongColumn)column);
+        if (column instanceof DoubleColumn) return new DoubleKeyColumn((DoubleColumn)column);
+
+        return new BooleanKeyColumn((BooleanColumn)column);
+    }
+
+    /**
+     * Key column wrapping a primitive key column which contains null values.
+     */
+    static final class NullableKeyColumn extends KeyColumn {
+
+        private final KeyColumn keyColumn;
+        private final PrimitiveColumn<?> column;
+
+        NullableKeyColumn(KeyColumn keyColumn, PrimitiveColumn<?> column) {
+            this.keyColumn = keyColumn;
+            this.column = column;
+        }
+
+        @Override
+        int hash(int rowIdx) { return this.column.isNull(rowIdx) ? 0 : this.keyColumn.hash(rowIdx); }
+
+        @Override
+        boolean equals(int rowOne, int rowTwo) {
+            boolean isNullOne = this.column.isNull(rowOne);
+            boolean isNullTwo = this.column.isNull(rowTwo);
+
+            return isNullOne || isNullTwo
+                    ? isNullOne == isNullTwo
+                    : this.keyColumn.equals(rowOne, rowTwo);
+        }
+    }
+
+    /**
+     * Key column for an int column.
+     */
+    static final class IntKeyColumn extends KeyColumn {
+
+        private final IntColumn column;
+
+        IntKeyColumn(IntColumn column) { this.column = column; }
+
+        @Override
+        int hash(int rowIdx) { return Integer.hashCode(this.column.getInt(rowIdx)); }
+
+        @Override
+        boolean equals(int rowOne, int rowTwo) { return this.column.getInt(rowOne) == this.column.getInt(rowTwo); }
+    }
+
+    /**
+     * Key column for a dictionary encoded column, comparing the codes rather than the strings.
+     */
+    static final class DictionaryKeyColumn extends KeyColumn {
+
+        private final DictionaryColumn column;
+
+        DictionaryKeyColumn(DictionaryColumn column) { this.column = column; }
+
+        @Override
+        int hash(int rowIdx) { return this.column.getCode(rowIdx); }
+
+        @Override
+        boolean equals(int rowOne, int rowTwo) { return this.column.getCode(rowOne) == this.column.getCode(rowTwo); }
+    }
+
+    /**
+     * Key column for a long column.
+     */
+    static final class LongKeyColumn extends KeyColumn {
+
+        private final LongColumn column;
+
+        LongKeyColumn(LongColumn column) { this.column = column; }
+
+        @Override
+        int hash(int rowIdx) { return Long.hashCode(this.column.getLong(rowIdx)); }
+
+        @Override
+        boolean equals(int rowOne, int rowTwo) { return this.column.getLong(rowOne) == this.column.getLong(rowTwo); }
+    }
+
+    /**
+     * Key column for a double column. Values are equal as Double.equals, so NaN values form a single group.
+     */
+    static final class DoubleKeyColumn extends KeyColumn {
+
+        private final DoubleColumn column;
+
+        DoubleKeyColumn(DoubleColumn column) { this.column = column; }
+
+        @Override
+        int hash(int rowIdx) { return Double.hashCode(this.column.getDouble(rowIdx)); }
+
+        @Override
+        boolean equals(int rowOne, int rowTwo) {
+            return Double.doubleToLongBits(this.column.getDouble(rowOne)) == Double.doubleToLongBits(this.column.getDouble(rowTwo));
+        }
+    }
+
+    /**
+     * Key column for a boolean column.
+     */
+    static final class BooleanKeyColumn extends KeyColumn {
+
+        private final BooleanColumn column;
+
+        BooleanKeyColumn(BooleanColumn column) { this.column = column; }
+
+        @Override
+        int hash(int rowIdx) { return Boolean.hashCode(this.column.getBoolean(rowIdx)); }
+
+        @Override
+        boolean equals(int rowOne, int rowTwo) { return this.column.getBoolean(rowOne) == this.column.getBoolean(rowTwo); }
+    }
+
+    /**
+     * Key column for any other column type.
+     */
+    static final class ObjectKeyColumn extends KeyColumn {
+
+        private final IDataColumn column;
+
+        ObjectKeyColumn(IDataColumn column) { this.column = column; }
+
+        @Override
+        int hash(int rowIdx) { return Objects.hashCode(this.column.valueAt(rowIdx)); }
+
+        @Override
+        boolean equals(int rowOne, int rowTwo) { return Objects.equals(this.column.valueAt(rowOne), this.column.valueAt(rowTwo)); }
+    }
+}
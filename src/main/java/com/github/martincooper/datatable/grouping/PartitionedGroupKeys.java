@@ -0,0 +1,289 @@
+package com.github.martincooper.datatable.grouping;
+
+import com.github.martincooper.datatable.DataTableException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * PartitionedGroupKeys. Groups rows in parallel, splitting the keys into partitions
+ * by hash, with each partition grouped and aggregated by a single task.
+ *
+ * Every row for a group is in the same partition, and each partition processes its rows
+ * in row order, so every aggregate sees its values in the same order as a sequential
+ * group by. Floating point sums are therefore identical to the sequential results,
+ * which wouldn't be the case if partial results for ranges of rows were combined.
+ * Group ids are then renumbered in order of first appearance, matching the sequential order.
+ */
+final class PartitionedGroupKeys {
+
+    private static final int MAX_PARTITIONS = 64;
+    private static final int ROWS_PER_HASH_TASK = 65536;
+
+    private final KeyColumn[] keyColumns;
+    private final int[] rowIndexes;
+    private final ForkJoinPool pool;
+    private final int partitionBits;
+
+    private final int[] partitionStarts;
+    private final int[][] partitionRows;
+    private final int[][] partitionGroupIds;
+    private final int[][] partitionFirstPositions;
+    private final int[] partitionGroupCounts;
+
+    private int groupCount;
+    private int[] firstRows;
+
+    private PartitionedGroupKeys(KeyColumn[] keyColumns, int[] rowIndexes, ForkJoinPool pool) {
+        int partitionCount = Math.min(MAX_PARTITIONS, Integer.highestOneBit(pool.getParallelism()) * 4);
+
+        this.keyColumns = keyColumns;
+        this.rowIndexes = rowIndexes;
+        this.pool = pool;
+        this.partitionBits = Integer.numberOfTrailingZeros(partitionCount);
+        this.partitionStarts = new int[partitionCount + 1];
+        this.partitionRows = new int[partitionCount][];
+        this.partitionGroupIds = new int[partitionCount][];
+        this.partitionFirstPositions = new int[partitionCount][];
+        this.partitionGroupCounts = new int[partitionCount];
+    }
+
+    /**
+     * Groups the rows in parallel, then calculates the aggregates for each group.
+     *
+     * @param keyColumns The group by columns.
+     * @param rowIndexes The indexes of the rows being grouped.
+     * @param accumulators The accumulators for the aggregates.
+     * @param pool The fork / join pool to run on.
+     * @return Returns the index of the first row in each group, in order of first appearance.
+     * @throws DataTableException Thrown if any of the parallel tasks fail.
+     */
+    static int[] groupAndAccumulate(KeyColumn[] keyColumns, int[] rowIndexes, Iterable<Accumulator> accumulators,
+                                    ForkJoinPool pool) throws DataTableException {
+        PartitionedGroupKeys groupKeys = new PartitionedGroupKeys(keyColumns, rowIndexes, pool);
+
+        int[][] rangeCounts = new int[rangeCount(rowIndexes.length)][];
+        int[] hashes = groupKeys.hashRows(rangeCounts);
+        int[] positions = groupKeys.scatterRows(hashes, rangeCounts);
+        groupKeys.groupPartitions(hashes, positions);
+        int[][] globalGroupIds = groupKeys.orderGroups();
+
+        for (Accumulator accumulator : accumulators)
+            accumulator.init(groupKeys.groupCount);
+
+        groupKeys.accumulatePartitions(globalGroupIds, accumulators);
+        return groupKeys.firstRows;
+    }
+
+    /**
+     * Calculates the hash of every row, in parallel over ranges of rows,
+     * counting the rows in each partition for each range at the same time.
+     */
+    private int[] hashRows(int[][] rangeCounts) throws DataTableException {
+        int[] hashes = new int[this.rowIndexes.length];
+        List<Callable<Object>> tasks = new ArrayList<>();
+
+        for (int range = 0; range < rangeCounts.length; range++) {
+            int taskRange = range;
+            int start = range * ROWS_PER_HASH_TASK;
+            int end = Math.min(hashes.length, start + ROWS_PER_HASH_TASK);
+
+            tasks.add(() -> {
+                int[] counts = new int[this.partitionRows.length];
+
+                for (int idx = start; idx < end; idx++) {
+                    hashes[idx] = GroupKeys.hash(this.keyColumns, this.rowIndexes[idx]);
+                    counts[partitionOf(hashes[idx])]++;
+                }
+
+                rangeCounts[taskRange] = counts;
+                return null;
+            });
+        }
+
+        invokeAll(tasks);
+        return hashes;
+    }
+
+    /**
+     * Scatters the row positions into a slice per partition, in parallel over the same
+     * ranges of rows as the hashes. The offset of each range within each partition comes
+     * from the counts, so every partition's positions stay in ascending order.
+     *
+     * @return Returns the positions of the rows, grouped by partition.
+     */
+    private int[] scatterRows(int[] hashes, int[][] rangeCounts) throws DataTableException {
+        int[][] rangeOffsets = new int[rangeCounts.length][this.partitionRows.length];
+        int offset = 0;
+
+        for (int partition = 0; partition < this.partitionRows.length; partition++) {
+            this.partitionStarts[partition] = offset;
+
+            for (int range = 0; range < rangeCounts.length; range++) {
+                rangeOffsets[range][partition] = offset;
+                offset += rangeCounts[range][partition];
+            }
+        }
+
+        this.partitionStarts[this.partitionRows.length] = offset;
+
+        int[] positions = new int[hashes.length];
+        List<Callable<Object>> tasks = new ArrayList<>();
+
+        for (int range = 0; range < rangeCounts.length; range++) {
+            int[] offsets = rangeOffsets[range];
+            int start = range * ROWS_PER_HASH_TASK;
+            int end = Math.min(hashes.length, start + ROWS_PER_HASH_TASK);
+
+            tasks.add(() -> {
+                for (int idx = start; idx < end; idx++)
+                    positions[offsets[partitionOf(hashes[idx])]++] = idx;
+
+                return null;
+            });
+        }
+
+        invokeAll(tasks);
+        return positions;
+    }
+
+    /**
+     * Groups the rows in each partition, with a task per partition.
+     */
+    private void groupPartitions(int[] hashes, int[] positions) throws DataTableException {
+        List<Callable<Object>> tasks = new ArrayList<>();
+
+        for (int partition = 0; partition < this.partitionRows.length; partition++) {
+            int taskPartition = partition;
+            tasks.add(() -> {
+                groupPartition(taskPartition, hashes, positions);
+                return null;
+            });
+        }
+
+        invokeAll(tasks);
+    }
+
+    private void groupPartition(int partition, int[] hashes, int[] positions) {
+        int start = this.partitionStarts[partition];
+        int rowCount = this.partitionStarts[partition + 1] - start;
+
+        int[] rows = new int[rowCount];
+        int[] groupIds = new int[rowCount];
+        int[] firstPositions = new int[16];
+        GroupKeys groupKeys = new GroupKeys(this.keyColumns);
+        int firstPositionCount = 0;
+        int partitionIdx = 0;
+
+        for (int idx = start; idx < start + rowCount; idx++) {
+            int position = positions[idx];
+            int rowIdx = this.rowIndexes[position];
+            int groupId = groupKeys.findOrAddGroup(rowIdx, hashes[position]);
+
+            // Record the position each new group first appears at.
+            if (groupId == firstPositionCount) {
+                if (groupId == firstPositions.length)
+                    firstPositions = Arrays.copyOf(firstPositions, firstPositions.length * 2);
+
+                firstPositions[firstPositionCount++] = position;
+            }
+
+            rows[partitionIdx] = rowIdx;
+            groupIds[partitionIdx++] = groupId;
+        }
+
+        this.partitionRows[partition] = rows;
+        this.partitionGroupIds[partition] = groupIds;
+        this.partitionFirstPositions[partition] = firstPositions;
+        this.partitionGroupCounts[partition] = groupKeys.groupCount();
+    }
+
+    /**
+     * Numbers the groups across all the partitions in order of first appearance.
+     *
+     * @return Returns the mapping from each partition's group ids to the global group ids.
+     */
+    private int[][] orderGroups() {
+        this.groupCount = Arrays.stream(this.partitionGroupCounts).sum();
+
+        // Sort the groups by first position, tagged with their partition. Within a
+        // partition, group ids are already in order of first appearance.
+        long[] groups = new long[this.groupCount];
+        int idx = 0;
+
+        for (int partition = 0; partition < this.partitionRows.length; partition++) {
+            for (int groupId = 0; groupId < this.partitionGroupCounts[partition]; groupId++)
+                groups[idx++] = ((long)this.partitionFirstPositions[partition][groupId] << 8) | partition;
+        }
+
+        Arrays.sort(groups);
+
+        int[][] globalGroupIds = new int[this.partitionRows.length][];
+        int[] nextGroupIds = new int[this.partitionRows.length];
+        this.firstRows = new int[this.groupCount];
+
+        for (int partition = 0; partition < globalGroupIds.length; partition++)
+            globalGroupIds[partition] = new int[this.partitionGroupCounts[partition]];
+
+        for (int globalId = 0; globalId < this.groupCount; globalId++) {
+            int partition = (int)(groups[globalId] & 0xFF);
+            int position = (int)(groups[globalId] >>> 8);
+
+            globalGroupIds[partition][nextGroupIds[partition]++] = globalId;
+            this.firstRows[globalId] = this.rowIndexes[position];
+        }
+
+        return globalGroupIds;
+    }
+
+    /**
+     * Calculates the aggregates, with a task per partition. Each task only updates its own groups.
+     */
+    private void accumulatePartitions(int[][] globalGroupIds, Iterable<Accumulator> accumulators) throws DataTableException {
+        List<Callable<Object>> tasks = new ArrayList<>();
+
+        for (int partition = 0; partition < this.partitionRows.length; partition++) {
+            int[] rows = this.partitionRows[partition];
+            int[] groupIds = this.partitionGroupIds[partition];
+            int[] toGlobal = globalGroupIds[partition];
+
+            tasks.add(() -> {
+                for (int idx = 0; idx < groupIds.length; idx++)
+                    groupIds[idx] = toGlobal[groupIds[idx]];
+
+                for (Accumulator accumulator : accumulators)
+                    accumulator.accumulate(rows, groupIds);
+
+                return null;
+            });
+        }
+
+        invokeAll(tasks);
+    }
+
+    private static int rangeCount(int rowCount) {
+        return (rowCount + ROWS_PER_HASH_TASK - 1) / ROWS_PER_HASH_TASK;
+    }
+
+    private int partitionOf(int hash) {
+        return this.partitionBits == 0 ? 0 : hash >>> (32 - this.partitionBits);
+    }
+
+    private void invokeAll(List<Callable<Object>> tasks) throws DataTableException {
+        for (Future<Object> future : this.pool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                throw new DataTableException("Parallel group by failed.", ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new DataTableException("Parallel group by was interrupted.", ex);
+            }
+        }
+    }
+}
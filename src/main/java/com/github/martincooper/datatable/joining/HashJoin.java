@@ -0,0 +1,319 @@
+package com.github.martincooper.datatable.joining;
+
+import com.github.martincooper.datatable.*;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+import io.vavr.collection.Vector;
+import io.vavr.control.Try;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * HashJoin class. Joins the rows of two tables with equal values in their key columns,
+ * returning the results as a new DataTable.
+ *
+ * A hash index is built over the key columns of the smaller table, then probed with each
+ * row of the larger table. The matches are collected as a pair of row index arrays, one per
+ * table, and each result column is gathered from its source column in a single pass.
+ *
+ * The results contain the left columns followed by the right columns, other than the right
+ * key columns, as their values are the same as the left key values. Right columns with the
+ * same name as a left column are prefixed with the right table name, as "Table.Column".
+ * Rows are in left row order, with the matches for each left row in right row order, then
+ * for right and full joins, the unmatched right rows in right row order. The key values of
+ * the unmatched right rows are in the left key columns.
+ *
+ * Rows with a null value in any key column never match, though are still included by the
+ * outer joins, as in SQL.
+ */
+public final class HashJoin {
+
+    private final DataTable left;
+    private final DataTable right;
+    private final JoinType joinType;
+    private final Seq<IDataColumn> leftKeys;
+    private final Seq<IDataColumn> rightKeys;
+
+    private HashJoin(DataTable left, DataTable right, JoinType joinType, Seq<IDataColumn> leftKeys, Seq<IDataColumn> rightKeys) {
+        this.left = left;
+        this.right = right;
+        this.joinType = joinType;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+    }
+
+    /**
+     * Joins two tables on the specified key columns.
+     *
+     * @param left The left table.
+     * @param right The right table.
+     * @param on The key columns to join on.
+     * @param joinType The type of join.
+     * @return Returns a new DataTable containing the results, or a Failure.
+     */
+    public static Try<DataTable> join(DataTable left, DataTable right, JoinOn on, JoinType joinType) {
+        Guard.notNull(left, "left");
+        Guard.notNull(right, "right");
+        Guard.notNull(on, "on");
+        Guard.notNull(joinType, "joinType");
+
+        if (on.leftColumnNames().isEmpty())
+            return DataTableException.tryError("Join must have at least one key column.");
+
+        if (on.leftColumnNames().length() != on.rightColumnNames().length())
+            return DataTableException.tryError("Join must have the same number of left and right key columns.");
+
+        Try<Seq<IDataColumn>> leftKeys = Try.sequence(on.leftColumnNames().map(left.columns()::tryGet));
+        Try<Seq<IDataColumn>> rightKeys = Try.sequence(on.rightColumnNames().map(right.columns()::tryGet));
+
+        return leftKeys.flatMap(lKeys -> rightKeys.flatMap(rKeys -> validateTypes(lKeys, rKeys)
+                .flatMap(ok -> new HashJoin(left, right, joinType, lKeys, rKeys).performJoin())));
+    }
+
+    private static Try<Boolean> validateTypes(Seq<IDataColumn> leftKeys, Seq<IDataColumn> rightKeys) {
+        return leftKeys.zip(rightKeys)
+                .find(keys -> !keys._1.type().equals(keys._2.type()))
+                .map(keys -> DataTableException.<Boolean>tryError("Join columns "
+                        + keys._1.name() + " and " + keys._2.name() + " have different types."))
+                .getOrElse(Try.success(true));
+    }
+
+    private Try<DataTable> performJoin() {
+        return Try.of(this::matchRows).flatMap(this::buildTable);
+    }
+
+    /**
+     * Matches the rows of the two tables, building the index over the smaller table.
+     *
+     * @return Returns the matching row pairs, in result order.
+     */
+    private RowPairs matchRows() {
+        boolean buildLeft = this.left.rowCount() < this.right.rowCount();
+        boolean keepLeft = this.joinType == JoinType.Left || this.joinType == JoinType.Full;
+        boolean keepRight = this.joinType == JoinType.Right || this.joinType == JoinType.Full;
+
+        Seq<IDataColumn> buildKeys = buildLeft ? this.leftKeys : this.rightKeys;
+        Seq<IDataColumn> probeKeys = buildLeft ? this.rightKeys : this.leftKeys;
+
+        JoinKeyColumn[] keys = buildKeys.zipWith(probeKeys, JoinKeyColumn::create).toJavaList().toArray(new JoinKeyColumn[0]);
+
+        int buildCount = buildLeft ? this.left.rowCount() : this.right.rowCount();
+        int probeCount = buildLeft ? this.right.rowCount() : this.left.rowCount();
+
+        JoinIndex index = JoinIndex.build(keys, buildCount);
+        boolean keepBuild = buildLeft ? keepLeft : keepRight;
+        boolean keepProbe = buildLeft ? keepRight : keepLeft;
+
+        boolean[] buildMatched = new boolean[keepBuild ? buildCount : 0];
+        boolean[] probeMatched = new boolean[keepProbe && buildLeft ? probeCount : 0];
+        RowPairs pairs = new RowPairs(Math.max(buildCount, probeCount));
+
+        for (int probeRow = 0; probeRow < probeCount; probeRow++) {
+            boolean matched = false;
+
+            if (!index.isProbeNull(probeRow)) {
+                int hash = index.probeHash(probeRow);
+
+                for (int buildRow = index.firstMatch(probeRow, hash); buildRow >= 0; buildRow = index.nextMatch(buildRow, probeRow, hash)) {
+                    if (buildLeft) pairs.add(buildRow, probeRow);
+                    else pairs.add(probeRow, buildRow);
+
+                    if (keepBuild) buildMatched[buildRow] = true;
+                    matched = true;
+                }
+            }
+
+            // Unmatched left rows stay in left row order, unmatched right rows are added at the end.
+            if (buildLeft && keepProbe) probeMatched[probeRow] = matched;
+            else if (!matched && keepProbe) pairs.add(probeRow, -1);
+        }
+
+        if (buildLeft) {
+            if (keepLeft) pairs.addUnmatched(buildMatched, true);
+            pairs.sortByLeft(this.left.rowCount());
+        }
+
+        pairs.matchedCount = pairs.size;
+
+        if (keepRight) pairs.addUnmatched(buildLeft ? probeMatched : buildMatched, false);
+
+        return pairs;
+    }
+
+    private Try<DataTable> buildTable(RowPairs pairs) {
+        Set<String> leftNames = HashSet.ofAll(this.left.columns().map(IDataColumn::name));
+        Set<String> rightKeyNames = HashSet.ofAll(this.rightKeys.map(IDataColumn::name));
+
+        Seq<IDataColumn> rightColumns = Vector.ofAll(this.right.columns())
+                .filter(col -> !rightKeyNames.contains(col.name()))
+                .map(col -> leftNames.contains(col.name()) ? col.withName(this.right.name() + "." + col.name()) : col);
+
+        int[] leftRows = Arrays.copyOf(pairs.left, pairs.size);
+        int[] rightRows = Arrays.copyOf(pairs.right, pairs.size);
+        boolean hasUnmatchedRight = pairs.matchedCount < pairs.size;
+
+        Seq<String> leftKeyNames = this.leftKeys.map(IDataColumn::name);
+
+        // The unmatched right rows have no left row, so take their key values from the right key columns.
+        Try<Seq<IDataColumn>> leftCols = Try.sequence(this.left.columns().map(col -> {
+            int keyIdx = hasUnmatchedRight ? leftKeyNames.indexOf(col.name()) : -1;
+
+            return keyIdx < 0
+                    ? col.buildFromRowsWithNulls(leftRows)
+                    : Try.of(() -> gatherKey(col, this.rightKeys.get(keyIdx), leftRows, rightRows));
+        }));
+
+        Try<Seq<IDataColumn>> rightCols = Try.sequence(rightColumns.map(col -> col.buildFromRowsWithNulls(rightRows)));
+
+        return leftCols.flatMap(lCols -> rightCols
+                .flatMap(rCols -> DataTable.build(this.left.name(), Vector.ofAll(lCols).appendAll(rCols))));
+    }
+
+    /**
+     * Gathers a left key column in a single pass, taking the value from the right key
+     * column for the unmatched right rows, which have no left row.
+     */
+    private static IDataColumn gatherKey(IDataColumn leftKey, IDataColumn rightKey, int[] leftRows, int[] rightRows) {
+        PrimitiveColumn.checkReadable(leftKey);
+        PrimitiveColumn.checkReadable(rightKey);
+
+        int count = leftRows.length;
+        BitSet nulls = new BitSet();
+
+        if (leftKey instanceof IntColumn && rightKey instanceof IntColumn) {
+            int[] values = new int[count];
+
+            for (int idx = 0; idx < count; idx++) {
+                IntColumn source = (IntColumn)(leftRows[idx] >= 0 ? leftKey : rightKey);
+                int row = leftRows[idx] >= 0 ? leftRows[idx] : rightRows[idx];
+
+                if (source.isNull(row)) nulls.set(idx);
+                else values[idx] = source.getInt(row);
+            }
+
+            return new IntColumn(leftKey.name(), values, nulls);
+        }
+
+        if (leftKey instanceof LongColumn && rightKey instanceof LongColumn) {
+            long[] values = new long[count];
+
+            for (int idx = 0; idx < count; idx++) {
+                LongColumn source = (LongColumn)(leftRows[idx] >= 0 ? leftKey : rightKey);
+                int row = leftRows[idx] >= 0 ? leftRows[idx] : rightRows[idx];
+
+                if (source.isNull(row)) nulls.set(idx);
+                else values[idx] = source.getLong(row);
+            }
+
+            return new LongColumn(leftKey.name(), values, nulls);
+        }
+
+        if (leftKey instanceof DoubleColumn && rightKey instanceof DoubleColumn) {
+            double[] values = new double[count];
+
+            for (int idx = 0; idx < count; idx++) {
+                DoubleColumn source = (DoubleColumn)(leftRows[idx] >= 0 ? leftKey : rightKey);
+                int row = leftRows[idx] >= 0 ? leftRows[idx] : rightRows[idx];
+
+                if (source.isNull(row)) nulls.set(idx);
+                else values[idx] = source.getDouble(row);
+            }
+
+            return new DoubleColumn(leftKey.name(), values, nulls);
+        }
+
+        if (leftKey instanceof BooleanColumn && rightKey instanceof BooleanColumn) {
+            boolean[] values = new boolean[count];
+
+            for (int idx = 0; idx < count; idx++) {
+                BooleanColumn source = (BooleanColumn)(leftRows[idx] >= 0 ? leftKey : rightKey);
+                int row = leftRows[idx] >= 0 ? leftRows[idx] : rightRows[idx];
+
+                if (source.isNull(row)) nulls.set(idx);
+                else values[idx] = source.getBoolean(row);
+            }
+
+            return new BooleanColumn(leftKey.name(), values, nulls);
+        }
+
+        Object[] values = (Object[])Array.newInstance((Class<?>)leftKey.type(), count);
+
+        for (int idx = 0; idx < count; idx++) {
+            values[idx] = leftRows[idx] >= 0
+                    ? leftKey.valueAt(leftRows[idx])
+                    : rightKey.valueAt(rightRows[idx]);
+        }
+
+        return leftKey instanceof DictionaryColumn
+                ? new DictionaryColumn(leftKey.name(), (String[])values)
+                : createColumn((Class<?>)leftKey.type(), leftKey.name(), values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> IDataColumn createColumn(Class<T> type, String columnName, Object[] values) {
+        return new DataColumn<>(type, columnName, (T[])values);
+    }
+
+    /**
+     * The pairs of matching row indexes, with -1 where there's no row in one of the tables.
+     */
+    private static final class RowPairs {
+
+        private int[] left;
+        private int[] right;
+        private int size;
+        private int matchedCount;
+
+        RowPairs(int capacity) {
+            this.left = new int[Math.max(16, capacity)];
+            this.right = new int[this.left.length];
+        }
+
+        void add(int leftRow, int rightRow) {
+            if (this.size == this.left.length) {
+                this.left = Arrays.copyOf(this.left, this.size * 2);
+                this.right = Arrays.copyOf(this.right, this.size * 2);
+            }
+
+            this.left[this.size] = leftRow;
+            this.right[this.size++] = rightRow;
+        }
+
+        void addUnmatched(boolean[] matched, boolean isLeft) {
+            for (int row = 0; row < matched.length; row++) {
+                if (matched[row]) continue;
+
+                if (isLeft) add(row, -1);
+                else add(-1, row);
+            }
+        }
+
+        /**
+         * Stable counting sort of the pairs by left row, keeping the right row order of each left row's matches.
+         */
+        void sortByLeft(int leftCount) {
+            int[] offsets = new int[leftCount + 1];
+
+            for (int idx = 0; idx < this.size; idx++)
+                offsets[this.left[idx] + 1]++;
+
+            for (int idx = 0; idx < leftCount; idx++)
+                offsets[idx + 1] += offsets[idx];
+
+            int[] sortedLeft = new int[this.left.length];
+            int[] sortedRight = new int[this.right.length];
+
+            for (int idx = 0; idx < this.size; idx++) {
+                int position = offsets[this.left[idx]]++;
+                sortedLeft[position] = this.left[idx];
+                sortedRight[position] = this.right[idx];
+            }
+
+            this.left = sortedLeft;
+            this.right = sortedRight;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.martincooper.datatable.joining;
+
+import java.util.Arrays;
+
+/**
+ * JoinIndex. A chained hash index over the key columns of the build side of a hash join.
+ * Each bucket holds the first build row with that bucket's hash, with the remaining rows
+ * linked through an array, so the index is three int arrays with no per row allocation.
+ * Rows are inserted in reverse, so each chain holds its rows in ascending order, and the
+ * hash of each row is kept to skip comparing the keys of rows in the same bucket.
+ *
+ * Rows with a null in any key column are left out of the index, as null keys never match.
+ */
+final class JoinIndex {
+
+    private final JoinKeyColumn[] keys;
+    private final int[] buckets;
+    private final int[] next;
+    private final int[] hashes;
+    private final int mask;
+
+    private JoinIndex(JoinKeyColumn[] keys, int rowCount) {
+        int capacity = Integer.highestOneBit(Math.max(1, rowCount) * 2 - 1) << 1;
+
+        this.keys = keys;
+        this.buckets = new int[capacity];
+        this.next = new int[rowCount];
+        this.hashes = new int[rowCount];
+        this.mask = capacity - 1;
+
+        Arrays.fill(this.buckets, -1);
+    }
+
+    /**
+     * Builds the index over the rows of the build side.
+     *
+     * @param keys The join key columns.
+     * @param rowCount The number of rows on the build side.
+     * @return Returns the index.
+     */
+    static JoinIndex build(JoinKeyColumn[] keys, int rowCount) {
+        JoinIndex index = new JoinIndex(keys, rowCount);
+
+        for (int row = rowCount - 1; row >= 0; row--) {
+            if (index.isBuildNull(row)) continue;
+
+            int hash = index.buildHash(row);
+            int bucket = hash & index.mask;
+
+            index.hashes[row] = hash;
+            index.next[row] = index.buckets[bucket];
+            index.buckets[bucket] = row;
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the hash of the keys in a probe row, which has no null keys.
+     *
+     * @param probeRow The probe row index.
+     * @return Returns the hash.
+     */
+    int probeHash(int probeRow) {
+        int hash = 0;
+
+        for (JoinKeyColumn key : this.keys)
+            hash = hash * 31 + key.probeHash(probeRow);
+
+        return spread(hash);
+    }
+
+    /**
+     * Checks if any of the keys in a probe row are null.
+     *
+     * @param probeRow The probe row index.
+     * @return Returns true if any key is null.
+     */
+    boolean isProbeNull(int probeRow) {
+        for (JoinKeyColumn key : this.keys) {
+            if (key.isProbeNull(probeRow)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the first build row matching a probe row.
+     *
+     * @param probeRow The probe row index.
+     * @param hash The hash of the probe row.
+     * @return Returns the build row index, or -1 if there isn't one.
+     */
+    int firstMatch(int probeRow, int hash) {
+        return match(this.buckets[hash & this.mask], probeRow, hash);
+    }
+
+    /**
+     * Finds the next build row matching a probe row, after a previous match.
+     *
+     * @param buildRow The previous matching build row index.
+     * @param probeRow The probe row index.
+     * @param hash The hash of the probe row.
+     * @return Returns the build row index, or -1 if there isn't one.
+     */
+    int nextMatch(int buildRow, int probeRow, int hash) {
+        return match(this.next[buildRow], probeRow, hash);
+    }
+
+    private int match(int buildRow, int probeRow, int hash) {
+        for (int row = buildRow; row >= 0; row = this.next[row]) {
+            if (this.hashes[row] == hash && keysEqual(row, probeRow)) return row;
+        }
+
+        return -1;
+    }
+
+    private boolean keysEqual(int buildRow, int probeRow) {
+        for (JoinKeyColumn key : this.keys) {
+            if (!key.equals(buildRow, probeRow)) return false;
+        }
+
+        return true;
+    }
+
+    private int buildHash(int buildRow) {
+        int hash = 0;
+
+        for (JoinKeyColumn key : this.keys)
+            hash = hash * 31 + key.buildHash(buildRow);
+
+        return spread(hash);
+    }
+
+    private boolean isBuildNull(int buildRow) {
+        for (JoinKeyColumn key : this.keys) {
+            if (key.isBuildNull(buildRow)) return true;
+        }
+
+        return false;
+    }
+
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+}
@@ -0,0 +1,270 @@
+package com.github.martincooper.datatable.joining;
+
+import com.github.martincooper.datatable.*;
+
+import java.util.Objects;
+
+/**
+ * JoinKeyColumn. Hashes and compares the values of a pair of join columns, one from the
+ * build side and one from the probe side of a hash join. When both columns are the same
+ * primitive column type the values are read without boxing. Equal values in either column
+ * have the same hash code, so build and probe rows can share a hash index.
+ */
+abstract class JoinKeyColumn {
+
+    /**
+     * Returns the hash code of the value in the specified build row.
+     *
+     * @param rowIdx The build row index.
+     * @return Returns the hash code.
+     */
+    abstract int buildHash(int rowIdx);
+
+    /**
+     * Returns the hash code of the value in the specified probe row.
+     *
+     * @param rowIdx The probe row index.
+     * @return Returns the hash code.
+     */
+    abstract int probeHash(int rowIdx);
+
+    /**
+     * Checks if the values in the build row and the probe row are equal.
+     * Neither value is null, as null keys never match.
+     *
+     * @param buildRow The build row index.
+     * @param probeRow The probe row index.
+     * @return Returns true if the values are equal.
+     */
+    abstract boolean equals(int buildRow, int probeRow);
+
+    /**
+     * @param rowIdx The build row index.
+     * @return Returns true if the value in the build row is null.
+     */
+    abstract boolean isBuildNull(int rowIdx);
+
+    /**
+     * @param rowIdx The probe row index.
+     * @return Returns true if the value in the probe row is null.
+     */
+    abstract boolean isProbeNull(int rowIdx);
+
+    /**
+     * Creates the join key column for a pair of columns of the same type.
+     *
+     * @param build The build side column.
+     * @param probe The probe side column.
+     * @return Returns the join key column.
+     */
+    static JoinKeyColumn create(IDataColumn build, IDataColumn probe) {
+        PrimitiveColumn.checkReadable(build);
+        PrimitiveColumn.checkReadable(probe);
+
+        if (build.getClass() != probe.getClass()) return new ObjectJoinKeyColumn(build, probe);
+
+        if (build instanceof DictionaryColumn) return new DictionaryJoinKeyColumn((DictionaryColumn)build, (DictionaryColumn)probe);
+        if (build instanceof IntColumn) return new IntJoinKeyColumn((IntColumn)build, (IntColumn)probe);
+        if (build instanceof LongColumn) return new LongJoinKeyColumn((LongColumn)build, (LongColumn)probe);
+        if (build instanceof DoubleColumn) return new DoubleJoinKeyColumn((DoubleColumn)build, (DoubleColumn)probe);
+        if (build instanceof BooleanColumn) return new BooleanJoinKeyColumn((BooleanColumn)build, (BooleanColumn)probe);
+
+        return new ObjectJoinKeyColumn(build, probe);
+    }
+
+    /**
+     * Base class for primitive join key columns, only checking for nulls in columns which contain them.
+     */
+    abstract static class PrimitiveJoinKeyColumn extends JoinKeyColumn {
+
+        private final PrimitiveColumn<?> build;
+        private final PrimitiveColumn<?> probe;
+        private final boolean buildHasNulls;
+        private final boolean probeHasNulls;
+
+        PrimitiveJoinKeyColumn(PrimitiveColumn<?> build, PrimitiveColumn<?> probe) {
+            this.build = build;
+            this.probe = probe;
+            this.buildHasNulls = build.hasNulls();
+            this.probeHasNulls = probe.hasNulls();
+        }
+
+        @Override
+        boolean isBuildNull(int rowIdx) { return this.buildHasNulls && this.build.isNull(rowIdx); }
+
+        @Override
+        boolean isProbeNull(int rowIdx) { return this.probeHasNulls && this.probe.isNull(rowIdx); }
+    }
+
+    /**
+     * Join key column for a pair of int columns.
+     */
+    static final class IntJoinKeyColumn extends PrimitiveJoinKeyColumn {
+
+        private final IntColumn build;
+        private final IntColumn probe;
+
+        IntJoinKeyColumn(IntColumn build, IntColumn probe) {
+            super(build, probe);
+            this.build = build;
+            this.probe = probe;
+        }
+
+        @Override
+        int buildHash(int rowIdx) { return Integer.hashCode(this.build.getInt(rowIdx)); }
+
+        @Override
+        int probeHash(int rowIdx) { return Integer.hashCode(this.probe.getInt(rowIdx)); }
+
+        @Override
+        boolean equals(int buildRow, int probeRow) { return this.build.getInt(buildRow) == this.probe.getInt(probeRow); }
+    }
+
+    /**
+     * Join key column for a pair of long columns.
+     */
+    static final class LongJoinKeyColumn extends PrimitiveJoinKeyColumn {
+
+        private final LongColumn build;
+        private final LongColumn probe;
+
+        LongJoinKeyColumn(LongColumn build, LongColumn probe) {
+            super(build, probe);
+            this.build = build;
+            this.probe = probe;
+        }
+
+        @Override
+        int buildHash(int rowIdx) { return Long.hashCode(this.build.getLong(rowIdx)); }
+
+        @Override
+        int probeHash(int rowIdx) { return Long.hashCode(this.probe.getLong(rowIdx)); }
+
+        @Override
+        boolean equals(int buildRow, int probeRow) { return this.build.getLong(buildRow) == this.probe.getLong(probeRow); }
+    }
+
+    /**
+     * Join key column for a pair of double columns. Values are equal as Double.equals, as when grouping.
+     */
+    static final class DoubleJoinKeyColumn extends PrimitiveJoinKeyColumn {
+
+        private final DoubleColumn build;
+        private final DoubleColumn probe;
+
+        DoubleJoinKeyColumn(DoubleColumn build, DoubleColumn probe) {
+            super(build, probe);
+            this.build = build;
+            this.probe = probe;
+        }
+
+        @Override
+        int buildHash(int rowIdx) { return Double.hashCode(this.build.getDouble(rowIdx)); }
+
+        @Override
+        int probeHash(int rowIdx) { return Double.hashCode(this.probe.getDouble(rowIdx)); }
+
+        @Override
+        boolean equals(int buildRow, int probeRow) {
+            return Double.doubleToLongBits(this.build.getDouble(buildRow)) == Double.doubleToLongBits(this.probe.getDouble(probeRow));
+        }
+    }
+
+    /**
+     * Join key column for a pair of boolean columns.
+     */
+    static final class BooleanJoinKeyColumn extends PrimitiveJoinKeyColumn {
+
+        private final BooleanColumn build;
+        private final BooleanColumn probe;
+
+        BooleanJoinKeyColumn(BooleanColumn build, BooleanColumn probe) {
+            super(build, probe);
+            this.build = build;
+            this.probe = probe;
+        }
+
+        @Override
+        int buildHash(int rowIdx) { return Boolean.hashCode(this.build.getBoolean(rowIdx)); }
+
+        @Override
+        int probeHash(int rowIdx) { return Boolean.hashCode(this.probe.getBoolean(rowIdx)); }
+
+        @Override
+        boolean equals(int buildRow, int probeRow) { return this.build.getBoolean(buildRow) == this.probe.getBoolean(probeRow); }
+    }
+
+    /**
+     * Join key column for a pair of dictionary encoded columns. Each probe dictionary code is
+     * mapped to the build dictionary code of the same value up front, so rows are compared by
+     * code. Probe values missing from the build dictionary map to the null code, and never match.
+     */
+    static final class DictionaryJoinKeyColumn extends JoinKeyColumn {
+
+        private static final int NULL_CODE = -1;
+
+        private final DictionaryColumn build;
+        private final DictionaryColumn probe;
+        private final int[] buildCodes;
+
+        DictionaryJoinKeyColumn(DictionaryColumn build, DictionaryColumn probe) {
+            this.build = build;
+            this.probe = probe;
+            this.buildCodes = new int[probe.dictionarySize()];
+
+            for (int code = 0; code < this.buildCodes.length; code++) {
+                int buildCode = build.codeOf(probe.dictionaryValue(code));
+                this.buildCodes[code] = buildCode < 0 ? NULL_CODE : buildCode;
+            }
+        }
+
+        @Override
+        int buildHash(int rowIdx) { return this.build.getCode(rowIdx); }
+
+        @Override
+        int probeHash(int rowIdx) { return buildCode(rowIdx); }
+
+        @Override
+        boolean equals(int buildRow, int probeRow) { return this.build.getCode(buildRow) == buildCode(probeRow); }
+
+        @Override
+        boolean isBuildNull(int rowIdx) { return this.build.getCode(rowIdx) == NULL_CODE; }
+
+        @Override
+        boolean isProbeNull(int rowIdx) { return this.probe.getCode(rowIdx) == NULL_CODE; }
+
+        private int buildCode(int probeRow) {
+            int code = this.probe.getCode(probeRow);
+            return code == NULL_CODE ? NULL_CODE : this.buildCodes[code];
+        }
+    }
+
+    /**
+     * Join key column for any other pair of columns, comparing the boxed values.
+     */
+    static final class ObjectJoinKeyColumn extends JoinKeyColumn {
+
+        private final IDataColumn build;
+        private final IDataColumn probe;
+
+        ObjectJoinKeyColumn(IDataColumn build, IDataColumn probe) {
+            this.build = build;
+            this.probe = probe;
+        }
+
+        @Override
+        int buildHash(int rowIdx) { return Objects.hashCode(this.build.valueAt(rowIdx)); }
+
+        @Override
+        int probeHash(int rowIdx) { return Objects.hashCode(this.probe.valueAt(rowIdx)); }
+
+        @Override
+        boolean equals(int buildRow, int probeRow) { return Objects.equals(this.build.valueAt(buildRow), this.probe.valueAt(probeRow)); }
+
+        @Override
+        boolean isBuildNull(int rowIdx) { return this.build.valueAt(rowIdx) == null; }
+
+        @Override
+        boolean isProbeNull(int rowIdx) { return this.probe.valueAt(rowIdx) == null; }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.martincooper.datatable.joining;
+
+import com.github.martincooper.datatable.Guard;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
+/**
+ * JoinOn class. Specifies the key columns used to match the rows of two tables in a join,
+ * either with the same names in both tables, or pairing each left column with a right column.
+ */
+public final class JoinOn {
+
+    private final Seq<String> leftColumnNames;
+    private final Seq<String> rightColumnNames;
+
+    private JoinOn(Seq<String> leftColumnNames, Seq<String> rightColumnNames) {
+        this.leftColumnNames = leftColumnNames;
+        this.rightColumnNames = rightColumnNames;
+    }
+
+    /**
+     * Joins on columns with the same names in both tables.
+     *
+     * @param columnNames The names of the key columns.
+     * @return Returns the join columns.
+     */
+    public static JoinOn on(String... columnNames) {
+        Guard.itemsNotNull(columnNames, "columnNames");
+
+        Seq<String> names = Vector.of(columnNames);
+        return new JoinOn(names, names);
+    }
+
+    /**
+     * Joins on pairs of columns, matching each left column with the right column in the same position.
+     *
+     * @param leftColumnNames The names of the key columns in the left table.
+     * @param rightColumnNames The names of the key columns in the right table.
+     * @return Returns the join columns.
+     */
+    public static JoinOn on(Iterable<String> leftColumnNames, Iterable<String> rightColumnNames) {
+        Guard.itemsNotNull(leftColumnNames, "leftColumnNames");
+        Guard.itemsNotNull(rightColumnNames, "rightColumnNames");
+
+        return new JoinOn(Vector.ofAll(leftColumnNames), Vector.ofAll(rightColumnNames));
+    }
+
+    /**
+     * @return Returns the names of the key columns in the left table.
+     */
+    public Seq<String> leftColumnNames() {
+        return this.leftColumnNames;
+    }
+
+    /**
+     * @return Returns the names of the key columns in the right table.
+     */
+    public Seq<String> rightColumnNames() {
+        return this.rightColumnNames;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.martincooper.datatable.joining;
+
+/**
+ * JoinType Enumeration.
+ */
+public enum JoinType {
+    Inner,
+    Left,
+    Right,
+    Full
+}
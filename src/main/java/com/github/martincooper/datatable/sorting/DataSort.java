@@ -5,7 +5,8 @@ import io.vavr.collection.Seq;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import static io.vavr.API.$;
 import static io.vavr.API.Case;
@@ -28,26 +29,149 @@ public class DataSort {
      * @return Returns a sorted DataView.
      */
     public static Try<DataView> quickSort(DataTable table, Seq<DataRow> rows, Seq<SortItem> sortItems) {
+        int[] rowIndexes = new int[rows.length()];
+        int idx = 0;
+
+        for (DataRow row : rows)
+            rowIndexes[idx++] = row.rowIdx();
+
+        return quickSort(table, rowIndexes, sortItems);
+    }
+
+    /**
+     * Performs a quick sort on a DataTable given the specified parameters.
+     *
+     * @param table The underlying table containing the data.
+     * @param rowIndexes The indexes of the rows in the table to be sorted.
+     * @param sortItems The sort details.
+     * @return Returns a sorted DataView.
+     */
+    public static Try<DataView> quickSort(DataTable table, int[] rowIndexes, Seq<SortItem> sortItems) {
+        return quickSort(table, rowIndexes, sortItems, SortOptions.sequential());
+    }
+
+    /**
+     * Performs a quick sort on a DataTable given the specified parameters.
+     *
+     * @param table The underlying table containing the data.
+     * @param rowIndexes The indexes of the rows in the table to be sorted.
+     * @param sortItems The sort details.
+     * @param sortOptions The sort options, specifying a sequential or parallel sort.
+     * @return Returns a sorted DataView.
+     */
+    public static Try<DataView> quickSort(DataTable table, int[] rowIndexes, Seq<SortItem> sortItems, SortOptions sortOptions) {
+        Guard.notNull(sortOptions, "sortOptions");
+
+        return Match(validateSortColumns(table, sortItems)).of(
+                Case($Success($()), cols -> performQuickSort(table, rowIndexes, cols, sortItems, sortOptions)),
+                Case($Failure($()), Try::failure)
+        );
+    }
+
+    /**
+     * Returns the first rows of a sort on a DataTable, skipping the rows before the offset.
+     * Only the rows required are held while sorting, so this is much cheaper than
+     * a full sort when the limit is small. The results match the same range of a full sort.
+     *
+     * @param table The underlying table containing the data.
+     * @param rowIndexes The indexes of the rows in the table to be sorted, or null for all the rows of the table.
+     * @param sortItems The sort details.
+     * @param offset The number of sorted rows to skip.
+     * @param limit The maximum number of sorted rows to return.
+     * @return Returns a sorted DataView.
+     */
+    public static Try<DataView> topN(DataTable table, int[] rowIndexes, Seq<SortItem> sortItems, int offset, int limit) {
+        if (offset < 0 || limit < 0)
+            return DataTableException.tryError("Invalid offset or limit, must not be negative.");
+
         return Match(validateSortColumns(table, sortItems)).of(
-                Case($Success($()), cols -> Try.success(performQuickSort(table, rows, sortItems))),
+                Case($Success($()), cols -> performTopN(table, rowIndexes, cols, sortItems, offset, limit)),
                 Case($Failure($()), Try::failure)
         );
     }
 
+    private static Try<DataView> performTopN(DataTable table, int[] rowIndexes, Seq<IDataColumn> columns,
+                                             Seq<SortItem> sortItems, int offset, int limit) {
+        int rowCount = rowIndexes == null ? table.rowCount() : rowIndexes.length;
+        int count = (int)Math.min((long)offset + limit, rowCount);
+
+        return Try.of(() -> SortKeyComparator.lookup(columns, sortItems, rowIndexes))
+                .map(comparator -> IndexSort.partialSort(rowCount, count, comparator))
+                .map(positions -> {
+                    int[] sortedIndexes = new int[Math.max(0, positions.length - offset)];
+
+                    for (int idx = 0; idx < sortedIndexes.length; idx++) {
+                        int position = positions[offset + idx];
+                        sortedIndexes[idx] = rowIndexes == null ? position : rowIndexes[position];
+                    }
+
+                    return sortedIndexes;
+                })
+                .flatMap(sortedIndexes -> DataView.build(table, sortedIndexes));
+    }
+
     /**
-     * Convert the data to a List<DataRow> which we can then sort, and rebuild back into a DataView.
+     * Resolves the sort columns and extracts their values once, then sorts
+     * the row positions, and rebuilds the sorted row indexes into a DataView.
      *
      * @param table The original table.
-     * @param dataRows The collection of data rows.
+     * @param rowIndexes The indexes of the rows to be sorted.
+     * @param columns The columns to sort by.
      * @param sortItems The sort item details.
+     * @param sortOptions The sort options.
      * @return Returns a sorted Data View.
      */
-    private static DataView performQuickSort(DataTable table, Seq<DataRow> dataRows, Seq<SortItem> sortItems) {
+    private static Try<DataView> performQuickSort(DataTable table, int[] rowIndexes, Seq<IDataColumn> columns,
+                                                  Seq<SortItem> sortItems, SortOptions sortOptions) {
+        return Try.of(() -> SortKeyComparator.extract(columns, sortItems, rowIndexes))
+                .map(comparator -> sortRowIndexes(rowIndexes, comparator, sortOptions))
+                .flatMap(sortedIndexes -> DataView.build(table, sortedIndexes));
+    }
+
+    /**
+     * Sorts the row positions, and maps them back to row indexes.
+     * Sequential sorts use a radix sort where all the sort keys support it, or
+     * a stable merge sort otherwise. Parallel sorts use a parallel merge sort.
+     *
+     * @param rowIndexes The indexes of the rows being sorted.
+     * @param comparator The comparator, comparing rows by position.
+     * @param sortOptions The sort options.
+     * @return Returns the sorted row indexes.
+     */
+    private static int[] sortRowIndexes(int[] rowIndexes, SortKeyComparator comparator, SortOptions sortOptions) {
+        int[] positions = sortPositions(rowIndexes.length, comparator, sortOptions);
+        int[] sortedIndexes = new int[positions.length];
+
+        for (int idx = 0; idx < positions.length; idx++)
+            sortedIndexes[idx] = rowIndexes[positions[idx]];
+
+        return sortedIndexes;
+    }
+
+    private static int[] sortPositions(int rowCount, SortKeyComparator comparator, SortOptions sortOptions) {
+        if (!sortOptions.isParallel() && comparator.supportsRadixSort())
+            return comparator.radixSort(rowCount);
+
+        int[] positions = IntStream.range(0, rowCount).toArray();
+
+        if (!sortOptions.isParallel())
+            IndexSort.mergeSort(positions, comparator);
+        else if (sortOptions.parallelism() == 0)
+            IndexSort.parallelMergeSort(positions, comparator, ForkJoinPool.commonPool());
+        else
+            parallelSortWithPool(positions, comparator, sortOptions.parallelism());
+
+        return positions;
+    }
+
+    private static void parallelSortWithPool(int[] positions, IndexComparator comparator, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
 
-        // Convert the data to a List<DataRow> which we can then sort, and rebuild back into a DataView.
-        List<DataRow> rowList = dataRows.toJavaList();
-        rowList.sort(new DataRowComparator(sortItems));
-        return DataView.build(table, rowList).get();
+        try {
+            IndexSort.parallelMergeSort(positions, comparator, pool);
+        } finally {
+            pool.shutdown();
+        }
     }
 
     /**
@@ -55,11 +179,11 @@ public class DataSort {
      *
      * @param table The underlying data table.
      * @param sortItems The sort items.
-     * @return Return the validation result.
+     * @return Returns the sort columns, or the validation failure.
      */
-    private static Try<Void> validateSortColumns(DataTable table, Seq<SortItem> sortItems) {
+    private static Try<Seq<IDataColumn>> validateSortColumns(DataTable table, Seq<SortItem> sortItems) {
         return validateSortColumnIdentity(table, sortItems)
-                .flatMap(DataSort::validateColumnsAreComparable);
+                .flatMap(cols -> validateColumnsAreComparable(cols).map(x -> cols));
     }
 
     /**
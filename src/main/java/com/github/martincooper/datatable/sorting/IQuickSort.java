@@ -57,5 +57,32 @@ public interface IQuickSort {
      * @return Returns the results as a sorted Data View.
      */
     Try<DataView> quickSort(Iterable<SortItem> sortItems);
-}
 
+    /**
+     * Table QuickSort by multiple sort items, with the specified sort options.
+     *
+     * @param sortItems The sort items.
+     * @param sortOptions The sort options, specifying a sequential or parallel sort.
+     * @return Returns the results as a sorted Data View.
+     */
+    Try<DataView> quickSort(Iterable<SortItem> sortItems, SortOptions sortOptions);
+
+    /**
+     * Returns the first rows of a table sort by multiple sort items.
+     *
+     * @param sortItems The sort items.
+     * @param n The maximum number of rows to return.
+     * @return Returns the first n sorted rows as a Data View.
+     */
+    Try<DataView> topN(Iterable<SortItem> sortItems, int n);
+
+    /**
+     * Returns a range of the rows of a table sort by multiple sort items.
+     *
+     * @param sortItems The sort items.
+     * @param offset The number of sorted rows to skip.
+     * @param limit The maximum number of rows to return.
+     * @return Returns the range of sorted rows as a Data View.
+     */
+    Try<DataView> topN(Iterable<SortItem> sortItems, int offset, int limit);
+}
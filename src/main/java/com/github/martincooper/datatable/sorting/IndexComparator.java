@@ -0,0 +1,18 @@
+package com.github.martincooper.datatable.sorting;
+
+/**
+ * IndexComparator. Compares two items identified by their int index,
+ * allowing arrays of indexes to be sorted without boxing.
+ */
+@FunctionalInterface
+interface IndexComparator {
+
+    /**
+     * Compares the items at the two indexes.
+     *
+     * @param indexOne The index of the first item.
+     * @param indexTwo The index of the second item.
+     * @return Returns the compare result as an integer.
+     */
+    int compare(int indexOne, int indexTwo);
+}
@@ -0,0 +1,212 @@
+package com.github.martincooper.datatable.sorting;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * IndexSort. Stable merge sort over an array of int indexes,
+ * which can be run sequentially or in parallel.
+ */
+final class IndexSort {
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private IndexSort() { }
+
+    /**
+     * Sorts the indexes in place using the specified comparator.
+     * The sort is stable, so equal items keep their original order.
+     *
+     * @param indexes The indexes to sort.
+     * @param comparator The comparator.
+     */
+    static void mergeSort(int[] indexes, IndexComparator comparator) {
+        mergeSort(indexes, indexes.clone(), 0, indexes.length, comparator);
+    }
+
+    /**
+     * Sorts the indexes in place using the specified comparator, splitting the
+     * work across the fork / join pool. The results are identical to mergeSort.
+     *
+     * @param indexes The indexes to sort.
+     * @param comparator The comparator, which must be safe to call from multiple threads.
+     * @param pool The fork / join pool to sort with.
+     */
+    static void parallelMergeSort(int[] indexes, IndexComparator comparator, ForkJoinPool pool) {
+        int rowsPerTask = SortOptions.rowsPerTask(indexes.length, pool.getParallelism());
+        pool.invoke(new MergeSortTask(indexes, indexes.clone(), 0, indexes.length, rowsPerTask, comparator));
+    }
+
+    /**
+     * Returns the first indexes, in sorted order, out of the indexes 0 to indexCount - 1.
+     * Uses a bounded heap, so only the items returned are held in memory.
+     * Equal items are returned in index order, matching the results of mergeSort.
+     *
+     * @param indexCount The number of indexes.
+     * @param count The number of sorted indexes to return.
+     * @param comparator The comparator.
+     * @return Returns the first sorted indexes.
+     */
+    static int[] partialSort(int indexCount, int count, IndexComparator comparator) {
+        IndexComparator ordering = (indexOne, indexTwo) -> {
+            int compareResult = comparator.compare(indexOne, indexTwo);
+            return compareResult != 0 ? compareResult : Integer.compare(indexOne, indexTwo);
+        };
+
+        // Max heap, holding the lowest items seen so far with the highest at the top.
+        int[] heap = new int[Math.min(count, indexCount)];
+        int size = 0;
+
+        for (int index = 0; index < indexCount && heap.length > 0; index++) {
+            if (size < heap.length) {
+                heap[size] = index;
+                siftUp(heap, size++, ordering);
+            } else if (ordering.compare(index, heap[0]) < 0) {
+                heap[0] = index;
+                siftDown(heap, size, ordering);
+            }
+        }
+
+        mergeSort(heap, ordering);
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int position, IndexComparator comparator) {
+        int value = heap[position];
+
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (comparator.compare(heap[parent], value) >= 0) break;
+
+            heap[position] = heap[parent];
+            position = parent;
+        }
+
+        heap[position] = value;
+    }
+
+    private static void siftDown(int[] heap, int size, IndexComparator comparator) {
+        int value = heap[0];
+        int position = 0;
+
+        while (true) {
+            int child = position * 2 + 1;
+            if (child >= size) break;
+
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) > 0) child++;
+            if (comparator.compare(heap[child], value) <= 0) break;
+
+            heap[position] = heap[child];
+            position = child;
+        }
+
+        heap[position] = value;
+    }
+
+    /**
+     * Sorts a range of the indexes in place, using a working buffer
+     * which must hold the same values as the indexes over the range.
+     *
+     * @param indexes The indexes to sort.
+     * @param buffer The working buffer.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param comparator The comparator.
+     */
+    static void mergeSort(int[] indexes, int[] buffer, int from, int to, IndexComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(indexes, from, to, comparator);
+            return;
+        }
+
+        // Sort each half of the buffer, then merge them back into the indexes.
+        int mid = (from + to) >>> 1;
+        mergeSort(buffer, indexes, from, mid, comparator);
+        mergeSort(buffer, indexes, mid, to, comparator);
+        merge(buffer, indexes, from, mid, to, comparator);
+    }
+
+    /**
+     * Merges the two sorted, adjacent ranges of the source into the destination.
+     *
+     * @param source The source containing the two sorted ranges.
+     * @param dest The destination array.
+     * @param from The start of the first range (inclusive).
+     * @param mid The end of the first range and start of the second.
+     * @param to The end of the second range (exclusive).
+     * @param comparator The comparator.
+     */
+    static void merge(int[] source, int[] dest, int from, int mid, int to, IndexComparator comparator) {
+
+        // Already in order, so just copy.
+        if (comparator.compare(source[mid - 1], source[mid]) <= 0) {
+            System.arraycopy(source, from, dest, from, to - from);
+            return;
+        }
+
+        int left = from;
+        int right = mid;
+
+        for (int idx = from; idx < to; idx++) {
+            if (right >= to || (left < mid && comparator.compare(source[left], source[right]) <= 0))
+                dest[idx] = source[left++];
+            else
+                dest[idx] = source[right++];
+        }
+    }
+
+    private static void insertionSort(int[] indexes, int from, int to, IndexComparator comparator) {
+        for (int idx = from + 1; idx < to; idx++) {
+            int value = indexes[idx];
+            int pos = idx - 1;
+
+            while (pos >= from && comparator.compare(indexes[pos], value) > 0) {
+                indexes[pos + 1] = indexes[pos];
+                pos--;
+            }
+
+            indexes[pos + 1] = value;
+        }
+    }
+
+    /**
+     * Fork / join task which splits the range in the same way as mergeSort,
+     * sorting each half in parallel until the range is small enough to sort directly.
+     */
+    private static final class MergeSortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] indexes;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int rowsPerTask;
+        private final IndexComparator comparator;
+
+        MergeSortTask(int[] indexes, int[] buffer, int from, int to, int rowsPerTask, IndexComparator comparator) {
+            this.indexes = indexes;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.rowsPerTask = rowsPerTask;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.rowsPerTask) {
+                mergeSort(this.indexes, this.buffer, this.from, this.to, this.comparator);
+                return;
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+
+            invokeAll(
+                    new MergeSortTask(this.buffer, this.indexes, this.from, mid, this.rowsPerTask, this.comparator),
+                    new MergeSortTask(this.buffer, this.indexes, mid, this.to, this.rowsPerTask, this.comparator));
+
+            merge(this.buffer, this.indexes, this.from, mid, this.to, this.comparator);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.martincooper.datatable.sorting;
+
+import com.github.martincooper.datatable.sorting.SortKey.NormalizedKey;
+
+/**
+ * RadixSort. Stable radix sort of row positions, using the normalized form of the sort keys.
+ *
+ * The rows are sorted by the first key using an LSD radix sort over its bytes. Runs of rows
+ * with equal values are then sorted in the same way by the next key, and so on. Small runs,
+ * and runs of keys which are only normalized to a prefix, are sorted using a merge sort on the
+ * full comparator instead. Every step is stable, so the results are identical to a stable
+ * comparison sort on the same keys.
+ */
+final class RadixSort {
+
+    private static final int RADIX = 256;
+    private static final int MIN_RADIX_SORT_ROWS = 256;
+
+    private final NormalizedKey[] sortKeys;
+    private final boolean[] descending;
+    private final long[][] normalizedKeys;
+    private final IndexComparator comparator;
+    private final int[] positions;
+    private final int[] buffer;
+
+    private RadixSort(NormalizedKey[] sortKeys, boolean[] descending, IndexComparator comparator, int rowCount) {
+        this.sortKeys = sortKeys;
+        this.descending = descending;
+        this.normalizedKeys = new long[sortKeys.length][];
+        this.comparator = comparator;
+        this.positions = new int[rowCount];
+        this.buffer = new int[rowCount];
+
+        for (int idx = 0; idx < rowCount; idx++)
+            this.positions[idx] = idx;
+    }
+
+    /**
+     * Checks if all the sort keys support normalization, so they can be radix sorted.
+     *
+     * @param sortKeys The sort keys.
+     * @return Returns true if the keys can be radix sorted.
+     */
+    static boolean supports(SortKey[] sortKeys) {
+        for (SortKey sortKey : sortKeys) {
+            if (!(sortKey instanceof NormalizedKey) || ((NormalizedKey)sortKey).normalizedWidth() == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts the row positions using the specified sort keys.
+     *
+     * @param sortKeys The sort keys, all of which must support normalization.
+     * @param descending Flags for each sort key, set if the key is sorted in descending order.
+     * @param comparator The comparator for the same keys, used to sort small runs.
+     * @param rowCount The number of rows being sorted.
+     * @return Returns the sorted row positions.
+     */
+    static int[] sort(SortKey[] sortKeys, boolean[] descending, IndexComparator comparator, int rowCount) {
+        NormalizedKey[] normalizedKeys = new NormalizedKey[sortKeys.length];
+        for (int idx = 0; idx < sortKeys.length; idx++)
+            normalizedKeys[idx] = (NormalizedKey)sortKeys[idx];
+
+        RadixSort radixSort = new RadixSort(normalizedKeys, descending, comparator, rowCount);
+        radixSort.sortRange(0, rowCount, 0);
+        return radixSort.positions;
+    }
+
+    /**
+     * Returns the normalized keys for each row, normalizing them on first use.
+     * Inverting the normalized keys within their width reverses the sort order.
+     */
+    private long[] normalizedKeys(int keyIdx) {
+        if (this.normalizedKeys[keyIdx] != null)
+            return this.normalizedKeys[keyIdx];
+
+        NormalizedKey sortKey = this.sortKeys[keyIdx];
+        int width = sortKey.normalizedWidth();
+        long mask = width == 8 ? -1L : (1L << (width * 8)) - 1;
+        long flip = this.descending[keyIdx] ? mask : 0;
+
+        long[] keys = new long[this.positions.length];
+
+        for (int idx = 0; idx < keys.length; idx++)
+            keys[idx] = sortKey.normalizedKey(idx) ^ flip;
+
+        this.normalizedKeys[keyIdx] = keys;
+        return keys;
+    }
+
+    private void sortRange(int from, int to, int keyIdx) {
+        long[] keys = normalizedKeys(keyIdx);
+        int width = this.sortKeys[keyIdx].normalizedWidth();
+        boolean inBuffer = false;
+
+        for (int byteIdx = 0; byteIdx < width; byteIdx++) {
+            int[] source = inBuffer ? this.buffer : this.positions;
+            int[] dest = inBuffer ? this.positions : this.buffer;
+
+            if (sortByByte(source, dest, from, to, keys, byteIdx * 8))
+                inBuffer = !inBuffer;
+        }
+
+        if (inBuffer)
+            System.arraycopy(this.buffer, from, this.positions, from, to - from);
+
+        boolean exact = this.sortKeys[keyIdx].isNormalizedExact();
+
+        if (!exact || keyIdx < this.sortKeys.length - 1)
+            sortRuns(from, to, keyIdx, exact);
+    }
+
+    /**
+     * Sorts each run of rows with equal normalized values for the key. Runs of
+     * exact keys only need sorting by the remaining keys, so large runs are radix sorted.
+     */
+    private void sortRuns(int from, int to, int keyIdx, boolean exact) {
+        long[] keys = this.normalizedKeys[keyIdx];
+        int runStart = from;
+
+        for (int idx = from + 1; idx <= to; idx++) {
+            if (idx < to && keys[this.positions[idx]] == keys[this.positions[runStart]]) continue;
+
+            if (exact && idx - runStart >= MIN_RADIX_SORT_ROWS) {
+                sortRange(runStart, idx, keyIdx + 1);
+            } else if (idx - runStart > 1) {
+                System.arraycopy(this.positions, runStart, this.buffer, runStart, idx - runStart);
+                IndexSort.mergeSort(this.positions, this.buffer, runStart, idx, this.comparator);
+            }
+
+            runStart = idx;
+        }
+    }
+
+    /**
+     * Performs a single counting sort pass on one byte of the keys.
+     * The pass is skipped if all the keys have the same value for the byte.
+     *
+     * @return Returns true if the sorted positions were written, or false if the pass was skipped.
+     */
+    private static boolean sortByByte(int[] source, int[] dest, int from, int to, long[] keys, int shift) {
+        int[] offsets = new int[RADIX + 1];
+
+        for (int idx = from; idx < to; idx++)
+            offsets[(int)((keys[source[idx]] >>> shift) & 0xFF) + 1]++;
+
+        for (int idx = 1; idx <= RADIX; idx++) {
+            if (offsets[idx] == to - from) return false;
+        }
+
+        offsets[0] = from;
+        for (int idx = 1; idx <= RADIX; idx++)
+            offsets[idx] += offsets[idx - 1];
+
+        for (int idx = from; idx < to; idx++)
+            dest[offsets[(int)((keys[source[idx]] >>> shift) & 0xFF)]++] = source[idx];
+
+        return true;
+    }
+}
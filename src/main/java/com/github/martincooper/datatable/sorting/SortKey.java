@@ -0,0 +1,502 @@
+package com.github.martincooper.datatable.sorting;
+
+import com.github.martincooper.datatable.*;
+
+import java.lang.reflect.Type;
+import java.util.BitSet;
+
+/**
+ * SortKey. Holds the values of a single sort column for the rows being sorted,
+ * extracted once up front so each comparison is a simple array lookup.
+ * Values are indexed by the position of the row in the selection being sorted.
+ */
+abstract class SortKey {
+
+    /**
+     * Compares the values at two positions, in ascending order.
+     * Null values are ordered before all other values.
+     *
+     * @param positionOne The position of the first row.
+     * @param positionTwo The position of the second row.
+     * @return Returns the compare result as an integer.
+     */
+    abstract int compare(int positionOne, int positionTwo);
+
+    /**
+     * Extracts the sort key values for the specified rows of a column.
+     * Int, Long, Double, Boolean and String columns are given typed keys, with the
+     * primitive keys wrapped in a NullableKey where the column contains null values.
+     * Dictionary encoded columns are sorted by their codes, which have the same order
+     * as the values, with null values coded as -1.
+     *
+     * @param column The column to extract the values from.
+     * @param rowIndexes The indexes of the rows being sorted.
+     * @return Returns the sort key.
+     */
+    static SortKey create(IDataColumn column, int[] rowIndexes) {
+        PrimitiveColumn.checkReadable(column);
+
+        if (column instanceof DictionaryColumn) return IntKey.of((DictionaryColumn)column, rowIndexes);
+
+        if (column instanceof PrimitiveColumn) {
+            PrimitiveColumn<?> primitiveColumn = (PrimitiveColumn<?>)column;
+            NormalizedKey sortKey = createPrimitive(primitiveColumn, rowIndexes);
+
+            return primitiveColumn.hasNulls()
+                    ? new NullableKey(sortKey, nullPositions(primitiveColumn, rowIndexes))
+                    : sortKey;
+        }
+
+        Object[] values = new Object[rowIndexes.length];
+        BitSet nulls = new BitSet();
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            values[idx] = column.valueAt(rowIndexes[idx]);
+            if (values[idx] == null) nulls.set(idx);
+        }
+
+        Type type = column.type();
+        NormalizedKey sortKey = null;
+
+        if (type == Integer.class) sortKey = IntKey.of(values);
+        if (type == Long.class) sortKey = LongKey.of(values);
+        if (type == Double.class) sortKey = DoubleKey.of(values);
+        if (type == Boolean.class) sortKey = BooleanKey.of(values);
+
+        if (sortKey != null) return nulls.isEmpty() ? sortKey : new NullableKey(sortKey, nulls);
+        if (type == String.class) return new StringKey(values);
+
+        return new ComparableKey(values);
+    }
+
+    private static NormalizedKey createPrimitive(PrimitiveColumn<?> column, int[] rowIndexes) {
+        if (column instanceof IntColumn) return IntKey.of((IntColumn)column, rowIndexes);
+        if (column instanceof LongColumn) return LongKey.of((LongColumn)column, rowIndexes);
+        if (column instanceof DoubleColumn) return DoubleKey.of((DoubleColumn)column, rowIndexes);
+
+        return BooleanKey.of((BooleanColumn)column, rowIndexes);
+    }
+
+    private static BitSet nullPositions(PrimitiveColumn<?> column, int[] rowIndexes) {
+        BitSet nulls = new BitSet();
+
+        for (int idx = 0; idx < rowIndexes.length; idx++) {
+            if (column.isNull(rowIndexes[idx])) nulls.set(idx);
+        }
+
+        return nulls;
+    }
+
+    /**
+     * Creates a sort key which looks up the values for the specified rows of a
+     * column on each compare, rather than extracting them up front.
+     *
+     * @param column The column to look up the values from.
+     * @param rowIndexes The indexes of the rows being sorted, or null for all the rows in order.
+     * @return Returns the sort key.
+     */
+    static SortKey lookup(IDataColumn column, int[] rowIndexes) {
+        PrimitiveColumn.checkReadable(column);
+
+        if (column instanceof DictionaryColumn) {
+            DictionaryColumn dictColumn = (DictionaryColumn)column;
+            return new LookupKey((one, two) -> Integer.compare(dictColumn.getCode(rowAt(rowIndexes, one)), dictColumn.getCode(rowAt(rowIndexes, two))));
+        }
+
+        // Primitive columns with nulls are compared using their boxed values.
+        if (column instanceof PrimitiveColumn && ((PrimitiveColumn<?>)column).hasNulls())
+            return new LookupKey((one, two) -> compareValues(column.valueAt(rowAt(rowIndexes, one)), column.valueAt(rowAt(rowIndexes, two))));
+
+        if (column instanceof IntColumn) {
+            IntColumn intColumn = (IntColumn)column;
+            return new LookupKey((one, two) -> Integer.compare(intColumn.getInt(rowAt(rowIndexes, one)), intColumn.getInt(rowAt(rowIndexes, two))));
+        }
+
+        if (column instanceof LongColumn) {
+            LongColumn longColumn = (LongColumn)column;
+            return new LookupKey((one, two) -> Long.compare(longColumn.getLong(rowAt(rowIndexes, one)), longColumn.getLong(rowAt(rowIndexes, two))));
+        }
+
+        if (column instanceof DoubleColumn) {
+            DoubleColumn doubleColumn = (DoubleColumn)column;
+            return new LookupKey((one, two) -> Double.compare(doubleColumn.getDouble(rowAt(rowIndexes, one)), doubleColumn.getDouble(rowAt(rowIndexes, two))));
+        }
+
+        if (column instanceof BooleanColumn) {
+            BooleanColumn boolColumn = (BooleanColumn)column;
+            return new LookupKey((one, two) -> Boolean.compare(boolColumn.getBoolean(rowAt(rowIndexes, one)), boolColumn.getBoolean(rowAt(rowIndexes, two))));
+        }
+
+        return new LookupKey((one, two) -> compareValues(column.valueAt(rowAt(rowIndexes, one)), column.valueAt(rowAt(rowIndexes, two))));
+    }
+
+    private static int rowAt(int[] rowIndexes, int position) {
+        return rowIndexes == null ? position : rowIndexes[position];
+    }
+
+    /**
+     * Compares two Comparable values, ordering null values first.
+     * Columns have already been validated as comparable, so the unchecked compare is safe.
+     *
+     * @param valueOne The first value.
+     * @param valueTwo The second value.
+     * @return Returns the compare result as an integer.
+     */
+    @SuppressWarnings({"unchecked"})
+    static int compareValues(Object valueOne, Object valueTwo) {
+        return valueOne == null
+                ? (valueTwo == null ? 0 : -1)
+                : (valueTwo == null ? 1 : ((Comparable)valueOne).compareTo(valueTwo));
+    }
+
+    /**
+     * Base class for sort keys whose values can be normalized to unsigned integers, so can be radix sorted.
+     */
+    abstract static class NormalizedKey extends SortKey {
+
+        /**
+         * Returns the number of bytes in this key's normalized form, or 0 if
+         * the normalized form doesn't fit in a long, so can't be radix sorted.
+         *
+         * @return Returns the width of the normalized key in bytes.
+         */
+        abstract int normalizedWidth();
+
+        /**
+         * Returns the value at the specified position, normalized to an unsigned integer
+         * of normalizedWidth bytes, whose ordering matches the ordering of compare.
+         *
+         * @param position The position of the row.
+         * @return Returns the normalized key.
+         */
+        abstract long normalizedKey(int position);
+
+        /**
+         * Returns true if rows with equal normalized keys are always equal,
+         * or false if the normalized key is only a prefix of the value.
+         *
+         * @return Returns true if the normalized keys are exact.
+         */
+        boolean isNormalizedExact() {
+            return true;
+        }
+    }
+
+    /**
+     * Sort key which looks up the values from the column on each compare.
+     */
+    static final class LookupKey extends SortKey {
+
+        private final IndexComparator comparator;
+
+        private LookupKey(IndexComparator comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            return this.comparator.compare(positionOne, positionTwo);
+        }
+    }
+
+    /**
+     * Sort key for int values.
+     */
+    static final class IntKey extends NormalizedKey {
+
+        private final int[] values;
+
+        private IntKey(int[] values) {
+            this.values = values;
+        }
+
+        static IntKey of(IntColumn column, int[] rowIndexes) {
+            int[] values = new int[rowIndexes.length];
+
+            for (int idx = 0; idx < rowIndexes.length; idx++)
+                values[idx] = column.getInt(rowIndexes[idx]);
+
+            return new IntKey(values);
+        }
+
+        static IntKey of(DictionaryColumn column, int[] rowIndexes) {
+            int[] values = new int[rowIndexes.length];
+
+            for (int idx = 0; idx < rowIndexes.length; idx++)
+                values[idx] = column.getCode(rowIndexes[idx]);
+
+            return new IntKey(values);
+        }
+
+        static IntKey of(Object[] boxedValues) {
+            int[] values = new int[boxedValues.length];
+
+            for (int idx = 0; idx < boxedValues.length; idx++)
+                values[idx] = boxedValues[idx] == null ? 0 : (Integer)boxedValues[idx];
+
+            return new IntKey(values);
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            return Integer.compare(this.values[positionOne], this.values[positionTwo]);
+        }
+
+        @Override
+        int normalizedWidth() {
+            return 4;
+        }
+
+        @Override
+        long normalizedKey(int position) {
+            return (this.values[position] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+    }
+
+    /**
+     * Sort key for long values.
+     */
+    static final class LongKey extends NormalizedKey {
+
+        private final long[] values;
+
+        private LongKey(long[] values) {
+            this.values = values;
+        }
+
+        static LongKey of(LongColumn column, int[] rowIndexes) {
+            long[] values = new long[rowIndexes.length];
+
+            for (int idx = 0; idx < rowIndexes.length; idx++)
+                values[idx] = column.getLong(rowIndexes[idx]);
+
+            return new LongKey(values);
+        }
+
+        static LongKey of(Object[] boxedValues) {
+            long[] values = new long[boxedValues.length];
+
+            for (int idx = 0; idx < boxedValues.length; idx++)
+                values[idx] = boxedValues[idx] == null ? 0 : (Long)boxedValues[idx];
+
+            return new LongKey(values);
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            return Long.compare(this.values[positionOne], this.values[positionTwo]);
+        }
+
+        @Override
+        int normalizedWidth() {
+            return 8;
+        }
+
+        @Override
+        long normalizedKey(int position) {
+            return this.values[position] ^ Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Sort key for double values. Ordered as Double.compareTo.
+     */
+    static final class DoubleKey extends NormalizedKey {
+
+        private final double[] values;
+
+        private DoubleKey(double[] values) {
+            this.values = values;
+        }
+
+        static DoubleKey of(DoubleColumn column, int[] rowIndexes) {
+            double[] values = new double[rowIndexes.length];
+
+            for (int idx = 0; idx < rowIndexes.length; idx++)
+                values[idx] = column.getDouble(rowIndexes[idx]);
+
+            return new DoubleKey(values);
+        }
+
+        static DoubleKey of(Object[] boxedValues) {
+            double[] values = new double[boxedValues.length];
+
+            for (int idx = 0; idx < boxedValues.length; idx++)
+                values[idx] = boxedValues[idx] == null ? 0 : (Double)boxedValues[idx];
+
+            return new DoubleKey(values);
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            return Double.compare(this.values[positionOne], this.values[positionTwo]);
+        }
+
+        @Override
+        int normalizedWidth() {
+            return 8;
+        }
+
+        // Flips the sign bit of positive values, and all the bits of negative values,
+        // so the unsigned ordering of the bits matches Double.compare.
+        @Override
+        long normalizedKey(int position) {
+            long bits = Double.doubleToLongBits(this.values[position]);
+            return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Sort key for boolean values.
+     */
+    static final class BooleanKey extends NormalizedKey {
+
+        private final boolean[] values;
+
+        private BooleanKey(boolean[] values) {
+            this.values = values;
+        }
+
+        static BooleanKey of(BooleanColumn column, int[] rowIndexes) {
+            boolean[] values = new boolean[rowIndexes.length];
+
+            for (int idx = 0; idx < rowIndexes.length; idx++)
+                values[idx] = column.getBoolean(rowIndexes[idx]);
+
+            return new BooleanKey(values);
+        }
+
+        static BooleanKey of(Object[] boxedValues) {
+            boolean[] values = new boolean[boxedValues.length];
+
+            for (int idx = 0; idx < boxedValues.length; idx++)
+                values[idx] = boxedValues[idx] == null ? false : (Boolean)boxedValues[idx];
+
+            return new BooleanKey(values);
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            return Boolean.compare(this.values[positionOne], this.values[positionTwo]);
+        }
+
+        @Override
+        int normalizedWidth() {
+            return 1;
+        }
+
+        @Override
+        long normalizedKey(int position) {
+            return this.values[position] ? 1 : 0;
+        }
+    }
+
+    /**
+     * Sort key wrapping a primitive key for values which contain nulls,
+     * ordering the null values before all other values.
+     */
+    static final class NullableKey extends NormalizedKey {
+
+        private final NormalizedKey sortKey;
+        private final BitSet nulls;
+
+        private NullableKey(NormalizedKey sortKey, BitSet nulls) {
+            this.sortKey = sortKey;
+            this.nulls = nulls;
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            boolean isNullOne = this.nulls.get(positionOne);
+            boolean isNullTwo = this.nulls.get(positionTwo);
+
+            return isNullOne || isNullTwo
+                    ? Boolean.compare(isNullTwo, isNullOne)
+                    : this.sortKey.compare(positionOne, positionTwo);
+        }
+
+        // The wrapped key, with a marker byte for non null values, if it fits in a long.
+        @Override
+        int normalizedWidth() {
+            int width = this.sortKey.normalizedWidth();
+            return width == 0 || width == 8 ? 0 : width + 1;
+        }
+
+        @Override
+        long normalizedKey(int position) {
+            return this.nulls.get(position)
+                    ? 0
+                    : (1L << (this.sortKey.normalizedWidth() * 8)) | this.sortKey.normalizedKey(position);
+        }
+
+        @Override
+        boolean isNormalizedExact() {
+            return this.sortKey.isNormalizedExact();
+        }
+    }
+
+    /**
+     * Sort key for String values, which may contain nulls.
+     * Normalized keys only hold a prefix of each value, so rows with
+     * equal normalized keys must still be compared.
+     */
+    static final class StringKey extends NormalizedKey {
+
+        private final String[] values;
+
+        private StringKey(Object[] values) {
+            this.values = new String[values.length];
+            System.arraycopy(values, 0, this.values, 0, values.length);
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            String valueOne = this.values[positionOne];
+            String valueTwo = this.values[positionTwo];
+
+            return valueOne == null
+                    ? (valueTwo == null ? 0 : -1)
+                    : (valueTwo == null ? 1 : valueOne.compareTo(valueTwo));
+        }
+
+        @Override
+        int normalizedWidth() {
+            return 7;
+        }
+
+        // A marker bit for non null values, followed by the first three characters.
+        @Override
+        long normalizedKey(int position) {
+            String value = this.values[position];
+            if (value == null) return 0;
+
+            long key = 1;
+            for (int idx = 0; idx < 3; idx++)
+                key = (key << 16) | (idx < value.length() ? value.charAt(idx) : 0);
+
+            return key;
+        }
+
+        @Override
+        boolean isNormalizedExact() {
+            return false;
+        }
+    }
+
+    /**
+     * Sort key for any other Comparable values, which may contain nulls.
+     */
+    static final class ComparableKey extends SortKey {
+
+        private final Object[] values;
+
+        private ComparableKey(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int compare(int positionOne, int positionTwo) {
+            return compareValues(this.values[positionOne], this.values[positionTwo]);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.martincooper.datatable.sorting;
+
+import com.github.martincooper.datatable.IDataColumn;
+import io.vavr.collection.Seq;
+
+/**
+ * SortKeyComparator. Compares two rows, by position, using the precompiled
+ * sort keys for each of the sort items in turn.
+ */
+final class SortKeyComparator implements IndexComparator {
+
+    private final SortKey[] sortKeys;
+    private final boolean[] descending;
+
+    /**
+     * SortKeyComparator constructor.
+     *
+     * @param columns The columns to sort by, resolved from the sort items.
+     * @param sortItems The collection of Sort Items defining how to sort.
+     * @param rowIndexes The indexes of the rows being sorted.
+     * @param extractKeys Set to extract the sort key values up front, or clear to look them up on each compare.
+     */
+    private SortKeyComparator(Seq<IDataColumn> columns, Seq<SortItem> sortItems, int[] rowIndexes, boolean extractKeys) {
+        this.sortKeys = new SortKey[columns.length()];
+        this.descending = new boolean[columns.length()];
+
+        for (int idx = 0; idx < this.sortKeys.length; idx++) {
+            this.sortKeys[idx] = extractKeys
+                    ? SortKey.create(columns.get(idx), rowIndexes)
+                    : SortKey.lookup(columns.get(idx), rowIndexes);
+
+            this.descending[idx] = sortItems.get(idx).sortOrder() == SortOrder.Descending;
+        }
+    }
+
+    /**
+     * Creates a comparator which extracts the sort key values for all the rows up front.
+     * Used when sorting all the rows.
+     *
+     * @param columns The columns to sort by, resolved from the sort items.
+     * @param sortItems The collection of Sort Items defining how to sort.
+     * @param rowIndexes The indexes of the rows being sorted.
+     * @return Returns the comparator.
+     */
+    static SortKeyComparator extract(Seq<IDataColumn> columns, Seq<SortItem> sortItems, int[] rowIndexes) {
+        return new SortKeyComparator(columns, sortItems, rowIndexes, true);
+    }
+
+    /**
+     * Creates a comparator which looks up the sort key values from the columns on each compare.
+     * Used when only a few rows are required, to avoid allocating keys for all the rows.
+     *
+     * @param columns The columns to sort by, resolved from the sort items.
+     * @param sortItems The collection of Sort Items defining how to sort.
+     * @param rowIndexes The indexes of the rows being sorted, or null for all the rows in order.
+     * @return Returns the comparator.
+     */
+    static SortKeyComparator lookup(Seq<IDataColumn> columns, Seq<SortItem> sortItems, int[] rowIndexes) {
+        return new SortKeyComparator(columns, sortItems, rowIndexes, false);
+    }
+
+    /**
+     * Checks if all the sort keys support a radix sort.
+     *
+     * @return Returns true if the rows can be radix sorted.
+     */
+    boolean supportsRadixSort() {
+        return RadixSort.supports(this.sortKeys);
+    }
+
+    /**
+     * Sorts the row positions using a radix sort, which
+     * must be supported by all of the sort keys.
+     *
+     * @param rowCount The number of rows being sorted.
+     * @return Returns the sorted row positions.
+     */
+    int[] radixSort(int rowCount) {
+        return RadixSort.sort(this.sortKeys, this.descending, this, rowCount);
+    }
+
+    /**
+     * Compares the rows at the two positions.
+     *
+     * @param positionOne The position of the first row.
+     * @param positionTwo The position of the second row.
+     * @return Returns the compare result as an integer.
+     */
+    @Override
+    public int compare(int positionOne, int positionTwo) {
+        for (int idx = 0; idx < this.sortKeys.length; idx++) {
+            int compareResult = this.descending[idx]
+                    ? this.sortKeys[idx].compare(positionTwo, positionOne)
+                    : this.sortKeys[idx].compare(positionOne, positionTwo);
+
+            if (compareResult != 0) return compareResult;
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.martincooper.datatable.sorting;
+
+/**
+ * SortOptions class. Controls how a table sort is performed.
+ * Sorts are sequential by default. Parallel sorts split the rows across a
+ * fork / join pool and always produce the same, stable, results as a sequential sort.
+ */
+public final class SortOptions {
+
+    private static final int MIN_ROWS_PER_TASK = 8192;
+    private static final SortOptions SEQUENTIAL = new SortOptions(false, 1);
+
+    private final boolean parallel;
+    private final int parallelism;
+
+    private SortOptions(boolean parallel, int parallelism) {
+        this.parallel = parallel;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the options for a sequential sort, on the calling thread.
+     *
+     * @return Returns the sort options.
+     */
+    public static SortOptions sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Returns the options for a parallel sort, using the common fork / join pool.
+     *
+     * @return Returns the sort options.
+     */
+    public static SortOptions parallel() {
+        return new SortOptions(true, 0);
+    }
+
+    /**
+     * Returns the options for a parallel sort, using a dedicated
+     * fork / join pool with the specified parallelism.
+     *
+     * @param parallelism The number of threads to sort with.
+     * @return Returns the sort options.
+     */
+    public static SortOptions parallel(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Invalid parallelism, must be at least 1.");
+
+        return new SortOptions(true, parallelism);
+    }
+
+    /**
+     * Returns true if the sort is performed in parallel.
+     *
+     * @return Returns true for a parallel sort.
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Returns the requested parallelism, or 0 if the common pool is used.
+     * Sequential sorts have a parallelism of 1.
+     *
+     * @return Returns the parallelism.
+     */
+    public int parallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Returns the number of rows below which a sort task isn't split any further.
+     *
+     * @param rowCount The number of rows being sorted.
+     * @param parallelism The parallelism of the pool being used.
+     * @return Returns the number of rows.
+     */
+    static int rowsPerTask(int rowCount, int parallelism) {
+        return Math.max(MIN_ROWS_PER_TASK, rowCount / (parallelism * 4));
+    }
+}
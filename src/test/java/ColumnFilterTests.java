@@ -0,0 +1,146 @@
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import com.github.martincooper.datatable.DataView;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for filtering tables using column filters.
+ */
+public class ColumnFilterTests {
+
+    @Test
+    public void testWhereOnPrimitiveColumns() {
+        DataTable table = createSalesTable();
+
+        DataView view = table.where(col("Price").gt(100.0).and(col("Region").eq("EU"))).get();
+
+        assertTrue(Arrays.equals(view.rows().rowIndexes(), new int[] { 0, 4 }));
+        assertTrue(table.where(col("Units").ge(5)).get().rowCount() == 3);
+        assertTrue(table.where(col("Units").lt(2.5)).get().rowCount() == 3);
+        assertTrue(table.where(col("Year").ne(2016L)).get().rowCount() == 2);
+        assertTrue(table.where(col("Active").eq(true)).get().rowCount() == 4);
+    }
+
+    @Test
+    public void testWhereWithOrAndNot() {
+        DataTable table = createSalesTable();
+
+        DataView either = table.where(col("Region").eq("US").or(col("Units").le(1))).get();
+        DataView neither = table.where(col("Region").eq("US").or(col("Units").le(1)).not()).get();
+
+        assertTrue(Arrays.equals(either.rows().rowIndexes(), new int[] { 1, 2, 5 }));
+        assertTrue(Arrays.equals(neither.rows().rowIndexes(), new int[] { 0, 3, 4 }));
+    }
+
+    @Test
+    public void testWhereWithNullValues() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "NumberCol", 1, null, 3, null, 5)
+                .withColumn(String.class, "StringCol", "aa", null, "cc", "dd", null)
+                .build().get();
+
+        assertTrue(Arrays.equals(table.where(col("NumberCol").gt(2)).get().rows().rowIndexes(), new int[] { 2, 4 }));
+        assertTrue(Arrays.equals(table.where(col("NumberCol").ne(3)).get().rows().rowIndexes(), new int[] { 0, 4 }));
+        assertTrue(Arrays.equals(table.where(col("StringCol").isNull()).get().rows().rowIndexes(), new int[] { 1, 4 }));
+        assertTrue(Arrays.equals(table.where(col("StringCol").isNotNull()).get().rows().rowIndexes(), new int[] { 0, 2, 3 }));
+        assertTrue(Arrays.equals(table.where(col("StringCol").ge("cc")).get().rows().rowIndexes(), new int[] { 2, 3 }));
+    }
+
+    @Test
+    public void testWhereNotWithNullValues() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("X", new int[] { 1, 7, 0, 3, 9 })
+                .withColumn(Integer.class, "Y", 1, null, 1, null, 2)
+                .withColumn(String.class, "Z", "aa", null, "cc", "dd", null)
+                .build().get();
+
+        DataTable primitive = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "X", 1, 7, null, 3, 9)
+                .build().get();
+
+        // Comparisons with nulls are unknown, so null rows don't match a negated comparison.
+        assertTrue(Arrays.equals(primitive.where(col("X").gt(5).not()).get().rows().rowIndexes(), new int[] { 0, 3 }));
+        assertTrue(Arrays.equals(table.where(col("Y").eq(1).not()).get().rows().rowIndexes(), new int[] { 4 }));
+        assertTrue(Arrays.equals(table.where(col("Z").ge("cc").not()).get().rows().rowIndexes(), new int[] { 0 }));
+
+        // A false comparison makes an and false, and a true comparison makes an or true, whatever the nulls.
+        assertTrue(Arrays.equals(table.where(col("X").gt(5).and(col("Y").eq(1)).not()).get().rows().rowIndexes(), new int[] { 0, 2, 3, 4 }));
+        assertTrue(Arrays.equals(table.where(col("X").gt(5).or(col("Y").eq(1)).not()).get().rows().rowIndexes(), new int[] { }));
+        assertTrue(Arrays.equals(table.where(col("X").lt(5).or(col("Y").eq(1)).not()).get().rows().rowIndexes(), new int[] { 4 }));
+        assertTrue(Arrays.equals(table.where(col("Y").eq(1).not().not()).get().rows().rowIndexes(), new int[] { 0, 2 }));
+    }
+
+    @Test
+    public void testWhereOnDataView() {
+        DataTable table = createSalesTable();
+        DataView view = table.filter(row -> row.getAs(Long.class, "Year") == 2016L);
+
+        DataView result = view.where(col("Price").lt(100)).get();
+
+        assertTrue(Arrays.equals(result.rows().rowIndexes(), new int[] { 2, 3, 5 }));
+    }
+
+    @Test
+    public void testWhereMatchesFilter() {
+        Random rand = new Random(5);
+        int[] intData = new int[10000];
+        double[] doubleData = new double[10000];
+
+        for (int idx = 0; idx < intData.length; idx++) {
+            intData[idx] = rand.nextInt(100);
+            doubleData[idx] = rand.nextDouble();
+        }
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", intData)
+                .withColumn("DoubleCol", doubleData)
+                .build().get();
+
+        DataView where = table.where(col("IntCol").gt(50).or(col("DoubleCol").le(0.25))).get();
+        DataView filter = table.filter(row -> row.getAs(Integer.class, "IntCol") > 50 || row.getAs(Double.class, "DoubleCol") <= 0.25);
+
+        assertTrue(Arrays.equals(where.rows().rowIndexes(), filter.rows().rowIndexes()));
+    }
+
+    @Test
+    public void testWhereWithInvalidFilters() {
+        DataTable table = createSalesTable();
+
+        Try<DataView> missingColumn = table.where(col("Missing").eq(1));
+        Try<DataView> invalidType = table.where(col("Region").gt(5));
+        Try<DataView> invalidNumber = table.where(col("Price").eq("High"));
+
+        assertTrue(missingColumn.isFailure());
+        assertTrue(invalidType.isFailure());
+        assertEquals(invalidType.getCause().getMessage(), "Filter Region > 5 failed. Column 'Region' doesn't support values of type Integer.");
+        assertTrue(invalidNumber.isFailure());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWhereWithNullValue() {
+        col("Region").eq(null);
+    }
+
+    private static DataTable createSalesTable() {
+        return DataTableBuilder
+                .create("Sales")
+                .withColumn(String.class, "Region", "EU", "US", "US", "EU", "EU", "APAC")
+                .withColumn("Units", new int[] { 5, 1, 7, 2, 9, 1 })
+                .withColumn("Price", new double[] { 150.0, 200.0, 50.0, 75.5, 120.0, 99.0 })
+                .withColumn("Year", new long[] { 2015, 2015, 2016, 2016, 2016, 2016 })
+                .withColumn("Active", new boolean[] { true, false, true, true, false, true })
+                .build().get();
+    }
+}
@@ -0,0 +1,69 @@
+import com.github.martincooper.datatable.*;
+import io.vavr.collection.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the typed column references.
+ */
+public class ColumnRefTests {
+
+    @Test
+    public void testPrimitiveColumnRefs() {
+        DataTable table = createDataTable();
+
+        IntColumnRef intRef = table.intColumn("IntCol");
+        LongColumnRef longRef = table.longColumn("LongCol");
+        DoubleColumnRef doubleRef = table.doubleColumn("DoubleCol");
+        BooleanColumnRef boolRef = table.booleanColumn("BoolCol");
+
+        assertTrue(intRef.name().equals("IntCol"));
+        assertTrue(intRef.getInt(2) == 9);
+        assertTrue(longRef.getLong(0) == 100L);
+        assertTrue(doubleRef.getDouble(1) == 5.5);
+        assertTrue(!boolRef.getBoolean(1));
+
+        long total = 0;
+        for (DataRow row : table)
+            total += intRef.get(row) + longRef.get(row);
+
+        assertTrue(total == 3 + 5 + 9 + 11 + 100 + 200 + 300 + 400);
+    }
+
+    @Test
+    public void testColumnRefOnDataView() {
+        DataTable table = createDataTable();
+        DataView view = table.filter(row -> row.getAs(Integer.class, "IntCol") > 4);
+
+        ColumnRef<String> strRef = view.columnRef(String.class, "StrCol");
+        IntColumnRef intRef = view.intColumn("IntCol");
+
+        assertEquals(view.map(strRef::get), List.of("BB", "CC", "DD"));
+        assertEquals(view.map(intRef::get), List.of(5, 9, 11));
+        assertTrue(strRef.get(0).equals("AA"));
+    }
+
+    @Test
+    public void testInvalidColumnRefs() {
+        DataTable table = createDataTable();
+
+        assertTrue(ColumnRef.build(table, String.class, "Missing").isFailure());
+        assertTrue(ColumnRef.build(table, Integer.class, "StrCol").isFailure());
+        assertTrue(IntColumnRef.build(table, "LongCol").isFailure());
+        assertEquals(IntColumnRef.build(table, "StrCol").getCause().getMessage(), "Column 'StrCol' isn't an int column.");
+        assertTrue(ColumnRef.build(table, Integer.class, "IntCol").isSuccess());
+    }
+
+    private static DataTable createDataTable() {
+        return DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB", "CC", "DD")
+                .withColumn("IntCol", new int[] { 3, 5, 9, 11 })
+                .withColumn("LongCol", new long[] { 100, 200, 300, 400 })
+                .withColumn("DoubleCol", new double[] { 1.1, 5.5, 10.5, 100.5 })
+                .withColumn("BoolCol", new boolean[] { true, false, true, false })
+                .build().get();
+    }
+}
@@ -0,0 +1,198 @@
+import com.github.martincooper.datatable.*;
+import com.github.martincooper.datatable.csv.CsvOptions;
+import com.github.martincooper.datatable.csv.CsvReader;
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for reading CSV files.
+ */
+public class CsvReaderTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadingCsvWithInferredTypes() throws IOException {
+        Path path = writeFile("sales.csv",
+                "Region,Units,Total,Price,Active,Notes\r\n" +
+                "North,10,10000000000,1.5,true,\"Quoted, with comma\"\r\n" +
+                "South,,20,-2.25e2,FALSE,\"Line\nbreak and \"\"quotes\"\"\"\r\n" +
+                "\r\n" +
+                "East,30,30,3,,\"\"\r\n");
+
+        DataTable table = CsvReader.read(path).get();
+
+        assertEquals(table.name(), "sales");
+        assertTrue(table.rowCount() == 3);
+        assertTrue(table.column("Units") instanceof IntColumn);
+        assertTrue(table.column("Total") instanceof LongColumn);
+        assertTrue(table.column("Price") instanceof DoubleColumn);
+        assertTrue(table.column("Active") instanceof BooleanColumn);
+
+        assertEquals(table.column("Region").data(), List.of("North", "South", "East").toVector());
+        assertEquals(table.column("Units").data(), List.of(10, null, 30).toVector());
+        assertEquals(table.column("Total").data(), List.of(10000000000L, 20L, 30L).toVector());
+        assertEquals(table.column("Price").data(), List.of(1.5, -225.0, 3.0).toVector());
+        assertEquals(table.column("Active").data(), List.of(true, false, null).toVector());
+        assertEquals(table.column("Notes").data(), List.of("Quoted, with comma", "Line\nbreak and \"quotes\"", "").toVector());
+    }
+
+    @Test
+    public void testReadingCsvWithDeclaredTypes() {
+        CsvOptions options = CsvOptions.defaults()
+                .withHeader(false)
+                .withDelimiter('\t')
+                .withColumnTypes(String.class, Double.class, Long.class)
+                .withDictionaryEncoding(10)
+                .withTableName("Tsv");
+
+        DataTable table = read("A\t1\t5\nB\t2.5\t6\nA\t\t7\n", options).readAll().get();
+
+        assertEquals(table.name(), "Tsv");
+        assertTrue(table.column("Column1") instanceof DictionaryColumn);
+        assertEquals(table.column("Column2").data(), List.of(1.0, 2.5, null).toVector());
+        assertEquals(table.column("Column3").data(), List.of(5L, 6L, 7L).toVector());
+    }
+
+    @Test
+    public void testReadingCsvInChunks() {
+        StringBuilder csv = new StringBuilder("Id,Name\n");
+        for (int idx = 0; idx < 25000; idx++)
+            csv.append(idx).append(",\"Name\n").append(idx).append("\"\n");
+
+        CsvReader reader = read(csv.toString(), CsvOptions.defaults().withInferenceRows(100));
+
+        assertEquals(reader.columnNames(), List.of("Id", "Name").toVector());
+        assertEquals(reader.columnTypes(), List.<Class<?>>of(Integer.class, String.class).toVector());
+
+        int rowCount = 0;
+        int chunkCount = 0;
+        Option<DataTable> chunk = reader.readChunk(1000).get();
+
+        while (chunk.isDefined()) {
+            DataTable table = chunk.get();
+            assertTrue(table.rowCount() == 1000);
+            assertTrue(((IntColumn)table.column("Id")).getInt(999) == rowCount + 999);
+            assertEquals(table.column("Name").valueAt(0), "Name\n" + rowCount);
+
+            rowCount += table.rowCount();
+            chunkCount++;
+            chunk = reader.readChunk(1000).get();
+        }
+
+        reader.close();
+
+        assertTrue(rowCount == 25000);
+        assertTrue(chunkCount == 25);
+    }
+
+    @Test
+    public void testReadingSingleColumnCsvWithBlankLines() {
+        DataTable table = read("\nA\n1\n\n3\r\n\r\n", CsvOptions.defaults()).readAll().get();
+
+        assertTrue(table.rowCount() == 4);
+        assertEquals(table.column("A").data(), List.of(1, null, 3, null).toVector());
+
+        DataTable strings = read("\n\"\"\nx\n", CsvOptions.defaults().withHeader(false)).readAll().get();
+        assertEquals(strings.column("Column1").data(), List.of(null, "", "x").toVector());
+    }
+
+    @Test
+    public void testReadingInvalidCsv() {
+        Try<DataTable> badValue = read("Id,Value\n1,2\n2,x\n", CsvOptions.defaults().withInferenceRows(1)).readAll();
+
+        assertTrue(badValue.isFailure());
+        assertEquals(badValue.getCause().getMessage(), "Invalid value 'x' for column 'Value' on line 3.");
+
+        Try<DataTable> badRow = read("Id,Value\n1,2\n2\n", CsvOptions.defaults()).readAll();
+
+        assertTrue(badRow.isFailure());
+        assertEquals(badRow.getCause().getMessage(), "Line 3 has 1 fields, expected 2.");
+
+        Try<CsvReader> badTypes = CsvReader.open(stream("Id,Value\n"), CsvOptions.defaults().withColumnTypes(Integer.class));
+
+        assertTrue(badTypes.isFailure());
+        assertEquals(badTypes.getCause().getMessage(), "Number of column types does not match number of columns.");
+
+        DataTable empty = read("Id,Value\n", CsvOptions.defaults()).readAll().get();
+        assertTrue(empty.rowCount() == 0 && empty.columns().count() == 2);
+    }
+
+    @Test
+    public void testReadingCsvInParallel() throws IOException {
+        // Large enough to be split into several ranges, with line breaks and quotes inside quoted fields.
+        StringBuilder csv = new StringBuilder("Id,Name,Value,Category\r\n");
+        for (int idx = 0; idx < 120000; idx++) {
+            csv.append(idx).append(',');
+            csv.append(idx % 3 == 0 ? "\"Multi\nline \"\"" + idx + "\"\"\"" : "Name" + idx).append(',');
+            csv.append(idx % 11 == 0 ? "" : String.valueOf(idx * 0.25)).append(',');
+            csv.append("Cat").append(idx % 5).append("\r\n");
+        }
+
+        Path path = writeFile("parallel.csv", csv.toString());
+        CsvOptions options = CsvOptions.defaults().withDictionaryEncoding(10);
+
+        DataTable sequential = CsvReader.read(path, options).get();
+        DataTable parallel = CsvReader.read(path, options.parallel(4)).get();
+        DataTable common = CsvReader.read(path, options.parallel()).get();
+
+        assertEquals(parallel.name(), "parallel");
+        assertTrue(parallel.rowCount() == 120000);
+        assertTrue(parallel.column("Id") instanceof IntColumn);
+        assertTrue(parallel.column("Value") instanceof DoubleColumn);
+        assertTrue(parallel.column("Category") instanceof DictionaryColumn);
+        assertEquals(parallel.column("Name").valueAt(3), "Multi\nline \"3\"");
+
+        for (IDataColumn column : sequential.columns()) {
+            assertEquals(parallel.column(column.name()).data(), column.data());
+            assertEquals(common.column(column.name()).data(), column.data());
+        }
+    }
+
+    @Test
+    public void testReadingInvalidCsvInParallel() throws IOException {
+        StringBuilder csv = new StringBuilder("Id,Name\n");
+        for (int idx = 0; idx < 200000; idx++)
+            csv.append(idx).append(",\"Name\n").append(idx).append("\"\n");
+
+        csv.append("x,Bad\n");
+
+        Path path = writeFile("invalid.csv", csv.toString());
+        Try<DataTable> table = CsvReader.read(path, CsvOptions.defaults().parallel(4));
+
+        assertTrue(table.isFailure());
+        assertEquals(table.getCause().getMessage(), "Invalid value 'x' for column 'Id' on line 400002.");
+
+        Path empty = writeFile("empty.csv", "Id,Name\n");
+        DataTable emptyTable = CsvReader.read(empty, CsvOptions.defaults().parallel(4)).get();
+        assertTrue(emptyTable.rowCount() == 0 && emptyTable.columns().count() == 2);
+    }
+
+    private Path writeFile(String fileName, String content) throws IOException {
+        Path path = folder.getRoot().toPath().resolve(fileName);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static CsvReader read(String content, CsvOptions options) {
+        return CsvReader.open(stream(content), options).get();
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+import com.github.martincooper.datatable.*;
+import com.github.martincooper.datatable.csv.CsvOptions;
+import com.github.martincooper.datatable.csv.CsvReader;
+import com.github.martincooper.datatable.csv.CsvWriter;
+import com.github.martincooper.datatable.sorting.SortOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for writing CSV files.
+ */
+public class CsvWriterTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWritingTableToCsv() {
+        DataTable table = DataTableBuilder
+                .create("Sales")
+                .withColumn(Integer.class, "Units")
+                .withColumn(Double.class, "Price")
+                .withColumn(Boolean.class, "Active")
+                .withColumn(String.class, "Notes")
+                .appendRow(10, 1.5, true, "Plain")
+                .appendRow(-20, null, false, "Quoted, with \"comma\"")
+                .appendRow(null, 0.1, null, "")
+                .appendRow(Integer.MIN_VALUE, -1e-7, true, null)
+                .freeze().get();
+
+        StringWriter writer = new StringWriter();
+        assertTrue(CsvWriter.write(table, writer, CsvOptions.defaults()).isSuccess());
+
+        assertEquals(writer.toString(),
+                "Units,Price,Active,Notes\n" +
+                "10,1.5,true,Plain\n" +
+                "-20,,false,\"Quoted, with \"\"comma\"\"\"\n" +
+                ",0.1,,\"\"\n" +
+                "-2147483648,-0.0000001,true,\n");
+    }
+
+    @Test
+    public void testWritingViewToTsv() {
+        DataTable table = DataTableBuilder
+                .create("Items")
+                .withColumn(Long.class, "Id", 1L, 2L, 3L, 4L)
+                .withColumn(String.class, "Name", "A", "B\tTab", "A", "B\tTab")
+                .withDictionaryEncoding(10)
+                .build().get();
+
+        DataView view = table.where(col("Id").gt(1L)).get().quickSort("Id", SortOrder.Descending).get();
+
+        StringWriter writer = new StringWriter();
+        CsvWriter.write(view, writer, CsvOptions.defaults().withDelimiter('\t').withHeader(false)).get();
+
+        assertTrue(table.column("Name") instanceof DictionaryColumn);
+        assertEquals(writer.toString(), "4\t\"B\tTab\"\n3\tA\n2\t\"B\tTab\"\n");
+    }
+
+    @Test
+    public void testWritingLargeViewToCsv() {
+        int[] values = new int[5000];
+        for (int idx = 0; idx < values.length; idx++) values[idx] = idx;
+
+        DataTable table = DataTableBuilder.create("Values").withColumn("Value", values).build().get();
+        DataView view = table.where(col("Value").gt(4)).get().quickSort("Value", SortOrder.Descending).get();
+
+        StringWriter writer = new StringWriter();
+        CsvWriter.write(view, writer, CsvOptions.defaults().withHeader(false)).get();
+
+        // The view's rows span several batches, and are written in the view's order.
+        StringBuilder expected = new StringBuilder();
+        for (int value = values.length - 1; value > 4; value--) expected.append(value).append('\n');
+
+        assertEquals(writer.toString(), expected.toString());
+    }
+
+    @Test
+    public void testSingleColumnNullRoundTrip() throws IOException {
+        DataTable ints = DataTableBuilder
+                .create("Ints")
+                .withColumn(Integer.class, "A", 1, null, 3)
+                .build().get();
+
+        DataTable strings = DataTableBuilder
+                .create("Strings")
+                .withColumn(String.class, "S", "x", null, "", null)
+                .build().get();
+
+        StringWriter writer = new StringWriter();
+        CsvWriter.write(ints, writer, CsvOptions.defaults()).get();
+        assertEquals(writer.toString(), "A\n1\n\n3\n");
+
+        for (DataTable table : new DataTable[] { ints, strings }) {
+            Path path = folder.getRoot().toPath().resolve(table.name() + ".csv");
+            assertTrue(CsvWriter.write(table, path).isSuccess());
+
+            DataTable read = CsvReader.read(path).get();
+            IDataColumn column = table.column(0);
+
+            assertTrue(read.rowCount() == table.rowCount());
+            assertEquals(read.column(column.name()).data(), column.data());
+        }
+    }
+
+    @Test
+    public void testCsvRoundTrip() throws IOException {
+        double[] doubles = { 0.1, 1.0, -2.5, 123456.789, Math.PI, 1e20, 1e-300, -0.0, Double.MAX_VALUE, 5e-324 };
+
+        DataTableBuilder builder = DataTableBuilder
+                .create("RoundTrip")
+                .withColumn(Integer.class, "IntCol")
+                .withColumn(Long.class, "LongCol")
+                .withColumn(Double.class, "DoubleCol")
+                .withColumn(String.class, "StrCol");
+
+        for (int idx = 0; idx < 3000; idx++) {
+            double value = idx < doubles.length ? doubles[idx] : (idx - 1500) * 0.37 / 7;
+            builder.appendRow(idx % 9 == 0 ? null : idx * 31, (long)idx * Integer.MAX_VALUE, value, "Line\n" + idx);
+        }
+
+        DataTable table = builder.freeze().get();
+        Path path = folder.getRoot().toPath().resolve("roundtrip.csv");
+
+        assertTrue(CsvWriter.write(table, path).isSuccess());
+
+        DataTable read = CsvReader.read(path, CsvOptions.defaults()
+                .withColumnTypes(Integer.class, Long.class, Double.class, String.class)).get();
+
+        assertTrue(read.rowCount() == 3000);
+
+        for (IDataColumn column : table.columns())
+            assertEquals(read.column(column.name()).data(), column.data());
+    }
+}
@@ -72,6 +72,36 @@ public class DataColumnCollectionTests {
         assertTrue(newTable.get().column(2).name().equals("BooleanCol"));
     }
 
+    @Test
+    public void testColumnNameLookupsAfterModifications() {
+        DataTable table = createDataTable();
+
+        DataTable added = table.columns().add(createDoubleColumn()).get();
+        DataTable inserted = table.columns().insert(1, createDoubleColumn()).get();
+        DataTable removed = table.columns().remove("StringCol").get();
+        DataTable replaced = table.columns().replace("IntegerCol", createDoubleColumn()).get();
+
+        assertLookupsMatchIndexes(table);
+        assertLookupsMatchIndexes(added);
+        assertLookupsMatchIndexes(inserted);
+        assertLookupsMatchIndexes(removed);
+        assertLookupsMatchIndexes(replaced);
+
+        assertTrue(removed.columns().tryGet("StringCol").isFailure());
+        assertTrue(replaced.columns().tryGet("IntegerCol").isFailure());
+        assertTrue(table.columns().tryGet("DoubleCol").isFailure());
+        assertTrue(table.columns().add(createStringColumn()).isFailure());
+    }
+
+    private void assertLookupsMatchIndexes(DataTable table) {
+        for (int idx = 0; idx < table.columns().count(); idx++) {
+            String name = table.column(idx).name();
+
+            assertTrue(table.column(name) == table.column(idx));
+            assertTrue(table.columns().tryGet(name).get() == table.column(idx));
+        }
+    }
+
     private DataTable createDataTable() {
         IDataColumn[] cols = { createStringColumn(), createIntegerColumn(), createBooleanColumn() };
         return DataTable.build("NewTable", cols).get();
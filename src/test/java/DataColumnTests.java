@@ -1,10 +1,13 @@
 import com.github.martincooper.datatable.DataColumn;
 import com.github.martincooper.datatable.IDataColumn;
 import io.vavr.collection.List;
+import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import io.vavr.control.Try;
 import org.junit.Test;
 
+import java.lang.reflect.Type;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -130,6 +133,24 @@ public class DataColumnTests {
         assertTrue(typedCol.getCause().getMessage().equals("Column type doesn't match type requested."));
     }
 
+    @Test
+    public void testDefaultColumnMethods() {
+        IDataColumn column = new BasicColumn(createIntegerColumn());
+
+        assertTrue(column.rowCount() == 3);
+        assertEquals(column.buildFromRows(new int[] { 2, 0 }).get().data(), List.of(9, 5).toVector());
+        assertEquals(column.buildFromRowsWithNulls(new int[] { 1, -1 }).get().data(), Vector.of(7, null));
+        assertEquals(column.withName("Renamed").name(), "Renamed");
+        assertEquals(column.addAll(List.of(1, 2)).get().data(), List.of(5, 7, 9, 1, 2).toVector());
+        assertEquals(column.insertAll(1, List.of(1, 2)).get().data(), List.of(5, 1, 2, 7, 9).toVector());
+        assertEquals(column.replaceAll(new int[] { 2, 0 }, List.of(1, 2)).get().data(), List.of(2, 7, 1).toVector());
+        assertEquals(column.removeAll(new int[] { 0, 2 }).get().data(), List.of(7).toVector());
+
+        assertTrue(column.addAll(List.of(1, "Invalid")).isFailure());
+        assertTrue(column.replaceAll(new int[] { 0 }, List.of(1, 2)).isFailure());
+        assertTrue(column.removeAll(new int[] { 3 }).isFailure());
+    }
+
     private DataColumn<String> createStringColumn() {
         List<String> data = List.of("AA", "BB", "CC");
         return new DataColumn<>(String.class, "StringCol", data);
@@ -139,4 +160,59 @@ public class DataColumnTests {
         List<Integer> data = List.of(5, 7, 9);
         return new DataColumn<>(Integer.class, "IntegerCol", data);
     }
+
+    /**
+     * A column implementing only the methods of the original interface, relying on the default methods for the rest.
+     */
+    private static class BasicColumn implements IDataColumn {
+
+        private final IDataColumn column;
+
+        BasicColumn(IDataColumn column) {
+            this.column = column;
+        }
+
+        @Override
+        public String name() { return this.column.name(); }
+
+        @Override
+        public Type type() { return this.column.type(); }
+
+        @Override
+        public Vector data() { return this.column.data(); }
+
+        @Override
+        public Object valueAt(Integer rowIndex) { return this.column.valueAt(rowIndex); }
+
+        @Override
+        public <V> Try<DataColumn<V>> asType(Class<V> type) { return this.column.asType(type); }
+
+        @Override
+        public boolean IsComparable() { return this.column.IsComparable(); }
+
+        @Override
+        public Try<IDataColumn> buildFromRows(Seq<Integer> rowIndexes) {
+            return this.column.buildFromRows(rowIndexes).map(BasicColumn::new);
+        }
+
+        @Override
+        public Try<IDataColumn> add(Object value) {
+            return this.column.add(value).map(BasicColumn::new);
+        }
+
+        @Override
+        public Try<IDataColumn> replace(Integer index, Object value) {
+            return this.column.replace(index, value).map(BasicColumn::new);
+        }
+
+        @Override
+        public Try<IDataColumn> insert(Integer index, Object value) {
+            return this.column.insert(index, value).map(BasicColumn::new);
+        }
+
+        @Override
+        public Try<IDataColumn> remove(Integer index) {
+            return this.column.remove(index).map(BasicColumn::new);
+        }
+    }
 }
@@ -0,0 +1,115 @@
+import com.github.martincooper.datatable.DataColumn;
+import com.github.martincooper.datatable.DataCursor;
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import com.github.martincooper.datatable.DataView;
+import com.github.martincooper.datatable.IDataColumn;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for walking tables and views using a cursor.
+ */
+public class DataCursorTests {
+
+    @Test
+    public void testCursorOverDataTable() {
+        DataTable table = createDataTable();
+        DataCursor cursor = table.cursor();
+
+        int intCol = cursor.columnIndex("IntCol");
+        int count = 0;
+        double total = 0;
+
+        while (cursor.next()) {
+            assertTrue(cursor.rowIdx() == count);
+            assertTrue(cursor.position() == count);
+            assertTrue(cursor.row().getAs(String.class, "StrCol").equals(cursor.getAs(String.class, 0)));
+
+            total += cursor.getInt(intCol) * cursor.getDouble("DoubleCol") + cursor.getLong("LongCol");
+            count++;
+        }
+
+        assertTrue(count == 4);
+        assertTrue(total == 3 * 1.5 + 5 * 2.5 + 9 * 3.5 + 11 * 4.5 + 10);
+        assertTrue(!cursor.next());
+    }
+
+    @Test
+    public void testCursorOverDataView() {
+        DataView view = createDataTable().filter(row -> row.getAs(Boolean.class, "BoolCol"));
+        DataCursor cursor = view.cursor();
+
+        assertTrue(cursor.rowCount() == 2);
+        assertTrue(cursor.next() && cursor.rowIdx() == 0 && cursor.get("StrCol").equals("AA"));
+        assertTrue(cursor.next() && cursor.rowIdx() == 2 && cursor.getInt("IntCol") == 9);
+        assertTrue(cursor.getBoolean("BoolCol"));
+        assertTrue(!cursor.next());
+
+        // Reset and walk the rows again.
+        cursor.reset();
+        assertTrue(cursor.next() && cursor.position() == 0 && cursor.rowIdx() == 0);
+    }
+
+    @Test
+    public void testCursorOverBoxedColumns() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol", 1, 2, 3)
+                .withColumn(Double.class, "DoubleCol", 0.5, 1.5, 2.5)
+                .build().get();
+
+        DataCursor cursor = table.cursor();
+        double total = 0;
+
+        while (cursor.next())
+            total += cursor.getInt("IntCol") * cursor.getDouble(1);
+
+        assertTrue(total == 0.5 + 3.0 + 7.5);
+        assertTrue(cursor.columnIndex("Missing") == -1);
+    }
+
+    @Test
+    public void testCursorNullsInBoxedColumns() {
+        DataTable table = DataTable.build("NewTable", new IDataColumn[] {
+                new DataColumn<>(Integer.class, "IntCol", new Integer[] { 1, null }),
+                new DataColumn<>(Long.class, "LongCol", new Long[] { 2L, null }),
+                new DataColumn<>(Double.class, "DoubleCol", new Double[] { 0.5, null }),
+                new DataColumn<>(Boolean.class, "BoolCol", new Boolean[] { true, null })
+        }).get();
+
+        DataCursor cursor = table.cursor();
+        assertTrue(cursor.next() && cursor.getInt(0) == 1 && cursor.getLong(1) == 2L);
+        assertTrue(cursor.getDouble(2) == 0.5 && cursor.getBoolean(3));
+
+        // Nulls are returned as 0 or false, the same as for primitive columns.
+        assertTrue(cursor.next() && cursor.getInt("IntCol") == 0 && cursor.getLong("LongCol") == 0L);
+        assertTrue(cursor.getDouble("DoubleCol") == 0.0 && !cursor.getBoolean("BoolCol"));
+        assertTrue(cursor.isNull("IntCol") && cursor.isNull(3));
+    }
+
+    @Test
+    public void testCursorWithMissingColumnName() {
+        DataCursor cursor = createDataTable().cursor();
+        assertTrue(cursor.next());
+
+        try {
+            cursor.getInt("Missing");
+            assertTrue(false);
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().equals("Column not found with name Missing"));
+        }
+    }
+
+    private static DataTable createDataTable() {
+        return DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB", "CC", "DD")
+                .withColumn("IntCol", new int[] { 3, 5, 9, 11 })
+                .withColumn("DoubleCol", new double[] { 1.5, 2.5, 3.5, 4.5 })
+                .withColumn("LongCol", new long[] { 1, 2, 3, 4 })
+                .withColumn("BoolCol", new boolean[] { true, false, true, false })
+                .build().get();
+    }
+}
@@ -1,4 +1,5 @@
 import com.github.martincooper.datatable.*;
+import io.vavr.collection.List;
 import io.vavr.control.Try;
 import org.junit.Test;
 
@@ -303,6 +304,116 @@ public class DataRowModificationTests {
         assertTrue(newTable.getCause() instanceof IndexOutOfBoundsException);
     }
 
+    // Test batch row methods...
+
+    @Test
+    public void testDataAddAllRows() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().addAll(List.of(
+                new Object[] { "YY", 50, false },
+                new Object[] { "ZZ", 100, true }));
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.get().rowCount() == 6);
+        assertTrue(table.rowCount() == 4);
+
+        assertTrue(result.get().column("StrCol").valueAt(4) == "YY");
+        assertTrue(result.get().column("StrCol").valueAt(5) == "ZZ");
+        assertTrue((int)result.get().column("IntCol").valueAt(4) == 50);
+        assertTrue((boolean)result.get().column("BoolCol").valueAt(5));
+    }
+
+    @Test
+    public void testDataAddAllRowsWithInvalidType() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().addAll(List.of(
+                new Object[] { "YY", 50, false },
+                new Object[] { "ZZ", "Invalid", true }));
+
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause().getMessage().equals("addAll failed. Item of invalid type passed."));
+    }
+
+    @Test
+    public void testDataAddAllRowsWithInvalidValueCount() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().addAll(List.of(
+                new Object[] { "YY", 50, false },
+                new Object[] { "ZZ" }));
+
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause().getMessage().equals("Number of values does not match number of columns."));
+    }
+
+    @Test
+    public void testDataInsertAllRows() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().insertAll(1, List.of(
+                new Object[] { "YY", 50, false },
+                new Object[] { "ZZ", 100, true }));
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.get().rowCount() == 6);
+        assertTrue(result.get().column("StrCol").valueAt(0) == "AA");
+        assertTrue(result.get().column("StrCol").valueAt(1) == "YY");
+        assertTrue(result.get().column("StrCol").valueAt(2) == "ZZ");
+        assertTrue(result.get().column("StrCol").valueAt(3) == "BB");
+    }
+
+    @Test
+    public void testDataReplaceAllRows() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().replaceAll(new int[] { 3, 0 }, List.of(
+                new Object[] { "YY", 50, false },
+                new Object[] { "ZZ", 100, true }));
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.get().rowCount() == 4);
+        assertTrue(result.get().column("StrCol").valueAt(0) == "ZZ");
+        assertTrue(result.get().column("StrCol").valueAt(1) == "BB");
+        assertTrue(result.get().column("StrCol").valueAt(3) == "YY");
+        assertTrue((int)result.get().column("IntCol").valueAt(0) == 100);
+    }
+
+    @Test
+    public void testDataReplaceAllRowsWithInvalidIndex() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().replaceAll(new int[] { 200 }, List.<Object[]>of(
+                new Object[] { "YY", 50, false }));
+
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause() instanceof IndexOutOfBoundsException);
+    }
+
+    @Test
+    public void testDataRemoveAllRows() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().removeAll(new int[] { 2, 0, 2 });
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.get().rowCount() == 2);
+        assertTrue(result.get().column("StrCol").valueAt(0) == "BB");
+        assertTrue(result.get().column("StrCol").valueAt(1) == "DD");
+        assertTrue((int)result.get().column("IntCol").valueAt(1) == 11);
+    }
+
+    @Test
+    public void testDataRemoveAllRowsWithInvalidIndex() {
+        DataTable table = createDataTable();
+
+        Try<DataTable> result = table.rows().removeAll(new int[] { 1, 200 });
+
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause() instanceof IndexOutOfBoundsException);
+    }
+
     private DataTable createDataTable() {
         return DataTableBuilder
                 .create("NewTable")
@@ -121,6 +121,36 @@ public class DataRowTests {
         assertTrue(itemData.get() == 7);
     }
 
+    @Test
+    public void testDataRowCollectionIteration() {
+        DataTable table = createDataTable();
+
+        List<Integer> rowIndexes = List.ofAll(table).map(DataRow::rowIdx);
+        List<String> values = List.ofAll(table.rows()).map(row -> row.getAs(String.class, "StringCol"));
+
+        assertTrue(table.rows().rowCount() == 3);
+        assertTrue(rowIndexes.equals(List.of(0, 1, 2)));
+        assertTrue(values.equals(List.of("AA", "BB", "CC")));
+    }
+
+    @Test
+    public void testDataRowCollectionGetWithInvalidIndex() {
+        DataTable table = createDataTable();
+
+        Try<DataRow> row = Try.of(() -> table.row(3));
+
+        assertTrue(row.isFailure());
+        assertTrue(row.getCause() instanceof IndexOutOfBoundsException);
+    }
+
+    @Test
+    public void testDataRowCollectionOnEmptyTable() {
+        DataTable table = DataTable.build("EmptyTable");
+
+        assertTrue(table.rows().rowCount() == 0);
+        assertFalse(table.iterator().hasNext());
+    }
+
     private DataTable createDataTable() {
         IDataColumn[] cols = { createStringColumn(), createIntegerColumn(), createBooleanColumn() };
         return DataTable.build("NewTable", cols).get();
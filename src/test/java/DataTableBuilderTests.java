@@ -1,5 +1,4 @@
-import com.github.martincooper.datatable.DataTable;
-import com.github.martincooper.datatable.DataTableBuilder;
+import com.github.martincooper.datatable.*;
 import io.vavr.collection.List;
 import io.vavr.control.Try;
 import org.junit.Test;
@@ -39,4 +38,201 @@ public class DataTableBuilderTests {
         assertTrue(table.get().columns().count() == 3);
         assertTrue(table.get().rowCount() == 4);
     }
+
+    @Test
+    public void testBuilderDataTableCreationFromAppendedRows() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol")
+                .withColumn(Integer.class, "IntCol")
+                .withColumn(Boolean.class, "BoolCol")
+                .appendRow("AA", 3, true)
+                .appendRow("BB", 5, false)
+                .appendRow(null, 9, true)
+                .freeze();
+
+        assertTrue(table.isSuccess());
+        assertTrue(table.get().columns().count() == 3);
+        assertTrue(table.get().rowCount() == 3);
+        assertTrue(table.get().column("IntCol") instanceof IntColumn);
+        assertTrue(table.get().column("BoolCol") instanceof BooleanColumn);
+        assertTrue(table.get().row(1).getAs(String.class, "StrCol").equals("BB"));
+        assertTrue(table.get().row(2).getAs(String.class, "StrCol") == null);
+        assertTrue(table.get().row(2).getAs(Integer.class, "IntCol") == 9);
+        assertTrue(!table.get().row(1).getAs(Boolean.class, "BoolCol"));
+    }
+
+    @Test
+    public void testBuilderDataTableCreationFromTypedAppends() {
+        DataTableBuilder builder = DataTableBuilder
+                .create("NewTable")
+                .withCapacity(2)
+                .withColumn(Integer.class, "IntCol")
+                .withColumn(Long.class, "LongCol")
+                .withColumn(Double.class, "DoubleCol")
+                .withColumn(Boolean.class, "BoolCol");
+
+        // Append enough rows to force the buffers to grow beyond the capacity hint.
+        for (int idx = 0; idx < 100; idx++) {
+            builder.appendInt(0, idx)
+                    .appendLong(1, idx * 10L)
+                    .appendDouble(2, idx / 2.0)
+                    .appendBoolean(3, idx % 2 == 0);
+        }
+
+        Try<DataTable> table = builder.freeze();
+
+        assertTrue(table.isSuccess());
+        assertTrue(table.get().rowCount() == 100);
+        assertTrue(((IntColumn)table.get().column("IntCol")).getInt(99) == 99);
+        assertTrue(((LongColumn)table.get().column("LongCol")).getLong(50) == 500L);
+        assertTrue(((DoubleColumn)table.get().column("DoubleCol")).getDouble(3) == 1.5);
+        assertTrue(((BooleanColumn)table.get().column("BoolCol")).getBoolean(64));
+        assertTrue(!((BooleanColumn)table.get().column("BoolCol")).getBoolean(65));
+    }
+
+    @Test
+    public void testBuilderBuildCopiesAppendedRows() {
+        DataTableBuilder builder = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .appendRow(1)
+                .appendRow(2);
+
+        DataTable first = builder.build().get();
+        DataTable second = builder.appendRow(3).build().get();
+
+        assertTrue(first.rowCount() == 2);
+        assertTrue(second.rowCount() == 3);
+    }
+
+    @Test
+    public void testBuilderAppendRowWithInvalidType() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol")
+                .withColumn(Integer.class, "IntCol")
+                .appendRow("AA", 3)
+                .appendRow("BB", "Invalid")
+                .freeze();
+
+        assertTrue(table.isFailure());
+        assertTrue(table.getCause().getMessage().equals("Column 'IntCol' doesn't support values of type String."));
+    }
+
+    @Test
+    public void testBuilderAppendRowWithInvalidValueCount() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol")
+                .withColumn(Integer.class, "IntCol")
+                .appendRow("AA")
+                .freeze();
+
+        assertTrue(table.isFailure());
+        assertTrue(table.getCause().getMessage().equals("Number of values does not match number of columns."));
+    }
+
+    @Test
+    public void testBuilderTypedAppendWithInvalidType() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .appendDouble(0, 1.5)
+                .freeze();
+
+        assertTrue(table.isFailure());
+    }
+
+    @Test
+    public void testBuilderMixedColumnLengthMismatch() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB")
+                .withColumn(Integer.class, "IntCol")
+                .appendRow(3)
+                .freeze();
+
+        assertTrue(table.isFailure());
+        assertTrue(table.getCause().getMessage().equals("Columns have different lengths."));
+    }
+
+    @Test
+    public void testBuilderCantBeUsedAfterFreeze() {
+        DataTableBuilder builder = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .appendRow(3);
+
+        DataTable table = builder.freeze().get();
+        Try<DataTable> result = builder.appendRow(4).withColumn(String.class, "StrCol").appendInt(0, 5).build();
+
+        assertTrue(table.rowCount() == 1);
+        assertTrue(table.columns().count() == 1);
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause().getMessage().equals("DataTableBuilder has already been frozen."));
+    }
+
+    @Test
+    public void testBuilderAppendWithInvalidColumnIndex() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .append(1, 3)
+                .freeze();
+
+        assertTrue(table.isFailure());
+        assertTrue(table.getCause().getMessage().equals("Invalid column index 1, there are 1 declared columns."));
+
+        Try<DataTable> typed = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .appendInt(-1, 3)
+                .appendInt(0, 4)
+                .build();
+
+        assertTrue(typed.isFailure());
+        assertTrue(typed.getCause().getMessage().equals("Invalid column index -1, there are 1 declared columns."));
+    }
+
+    @Test
+    public void testBuilderWithInvalidCapacity() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withCapacity(-1)
+                .withColumn(Integer.class, "IntCol")
+                .appendRow(1)
+                .freeze();
+
+        assertTrue(table.isFailure());
+        assertTrue(table.getCause().getMessage().equals("Invalid capacity, must not be negative."));
+    }
+
+    @Test
+    public void testBuilderWithInvalidDictionarySize() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA")
+                .withDictionaryEncoding(0)
+                .build();
+
+        assertTrue(table.isFailure());
+        assertTrue(table.getCause().getMessage().equals("Invalid dictionary size, must be at least 1."));
+    }
+
+    @Test
+    public void testBuildingAfterFreezeFails() {
+        DataTableBuilder builder = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .appendRow(3);
+
+        assertTrue(builder.freeze().isSuccess());
+
+        Try<DataTable> table = builder.build();
+
+        assertTrue(table.isFailure());
+        assertTrue(table.getCause().getMessage().equals("DataTableBuilder has already been frozen."));
+        assertTrue(builder.freeze().isFailure());
+    }
 }
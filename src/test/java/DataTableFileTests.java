@@ -0,0 +1,164 @@
+import com.github.martincooper.datatable.*;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Try;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+import static com.github.martincooper.datatable.grouping.Aggregate.sum;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for saving and memory mapping tables.
+ */
+public class DataTableFileTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSaveAndMapFile() throws IOException {
+        DataTable table = createTable();
+        Path path = folder.newFile("table.dt").toPath();
+
+        assertTrue(table.save(path).isSuccess());
+
+        DataTable mapped = DataTable.mapFile(path).get();
+
+        assertEquals(mapped.name(), "Sales");
+        assertTrue(mapped.rowCount() == 4);
+        assertTrue(mapped.columns().count() == table.columns().count());
+
+        for (int idx = 0; idx < table.columns().count(); idx++) {
+            assertEquals(mapped.column(idx).name(), table.column(idx).name());
+            assertEquals(mapped.column(idx).data(), table.column(idx).data());
+        }
+
+        assertTrue(!(mapped.column("Notes") instanceof DictionaryColumn));
+
+        assertTrue(mapped.column("Units") instanceof IntColumn);
+        assertTrue(((IntColumn)mapped.column("Units")).isOffHeap());
+        assertTrue(((IntColumn)mapped.column("Units")).nullCount() == 1);
+        assertTrue(((DictionaryColumn)mapped.column("Region")).isOffHeap());
+        assertTrue(((BooleanColumn)mapped.column("Active")).isOffHeap());
+
+        // Boxed columns of primitive types are loaded as primitive columns.
+        assertTrue(mapped.column("Boxed") instanceof LongColumn);
+    }
+
+    @Test
+    public void testModifyingMappedTable() throws IOException {
+        Path path = folder.newFile("table.dt").toPath();
+        createTable().save(path).get();
+
+        DataTable mapped = DataTable.mapFile(path).get();
+
+        IDataColumn added = mapped.column("Units").add(50).get();
+        assertEquals(added.data(), List.of(10, null, 30, 40, 50).toVector());
+        assertTrue(!((IntColumn)added).isOffHeap());
+
+        DataTable filtered = mapped.where(col("Price").gt(2.0)).get().toDataTable();
+        assertEquals(filtered.column("Region").data(), List.of("South", "North").toVector());
+
+        DataTable grouped = mapped.groupBy("Region").agg(sum("Units")).get();
+        assertEquals(grouped.column("sum(Units)").data(), Vector.of(50L, null, 30L));
+
+        int[] sorted = mapped.quickSort("Price").get().rows().rowIndexes();
+        assertTrue(Arrays.equals(sorted, new int[] { 2, 0, 3, 1 }));
+
+        try (OffHeapAllocator allocator = new OffHeapAllocator()) {
+            IntColumn offHeap = ((IntColumn)mapped.column("Units")).toOffHeap(allocator);
+            assertEquals(offHeap.data(), mapped.column("Units").data());
+        }
+    }
+
+    @Test
+    public void testSavingMappedTableOverItsOwnFile() throws IOException {
+        Path path = folder.newFile("table.dt").toPath();
+        createTable().save(path).get();
+
+        DataTable mapped = DataTable.mapFile(path).get();
+        DataTable other = DataTable.mapFile(path).get();
+
+        assertTrue(mapped.save(path).isSuccess());
+
+        DataTable reloaded = DataTable.mapFile(path).get();
+        assertEquals(reloaded.column("Units").data(), mapped.column("Units").data());
+        assertEquals(other.column("Price").data(), mapped.column("Price").data());
+        assertTrue(folder.getRoot().list().length == 1);
+    }
+
+    @Test
+    public void testSavedFilePermissions() throws IOException {
+        Path root = folder.getRoot().toPath();
+        Assume.assumeTrue(Files.getFileStore(root).supportsFileAttributeView(PosixFileAttributeView.class));
+
+        // A new file gets the default permissions, the same as any other new file.
+        Set<PosixFilePermission> defaults = Files.getPosixFilePermissions(folder.newFile("default.txt").toPath());
+        Path path = root.resolve("table.dt");
+
+        createTable().save(path).get();
+        assertEquals(Files.getPosixFilePermissions(path), defaults);
+
+        // Saving over an existing file keeps its permissions.
+        Set<PosixFilePermission> custom = PosixFilePermissions.fromString("rw-rw----");
+        Files.setPosixFilePermissions(path, custom);
+
+        createTable().save(path).get();
+        assertEquals(Files.getPosixFilePermissions(path), custom);
+    }
+
+    @Test
+    public void testSaveAndMapFileErrors() throws IOException {
+        Path path = folder.newFile("table.dt").toPath();
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Object.class, "ObjCol", List.of(new Object()))
+                .build().get();
+
+        Try<Void> result = table.save(path);
+
+        assertTrue(result.isFailure());
+        assertEquals(result.getCause().getMessage(), "Column 'ObjCol' has an unsupported type for saving.");
+
+        Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24 });
+        Try<DataTable> mapped = DataTable.mapFile(path);
+
+        assertTrue(mapped.isFailure());
+        assertEquals(mapped.getCause().getMessage(), "Invalid data table file.");
+
+        assertTrue(DataTable.mapFile(folder.getRoot().toPath().resolve("missing.dt")).isFailure());
+    }
+
+    private static DataTable createTable() {
+        BitSet nulls = new BitSet();
+        nulls.set(1);
+
+        return DataTableBuilder
+                .create("Sales")
+                .withDictionaryEncoding(2)
+                .withColumn(String.class, "Region", "North", "South", null, "North")
+                .withColumn(String.class, "Notes", "Ä note", null, "", "Another note")
+                .withColumn(new IntColumn("Units", new int[] { 10, 20, 30, 40 }, nulls))
+                .withColumn("Count", new long[] { 1L, 2L, 3L, 4L })
+                .withColumn("Price", new double[] { 1.5, 9.5, 0.5, 2.5 })
+                .withColumn("Active", new boolean[] { true, false, true, true })
+                .withColumn(Long.class, "Boxed", List.of(5L, null, 7L, 8L))
+                .build().get();
+    }
+}
@@ -1,8 +1,18 @@
 import com.github.martincooper.datatable.DataTable;
 import com.github.martincooper.datatable.DataTableBuilder;
 import com.github.martincooper.datatable.DataView;
+import com.github.martincooper.datatable.IntColumn;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import io.vavr.control.Try;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.github.martincooper.datatable.TransformCollector.transform;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -94,4 +104,113 @@ public class DataTableFilteringTests {
         assertTrue(view.row(0).getAs(Double.class, "DoubleCol") == 1.1);
         assertTrue(view.row(0).getAs(String.class, "StrCol").equals("AA"));
     }
+
+    @Test
+    public void testFilterOnDataView() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB", "CC", "DD", "EE")
+                .withColumn("IntCol", new int[] { 1, 2, 3, 4, 5 })
+                .build().get();
+
+        // Filter a view of the table, then filter the results again.
+        DataView view = table
+                .filter(row -> row.getAs(Integer.class, "IntCol") > 1)
+                .filter(row -> row.getAs(Integer.class, "IntCol") % 2 == 1);
+
+        assertTrue(view.rowCount() == 2);
+        assertTrue(view.row(0).rowIdx() == 2);
+        assertTrue(view.row(1).getAs(String.class, "StrCol").equals("EE"));
+        assertTrue(Arrays.equals(view.rows().rowIndexes(), new int[] { 2, 4 }));
+    }
+
+    @Test
+    public void testFilteredDataViewToDataTable() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB", "CC", "DD")
+                .withColumn("IntCol", new int[] { 1, 2, 3, 4 })
+                .build().get();
+
+        DataTable filtered = table
+                .filter(row -> row.getAs(Integer.class, "IntCol") % 2 == 0)
+                .toDataTable();
+
+        assertTrue(filtered.rowCount() == 2);
+        assertTrue(filtered.column("IntCol") instanceof IntColumn);
+        assertTrue(filtered.row(0).getAs(String.class, "StrCol").equals("BB"));
+        assertTrue(filtered.row(1).getAs(Integer.class, "IntCol") == 4);
+    }
+
+    @Test
+    public void testDataViewBuildFromRowIndexes() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB", "CC")
+                .build().get();
+
+        int[] rowIndexes = { 2, 0 };
+        Try<DataView> view = DataView.build(table, rowIndexes);
+        rowIndexes[0] = 1;
+
+        assertTrue(view.isSuccess());
+        assertTrue(view.get().row(0).getAs(String.class, "StrCol").equals("CC"));
+        assertTrue(view.get().row(1).getAs(String.class, "StrCol").equals("AA"));
+
+        assertTrue(DataView.build(table, new int[] { 0, 3 }).isFailure());
+        assertTrue(DataView.build(table, new int[] { -1 }).isFailure());
+    }
+
+    @Test
+    public void testParallelFilterMatchesFilter() {
+        int[] intData = new int[100000];
+
+        for (int idx = 0; idx < intData.length; idx++)
+            intData[idx] = (idx * 31) % 1000;
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", intData)
+                .build().get();
+
+        DataView view = table.filter(row -> row.getAs(Integer.class, "IntCol") > 100);
+        DataView parallel = table.parallelFilter(row -> row.getAs(Integer.class, "IntCol") > 100);
+        DataView parallelOnView = view.parallelFilter(row -> row.getAs(Integer.class, "IntCol") % 2 == 0);
+
+        assertTrue(Arrays.equals(view.rows().rowIndexes(), parallel.rows().rowIndexes()));
+        assertTrue(Arrays.equals(
+                view.filter(row -> row.getAs(Integer.class, "IntCol") % 2 == 0).rows().rowIndexes(),
+                parallelOnView.rows().rowIndexes()));
+    }
+
+    @Test
+    public void testParallelMapAndForEach() {
+        int[] intData = new int[100000];
+
+        for (int idx = 0; idx < intData.length; idx++)
+            intData[idx] = idx % 1000;
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", intData)
+                .build().get();
+
+        Seq<Integer> mapped = table.parallelMap(row -> row.getAs(Integer.class, "IntCol") * 2);
+        assertEquals(table.map(row -> row.getAs(Integer.class, "IntCol") * 2), mapped);
+
+        AtomicLong total = new AtomicLong();
+        table.parallelForEach(row -> total.addAndGet(row.getAs(Integer.class, "IntCol")));
+        assertTrue(total.get() == 100L * 499500L);
+    }
+
+    @Test
+    public void testTransformCollectorOnParallelStream() {
+        Seq<Integer> items = IntStream.range(0, 10000)
+                .boxed()
+                .parallel()
+                .collect(transform(Stream::toVector));
+
+        assertTrue(items.length() == 10000);
+        assertTrue(items.zipWithIndex().forAll(item -> item._1.equals(item._2)));
+    }
 }
@@ -1,6 +1,4 @@
-import com.github.martincooper.datatable.DataColumn;
-import com.github.martincooper.datatable.DataTable;
-import com.github.martincooper.datatable.IDataColumn;
+import com.github.martincooper.datatable.*;
 import io.vavr.collection.List;
 import io.vavr.control.Try;
 import org.junit.Test;
@@ -67,6 +65,104 @@ public class DataTableTests {
         assertEquals(table.getCause().getMessage(), "Columns have different lengths.");
     }
 
+    @Test
+    public void testConcatenatingTables() {
+        DataTable first = createConcatTable(70, "A", "B");
+        DataTable second = createConcatTable(3, "C", "A");
+
+        DataTable table = DataTable.concat("Combined", List.of(first, second)).get();
+
+        assertEquals(table.name(), "Combined");
+        assertTrue(table.rowCount() == 73);
+        assertTrue(table.column("IntCol") instanceof IntColumn);
+        assertTrue(table.column("BoolCol") instanceof BooleanColumn);
+        assertTrue(table.column("DictCol") instanceof DictionaryColumn);
+
+        for (int idx = 0; idx < 73; idx++) {
+            DataTable source = idx < 70 ? first : second;
+            int sourceRow = idx < 70 ? idx : idx - 70;
+
+            for (IDataColumn column : table.columns())
+                assertEquals(column.valueAt(idx), source.column(column.name()).valueAt(sourceRow));
+        }
+
+        DataTable mismatched = DataTableBuilder.create("Other").withColumn(Integer.class, "IntCol", 1).build().get();
+        Try<DataTable> failed = DataTable.concat("Combined", List.of(first, mismatched));
+
+        assertTrue(failed.isFailure());
+        assertEquals(failed.getCause().getMessage(), "Tables have different columns.");
+        assertTrue(DataTable.concat("Empty", List.empty()).get().columns().count() == 0);
+    }
+
+    @Test
+    public void testSelectingColumns() {
+        IDataColumn[] cols = { createStringColumn(), createIntegerColumn(), createBooleanColumn() };
+        DataTable table = DataTable.build("NewTable", cols).get();
+
+        DataTable selected = table.select("BooleanCol", "StringCol").get();
+
+        assertEquals(selected.name(), "NewTable");
+        assertEquals(selected.columns().count(), 2);
+        assertTrue(selected.rowCount() == 3);
+        assertSame(selected.column(0), table.column("BooleanCol"));
+        assertSame(selected.column("StringCol"), table.column("StringCol"));
+        assertEquals(selected.columns().indexOf("StringCol"), 1);
+
+        Try<DataTable> missing = table.select("StringCol", "Missing");
+        assertTrue(missing.isFailure());
+        assertEquals(missing.getCause().getMessage(), "Column not found with name Missing");
+
+        Try<DataTable> repeated = table.select("StringCol", "StringCol");
+        assertTrue(repeated.isFailure());
+        assertEquals(repeated.getCause().getMessage(), "Column StringCol is selected more than once.");
+
+        // A table with no columns is valid, and has no rows.
+        DataTable empty = table.select().get();
+        assertEquals(empty.columns().count(), 0);
+        assertTrue(empty.rowCount() == 0);
+    }
+
+    @Test
+    public void testSelectingColumnsFromView() {
+        IDataColumn[] cols = { createStringColumn(), createIntegerColumn(), createBooleanColumn() };
+        DataTable table = DataTable.build("NewTable", cols).get();
+
+        DataView view = table.filter(row -> row.getAs(Boolean.class, "BooleanCol"));
+        DataView selected = view.select("IntegerCol").get();
+
+        assertEquals(selected.columns().count(), 1);
+        assertTrue(selected.rowCount() == 2);
+        assertSame(selected.column("IntegerCol"), table.column("IntegerCol"));
+        assertEquals(selected.row(1).getAs(Integer.class, "IntegerCol"), Integer.valueOf(9));
+        assertEquals(selected.toDataTable().column("IntegerCol").data(), List.of(5, 9).toVector());
+
+        // A view with no columns would have row indexes past the end of its empty table.
+        Try<DataView> empty = view.select(List.empty());
+        assertTrue(empty.isFailure());
+        assertEquals(empty.getCause().getMessage(), "Select must have at least one column.");
+    }
+
+    private DataTable createConcatTable(int rowCount, String dictValue, String otherDictValue) {
+        DataTableBuilder builder = DataTableBuilder
+                .create("Part")
+                .withColumn(Integer.class, "IntCol")
+                .withColumn(Double.class, "DoubleCol")
+                .withColumn(Boolean.class, "BoolCol")
+                .withColumn(String.class, "DictCol")
+                .withColumn(String.class, "StrCol")
+                .withDictionaryEncoding(10);
+
+        for (int idx = 0; idx < rowCount; idx++) {
+            builder.appendRow(idx % 5 == 0 ? null : idx,
+                    idx * 1.5,
+                    idx % 7 == 0 ? null : idx % 3 == 0,
+                    idx % 4 == 0 ? null : idx % 2 == 0 ? dictValue : otherDictValue,
+                    "Str" + idx);
+        }
+
+        return builder.freeze().get();
+    }
+
     private DataColumn<String> createStringColumn() {
         List<String> data = List.of("AA", "BB", "CC");
         return new DataColumn<>(String.class, "StringCol", data);
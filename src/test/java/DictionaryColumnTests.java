@@ -0,0 +1,127 @@
+import com.github.martincooper.datatable.*;
+import com.github.martincooper.datatable.sorting.SortOrder;
+import io.vavr.collection.List;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+import static com.github.martincooper.datatable.grouping.Aggregate.count;
+import static com.github.martincooper.datatable.grouping.Aggregate.sum;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for dictionary encoded string columns.
+ */
+public class DictionaryColumnTests {
+
+    @Test
+    public void testDictionaryColumnValues() {
+        DictionaryColumn column = new DictionaryColumn("Region", new String[] { "North", "East", "North", "South" });
+
+        assertTrue(column.rowCount() == 4);
+        assertTrue(column.dictionarySize() == 3);
+        assertEquals(column.data(), List.of("North", "East", "North", "South").toVector());
+
+        // Codes are ordered the same as the values.
+        assertTrue(column.getCode(1) < column.getCode(0));
+        assertTrue(column.getCode(0) < column.getCode(3));
+        assertTrue(column.getCode(0) == column.getCode(2));
+        assertTrue(column.dictionaryValue(column.getCode(3)).equals("South"));
+        assertTrue(column.codeOf("West") < 0);
+    }
+
+    @Test
+    public void testModifyingDictionaryColumn() {
+        DictionaryColumn column = new DictionaryColumn("Region", new String[] { "North", "East", "North" });
+
+        IDataColumn added = column.add("Central").get();
+        IDataColumn inserted = column.insert(1, "West").get();
+        IDataColumn replaced = column.replace(0, "East").get();
+        IDataColumn removed = column.remove(1).get();
+
+        assertTrue(added instanceof DictionaryColumn);
+        assertEquals(added.data(), List.of("North", "East", "North", "Central").toVector());
+        assertEquals(inserted.data(), List.of("North", "West", "East", "North").toVector());
+        assertEquals(replaced.data(), List.of("East", "East", "North").toVector());
+        assertEquals(removed.data(), List.of("North", "North").toVector());
+        assertTrue(((DictionaryColumn)added).dictionarySize() == 3);
+
+        assertEquals(column.add(null).get().data(), List.of("North", "East", "North", null).toVector());
+        assertTrue(column.add(5).isFailure());
+        assertEquals(column.data(), List.of("North", "East", "North").toVector());
+    }
+
+    @Test
+    public void testBuilderDictionaryEncoding() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withDictionaryEncoding(2)
+                .withColumn(String.class, "Encoded")
+                .withColumn(String.class, "TooManyValues")
+                .withColumn(String.class, "WithNulls")
+                .appendRow("AA", "AA", "AA")
+                .appendRow("BB", "BB", null)
+                .appendRow("AA", "CC", "AA")
+                .build().get();
+
+        assertTrue(table.column("Encoded") instanceof DictionaryColumn);
+        assertTrue(!(table.column("TooManyValues") instanceof DictionaryColumn));
+        assertTrue(table.column("WithNulls") instanceof DictionaryColumn);
+        assertEquals(table.column("Encoded").data(), List.of("AA", "BB", "AA").toVector());
+        assertEquals(table.column("WithNulls").data(), List.of("AA", null, "AA").toVector());
+        assertTrue(((DictionaryColumn)table.column("WithNulls")).nullCount() == 1);
+
+        DataTable fullyPopulated = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB", "AA")
+                .withDictionaryEncoding(10)
+                .freeze().get();
+
+        assertTrue(fullyPopulated.column("StrCol") instanceof DictionaryColumn);
+    }
+
+    @Test
+    public void testSortingDictionaryColumn() {
+        DataTable encoded = createTable(true);
+        DataTable plain = createTable(false);
+
+        assertTrue(encoded.column("Region") instanceof DictionaryColumn);
+        assertTrue(!(plain.column("Region") instanceof DictionaryColumn));
+
+        DataView encodedSort = encoded.quickSort("Region", SortOrder.Descending).get();
+        DataView plainSort = plain.quickSort("Region", SortOrder.Descending).get();
+
+        assertTrue(Arrays.equals(encodedSort.rows().rowIndexes(), plainSort.rows().rowIndexes()));
+    }
+
+    @Test
+    public void testGroupingAndFilteringDictionaryColumn() {
+        DataTable table = createTable(true);
+
+        DataTable grouped = table.groupBy("Region").agg(count(), sum("Units")).get();
+
+        assertTrue(grouped.column("Region") instanceof DictionaryColumn);
+        assertEquals(grouped.column("Region").data(), List.of("North", "South", "East").toVector());
+        assertEquals(grouped.column("sum(Units)").data(), List.of(60L, 20L, 7L).toVector());
+
+        assertTrue(Arrays.equals(table.where(col("Region").eq("South")).get().rows().rowIndexes(), new int[] { 1, 4 }));
+        assertTrue(table.where(col("Region").ne("North")).get().rowCount() == 3);
+        assertTrue(table.where(col("Region").eq("West")).get().rowCount() == 0);
+        assertTrue(table.where(col("Region").gt("Mid")).get().rowCount() == 5);
+        assertTrue(table.where(col("Region").le("North")).get().rowCount() == 4);
+        assertTrue(table.where(col("Region").lt("Aaa")).get().rowCount() == 0);
+        assertTrue(table.where(col("Region").eq(5)).isFailure());
+    }
+
+    private static DataTable createTable(boolean encoded) {
+        DataTableBuilder builder = DataTableBuilder.create("Sales");
+        if (encoded) builder.withDictionaryEncoding(100);
+
+        return builder
+                .withColumn(String.class, "Region", "North", "South", "North", "East", "South", "North")
+                .withColumn("Units", new int[] { 10, 15, 20, 7, 5, 30 })
+                .build().get();
+    }
+}
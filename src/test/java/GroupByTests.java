@@ -0,0 +1,191 @@
+import com.github.martincooper.datatable.*;
+import com.github.martincooper.datatable.grouping.Aggregate;
+import com.github.martincooper.datatable.grouping.GroupBy;
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.github.martincooper.datatable.grouping.Aggregate.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit Tests for grouping and aggregating table data.
+ */
+public class GroupByTests {
+
+    private DataTable createSalesTable() {
+        return DataTableBuilder
+                .create("Sales")
+                .withColumn(String.class, "Region", "North", "South", "North", "East", "South", "North")
+                .withColumn(Integer.class, "Units", 10, 5, 20, 7, 15, 30)
+                .withColumn("Price", new double[] { 1.5, 2.0, 2.5, 1.0, 3.0, 0.5 })
+                .withColumn("Year", new int[] { 2016, 2016, 2017, 2017, 2016, 2016 })
+                .build().get();
+    }
+
+    @Test
+    public void testGroupBySingleColumn() {
+        Try<DataTable> result = createSalesTable()
+                .groupBy("Region")
+                .agg(sum("Units"), count(), avg("Price"), min("Price"), max("Units"));
+
+        assertTrue(result.isSuccess());
+
+        DataTable table = result.get();
+
+        // Groups are in order of first appearance.
+        assertEquals(table.columns().count(), 6);
+        assertEquals(table.column("Region").data(), List.of("North", "South", "East").toVector());
+        assertEquals(table.column("sum(Units)").data(), List.of(60L, 20L, 7L).toVector());
+        assertEquals(table.column("count").data(), List.of(3L, 2L, 1L).toVector());
+        assertEquals(table.column("avg(Price)").data(), List.of(1.5, 2.5, 1.0).toVector());
+        assertEquals(table.column("min(Price)").data(), List.of(0.5, 2.0, 1.0).toVector());
+        assertEquals(table.column("max(Units)").data(), List.of(30, 15, 7).toVector());
+    }
+
+    @Test
+    public void testGroupByMultipleColumns() {
+        Try<DataTable> result = createSalesTable()
+                .groupBy("Year", "Region")
+                .agg(sum("Price").as("Total"), count());
+
+        assertTrue(result.isSuccess());
+
+        DataTable table = result.get();
+
+        assertTrue(table.rowCount() == 4);
+        assertTrue(table.column("Year") instanceof IntColumn);
+        assertEquals(table.column("Year").data(), List.of(2016, 2016, 2017, 2017).toVector());
+        assertEquals(table.column("Region").data(), List.of("North", "South", "North", "East").toVector());
+        assertEquals(table.column("Total").data(), List.of(2.0, 5.0, 2.5, 1.0).toVector());
+        assertEquals(table.column("count").data(), List.of(2L, 2L, 1L, 1L).toVector());
+    }
+
+    @Test
+    public void testGroupByWithNullValues() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "Key", "A", null, "A", null)
+                .withColumn(Integer.class, "Value", 1, 2, null, 4)
+                .build().get();
+
+        DataTable result = table.groupBy("Key").agg(sum("Value"), count(), min("Value")).get();
+
+        assertEquals(result.column("Key").data(), List.of("A", null).toVector());
+        assertEquals(result.column("sum(Value)").data(), List.of(1L, 6L).toVector());
+        assertEquals(result.column("count").data(), List.of(2L, 2L).toVector());
+        assertEquals(result.column("min(Value)").data(), List.of(1, 2).toVector());
+    }
+
+    @Test
+    public void testGroupByOnFilteredDataView() {
+        DataTable result = createSalesTable()
+                .filter(row -> row.getAs(Integer.class, "Year") == 2016)
+                .groupBy("Region")
+                .agg(sum("Units"))
+                .get();
+
+        assertEquals(result.column("Region").data(), List.of("North", "South").toVector());
+        assertEquals(result.column("sum(Units)").data(), List.of(40L, 20L).toVector());
+    }
+
+    @Test
+    public void testGroupByWithNoColumns() {
+        DataTable result = createSalesTable().groupBy().agg(count(), sum("Year")).get();
+
+        assertTrue(result.rowCount() == 1);
+        assertEquals(result.column("count").data(), List.of(6L).toVector());
+        assertEquals(result.column("sum(Year)").data(), List.of(12098L).toVector());
+    }
+
+    @Test
+    public void testGroupByWithManyGroups() {
+        int[] keys = new int[20000];
+        long[] values = new long[20000];
+
+        for (int idx = 0; idx < keys.length; idx++) {
+            keys[idx] = (idx * 7) % 5000;
+            values[idx] = idx;
+        }
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("Key", keys)
+                .withColumn("Value", values)
+                .build().get();
+
+        DataTable result = table.groupBy("Key").agg(count(), max("Value")).get();
+
+        assertTrue(result.rowCount() == 5000);
+        assertTrue(result.rows().map(row -> row.getAs(Long.class, "count")).forAll(count -> count == 4L));
+        assertTrue(result.row(0).getAs(Long.class, "max(Value)") == 15000L);
+    }
+
+    @Test
+    public void testGroupByWithInvalidColumns() {
+        DataTable table = createSalesTable();
+
+        Try<DataTable> invalidKey = table.groupBy("Missing").agg(count());
+        Try<DataTable> invalidAggregate = table.groupBy("Region").agg(sum("Missing"));
+        Try<DataTable> invalidType = table.groupBy("Year").agg(sum("Region"));
+        Try<DataTable> duplicateName = table.groupBy("Region").agg(count(), count());
+
+        assertTrue(invalidKey.isFailure());
+        assertTrue(invalidAggregate.isFailure());
+        assertTrue(invalidType.isFailure());
+        assertEquals(invalidType.getCause().getMessage(), "Aggregate sum(Region) failed. Column 'Region' isn't numeric.");
+        assertTrue(duplicateName.isFailure());
+    }
+
+    @Test
+    public void testParallelGroupByMatchesSequential() {
+        Random rand = new Random(3);
+        int[] intData = new int[150000];
+        double[] doubleData = new double[150000];
+        String[] strData = new String[150000];
+
+        for (int idx = 0; idx < intData.length; idx++) {
+            intData[idx] = rand.nextInt(2000);
+            doubleData[idx] = rand.nextGaussian() * 1e6;
+            strData[idx] = rand.nextInt(10) == 0 ? null : "S" + rand.nextInt(5);
+        }
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", intData)
+                .withColumn("DoubleCol", doubleData)
+                .withColumn(String.class, "StrCol", strData)
+                .build().get();
+
+        DataView view = table.filter(row -> row.getAs(Integer.class, "IntCol") % 3 != 0);
+
+        assertGroupByResultsEqual(table.groupBy("StrCol", "IntCol"), view.groupBy("IntCol"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelGroupByWithInvalidParallelism() {
+        createSalesTable().groupBy("Region").parallel(0);
+    }
+
+    private static void assertGroupByResultsEqual(GroupBy... groupBys) {
+        for (GroupBy groupBy : groupBys) {
+            Aggregate[] aggregates = { count(), sum("DoubleCol"), avg("DoubleCol"), min("DoubleCol"), max("StrCol") };
+
+            DataTable sequential = groupBy.agg(aggregates).get();
+            DataTable parallel = groupBy.parallel().agg(aggregates).get();
+            DataTable parallelOne = groupBy.parallel(1).agg(aggregates).get();
+            DataTable parallelFour = groupBy.parallel(4).agg(aggregates).get();
+
+            assertTrue(sequential.rowCount() > 1000);
+
+            for (IDataColumn column : sequential.columns()) {
+                assertEquals(column.data(), parallel.column(column.name()).data());
+                assertEquals(column.data(), parallelOne.column(column.name()).data());
+                assertEquals(column.data(), parallelFour.column(column.name()).data());
+            }
+        }
+    }
+}
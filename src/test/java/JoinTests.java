@@ -0,0 +1,213 @@
+import com.github.martincooper.datatable.*;
+import com.github.martincooper.datatable.joining.JoinType;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Random;
+
+import static com.github.martincooper.datatable.joining.JoinOn.on;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit Tests for joining tables.
+ */
+public class JoinTests {
+
+    private DataTable createOrdersTable() {
+        return DataTableBuilder
+                .create("Orders")
+                .withColumn(Integer.class, "OrderId", 1, 2, 3, 4, 5)
+                .withColumn(Integer.class, "CustomerId", 10, 20, 10, null, 40)
+                .withColumn("Amount", new double[] { 5.0, 7.5, 2.0, 9.0, 1.0 })
+                .build().get();
+    }
+
+    private DataTable createCustomersTable() {
+        return DataTableBuilder
+                .create("Customers")
+                .withColumn(Integer.class, "CustomerId", 10, 20, 30, null)
+                .withColumn(String.class, "Name", "Ann", "Bob", "Cat", "Dan")
+                .build().get();
+    }
+
+    @Test
+    public void testInnerJoin() {
+        Try<DataTable> result = createOrdersTable().join(createCustomersTable(), on("CustomerId"), JoinType.Inner);
+
+        assertTrue(result.isSuccess());
+
+        DataTable table = result.get();
+
+        // The right key column is dropped, and null keys never match.
+        assertEquals(table.columns().map(IDataColumn::name), List.of("OrderId", "CustomerId", "Amount", "Name"));
+        assertEquals(table.column("OrderId").data(), List.of(1, 2, 3).toVector());
+        assertEquals(table.column("CustomerId").data(), List.of(10, 20, 10).toVector());
+        assertEquals(table.column("Amount").data(), List.of(5.0, 7.5, 2.0).toVector());
+        assertEquals(table.column("Name").data(), List.of("Ann", "Bob", "Ann").toVector());
+    }
+
+    @Test
+    public void testOuterJoins() {
+        DataTable orders = createOrdersTable();
+        DataTable customers = createCustomersTable();
+
+        DataTable left = orders.join(customers, on("CustomerId"), JoinType.Left).get();
+
+        assertEquals(left.column("OrderId").data(), List.of(1, 2, 3, 4, 5).toVector());
+        assertEquals(left.column("Name").data(), Vector.of("Ann", "Bob", "Ann", null, null));
+
+        // Unmatched right rows come last, with their keys in the left key column.
+        DataTable right = orders.join(customers, on("CustomerId"), JoinType.Right).get();
+
+        assertEquals(right.column("OrderId").data(), Vector.of(1, 2, 3, null, null));
+        assertEquals(right.column("CustomerId").data(), Vector.of(10, 20, 10, 30, null));
+        assertEquals(right.column("Name").data(), List.of("Ann", "Bob", "Ann", "Cat", "Dan").toVector());
+
+        DataTable full = orders.join(customers, on("CustomerId"), JoinType.Full).get();
+
+        assertEquals(full.column("OrderId").data(), Vector.of(1, 2, 3, 4, 5, null, null));
+        assertEquals(full.column("CustomerId").data(), Vector.of(10, 20, 10, null, 40, 30, null));
+        assertEquals(full.column("Amount").data(), Vector.of(5.0, 7.5, 2.0, 9.0, 1.0, null, null));
+        assertEquals(full.column("Name").data(), Vector.of("Ann", "Bob", "Ann", null, null, "Cat", "Dan"));
+
+        // Primitive columns stay primitive, with the missing rows as nulls.
+        assertTrue(full.column("Amount") instanceof DoubleColumn);
+        assertTrue(((DoubleColumn)full.column("Amount")).hasNulls());
+    }
+
+    @Test
+    public void testJoinWithSmallerLeftTable() {
+        DataTable customers = createCustomersTable();
+        DataTable orders = createOrdersTable();
+
+        // The index is built over the left table, but the rows are still in left row order.
+        DataTable full = customers.join(orders, on("CustomerId"), JoinType.Full).get();
+
+        assertEquals(full.column("CustomerId").data(), Vector.of(10, 10, 20, 30, null, null, 40));
+        assertEquals(full.column("Name").data(), Vector.of("Ann", "Ann", "Bob", "Cat", "Dan", null, null));
+        assertEquals(full.column("OrderId").data(), Vector.of(1, 3, 2, null, null, 4, 5));
+    }
+
+    @Test
+    public void testJoinOnMultipleColumns() {
+        DataTable prices = DataTableBuilder
+                .create("Prices")
+                .withColumn(String.class, "Region", "North", "South", "North", "West")
+                .withColumn("Year", new long[] { 2016, 2016, 2017, 2016 })
+                .withColumn("Price", new double[] { 1.5, 2.0, 2.5, 3.0 })
+                .withDictionaryEncoding(10)
+                .build().get();
+
+        DataTable sales = DataTableBuilder
+                .create("Sales")
+                .withColumn(String.class, "Area", "North", "North", "East", "South", "North")
+                .withColumn("Period", new long[] { 2017, 2016, 2016, 2016, 2018 })
+                .withColumn("Price", new double[] { 9.0, 8.0, 7.0, 6.0, 5.0 })
+                .withDictionaryEncoding(10)
+                .build().get();
+
+        DataTable table = sales.join(prices, on(List.of("Area", "Period"), List.of("Region", "Year")), JoinType.Left).get();
+
+        // The right Price column has the same name as a left column, so is renamed.
+        assertTrue(table.column("Area") instanceof DictionaryColumn);
+        assertEquals(table.columns().map(IDataColumn::name), List.of("Area", "Period", "Price", "Prices.Price"));
+        assertEquals(table.column("Price").data(), List.of(9.0, 8.0, 7.0, 6.0, 5.0).toVector());
+        assertEquals(table.column("Prices.Price").data(), Vector.of(2.5, 1.5, null, 2.0, null));
+
+        // The unmatched right keys are gathered into the left key columns, which keep their types.
+        DataTable full = sales.join(prices, on(List.of("Area", "Period"), List.of("Region", "Year")), JoinType.Full).get();
+
+        assertTrue(full.column("Area") instanceof DictionaryColumn);
+        assertTrue(full.column("Period") instanceof LongColumn);
+        assertEquals(full.column("Area").data(), List.of("North", "North", "East", "South", "North", "West").toVector());
+        assertEquals(full.column("Period").data(), List.of(2017L, 2016L, 2016L, 2016L, 2018L, 2016L).toVector());
+        assertEquals(full.column("Price").data(), Vector.of(9.0, 8.0, 7.0, 6.0, 5.0, null));
+    }
+
+    @Test
+    public void testJoinMatchesNestedLoopJoin() {
+        Random rand = new Random(42);
+        DataTable small = createRandomTable(rand, "Small", 300);
+        DataTable large = createRandomTable(rand, "Large", 1000);
+
+        for (JoinType joinType : JoinType.values()) {
+            assertJoinMatches(small, large, joinType);
+            assertJoinMatches(large, small, joinType);
+        }
+    }
+
+    @Test
+    public void testInvalidJoins() {
+        DataTable orders = createOrdersTable();
+        DataTable customers = createCustomersTable();
+
+        Try<DataTable> missing = orders.join(customers, on("Name"), JoinType.Inner);
+        assertTrue(missing.isFailure());
+
+        Try<DataTable> mismatched = orders.join(customers, on(List.of("CustomerId"), List.of("CustomerId", "Name")), JoinType.Inner);
+        assertEquals(mismatched.getCause().getMessage(), "Join must have the same number of left and right key columns.");
+
+        Try<DataTable> types = orders.join(customers, on(List.of("OrderId"), List.of("Name")), JoinType.Inner);
+        assertEquals(types.getCause().getMessage(), "Join columns OrderId and Name have different types.");
+    }
+
+    private DataTable createRandomTable(Random rand, String tableName, int rowCount) {
+        DataTableBuilder builder = DataTableBuilder
+                .create(tableName)
+                .withColumn(Integer.class, "Key")
+                .withColumn(String.class, "Code")
+                .withColumn(Long.class, tableName + "Row")
+                .withDictionaryEncoding(100);
+
+        for (int idx = 0; idx < rowCount; idx++)
+            builder.appendRow(rand.nextInt(20) == 0 ? null : rand.nextInt(50), "C" + rand.nextInt(3), (long)idx);
+
+        return builder.freeze().get();
+    }
+
+    private void assertJoinMatches(DataTable left, DataTable right, JoinType joinType) {
+        String leftRow = left.name() + "Row";
+        String rightRow = right.name() + "Row";
+
+        DataTable joined = left.join(right, on("Key", "Code"), joinType).get();
+
+        ArrayList<Long> expectedLeft = new ArrayList<>();
+        ArrayList<Long> expectedRight = new ArrayList<>();
+        boolean[] rightMatched = new boolean[right.rowCount()];
+
+        for (int leftIdx = 0; leftIdx < left.rowCount(); leftIdx++) {
+            boolean matched = false;
+
+            for (int rightIdx = 0; rightIdx < right.rowCount(); rightIdx++) {
+                Object key = left.column("Key").valueAt(leftIdx);
+
+                if (key != null && key.equals(right.column("Key").valueAt(rightIdx))
+                        && Objects.equals(left.column("Code").valueAt(leftIdx), right.column("Code").valueAt(rightIdx))) {
+                    expectedLeft.add((long)leftIdx);
+                    expectedRight.add((long)rightIdx);
+                    rightMatched[rightIdx] = matched = true;
+                }
+            }
+
+            if (!matched && (joinType == JoinType.Left || joinType == JoinType.Full)) {
+                expectedLeft.add((long)leftIdx);
+                expectedRight.add(null);
+            }
+        }
+
+        for (int rightIdx = 0; rightIdx < right.rowCount(); rightIdx++) {
+            if (!rightMatched[rightIdx] && (joinType == JoinType.Right || joinType == JoinType.Full)) {
+                expectedLeft.add(null);
+                expectedRight.add((long)rightIdx);
+            }
+        }
+
+        assertEquals(joined.column(leftRow).data(), Vector.ofAll(expectedLeft));
+        assertEquals(joined.column(rightRow).data(), Vector.ofAll(expectedRight));
+    }
+}
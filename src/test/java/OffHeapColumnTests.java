@@ -0,0 +1,172 @@
+import com.github.martincooper.datatable.*;
+import com.github.martincooper.datatable.sorting.SortOrder;
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+import static com.github.martincooper.datatable.grouping.Aggregate.count;
+import static com.github.martincooper.datatable.grouping.Aggregate.sum;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for columns stored off the heap.
+ */
+public class OffHeapColumnTests {
+
+    @Test
+    public void testOffHeapColumnValues() {
+        try (OffHeapAllocator allocator = new OffHeapAllocator()) {
+            BitSet nulls = new BitSet();
+            nulls.set(1);
+
+            IntColumn intCol = new IntColumn("IntCol", new int[] { 5, 6, 7 }, nulls).toOffHeap(allocator);
+            LongColumn longCol = new LongColumn("LongCol", new long[] { 10L, 20L, 30L }).toOffHeap(allocator);
+            DoubleColumn doubleCol = new DoubleColumn("DoubleCol", new double[] { 1.5, 2.5, 3.5 }).toOffHeap(allocator);
+            BooleanColumn boolCol = new BooleanColumn("BoolCol", new boolean[] { true, false, true }).toOffHeap(allocator);
+            DictionaryColumn dictCol = new DictionaryColumn("DictCol", new String[] { "AA", "BB", null }).toOffHeap(allocator);
+
+            assertTrue(intCol.isOffHeap());
+            assertTrue(!new IntColumn("IntCol", new int[] { 5 }).isOffHeap());
+            assertTrue(allocator.allocatedBytes() == 12 + 24 + 24 + 8 + 12);
+
+            assertEquals(intCol.data(), List.of(5, null, 7).toVector());
+            assertEquals(longCol.data(), List.of(10L, 20L, 30L).toVector());
+            assertEquals(doubleCol.data(), List.of(1.5, 2.5, 3.5).toVector());
+            assertEquals(boolCol.data(), List.of(true, false, true).toVector());
+            assertEquals(dictCol.data(), List.of("AA", "BB", null).toVector());
+            assertTrue(intCol.getInt(2) == 7 && intCol.nullCount() == 1);
+        }
+    }
+
+    @Test
+    public void testModifyingOffHeapColumn() {
+        try (OffHeapAllocator allocator = new OffHeapAllocator()) {
+            IntColumn column = new IntColumn("IntCol", new int[] { 1, 2, 3 }).toOffHeap(allocator);
+
+            IDataColumn added = column.add(4).get();
+            IDataColumn inserted = column.insert(1, null).get();
+            IDataColumn replaced = column.replace(0, 9).get();
+            IDataColumn removed = column.remove(1).get();
+
+            assertTrue(added instanceof IntColumn && ((IntColumn)added).isOffHeap());
+            assertTrue(((IntColumn)removed).isOffHeap());
+            assertEquals(added.data(), List.of(1, 2, 3, 4).toVector());
+            assertEquals(inserted.data(), List.of(1, null, 2, 3).toVector());
+            assertEquals(replaced.data(), List.of(9, 2, 3).toVector());
+            assertEquals(removed.data(), List.of(1, 3).toVector());
+            assertEquals(column.data(), List.of(1, 2, 3).toVector());
+
+            BooleanColumn bools = new BooleanColumn("BoolCol", new boolean[70]).toOffHeap(allocator);
+            IDataColumn newBools = bools.insert(0, true).get().add(true).get();
+
+            assertTrue(((BooleanColumn)newBools).isOffHeap());
+            assertTrue(((BooleanColumn)newBools).getBoolean(0) && ((BooleanColumn)newBools).getBoolean(71));
+            assertTrue(!((BooleanColumn)newBools).getBoolean(70));
+
+            DictionaryColumn dict = new DictionaryColumn("DictCol", new String[] { "BB" }).toOffHeap(allocator);
+            IDataColumn newDict = dict.add("AA").get();
+
+            assertTrue(((DictionaryColumn)newDict).isOffHeap());
+            assertEquals(newDict.data(), List.of("BB", "AA").toVector());
+        }
+    }
+
+    @Test
+    public void testBuilderOffHeapStorage() {
+        try (OffHeapAllocator allocator = new OffHeapAllocator()) {
+            DataTable table = createTable(allocator);
+
+            assertTrue(((IntColumn)table.column("Units")).isOffHeap());
+            assertTrue(((DictionaryColumn)table.column("Region")).isOffHeap());
+            assertTrue(!(table.column("Notes") instanceof PrimitiveColumn));
+            assertEquals(table.column("Units").data(), List.of(10, 15, 20, 7, 5, 30).toVector());
+
+            DataView sorted = table.quickSort("Units", SortOrder.Descending).get();
+            assertTrue(Arrays.equals(sorted.rows().rowIndexes(), new int[] { 5, 2, 1, 0, 3, 4 }));
+
+            DataTable filtered = table.where(col("Units").gt(8).and(col("Region").eq("North"))).get().toDataTable();
+            assertEquals(filtered.column("Units").data(), List.of(10, 20, 30).toVector());
+
+            DataTable grouped = table.groupBy("Region").agg(count(), sum("Units")).get();
+            assertEquals(grouped.column("sum(Units)").data(), List.of(60L, 20L, 7L).toVector());
+        }
+    }
+
+    @Test
+    public void testClosedAllocator() {
+        OffHeapAllocator allocator = new OffHeapAllocator();
+        DataTable table = createTable(allocator);
+        allocator.close();
+
+        assertTrue(allocator.isClosed());
+        assertTrue(allocator.allocatedBytes() == 0);
+
+        // The memory has been released, so reading the columns fails rather than reading freed memory.
+        try {
+            table.column("Units").valueAt(0);
+            assertTrue(false);
+        } catch (IllegalStateException ex) {
+            assertEquals(ex.getMessage(), "Off heap allocator has been closed.");
+        }
+
+        try {
+            table.column("Region").valueAt(3);
+            assertTrue(false);
+        } catch (IllegalStateException ex) {
+            assertEquals(ex.getMessage(), "Off heap allocator has been closed.");
+        }
+
+        Try<IDataColumn> result = table.column("Units").add(5);
+
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause() instanceof IllegalStateException);
+        assertEquals(result.getCause().getMessage(), "Off heap allocator has been closed.");
+
+        Try<DataTable> built = DataTableBuilder.create("NewTable").withOffHeapStorage(allocator).build();
+
+        assertTrue(built.isFailure());
+        assertEquals(built.getCause().getMessage(), "Off heap allocator has been closed.");
+
+        Try<DataTable> noAllocator = DataTableBuilder.create("NewTable").withOffHeapStorage(null).build();
+
+        assertTrue(noAllocator.isFailure());
+        assertEquals(noAllocator.getCause().getMessage(), "Off heap allocator must not be null.");
+    }
+
+    @Test
+    public void testOperationsOnClosedAllocator() {
+        OffHeapAllocator allocator = new OffHeapAllocator();
+        DataTable table = createTable(allocator);
+        allocator.close();
+
+        // The allocator is checked once when each operation starts, rather than for every value read.
+        assertClosedFailure(table.quickSort("Units"));
+        assertClosedFailure(table.quickSort("Region"));
+        assertClosedFailure(table.where(col("Units").gt(8)));
+        assertClosedFailure(table.groupBy("Region").agg(count()));
+        assertClosedFailure(table.groupBy("Notes").agg(sum("Units")));
+        assertClosedFailure(IntColumnRef.build(table, "Units"));
+    }
+
+    private static void assertClosedFailure(Try<?> result) {
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause() instanceof IllegalStateException);
+        assertEquals(result.getCause().getMessage(), "Off heap allocator has been closed.");
+    }
+
+    private static DataTable createTable(OffHeapAllocator allocator) {
+        return DataTableBuilder
+                .create("Sales")
+                .withDictionaryEncoding(100)
+                .withOffHeapStorage(allocator)
+                .withColumn(String.class, "Region", "North", "South", "North", "East", "South", "North")
+                .withColumn("Units", new int[] { 10, 15, 20, 7, 5, 30 })
+                .withColumn(Object.class, "Notes", List.of("a", "b", "c", "d", "e", "f"))
+                .build().get();
+    }
+}
@@ -0,0 +1,164 @@
+import com.github.martincooper.datatable.*;
+import com.github.martincooper.datatable.sorting.SortOrder;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+import static com.github.martincooper.datatable.grouping.Aggregate.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for null values in primitive backed columns.
+ */
+public class PrimitiveColumnNullTests {
+
+    @Test
+    public void testBuildingPrimitiveColumnsWithNulls() {
+        DataTable table = createTable();
+
+        assertTrue(table.column("IntCol") instanceof IntColumn);
+        assertTrue(table.column("KeyCol") instanceof BooleanColumn);
+        assertTrue(((IntColumn)table.column("IntCol")).nullCount() == 2);
+        assertTrue(((DoubleColumn)table.column("Value")).nullCount() == 1);
+        assertEquals(table.column("LongCol").data(), List.of(10L, null, null, 40L, null, 60L).toVector());
+
+        DataCursor cursor = table.cursor();
+        cursor.next();
+        cursor.next();
+
+        assertTrue(cursor.isNull("IntCol"));
+        assertTrue(!cursor.isNull("Value"));
+        assertTrue(cursor.get("IntCol") == null);
+        assertTrue(table.intColumn("IntCol").isNull(3));
+    }
+
+    @Test
+    public void testFilteringPrimitiveColumnsWithNulls() {
+        DataTable table = createTable();
+
+        // Null rows hold 0, but should never match.
+        assertTrue(Arrays.equals(table.where(col("IntCol").lt(4)).get().rows().rowIndexes(), new int[] { 2, 5 }));
+        assertTrue(Arrays.equals(table.where(col("IntCol").ne(5)).get().rows().rowIndexes(), new int[] { 2, 4, 5 }));
+        assertTrue(table.where(col("LongCol").eq(0)).get().rowCount() == 0);
+        assertTrue(table.where(col("KeyCol").eq(false)).get().rowCount() == 2);
+
+        assertTrue(Arrays.equals(table.where(col("IntCol").isNull()).get().rows().rowIndexes(), new int[] { 1, 3 }));
+        assertTrue(table.where(col("IntCol").isNotNull()).get().rowCount() == 4);
+        assertTrue(table.where(col("LongCol").isNull().and(col("Value").isNotNull())).get().rowCount() == 2);
+    }
+
+    @Test
+    public void testSortingPrimitiveColumnsWithNulls() {
+        DataTable table = createTable();
+        DataTable boxedTable = createBoxedTable();
+
+        DataView intSort = table.quickSort("IntCol").get();
+
+        assertTrue(Arrays.equals(intSort.rows().rowIndexes(), new int[] { 1, 3, 2, 5, 0, 4 }));
+        assertTrue(Arrays.equals(intSort.rows().rowIndexes(), boxedTable.quickSort("IntCol").get().rows().rowIndexes()));
+
+        for (String columnName : new String[] { "IntCol", "LongCol", "KeyCol", "Value" }) {
+            int[] rowIndexes = table.quickSort(columnName, SortOrder.Descending).get().rows().rowIndexes();
+            int[] boxedRowIndexes = boxedTable.quickSort(columnName, SortOrder.Descending).get().rows().rowIndexes();
+
+            assertTrue(Arrays.equals(rowIndexes, boxedRowIndexes));
+        }
+    }
+
+    @Test
+    public void testGroupingPrimitiveColumnsWithNulls() {
+        DataTable result = createTable()
+                .groupBy("KeyCol")
+                .agg(count(), sum("IntCol"), avg("Value"), min("IntCol"), max("LongCol"))
+                .get();
+
+        assertEquals(result.column("KeyCol").data(), List.of(true, null, false).toVector());
+        assertEquals(result.column("count").data(), List.of(2L, 2L, 2L).toVector());
+        assertEquals(result.column("sum(IntCol)").data(), List.of(8L, 9L, 3L).toVector());
+        assertEquals(result.column("avg(Value)").data(), List.of(1.0, 3.5, 5.0).toVector());
+        assertEquals(result.column("min(IntCol)").data(), List.of(3, 9, 3).toVector());
+        assertEquals(result.column("max(LongCol)").data(), List.of(10L, null, 60L).toVector());
+    }
+
+    @Test
+    public void testAveragingLongColumn() {
+        DataTable table = createTable();
+        DataTable boxedTable = createBoxedTable();
+
+        assertTrue(table.column("LongCol") instanceof LongColumn);
+
+        DataTable result = table.groupBy("KeyCol").agg(avg("LongCol")).get();
+        DataTable boxedResult = boxedTable.groupBy("KeyCol").agg(avg("LongCol")).get();
+
+        assertEquals(result.column("avg(LongCol)").data(), Vector.of(10.0, null, 50.0));
+        assertEquals(result.column("avg(LongCol)").data(), boxedResult.column("avg(LongCol)").data());
+
+        DataTable noNulls = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "Key", "A", "B", "A", "A")
+                .withColumn("LongCol", new long[] { 1L, 7L, 2L, 6L })
+                .build().get();
+
+        DataTable noNullsResult = noNulls.groupBy("Key").agg(avg("LongCol")).get();
+        assertEquals(noNullsResult.column("avg(LongCol)").data(), Vector.of(3.0, 7.0));
+    }
+
+    @Test
+    public void testGroupingGroupsWithOnlyNulls() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "Key")
+                .withColumn(Integer.class, "IntCol")
+                .withColumn(Double.class, "Value")
+                .appendRow("A", 1, 1.5)
+                .appendRow("B", null, null)
+                .appendRow("A", null, 2.5)
+                .build().get();
+
+        DataTable boxedTable = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "Key", "A", "B", "A")
+                .withColumn(Integer.class, "IntCol", 1, null, null)
+                .withColumn(Double.class, "Value", 1.5, null, 2.5)
+                .build().get();
+
+        for (DataTable source : new DataTable[] { table, boxedTable }) {
+            DataTable result = source.groupBy("Key").agg(sum("IntCol"), sum("Value"), avg("Value"), min("IntCol")).get();
+
+            assertEquals(result.column("sum(IntCol)").data(), Vector.of(1L, null));
+            assertEquals(result.column("sum(Value)").data(), Vector.of(4.0, null));
+            assertEquals(result.column("avg(Value)").data(), Vector.of(2.0, null));
+            assertEquals(result.column("min(IntCol)").data(), Vector.of(1, null));
+        }
+    }
+
+    private static DataTable createTable() {
+        return DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .withColumn(Long.class, "LongCol")
+                .withColumn(Boolean.class, "KeyCol")
+                .withColumn(Double.class, "Value")
+                .appendRow(5, 10L, true, 1.0)
+                .appendRow(null, null, null, 2.0)
+                .appendRow(3, null, true, null)
+                .appendRow(null, 40L, false, 4.0)
+                .appendRow(9, null, null, 5.0)
+                .appendRow(3, 60L, false, 6.0)
+                .build().get();
+    }
+
+    private static DataTable createBoxedTable() {
+        return DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol", List.of(5, null, 3, null, 9, 3))
+                .withColumn(Long.class, "LongCol", List.of(10L, null, null, 40L, null, 60L))
+                .withColumn(Boolean.class, "KeyCol", List.of(true, null, true, false, null, false))
+                .withColumn(Double.class, "Value", List.of(1.0, 2.0, null, 4.0, 5.0, 6.0))
+                .build().get();
+    }
+}
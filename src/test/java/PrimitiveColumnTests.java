@@ -0,0 +1,219 @@
+import com.github.martincooper.datatable.*;
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit Tests for the primitive backed column classes.
+ */
+public class PrimitiveColumnTests {
+
+    @Test
+    public void testIntColumnCreation() {
+        IntColumn column = new IntColumn("IntCol", new int[] { 5, 7, 9 });
+
+        assertEquals(column.name(), "IntCol");
+        assertEquals(column.type(), Integer.class);
+        assertEquals(column.rowCount(), 3);
+        assertEquals(column.getInt(1), 7);
+        assertTrue(column.valueAt(2) == 9);
+        assertEquals(column.data(), List.of(5, 7, 9).toVector());
+    }
+
+    @Test
+    public void testIntColumnCopiesSourceArray() {
+        int[] data = { 5, 7, 9 };
+        IntColumn column = new IntColumn("IntCol", data);
+        data[0] = 100;
+
+        assertEquals(column.getInt(0), 5);
+    }
+
+    @Test
+    public void testLongColumnCreation() {
+        LongColumn column = new LongColumn("LongCol", new long[] { 5L, Long.MAX_VALUE });
+
+        assertEquals(column.type(), Long.class);
+        assertEquals(column.rowCount(), 2);
+        assertEquals(column.getLong(1), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testDoubleColumnCreation() {
+        DoubleColumn column = new DoubleColumn("DoubleCol", new double[] { 1.5, 2.5 });
+
+        assertEquals(column.type(), Double.class);
+        assertEquals(column.getDouble(1), 2.5, 0.0);
+    }
+
+    @Test
+    public void testBooleanColumnCreation() {
+        boolean[] data = new boolean[130];
+        data[0] = true;
+        data[64] = true;
+        data[129] = true;
+
+        BooleanColumn column = new BooleanColumn("BoolCol", data);
+
+        assertEquals(column.rowCount(), 130);
+        assertTrue(column.getBoolean(0));
+        assertTrue(!column.getBoolean(1));
+        assertTrue(column.getBoolean(64));
+        assertTrue(!column.getBoolean(128));
+        assertTrue(column.getBoolean(129));
+    }
+
+    @Test
+    public void testIntColumnModification() {
+        IntColumn column = new IntColumn("IntCol", new int[] { 5, 7, 9 });
+
+        Try<IDataColumn> added = column.add(11);
+        Try<IDataColumn> inserted = column.insert(0, 3);
+        Try<IDataColumn> replaced = column.replace(1, 100);
+        Try<IDataColumn> removed = column.remove(1);
+
+        assertEquals(added.get().data(), List.of(5, 7, 9, 11).toVector());
+        assertEquals(inserted.get().data(), List.of(3, 5, 7, 9).toVector());
+        assertEquals(replaced.get().data(), List.of(5, 100, 9).toVector());
+        assertEquals(removed.get().data(), List.of(5, 9).toVector());
+
+        // Original column is unchanged.
+        assertEquals(column.data(), List.of(5, 7, 9).toVector());
+    }
+
+    @Test
+    public void testBooleanColumnModification() {
+        BooleanColumn column = new BooleanColumn("BoolCol", new boolean[] { true, false, true });
+
+        assertEquals(column.add(false).get().data(), List.of(true, false, true, false).toVector());
+        assertEquals(column.insert(1, true).get().data(), List.of(true, true, false, true).toVector());
+        assertEquals(column.replace(2, false).get().data(), List.of(true, false, false).toVector());
+        assertEquals(column.remove(0).get().data(), List.of(false, true).toVector());
+    }
+
+    @Test
+    public void testPrimitiveColumnBatchModification() {
+        IntColumn intColumn = new IntColumn("IntCol", new int[] { 5, 7, 9 });
+        BooleanColumn boolColumn = new BooleanColumn("BoolCol", new boolean[] { true, false, true });
+
+        assertEquals(intColumn.addAll(List.of(1, 2)).get().data(), List.of(5, 7, 9, 1, 2).toVector());
+        assertEquals(intColumn.insertAll(1, List.of(1, 2)).get().data(), List.of(5, 1, 2, 7, 9).toVector());
+        assertEquals(intColumn.replaceAll(new int[] { 2, 0 }, List.of(1, 2)).get().data(), List.of(2, 7, 1).toVector());
+        assertEquals(intColumn.removeAll(new int[] { 0, 2 }).get().data(), List.of(7).toVector());
+
+        assertEquals(boolColumn.insertAll(0, List.of(false, false)).get().data(), List.of(false, false, true, false, true).toVector());
+        assertEquals(boolColumn.removeAll(new int[] { 1 }).get().data(), List.of(true, true).toVector());
+
+        assertEquals(intColumn.addAll(List.of(1, null)).get().data(), List.of(5, 7, 9, 1, null).toVector());
+        assertTrue(intColumn.replaceAll(new int[] { 0 }, List.of(1, 2)).isFailure());
+    }
+
+    @Test
+    public void testPrimitiveColumnInvalidModification() {
+        IntColumn column = new IntColumn("IntCol", new int[] { 5, 7, 9 });
+
+        Try<IDataColumn> invalidType = column.add("Invalid Type Value");
+        Try<IDataColumn> invalidIndex = column.remove(3);
+
+        assertTrue(invalidType.isFailure());
+        assertEquals(invalidType.getCause().getMessage(), "tryAdd failed. Item of invalid type passed.");
+        assertTrue(invalidIndex.isFailure());
+        assertTrue(invalidIndex.getCause() instanceof IndexOutOfBoundsException);
+    }
+
+    @Test
+    public void testPrimitiveColumnNulls() {
+        BitSet nulls = new BitSet();
+        nulls.set(1);
+        nulls.set(3);
+
+        IntColumn column = new IntColumn("IntCol", new int[] { 5, 7, 9, 11 }, nulls);
+
+        assertTrue(column.nullCount() == 2);
+        assertTrue(column.isNull(1) && !column.isNull(2));
+        assertTrue(column.getInt(1) == 0);
+        assertEquals(column.data(), List.of(5, null, 9, null).toVector());
+
+        IntColumn inserted = (IntColumn)column.insert(0, null).get();
+        IntColumn removed = (IntColumn)column.remove(1).get();
+        IntColumn replaced = (IntColumn)column.replace(3, 4).get();
+        IntColumn gathered = (IntColumn)column.buildFromRows(new int[] { 3, 2 }).get();
+
+        assertEquals(inserted.data(), List.of(null, 5, null, 9, null).toVector());
+        assertTrue(inserted.nullCount() == 3);
+        assertEquals(removed.data(), List.of(5, 9, null).toVector());
+        assertEquals(replaced.data(), List.of(5, null, 9, 4).toVector());
+        assertTrue(replaced.nullCount() == 1);
+        assertEquals(gathered.data(), List.of(null, 9).toVector());
+
+        // Columns without nulls don't change when non null values are added.
+        IntColumn noNulls = (IntColumn)column.removeAll(new int[] { 1, 3 }).get();
+        assertTrue(!noNulls.hasNulls());
+        assertTrue(!((IntColumn)noNulls.add(3).get()).hasNulls());
+
+        BooleanColumn boolColumn = (BooleanColumn)new BooleanColumn("BoolCol", new boolean[] { true }).add(null).get();
+        assertEquals(boolColumn.data(), List.of(true, null).toVector());
+    }
+
+    @Test
+    public void testPrimitiveColumnAsType() {
+        IDataColumn column = new DoubleColumn("DoubleCol", new double[] { 1.5, 2.5 });
+
+        assertTrue(column.asType(Double.class).isSuccess());
+        assertTrue(column.asType(Integer.class).isFailure());
+        assertTrue(column.IsComparable());
+    }
+
+    @Test
+    public void testDataTableWithPrimitiveColumns() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "AA", "BB", "CC")
+                .withColumn("IntCol", new int[] { 3, 5, 9 })
+                .withColumn("LongCol", new long[] { 30L, 50L, 90L })
+                .withColumn("DoubleCol", new double[] { 1.1, 2.2, 3.3 })
+                .withColumn("BoolCol", new boolean[] { true, false, true })
+                .build();
+
+        assertTrue(table.isSuccess());
+        assertTrue(table.get().rowCount() == 3);
+        assertTrue(table.get().row(1).getAs(Integer.class, "IntCol") == 5);
+        assertTrue(table.get().row(2).getAs(Long.class, "LongCol") == 90L);
+        assertTrue(table.get().row(0).getAs(Double.class, "DoubleCol") == 1.1);
+        assertTrue(!table.get().row(1).getAs(Boolean.class, "BoolCol"));
+        assertEquals(table.get().row(2).data().length, 5);
+    }
+
+    @Test
+    public void testDataTableWithPrimitiveColumnLengthMismatch() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", new int[] { 3, 5, 9 })
+                .withColumn("DoubleCol", new double[] { 1.1, 2.2 })
+                .build();
+
+        assertTrue(table.isFailure());
+        assertEquals(table.getCause().getMessage(), "Columns have different lengths.");
+    }
+
+    @Test
+    public void testDataTableAddRowWithPrimitiveColumns() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", new int[] { 3, 5, 9 })
+                .withColumn("BoolCol", new boolean[] { true, false, true })
+                .build().get();
+
+        Try<DataTable> result = table.rows().addValues(11, false);
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.get().rowCount() == 4);
+        assertTrue(result.get().column("IntCol") instanceof IntColumn);
+        assertTrue(result.get().row(3).getAs(Integer.class, "IntCol") == 11);
+    }
+}
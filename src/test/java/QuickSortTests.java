@@ -2,12 +2,16 @@ import com.github.martincooper.datatable.DataTable;
 import com.github.martincooper.datatable.DataTableBuilder;
 import com.github.martincooper.datatable.DataView;
 import com.github.martincooper.datatable.sorting.SortItem;
+import com.github.martincooper.datatable.sorting.SortOptions;
 import com.github.martincooper.datatable.sorting.SortOrder;
 import io.vavr.collection.List;
 import io.vavr.collection.Stream;
 import io.vavr.control.Try;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -91,4 +95,233 @@ public class QuickSortTests {
         assertTrue(view.get().row(5).getAs(Integer.class, "IndexCol") == 4);
         assertTrue(view.get().row(6).getAs(Integer.class, "IndexCol") == 6);
     }
+
+    @Test
+    public void testQuickSortWithPrimitiveColumns() {
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", new int[] { 2, 1, 2, 1, 2 })
+                .withColumn("DoubleCol", new double[] { 0.5, 1.5, -0.5, 2.5, 0.5 })
+                .withColumn("BoolCol", new boolean[] { true, false, false, true, false })
+                .build().get();
+
+        SortItem sortOne = new SortItem("IntCol", SortOrder.Descending);
+        SortItem sortTwo = new SortItem("DoubleCol");
+
+        Try<DataView> view = table.quickSort(Stream.of(sortOne, sortTwo));
+
+        assertTrue(view.isSuccess());
+
+        // Equal keys keep their original order, so row 0 comes before row 4.
+        assertTrue(Arrays.equals(view.get().rows().rowIndexes(), new int[] { 2, 0, 4, 1, 3 }));
+
+        Try<DataView> boolView = table.quickSort("BoolCol");
+        assertTrue(Arrays.equals(boolView.get().rows().rowIndexes(), new int[] { 1, 2, 4, 0, 3 }));
+    }
+
+    @Test
+    public void testQuickSortOnFilteredDataView() {
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "EE", "AA", "DD", "BB", "CC")
+                .withColumn(Integer.class, "IntCol", 1, 2, 3, 4, 5)
+                .build().get();
+
+        Try<DataView> view = table
+                .filter(row -> row.getAs(Integer.class, "IntCol") > 1)
+                .quickSort("StrCol", SortOrder.Descending);
+
+        assertTrue(view.isSuccess());
+        assertTrue(view.get().rowCount() == 4);
+        assertTrue(view.get().row(0).getAs(String.class, "StrCol").equals("DD"));
+        assertTrue(view.get().row(3).getAs(String.class, "StrCol").equals("AA"));
+    }
+
+    @Test
+    public void testQuickSortWithLargeTable() {
+
+        int[] data = new int[1000];
+        for (int idx = 0; idx < data.length; idx++)
+            data[idx] = (idx * 7919) % 100;
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", data)
+                .build().get();
+
+        int[] rowIndexes = table.quickSort("IntCol").get().rows().rowIndexes();
+
+        // Check values are in order, with equal values in their original row order.
+        for (int idx = 1; idx < rowIndexes.length; idx++) {
+            int previous = data[rowIndexes[idx - 1]];
+            int current = data[rowIndexes[idx]];
+
+            assertTrue(previous < current || (previous == current && rowIndexes[idx - 1] < rowIndexes[idx]));
+        }
+    }
+
+    @Test
+    public void testParallelQuickSortMatchesSequential() {
+
+        Random rand = new Random(42);
+        int[] intData = new int[50000];
+        String[] strData = new String[50000];
+
+        for (int idx = 0; idx < intData.length; idx++) {
+            intData[idx] = rand.nextInt(50);
+            strData[idx] = rand.nextInt(10) == 0 ? null : "S" + rand.nextInt(20);
+        }
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", intData)
+                .withColumn(String.class, "StrCol", strData)
+                .build().get();
+
+        Stream<SortItem> sortItems = Stream.of(new SortItem("StrCol", SortOrder.Descending), new SortItem("IntCol"));
+
+        int[] sequential = table.quickSort(sortItems, SortOptions.sequential()).get().rows().rowIndexes();
+        int[] parallel = table.quickSort(sortItems, SortOptions.parallel()).get().rows().rowIndexes();
+        int[] parallelOne = table.quickSort(sortItems, SortOptions.parallel(1)).get().rows().rowIndexes();
+        int[] parallelFour = table.quickSort(sortItems, SortOptions.parallel(4)).get().rows().rowIndexes();
+
+        assertTrue(SortOptions.parallel(1).isParallel());
+        assertTrue(!SortOptions.sequential().isParallel());
+        assertTrue(Arrays.equals(sequential, parallel));
+        assertTrue(Arrays.equals(sequential, parallelOne));
+        assertTrue(Arrays.equals(sequential, parallelFour));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelSortOptionsWithInvalidParallelism() {
+        SortOptions.parallel(0);
+    }
+
+    @Test
+    public void testRadixSortMatchesComparisonSort() {
+
+        Random rand = new Random(7);
+        int rowCount = 20000;
+        long[] longData = new long[rowCount];
+        double[] doubleData = new double[rowCount];
+        boolean[] boolData = new boolean[rowCount];
+        Integer[] intData = new Integer[rowCount];
+        String[] strData = new String[rowCount];
+        double[] specialDoubles = { -0.0, 0.0, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -1.5 };
+
+        for (int idx = 0; idx < rowCount; idx++) {
+            longData[idx] = rand.nextInt(3) == 0 ? rand.nextLong() : rand.nextInt(5) - 2;
+            doubleData[idx] = rand.nextInt(4) == 0 ? specialDoubles[rand.nextInt(specialDoubles.length)] : rand.nextGaussian();
+            boolData[idx] = rand.nextBoolean();
+            intData[idx] = rand.nextInt(1000) - 500;
+            strData[idx] = rand.nextInt(10) == 0 ? null : "Pre" + rand.nextInt(30);
+        }
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("LongCol", longData)
+                .withColumn("DoubleCol", doubleData)
+                .withColumn("BoolCol", boolData)
+                .withColumn(Integer.class, "IntCol", intData)
+                .withColumn(String.class, "StrCol", strData)
+                .build().get();
+
+        List<Stream<SortItem>> sorts = List.of(
+                Stream.of(new SortItem("DoubleCol")),
+                Stream.of(new SortItem("DoubleCol", SortOrder.Descending)),
+                Stream.of(new SortItem("StrCol"), new SortItem("LongCol", SortOrder.Descending)),
+                Stream.of(new SortItem("StrCol", SortOrder.Descending), new SortItem("IntCol")),
+                Stream.of(new SortItem("BoolCol"), new SortItem("LongCol"), new SortItem("DoubleCol", SortOrder.Descending)),
+                Stream.of(new SortItem("BoolCol", SortOrder.Descending), new SortItem("StrCol"), new SortItem("IntCol", SortOrder.Descending)));
+
+        // The sequential sort uses a radix sort for these columns, so compare against the parallel merge sort.
+        for (Stream<SortItem> sortItems : sorts) {
+            int[] radixSorted = table.quickSort(sortItems, SortOptions.sequential()).get().rows().rowIndexes();
+            int[] mergeSorted = table.quickSort(sortItems, SortOptions.parallel(2)).get().rows().rowIndexes();
+
+            assertTrue(Arrays.equals(radixSorted, mergeSorted));
+        }
+    }
+
+    @Test
+    public void testRadixSortNullPlacement() {
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "bb", null, "a", "abcd", "abc")
+                .build().get();
+
+        int[] ascending = table.quickSort("StrCol").get().rows().rowIndexes();
+        int[] descending = table.quickSort("StrCol", SortOrder.Descending).get().rows().rowIndexes();
+
+        assertTrue(Arrays.equals(ascending, new int[] { 1, 2, 4, 3, 0 }));
+        assertTrue(Arrays.equals(descending, new int[] { 0, 3, 4, 2, 1 }));
+    }
+
+    @Test
+    public void testTopNMatchesFullSort() {
+
+        Random rand = new Random(11);
+        int[] intData = new int[5000];
+        String[] strData = new String[5000];
+
+        for (int idx = 0; idx < intData.length; idx++) {
+            intData[idx] = rand.nextInt(100);
+            strData[idx] = rand.nextInt(5) == 0 ? null : "S" + rand.nextInt(10);
+        }
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", intData)
+                .withColumn(String.class, "StrCol", strData)
+                .build().get();
+
+        Stream<SortItem> sortItems = Stream.of(new SortItem("StrCol", SortOrder.Descending), new SortItem("IntCol"));
+        int[] fullSort = table.quickSort(sortItems).get().rows().rowIndexes();
+
+        Try<DataView> topTen = table.topN(sortItems, 10);
+        Try<DataView> range = table.topN(sortItems, 100, 50);
+        Try<DataView> pastEnd = table.topN(sortItems, 4990, 50);
+
+        assertTrue(topTen.isSuccess());
+        assertTrue(Arrays.equals(topTen.get().rows().rowIndexes(), Arrays.copyOfRange(fullSort, 0, 10)));
+        assertTrue(Arrays.equals(range.get().rows().rowIndexes(), Arrays.copyOfRange(fullSort, 100, 150)));
+        assertTrue(Arrays.equals(pastEnd.get().rows().rowIndexes(), Arrays.copyOfRange(fullSort, 4990, 5000)));
+        assertTrue(table.topN(sortItems, 6000, 10).get().rowCount() == 0);
+        assertTrue(table.topN(sortItems, 0).get().rowCount() == 0);
+    }
+
+    @Test
+    public void testTopNOnFilteredDataView() {
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", "EE", "AA", "DD", "BB", "CC")
+                .withColumn(Integer.class, "IntCol", 1, 2, 3, 4, 5)
+                .build().get();
+
+        Try<DataView> view = table
+                .filter(row -> row.getAs(Integer.class, "IntCol") > 1)
+                .topN(Stream.of(new SortItem("StrCol")), 2);
+
+        assertTrue(view.isSuccess());
+        assertTrue(view.get().rowCount() == 2);
+        assertTrue(view.get().row(0).getAs(String.class, "StrCol").equals("AA"));
+        assertTrue(view.get().row(1).getAs(String.class, "StrCol").equals("BB"));
+    }
+
+    @Test
+    public void testTopNWithInvalidArguments() {
+
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol", 1, 2, 3)
+                .build().get();
+
+        assertTrue(table.topN(Stream.of(new SortItem("IntCol")), -1).isFailure());
+        assertTrue(table.topN(Stream.of(new SortItem("IntCol")), -1, 2).isFailure());
+        assertTrue(table.topN(Stream.of(new SortItem("MissingCol")), 2).isFailure());
+    }
 }
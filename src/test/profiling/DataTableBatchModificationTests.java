@@ -0,0 +1,103 @@
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import io.vavr.collection.Stream;
+import io.vavr.control.Try;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Performance Tests comparing per row and batch row modifications on a Data Table.
+ */
+public class DataTableBatchModificationTests {
+
+    private final Random rand = new Random();
+    private static Integer ROW_COUNT = 100000;
+
+    // Check performance of adding rows to a Data Table one at a time.
+    @Ignore
+    @Test
+    public void testDataTableAddRowPerformance() {
+        DataTable table = createEmptyTable();
+
+        long startTime = System.nanoTime();
+
+        for (Object[] row : randomRows(ROW_COUNT))
+            table = table.rows().add(row).get();
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Adding " + table.rowCount() + " rows individually took " + duration + " milliseconds");
+    }
+
+    // Check performance of adding rows to a Data Table in a single batch.
+    @Ignore
+    @Test
+    public void testDataTableAddAllPerformance() {
+        DataTable table = createEmptyTable();
+        Stream<Object[]> rows = randomRows(ROW_COUNT);
+
+        long startTime = System.nanoTime();
+
+        Try<DataTable> result = table.rows().addAll(rows);
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Adding " + result.get().rowCount() + " rows as a batch took " + duration + " milliseconds");
+    }
+
+    // Check performance of removing rows from a Data Table one at a time.
+    @Ignore
+    @Test
+    public void testDataTableRemoveRowPerformance() {
+        DataTable table = createEmptyTable().rows().addAll(randomRows(ROW_COUNT)).get();
+
+        long startTime = System.nanoTime();
+
+        for (int idx = ROW_COUNT - 2; idx >= 0; idx -= 2)
+            table = table.rows().remove(idx).get();
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Removing rows individually took " + duration + " milliseconds");
+    }
+
+    // Check performance of removing rows from a Data Table in a single batch.
+    @Ignore
+    @Test
+    public void testDataTableRemoveAllPerformance() {
+        DataTable table = createEmptyTable().rows().addAll(randomRows(ROW_COUNT)).get();
+        int[] indexes = Stream.range(0, ROW_COUNT / 2).map(idx -> idx * 2).toJavaStream().mapToInt(i -> i).toArray();
+
+        long startTime = System.nanoTime();
+
+        Try<DataTable> result = table.rows().removeAll(indexes);
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Removing rows as a batch took " + duration + " milliseconds");
+    }
+
+    private DataTable createEmptyTable() {
+        return DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol")
+                .withColumn("IntCol", new int[0])
+                .withColumn("DoubleCol", new double[0])
+                .withColumn(Boolean.class, "BoolCol")
+                .build().get();
+    }
+
+    private Stream<Object[]> randomRows(int rowCount) {
+        return Stream
+                .range(0, rowCount)
+                .map(i -> new Object[] { "Row" + i, rand.nextInt(), rand.nextDouble(), rand.nextBoolean() })
+                .toList()
+                .toStream();
+    }
+}
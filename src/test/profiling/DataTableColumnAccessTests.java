@@ -0,0 +1,94 @@
+import com.github.martincooper.datatable.DataCursor;
+import com.github.martincooper.datatable.DataRow;
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import com.github.martincooper.datatable.IntColumnRef;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Column Access Profiling Tests for the Data Table.
+ */
+public class DataTableColumnAccessTests {
+
+    private static final int ROW_COUNT = 100000;
+
+    // Check performance of accessing cells by column name on tables of different widths.
+    @Ignore
+    @Test
+    public void testDataTableCellAccessByNamePerformance() {
+        for (int columnCount : new int[] { 10, 100, 1000 }) {
+            DataTable table = createTable(columnCount);
+            String lastColumn = "Col" + (columnCount - 1);
+
+            long startTime = System.nanoTime();
+            long total = 0;
+
+            for (DataRow row : table)
+                total += row.getAs(Integer.class, lastColumn);
+
+            long endTime = System.nanoTime();
+            long duration = (endTime - startTime) / 1000000;
+
+            System.out.println("Cell access by name with " + columnCount + " columns took " + duration + " milliseconds (" + total + ")");
+        }
+    }
+
+    // Check performance of accessing cells using a column reference, resolved once.
+    @Ignore
+    @Test
+    public void testDataTableCellAccessByColumnRefPerformance() {
+        for (int columnCount : new int[] { 10, 100, 1000 }) {
+            DataTable table = createTable(columnCount);
+            IntColumnRef lastColumn = table.intColumn("Col" + (columnCount - 1));
+
+            long startTime = System.nanoTime();
+            long total = 0;
+
+            for (DataRow row : table)
+                total += lastColumn.get(row);
+
+            long endTime = System.nanoTime();
+            long duration = (endTime - startTime) / 1000000;
+
+            System.out.println("Cell access by column ref with " + columnCount + " columns took " + duration + " milliseconds (" + total + ")");
+        }
+    }
+
+    // Check performance of accessing cells using a cursor, by column index.
+    @Ignore
+    @Test
+    public void testDataTableCellAccessByCursorPerformance() {
+        for (int columnCount : new int[] { 10, 100, 1000 }) {
+            DataTable table = createTable(columnCount);
+            DataCursor cursor = table.cursor();
+            int lastColumn = cursor.columnIndex("Col" + (columnCount - 1));
+
+            long startTime = System.nanoTime();
+            long total = 0;
+
+            while (cursor.next())
+                total += cursor.getInt(lastColumn);
+
+            long endTime = System.nanoTime();
+            long duration = (endTime - startTime) / 1000000;
+
+            System.out.println("Cell access by cursor with " + columnCount + " columns took " + duration + " milliseconds (" + total + ")");
+        }
+    }
+
+    private DataTable createTable(int columnCount) {
+        DataTableBuilder builder = DataTableBuilder.create("NewTable");
+
+        for (int colIdx = 0; colIdx < columnCount; colIdx++) {
+            int[] data = new int[ROW_COUNT];
+
+            for (int rowIdx = 0; rowIdx < ROW_COUNT; rowIdx++)
+                data[rowIdx] = rowIdx + colIdx;
+
+            builder.withColumn("Col" + colIdx, data);
+        }
+
+        return builder.build().get();
+    }
+}
@@ -0,0 +1,65 @@
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+
+/**
+ * Column Filtering Profiling Tests for the Data Table.
+ */
+public class DataTableColumnFilteringTests {
+
+    private final Random rand = new Random();
+    private static final int ROW_COUNT = 1000000;
+
+    // Check performance of filtering a Data Table using column filters.
+    @Ignore
+    @Test
+    public void testDataTableWherePerformance() {
+        DataTable table = createTable();
+
+        long startTime = System.nanoTime();
+
+        table.where(col("DoubleCol").gt(0.5).and(col("IntCol").lt(100)));
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Column filter took " + duration + " milliseconds");
+    }
+
+    // Check performance of filtering a Data Table using a row predicate.
+    @Ignore
+    @Test
+    public void testDataTableFilterPerformance() {
+        DataTable table = createTable();
+
+        long startTime = System.nanoTime();
+
+        table.filter(row -> row.getAs(Double.class, "DoubleCol") > 0.5 && row.getAs(Integer.class, "IntCol") < 100);
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Row filter took " + duration + " milliseconds");
+    }
+
+    private DataTable createTable() {
+        int[] ints = new int[ROW_COUNT];
+        double[] doubles = new double[ROW_COUNT];
+
+        for (int idx = 0; idx < ROW_COUNT; idx++) {
+            ints[idx] = rand.nextInt(1000);
+            doubles[idx] = rand.nextDouble();
+        }
+
+        return DataTableBuilder
+                .create("NewTable")
+                .withColumn("IntCol", ints)
+                .withColumn("DoubleCol", doubles)
+                .build().get();
+    }
+}
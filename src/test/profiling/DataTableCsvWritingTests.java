@@ -0,0 +1,116 @@
+import com.github.martincooper.datatable.DataRow;
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import com.github.martincooper.datatable.DataView;
+import com.github.martincooper.datatable.csv.CsvOptions;
+import com.github.martincooper.datatable.csv.CsvWriter;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+import static com.github.martincooper.datatable.filtering.Filter.col;
+
+/**
+ * CSV Writing Profiling Tests for the Data Table.
+ */
+public class DataTableCsvWritingTests {
+
+    private final Random rand = new Random();
+    private static final int ROW_COUNT = 1000000;
+
+    // Check throughput of writing a view by formatting the data of each row, against the CSV writer.
+    @Ignore
+    @Test
+    public void testDataViewCsvWritingPerformance() throws IOException {
+        DataTable table = createTable();
+        DataView view = table.where(col("IntCol").gt(0)).get();
+
+        // Warm up, then time each approach, writing to a writer which discards the output.
+        for (int run = 0; run < 3; run++) {
+            timeNaiveWrite(view);
+            timeCsvWriter(view);
+        }
+    }
+
+    private void timeNaiveWrite(DataView view) throws IOException {
+        CountingWriter counter = new CountingWriter();
+        long startTime = System.nanoTime();
+
+        try (Writer writer = new BufferedWriter(counter, 1 << 16)) {
+            for (DataRow row : view) {
+                Object[] data = row.data();
+
+                for (int idx = 0; idx < data.length; idx++) {
+                    if (idx > 0) writer.write(',');
+                    if (data[idx] != null) writer.write(String.valueOf(data[idx]));
+                }
+
+                writer.write('\n');
+            }
+        }
+
+        printResult("Naive row iteration", startTime, counter.count);
+    }
+
+    private void timeCsvWriter(DataView view) {
+        CountingWriter counter = new CountingWriter();
+        long startTime = System.nanoTime();
+
+        CsvWriter.write(view, counter, CsvOptions.defaults()).get();
+
+        printResult("CSV writer", startTime, counter.count);
+    }
+
+    private void printResult(String description, long startTime, long charCount) {
+        long duration = (System.nanoTime() - startTime) / 1000000;
+        double megabytes = charCount / (1024.0 * 1024.0);
+
+        System.out.println(description + " took " + duration + " milliseconds for "
+                + String.format("%.1f", megabytes) + " MB ("
+                + String.format("%.1f", megabytes * 1000 / Math.max(1, duration)) + " MB/s)");
+    }
+
+    private DataTable createTable() {
+        DataTableBuilder builder = DataTableBuilder
+                .create("NewTable")
+                .withColumn(Integer.class, "IntCol")
+                .withColumn(Long.class, "LongCol")
+                .withColumn(Double.class, "DoubleCol")
+                .withColumn(Boolean.class, "BoolCol")
+                .withColumn(String.class, "StrCol")
+                .withCapacity(ROW_COUNT)
+                .withDictionaryEncoding(1000);
+
+        for (int idx = 0; idx < ROW_COUNT; idx++) {
+            builder.appendInt(0, this.rand.nextInt(1000000) - 100000);
+            builder.appendLong(1, this.rand.nextLong());
+            builder.appendDouble(2, Math.round(this.rand.nextDouble() * 1000000) / 100.0);
+            builder.appendBoolean(3, this.rand.nextBoolean());
+            builder.append(4, "Category " + this.rand.nextInt(100));
+        }
+
+        return builder.freeze().get();
+    }
+
+    private static final class CountingWriter extends Writer {
+
+        private long count;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            this.count += length;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
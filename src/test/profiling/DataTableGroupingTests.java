@@ -0,0 +1,86 @@
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.github.martincooper.datatable.grouping.Aggregate.*;
+
+/**
+ * Grouping Profiling Tests for the Data Table.
+ */
+public class DataTableGroupingTests {
+
+    private final Random rand = new Random();
+    private static final int ROW_COUNT = 1000000;
+    private static final int GROUP_COUNT = 1000;
+
+    // Check performance of grouping and aggregating a Data Table.
+    @Ignore
+    @Test
+    public void testDataTableGroupByPerformance() {
+        DataTable table = createTable();
+
+        long startTime = System.nanoTime();
+
+        table.groupBy("KeyCol").agg(sum("IntCol"), avg("DoubleCol"), count());
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Group by aggregation took " + duration + " milliseconds");
+    }
+
+    // Check performance of grouping and aggregating a Data Table in parallel.
+    @Ignore
+    @Test
+    public void testDataTableParallelGroupByPerformance() {
+        DataTable table = createTable();
+
+        long startTime = System.nanoTime();
+
+        table.groupBy("KeyCol").parallel().agg(sum("IntCol"), avg("DoubleCol"), count());
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Parallel group by aggregation took " + duration + " milliseconds");
+    }
+
+    // Check performance of grouping a Data Table by row, then aggregating each group.
+    @Ignore
+    @Test
+    public void testDataTableRowGroupByPerformance() {
+        DataTable table = createTable();
+
+        long startTime = System.nanoTime();
+
+        table.groupBy(row -> row.getAs(Integer.class, "KeyCol"))
+                .mapValues(rows -> rows.map(row -> row.getAs(Integer.class, "IntCol")).sum());
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println("Row group by took " + duration + " milliseconds");
+    }
+
+    private DataTable createTable() {
+        int[] keys = new int[ROW_COUNT];
+        int[] ints = new int[ROW_COUNT];
+        double[] doubles = new double[ROW_COUNT];
+
+        for (int idx = 0; idx < ROW_COUNT; idx++) {
+            keys[idx] = rand.nextInt(GROUP_COUNT);
+            ints[idx] = rand.nextInt(1000);
+            doubles[idx] = rand.nextDouble();
+        }
+
+        return DataTableBuilder
+                .create("NewTable")
+                .withColumn("KeyCol", keys)
+                .withColumn("IntCol", ints)
+                .withColumn("DoubleCol", doubles)
+                .build().get();
+    }
+}
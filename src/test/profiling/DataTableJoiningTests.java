@@ -0,0 +1,93 @@
+import com.github.martincooper.datatable.DataRow;
+import com.github.martincooper.datatable.DataTable;
+import com.github.martincooper.datatable.DataTableBuilder;
+import com.github.martincooper.datatable.joining.JoinType;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static com.github.martincooper.datatable.joining.JoinOn.on;
+
+/**
+ * Joining Profiling Tests for the Data Table.
+ */
+public class DataTableJoiningTests {
+
+    private final Random rand = new Random();
+    private static final int ROW_COUNT = 1000000;
+    private static final int KEY_COUNT = 100000;
+
+    // Check the hash join against joining the rows through a map of boxed keys.
+    @Ignore
+    @Test
+    public void testDataTableJoinPerformance() {
+        DataTable orders = createOrdersTable();
+        DataTable customers = createCustomersTable();
+
+        for (int run = 0; run < 3; run++) {
+            timeRowJoin(orders, customers);
+            timeHashJoin(orders, customers);
+        }
+    }
+
+    private void timeRowJoin(DataTable orders, DataTable customers) {
+        long startTime = System.nanoTime();
+
+        HashMap<Object, List<DataRow>> index = new HashMap<>();
+        for (DataRow row : customers)
+            index.computeIfAbsent(row.get("CustomerId"), key -> new ArrayList<>()).add(row);
+
+        List<Object[]> results = new ArrayList<>();
+        for (DataRow row : orders) {
+            for (DataRow match : index.getOrDefault(row.get("CustomerId"), new ArrayList<>()))
+                results.add(new Object[] { row.get("OrderId"), row.get("CustomerId"), row.get("Amount"), match.get("Region") });
+        }
+
+        printResult("Row join", startTime, results.size());
+    }
+
+    private void timeHashJoin(DataTable orders, DataTable customers) {
+        long startTime = System.nanoTime();
+
+        DataTable results = orders.join(customers, on("CustomerId"), JoinType.Inner).get();
+
+        printResult("Hash join", startTime, results.rowCount());
+    }
+
+    private void printResult(String description, long startTime, int rowCount) {
+        long duration = (System.nanoTime() - startTime) / 1000000;
+        System.out.println(description + " took " + duration + " milliseconds for " + rowCount + " rows");
+    }
+
+    private DataTable createOrdersTable() {
+        DataTableBuilder builder = DataTableBuilder
+                .create("Orders")
+                .withColumn(Integer.class, "OrderId")
+                .withColumn(Integer.class, "CustomerId")
+                .withColumn(Double.class, "Amount")
+                .withCapacity(ROW_COUNT);
+
+        for (int idx = 0; idx < ROW_COUNT; idx++)
+            builder.appendRow(idx, this.rand.nextInt(KEY_COUNT * 2), this.rand.nextDouble() * 100);
+
+        return builder.freeze().get();
+    }
+
+    private DataTable createCustomersTable() {
+        DataTableBuilder builder = DataTableBuilder
+                .create("Customers")
+                .withColumn(Integer.class, "CustomerId")
+                .withColumn(String.class, "Region")
+                .withCapacity(KEY_COUNT)
+                .withDictionaryEncoding(100);
+
+        for (int idx = 0; idx < KEY_COUNT; idx++)
+            builder.appendRow(idx * 2, "Region " + this.rand.nextInt(20));
+
+        return builder.freeze().get();
+    }
+}
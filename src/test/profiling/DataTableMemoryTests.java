@@ -46,6 +46,31 @@ public class DataTableMemoryTests {
         System.out.println("MB: " + (mem / 1024) / 1024);
     }
 
+    // Check memory usage of the data stored in a Data Table using primitive backed columns.
+    @Ignore
+    @Test
+    public void testDataTableWithPrimitiveRowData() {
+        Try<DataTable> table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", randomStringData(ROW_COUNT))
+                .withColumn("IntCol", rand.ints(ROW_COUNT).toArray())
+                .withColumn("DoubleCol", rand.doubles(ROW_COUNT).toArray())
+                .withColumn("BoolCol", randomPrimitiveBooleanData(ROW_COUNT))
+                .build();
+
+        long mem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        System.out.println("MB: " + (mem / 1024) / 1024);
+    }
+
+    private boolean[] randomPrimitiveBooleanData(int dataSize) {
+        boolean[] data = new boolean[dataSize];
+
+        for (int idx = 0; idx < dataSize; idx++)
+            data[idx] = rand.nextBoolean();
+
+        return data;
+    }
+
     private Integer[] randomIntegerData(int dataSize) {
         return generateRange(Integer.class, dataSize, rand::nextInt);
     }
@@ -2,6 +2,7 @@ import com.github.martincooper.datatable.DataTable;
 import com.github.martincooper.datatable.DataTableBuilder;
 import com.github.martincooper.datatable.DataView;
 import com.github.martincooper.datatable.sorting.SortItem;
+import com.github.martincooper.datatable.sorting.SortOptions;
 import com.github.martincooper.datatable.sorting.SortOrder;
 import io.vavr.collection.Stream;
 import io.vavr.control.Try;
@@ -47,6 +48,45 @@ public class DataTableSortingTests {
         System.out.println("Sorting took " + duration + " milliseconds");
     }
 
+    // Check how performing a multi sort on a Data Table scales with the number of threads.
+    @Ignore
+    @Test
+    public void testDataTableParallelSortingPerformance() {
+        DataTable table = DataTableBuilder
+                .create("NewTable")
+                .withColumn(String.class, "StrCol", randomStringData(ROW_COUNT))
+                .withColumn(Integer.class, "IntCol", randomIntegerData(ROW_COUNT))
+                .withColumn(Double.class, "DoubleCol", randomDoubleData(ROW_COUNT))
+                .withColumn(Boolean.class, "BoolCol", randomBooleanData(ROW_COUNT))
+                .build().get();
+
+        Stream<SortItem> sortItems = Stream.of(
+                new SortItem("StrCol"),
+                new SortItem("IntCol", SortOrder.Descending),
+                new SortItem("DoubleCol"),
+                new SortItem("BoolCol", SortOrder.Descending));
+
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        // Warm up, then time the sequential sort and parallel sorts with increasing thread counts.
+        table.quickSort(sortItems, SortOptions.sequential());
+        timeSort(table, sortItems, SortOptions.sequential(), "Sequential");
+
+        for (int parallelism = 1; parallelism <= processors; parallelism *= 2)
+            timeSort(table, sortItems, SortOptions.parallel(parallelism), "Parallel (" + parallelism + " threads)");
+    }
+
+    private void timeSort(DataTable table, Stream<SortItem> sortItems, SortOptions sortOptions, String description) {
+        long startTime = System.nanoTime();
+
+        Try<DataView> view = table.quickSort(sortItems, sortOptions);
+
+        long endTime = System.nanoTime();
+        long duration = (endTime - startTime) / 1000000;
+
+        System.out.println(description + " sorting took " + duration + " milliseconds");
+    }
+
     private Integer[] randomIntegerData(int dataSize) {
         return generateRange(Integer.class, dataSize, rand::nextInt);
     }